@@ -37,6 +37,8 @@ import org.picocontainer.Characteristics;
 
 import DstController.DstController;
 import DstController.IDstController;
+import Headless.BatchSynchronizationRunner;
+import Headless.IBatchSynchronizationRunner;
 import HubController.IHubController;
 import MappingRules.BinaryRelationshipToCapellaTraces;
 import MappingRules.CapellaTracesToBinaryRelationship;
@@ -44,6 +46,7 @@ import MappingRules.ComponentToElementMappingRule;
 import MappingRules.ElementToComponentMappingRule;
 import MappingRules.RequirementToRequirementsSpecificationMappingRule;
 import MappingRules.RequirementsSpecificationToRequirementMappingRule;
+import Renderers.CapellaObjectBrowserRenderDataProvider;
 import Services.CapellaLog.CapellaLogService;
 import Services.CapellaLog.ICapellaLogService;
 import Services.CapellaSelection.CapellaSelectionService;
@@ -68,9 +71,18 @@ import Services.MappingConfiguration.CapellaMappingConfigurationService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingEngineService.IMappingEngineService;
 import Services.MappingEngineService.MappingEngineService;
+import Services.MappingSnapshot.IMappingSnapshotService;
+import Services.MappingSnapshot.MappingSnapshotService;
+import Services.Metrics.IMetricsService;
+import Services.Metrics.MetricsService;
+import Services.NameKey.INameKeyService;
+import Services.NameKey.NameKeyService;
+import Services.Suggestion.ISuggestionService;
+import Services.Suggestion.SuggestionService;
 import Services.AdapterInfo.CapellaAdapterInfoService;
 import Services.AdapterInfo.IAdapterInfoService;
 import Utils.Stereotypes.CapellaTracedElementCollection;
+import Utils.Stereotypes.CapellaTypeRegistry;
 import ViewModels.CapellaHubBrowserPanelViewModel;
 import ViewModels.CapellaImpactViewPanelViewModel;
 import ViewModels.CapellaImpactViewViewModel;
@@ -84,9 +96,11 @@ import ViewModels.ContextMenu.HubBrowserContextMenuViewModel;
 import ViewModels.Dialogs.AlertMoreThanOneCapellaModelOpenDialogViewModel;
 import ViewModels.Dialogs.DstToHubMappingConfigurationDialogViewModel;
 import ViewModels.Dialogs.HubToDstMappingConfigurationDialogViewModel;
+import ViewModels.Dialogs.MetricsDialogViewModel;
 import ViewModels.Dialogs.Interfaces.IAlertMoreThanOneCapellaModelOpenDialogViewModel;
 import ViewModels.Dialogs.Interfaces.IDstToHubMappingConfigurationDialogViewModel;
 import ViewModels.Dialogs.Interfaces.IHubToDstMappingConfigurationDialogViewModel;
+import ViewModels.Dialogs.Interfaces.IMetricsDialogViewModel;
 import ViewModels.Interfaces.ICapellaHubBrowserPanelViewModel;
 import ViewModels.Interfaces.ICapellaImpactViewPanelViewModel;
 import ViewModels.Interfaces.ICapellaImpactViewViewModel;
@@ -123,8 +137,12 @@ public class App extends AbstractUIPlugin
     public void start(BundleContext context) throws Exception
     {
         this.RegisterDependencies();
+        CapellaTypeRegistry.Initialize();
         super.start(context);
         AppContainer.Container.getComponent(IMapCommandService.class).Initialize();
+        
+        AppContainer.Container.getComponent(ICapellaSessionService.class).SessionRemoved()
+            .subscribe(x -> CapellaObjectBrowserRenderDataProvider.ClearRenderCache(), this.logger::catching);
         this.LogAdapterInitialization();
     }
     
@@ -172,7 +190,7 @@ public class App extends AbstractUIPlugin
             AppContainer.Container.as(CACHE).addComponent(ICapellaSessionService.class, CapellaSessionService.class);
             AppContainer.Container.addComponent(ICapellaSessionListenerService.class, CapellaSessionListenerService.class);
             AppContainer.Container.addConfig("platformLogger", Platform.getLog(FrameworkUtil.getBundle(CapellaLogService.class)));
-            AppContainer.Container.as(Characteristics.USE_NAMES).addComponent(ICapellaLogService.class, CapellaLogService.class);
+            AppContainer.Container.as(CACHE, Characteristics.USE_NAMES).addComponent(ICapellaLogService.class, CapellaLogService.class);
             AppContainer.Container.addComponent(ICapellaSelectionService.class, CapellaSelectionService.class);
             AppContainer.Container.as(CACHE).addComponent(IMapCommandService.class, MapCommandService.class);
             AppContainer.Container.addComponent(ISiriusSessionManagerWrapper.class, SiriusSessionManagerWrapper.class);
@@ -181,6 +199,11 @@ public class App extends AbstractUIPlugin
             AppContainer.Container.as(CACHE).addComponent(ICapellaLocalExchangeHistoryService.class, CapellaLocalExchangeHistoryService.class);
             AppContainer.Container.addComponent(ICapellaUserPreferenceService.class, CapellaUserPreferenceService.class);
             AppContainer.Container.addComponent(IPhysicalArchitectureDiagramGenerator.class, PhysicalArchitectureDiagramGenerator.class);
+            AppContainer.Container.as(CACHE).addComponent(IMetricsService.class, MetricsService.class);
+            AppContainer.Container.as(CACHE).addComponent(INameKeyService.class, NameKeyService.class);
+            AppContainer.Container.as(CACHE).addComponent(ISuggestionService.class, SuggestionService.class);
+            AppContainer.Container.as(CACHE).addComponent(IMappingSnapshotService.class, MappingSnapshotService.class);
+            AppContainer.Container.addComponent(IBatchSynchronizationRunner.class, BatchSynchronizationRunner.class);
 
             AppContainer.Container.addComponent(ComponentToElementMappingRule.class.getName(), ComponentToElementMappingRule.class);
             AppContainer.Container.addComponent(ElementToComponentMappingRule.class.getName(), ElementToComponentMappingRule.class);
@@ -203,6 +226,7 @@ public class App extends AbstractUIPlugin
             AppContainer.Container.addComponent(ICapellaMappedElementListViewViewModel.class, CapellaMappedElementListViewViewModel.class);
             AppContainer.Container.addComponent(IMappingListViewViewModel.class, CapellaMappingListViewViewModel.class);
             AppContainer.Container.addComponent(IAlertMoreThanOneCapellaModelOpenDialogViewModel.class.getSimpleName(), AlertMoreThanOneCapellaModelOpenDialogViewModel.class);
+            AppContainer.Container.addComponent(IMetricsDialogViewModel.class.getSimpleName(), MetricsDialogViewModel.class);
         }
         catch (Exception exception) 
         {
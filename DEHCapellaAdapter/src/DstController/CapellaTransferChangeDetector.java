@@ -0,0 +1,150 @@
+/*
+ * CapellaTransferChangeDetector.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+
+import Services.CapellaTransaction.ClonedReferenceElement;
+
+/**
+ * The {@linkplain CapellaTransferChangeDetector} compares the clones of the {@linkplain ClonedReferenceElement}s with their originals
+ * so that only the elements and the features that actually differ get written to the Capella model during a transfer.
+ * It is built once per transfer and keeps track of the elements that have been skipped.
+ */
+public final class CapellaTransferChangeDetector
+{
+    /**
+     * The results of the comparisons already made, keyed by clone reference
+     */
+    private final Map<EObject, Boolean> comparedElements = new IdentityHashMap<>();
+
+    /**
+     * The elements that have already been visited during the transfer
+     */
+    private final Set<EObject> visitedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * The ids of the {@linkplain CapellaElement}s that have been skipped
+     */
+    private final Set<String> skippedElementIds = new HashSet<>();
+
+    /**
+     * Gets a value indicating whether the clone of the provided {@linkplain ClonedReferenceElement} differs from its original, 
+     * when it does not the element is counted as skipped
+     * 
+     * @param clonedReference the {@linkplain ClonedReferenceElement}
+     * @return a {@linkplain boolean}
+     */
+    public boolean ShouldBeTransferred(ClonedReferenceElement<? extends CapellaElement> clonedReference)
+    {
+        if(this.HasChanges(clonedReference.GetClone(), clonedReference.GetOriginal()))
+        {
+            return true;
+        }
+        
+        this.skippedElementIds.add(clonedReference.GetOriginal().getId());
+        return false;
+    }
+
+    /**
+     * Gets a value indicating whether the provided {@linkplain EObject} clone differs from the provided original,
+     * comparing all their non derived features and their contained elements
+     * 
+     * @param clone the cloned {@linkplain EObject}
+     * @param original the original {@linkplain EObject}
+     * @return a {@linkplain boolean}
+     */
+    public boolean HasChanges(EObject clone, EObject original)
+    {
+        if(clone == original)
+        {
+            return false;
+        }
+        
+        if(clone == null || original == null)
+        {
+            return true;
+        }
+        
+        return this.comparedElements.computeIfAbsent(clone, x -> !new ContainerAgnosticEqualityHelper().equals(x, original));
+    }
+
+    /**
+     * Marks the provided {@linkplain EObject} as visited
+     * 
+     * @param element the {@linkplain EObject}
+     * @return a value indicating whether the element was not visited yet
+     */
+    public boolean Visit(EObject element)
+    {
+        return this.visitedElements.add(element);
+    }
+
+    /**
+     * Gets the number of {@linkplain CapellaElement}s that have been skipped because they did not change
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetSkippedElementCount()
+    {
+        return this.skippedElementIds.size();
+    }
+
+    /**
+     * The {@linkplain ContainerAgnosticEqualityHelper} is an {@linkplain EcoreUtil.EqualityHelper} that ignores the container references,
+     * as a clone is a detached copy of its original
+     */
+    @SuppressWarnings("serial")
+    private static final class ContainerAgnosticEqualityHelper extends EcoreUtil.EqualityHelper
+    {
+        /**
+         * Gets a value indicating whether the provided {@linkplain EObject}s have equal values for the provided feature
+         * 
+         * @param eObject1 the first {@linkplain EObject}
+         * @param eObject2 the second {@linkplain EObject}
+         * @param feature the {@linkplain EStructuralFeature} to compare
+         * @return a {@linkplain boolean}
+         */
+        @Override
+        protected boolean haveEqualFeature(EObject eObject1, EObject eObject2, EStructuralFeature feature)
+        {
+            if(feature instanceof EReference && ((EReference)feature).isContainer())
+            {
+                return true;
+            }
+            
+            return super.haveEqualFeature(eObject1, eObject2, feature);
+        }
+    }
+}
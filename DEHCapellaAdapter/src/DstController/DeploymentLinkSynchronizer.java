@@ -0,0 +1,88 @@
+/*
+ * DeploymentLinkSynchronizer.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import java.util.HashSet;
+import java.util.Map;
+
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.pa.deployment.PartDeploymentLink;
+
+import Services.CapellaTransaction.ICapellaTransactionService;
+
+/**
+ * The {@linkplain DeploymentLinkSynchronizer} synchronizes the {@linkplain PartDeploymentLink}s owned by location {@linkplain Part}s with the parts to deploy,
+ * by only applying the additions and removals between the existing links and the wanted ones
+ */
+public final class DeploymentLinkSynchronizer
+{
+    /**
+     * The {@linkplain ICapellaTransactionService} that creates the new {@linkplain PartDeploymentLink}s
+     */
+    private final ICapellaTransactionService transactionService;
+
+    /**
+     * Initializes a new {@linkplain DeploymentLinkSynchronizer}
+     *
+     * @param transactionService the {@linkplain ICapellaTransactionService}
+     */
+    public DeploymentLinkSynchronizer(ICapellaTransactionService transactionService)
+    {
+        this.transactionService = transactionService;
+    }
+
+    /**
+     * Synchronizes the deployment links owned by the provided location {@linkplain Part} with the provided parts to deploy,
+     * removing the links that are no longer wanted or duplicated and only creating the missing ones
+     * 
+     * @param location the {@linkplain Part} that owns the deployment links
+     * @param partsToDeploy the {@linkplain Map} of {@linkplain Part} to deploy by id
+     * @return the number of created {@linkplain PartDeploymentLink}s
+     */
+    public int Synchronize(Part location, Map<String, Part> partsToDeploy)
+    {
+        var deployedPartIds = new HashSet<String>();
+        var createdLinkCount = 0;
+        
+        location.getOwnedDeploymentLinks().removeIf(x -> x.getDeployedElement() == null 
+                || !partsToDeploy.containsKey(x.getDeployedElement().getId()) 
+                || !deployedPartIds.add(x.getDeployedElement().getId()));
+        
+        for(var partToDeploy : partsToDeploy.values())
+        {
+            if(deployedPartIds.contains(partToDeploy.getId()))
+            {
+                continue;
+            }
+            
+            var newLink = this.transactionService.Create(PartDeploymentLink.class);
+            newLink.setLocation(location);
+            newLink.setDeployedElement(partToDeploy);
+            location.getOwnedDeploymentLinks().add(newLink);
+            createdLinkCount++;
+        }
+        
+        return createdLinkCount;
+    }
+}
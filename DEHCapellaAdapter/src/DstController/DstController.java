@@ -28,20 +28,27 @@ import static Utils.Operators.Operators.AreTheseEquals;
 import java.awt.EventQueue;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.EnumerationPropertyType;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
@@ -51,6 +58,7 @@ import org.polarsys.capella.core.data.capellacore.TypedElement;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.Interface;
 import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.information.Unit;
 import org.polarsys.capella.core.data.information.datatype.DataType;
 import org.polarsys.capella.core.data.la.LogicalComponent;
 import org.polarsys.capella.core.data.pa.PhysicalComponent;
@@ -68,6 +76,7 @@ import MappingRules.ElementToComponentMappingRule;
 import Reactive.ObservableCollection;
 import Reactive.ObservableValue;
 import Services.CapellaLog.ICapellaLogService;
+import Services.CapellaSession.CapellaReferenceDataCatalog;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ClonedReferenceElement;
 import Services.CapellaTransaction.ICapellaTransactionService;
@@ -77,8 +86,11 @@ import Services.HistoryService.ICapellaLocalExchangeHistoryService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;import Services.MappingConfiguration.IMappingConfigurationService;
 import Services.MappingEngineService.IMappableThingCollection;
 import Services.MappingEngineService.IMappingEngineService;
+import Services.Metrics.IMetricsService;
+import Services.NameKey.INameKeyService;
 import Services.NavigationService.INavigationService;
 import Utils.Ref;
+import Utils.Tasks.Task;
 import Utils.Stereotypes.CapellaComponentCollection;
 import Utils.Stereotypes.CapellaRequirementCollection;
 import Utils.Stereotypes.CapellaTracedElementCollection;
@@ -113,6 +125,7 @@ import cdp4common.engineeringmodeldata.RequirementsSpecification;
 import cdp4common.engineeringmodeldata.ValueSet;
 import cdp4common.sitedirectorydata.EnumerationParameterType;
 import cdp4common.sitedirectorydata.MeasurementScale;
+import cdp4common.sitedirectorydata.MeasurementUnit;
 import cdp4common.types.ContainerList;
 import cdp4dal.exceptions.TransactionException;
 import cdp4dal.operations.ThingTransaction;
@@ -180,11 +193,47 @@ public final class DstController implements IDstController
      */
     private final ICapellaUserPreferenceService userPreferenceService;
 
+    /**
+     * The {@linkplain IMetricsService} instance
+     */
+    private final IMetricsService metricsService;
+
+    /**
+     * The {@linkplain INameKeyService} instance
+     */
+    private final INameKeyService nameKeyService;
+
     /**
      * A value indicating whether the {@linkplain DstController} should load mapping when the HUB session is refresh or reloaded
      */
     private boolean isHubSessionRefreshSilent;
 
+    /**
+     * The generation of the last {@linkplain #LoadMapping(boolean)}, used to drop the stale mapping loaded in the background for a previous one
+     */
+    private final AtomicInteger loadMappingGeneration = new AtomicInteger();
+
+    /**
+     * The lock that the operations changing the map results and the clones hold, so that the stale mapping loaded in the background 
+     * does not get applied while the mapping is loaded, mapped or transfered
+     */
+    private final Object mappingLock = new Object();
+
+    /**
+     * The {@linkplain TransferPreparationIndex} of the {@linkplain ThingTransaction} currently being prepared
+     */
+    private TransferPreparationIndex transferPreparationIndex;
+
+    /**
+     * The {@linkplain HubTransferChangeDetector} of the transfer to the Hub currently being prepared
+     */
+    private HubTransferChangeDetector hubTransferChangeDetector;
+
+    /**
+     * The {@linkplain CapellaTransferChangeDetector} of the transfer to Capella currently being prepared
+     */
+    private CapellaTransferChangeDetector capellaTransferChangeDetector;
+
     /**
      * The private collection of mapped {@linkplain BinaryRelationship} to {@linkplain Traces}
      */
@@ -358,11 +407,14 @@ public final class DstController implements IDstController
      * @param exchangeHistory the {@linkplain ICapellaLocalExchangeHistoryService} instance
      * @param userPreferenceService the {@linkplain CapellaUserPreferenceService} instance
      * @param navigationService the {@linkplain INavigationService} instance
+     * @param metricsService the {@linkplain IMetricsService} instance
+     * @param nameKeyService the {@linkplain INameKeyService} instance
      */
     public DstController(IMappingEngineService mappingEngine, IHubController hubController, ICapellaLogService logService, 
             ICapellaMappingConfigurationService mappingConfigurationService, ICapellaSessionService capellaSessionService,
             ICapellaTransactionService transactionService, ICapellaLocalExchangeHistoryService exchangeHistory,
-            ICapellaUserPreferenceService userPreferenceService, INavigationService navigationService)
+            ICapellaUserPreferenceService userPreferenceService, INavigationService navigationService, IMetricsService metricsService,
+            INameKeyService nameKeyService)
     {
         this.mappingEngine = mappingEngine;
         this.hubController = hubController;
@@ -373,17 +425,23 @@ public final class DstController implements IDstController
         this.exchangeHistory = exchangeHistory;
         this.userPreferenceService = userPreferenceService;
         this.navigationService = navigationService;
+        this.metricsService = metricsService;
+        this.nameKeyService = nameKeyService;
         
         this.hubController.GetIsSessionOpenObservable().subscribe(isSessionOpen ->
         {
             if(!isSessionOpen)
             {
-                this.hubMapResult.clear();
-                this.dstMapResult.clear();
-                this.mappedTracesToBinaryRelationships.clear();
-                this.mappedBinaryRelationshipsToTraces.clear();
-                this.selectedDstMapResultForTransfer.clear();
-                this.selectedHubMapResultForTransfer.clear();
+                synchronized (this.mappingLock)
+                {
+                    this.ClearHubMapResult();
+                    this.dstMapResult.clear();
+                    this.mappedTracesToBinaryRelationships.clear();
+                    this.mappedBinaryRelationshipsToTraces.clear();
+                    this.selectedDstMapResultForTransfer.clear();
+                    this.selectedHubMapResultForTransfer.clear();
+                    this.nameKeyService.Clear();
+                }
             }
         });
         
@@ -451,60 +509,180 @@ public final class DstController implements IDstController
     {
         this.selectedHubMapResultForTransfer.removeIf(x -> x instanceof BinaryRelationship);
 
+        var selectedIids = this.GetSelectedDstMapResultForTransferIids();
+        
         var transferableBinaryRelationship = this.mappedTracesToBinaryRelationships.stream()
-                .filter(x -> this.selectedDstMapResultForTransfer.stream().anyMatch(m -> AreTheseEquals(m.getIid(), x.getTarget().getIid()))
-                        && this.selectedDstMapResultForTransfer.stream().anyMatch(m -> AreTheseEquals(m.getIid(), x.getSource().getIid())))
+                .filter(x -> selectedIids.contains(x.getTarget().getIid()) && selectedIids.contains(x.getSource().getIid()))
                 .collect(Collectors.toList());
         
         this.selectedDstMapResultForTransfer.addAll(transferableBinaryRelationship);
-        
+    }
+    
+    /**
+     * Gets the {@linkplain Set} of iids of the {@linkplain Thing}s contained in the {@linkplain #selectedDstMapResultForTransfer}
+     * 
+     * @return a {@linkplain Set} of {@linkplain UUID}
+     */
+    private Set<UUID> GetSelectedDstMapResultForTransferIids()
+    {
+        return this.selectedDstMapResultForTransfer.stream()
+                .map(Thing::getIid)
+                .collect(Collectors.toCollection(HashSet::new));
     }
 
     /**
-     * Loads the saved mapping and applies the mapping rule to the loaded things
+     * Loads the saved mapping and applies the mapping rule to the loaded things, 
+     * the correspondences that changed since the mapping snapshot was saved are loaded in the background
      */
     @Override
     public void LoadMapping()
     {
-        StopWatch timer = StopWatch.createStarted();
+        this.LoadMapping(true);
+    }
+
+    /**
+     * Loads the saved mapping and applies the mapping rule to the loaded things
+     * 
+     * @param shouldLoadStaleMappingInBackground a value indicating whether the correspondences that changed 
+     * since the mapping snapshot was saved should be loaded in the background
+     */
+    @Override
+    public void LoadMapping(boolean shouldLoadStaleMappingInBackground)
+    {
+        int generation;
         
-        this.transactionService.Reset();
+        synchronized (this.mappingLock)
+        {
+            generation = this.loadMappingGeneration.incrementAndGet();
+            this.logService.BeginBulkOperation();
+            
+            try
+            {
+                try (var timer = this.metricsService.StartTimer("DstController.LoadMapping"))
+                {
+                    this.hubMapResult.clear();
+                    this.transactionService.Reset();
+            
+                    var mappedElements = this.mappingConfigurationService.LoadMapping();
         
-        var mappedElements = this.mappingConfigurationService.LoadMapping();
+                    this.dstMapResult.clear();
+                    this.selectedHubMapResultForTransfer.clear();
+                    this.selectedDstMapResultForTransfer.clear();
+            
+                    var result = this.MapLoadedElements(mappedElements);
         
+                    timer.close();
+                    this.metricsService.RecordValue("DstController.LoadMapping.Correspondences", mappedElements.size());
+                
+                    if(!result)
+                    {
+                        this.logService.Append(String.format("Could not load %s saved mapped things for some reason, check the log for details", mappedElements.size()), Level.ERROR);
+                        mappedElements.clear();
+                        return;
+                    }
+            
+                    this.logService.Append(String.format("Loaded %s saved mapping, done in %s ms", mappedElements.size(), timer.GetElapsedMilliseconds()));
+                }
+            }
+            finally
+            {
+                this.logService.EndBulkOperation();
+            }
+        }
+        
+        if(this.mappingConfigurationService.HasStaleCorrespondences())
+        {
+            if(shouldLoadStaleMappingInBackground)
+            {
+                Task.Run(() -> 
+                {
+                    var staleElements = this.mappingConfigurationService.GetStaleElements();
+                    EventQueue.invokeLater(() -> this.LoadStaleMapping(generation, staleElements));
+                });
+            }
+            else
+            {
+                this.LoadStaleMapping(generation, this.mappingConfigurationService.GetStaleElements());
+            }
+        }
+    }
+    
+    /**
+     * Loads the saved mapping that changed since the mapping snapshot was saved and applies the mapping rule to the loaded things. 
+     * The elements are looked up beforehand, in the background when requested, 
+     * and the things are only loaded while holding the {@linkplain #mappingLock} on the thread that applies them
+     * 
+     * @param generation the generation of the {@linkplain #LoadMapping(boolean)} that left these correspondences, 
+     * nothing is loaded when the mapping got loaded again meanwhile
+     * @param staleElements the Capella elements the correspondences refer to, by session {@linkplain URI}
+     */
+    private void LoadStaleMapping(int generation, HashMap<URI, List<CapellaElement>> staleElements)
+    {
+        synchronized (this.mappingLock)
+        {
+            if(generation != this.loadMappingGeneration.get())
+            {
+                return;
+            }
+            
+            this.logService.BeginBulkOperation();
+            
+            try
+            {
+                try (var timer = this.metricsService.StartTimer("DstController.LoadStaleMapping"))
+                {
+                    var mappedElements = this.mappingConfigurationService.LoadStaleMapping(staleElements);
+                
+                    if(mappedElements.isEmpty())
+                    {
+                        return;
+                    }
+                
+                    var result = this.MapLoadedElements(mappedElements);
+                
+                    timer.close();
+                
+                    if(!result)
+                    {
+                        this.logService.Append(String.format("Could not load %s saved mapped things that changed since the last load, check the log for details", mappedElements.size()), Level.ERROR);
+                        return;
+                    }
+                
+                    this.logService.Append(String.format("Loaded %s saved mapping that changed since the last load, done in %s ms", mappedElements.size(), timer.GetElapsedMilliseconds()));
+                }
+            }
+            finally
+            {
+                this.logService.EndBulkOperation();
+            }
+        }
+    }
+    
+    /**
+     * Sorts the provided loaded {@linkplain IMappedElementRowViewModel} by direction and type and applies the mapping rules to them
+     * 
+     * @param mappedElements the {@linkplain Collection} of {@linkplain IMappedElementRowViewModel}
+     * @return a value indicating whether all the mapping went well
+     */
+    private boolean MapLoadedElements(Collection<IMappedElementRowViewModel> mappedElements)
+    {
         var allMappedCapellaComponents = new CapellaComponentCollection();
         var allMappedCapellaRequirements = new CapellaRequirementCollection();
         var allMappedHubElements = new HubElementCollection();
         var allMappedHubRequirements = new HubRequirementCollection();
-        
+    
         mappedElements.stream()
             .filter(x -> x.GetMappingDirection() == MappingDirection.FromDstToHub)
             .forEach(x -> SortMappedElementByType(allMappedCapellaComponents, allMappedCapellaRequirements, x));
-    
+
         mappedElements.stream()
             .filter(x -> x.GetMappingDirection() == MappingDirection.FromHubToDst)
             .forEach(x -> SortMappedElementByType(allMappedHubElements, allMappedHubRequirements, x));
-    
-        this.dstMapResult.clear();
-        this.hubMapResult.clear();
-        this.selectedHubMapResultForTransfer.clear();
-        this.selectedDstMapResultForTransfer.clear();
-        
-        var result = this.Map(allMappedCapellaComponents, MappingDirection.FromDstToHub)
-                   & this.Map(allMappedCapellaRequirements, MappingDirection.FromDstToHub)
-                   & this.Map(allMappedHubElements, MappingDirection.FromHubToDst)
-                   & this.Map(allMappedHubRequirements, MappingDirection.FromHubToDst);
-    
-        timer.stop();
-            
-        if(!result)
-        {
-            this.logService.Append(String.format("Could not load %s saved mapped things for some reason, check the log for details", mappedElements.size()), Level.ERROR);
-            mappedElements.clear();
-            return;
-        }
         
-        this.logService.Append(String.format("Loaded %s saved mapping, done in %s ms", mappedElements.size(), timer.getTime(TimeUnit.MILLISECONDS)));
+        return this.Map(allMappedCapellaComponents, MappingDirection.FromDstToHub)
+               & this.Map(allMappedCapellaRequirements, MappingDirection.FromDstToHub)
+               & this.Map(allMappedHubElements, MappingDirection.FromHubToDst)
+               & this.Map(allMappedHubRequirements, MappingDirection.FromHubToDst);
     }
 
     /**
@@ -604,38 +782,61 @@ public final class DstController implements IDstController
     @SuppressWarnings("unchecked")
     public boolean Map(IMappableThingCollection input, MappingDirection mappingDirection)
     {
-        var output = new Ref<ArrayList<?>>(null);
-        var result = new Ref<Boolean>(Boolean.class, false);
-        
-        if(this.TryMap(input, output, result));
+        synchronized (this.mappingLock)
         {
-            var resultAsCollection = (ArrayList<MappedElementRowViewModel<DefinedThing, NamedElement>>) output.Get();
-            
-            if(resultAsCollection != null && !resultAsCollection.isEmpty())
+            var output = new Ref<ArrayList<?>>(null);
+            var result = new Ref<Boolean>(Boolean.class, false);
+        
+            if(this.TryMap(input, output, result));
             {
-                if (mappingDirection == MappingDirection.FromDstToHub
-                        && resultAsCollection.stream().allMatch(x -> x.GetHubElement() instanceof Thing || x.GetHubElement() == null))
+                var resultAsCollection = (ArrayList<MappedElementRowViewModel<DefinedThing, NamedElement>>) output.Get();
+            
+                if(resultAsCollection != null && !resultAsCollection.isEmpty())
                 {
-                    this.dstMapResult.removeIf(x -> resultAsCollection.stream()
-                            .filter(d -> d.GetHubElement() == null)
-                            .anyMatch(d -> AreTheseEquals(((Thing) d.GetHubElement()).getIid(), x.GetHubElement().getIid())));
+                    if (mappingDirection == MappingDirection.FromDstToHub
+                            && resultAsCollection.stream().allMatch(x -> x.GetHubElement() instanceof Thing || x.GetHubElement() == null))
+                    {
+                        this.dstMapResult.removeIf(x -> resultAsCollection.stream()
+                                .filter(d -> d.GetHubElement() == null)
+                                .anyMatch(d -> AreTheseEquals(((Thing) d.GetHubElement()).getIid(), x.GetHubElement().getIid())));
         
-                    this.selectedDstMapResultForTransfer.clear();                
-                    return this.dstMapResult.addAll(resultAsCollection.stream().filter(x -> x != null).collect(Collectors.toList()));
-                }
-                else if (mappingDirection == MappingDirection.FromHubToDst
-                        && resultAsCollection.stream().allMatch(x -> x.GetDstElement() instanceof CapellaElement))
-                {
-                    this.hubMapResult.removeIf(x -> resultAsCollection.stream()
-                            .anyMatch(d -> AreTheseEquals(d.GetDstElement().getId(), x.GetDstElement().getId())));
+                        this.selectedDstMapResultForTransfer.clear();                
+                        return this.dstMapResult.addAll(resultAsCollection.stream().filter(x -> x != null).collect(Collectors.toList()));
+                    }
+                    else if (mappingDirection == MappingDirection.FromHubToDst
+                            && resultAsCollection.stream().allMatch(x -> x.GetDstElement() instanceof CapellaElement))
+                    {
+                        var replacedMappedElements = this.hubMapResult.stream()
+                                .filter(x -> resultAsCollection.stream()
+                                        .anyMatch(d -> AreTheseEquals(d.GetDstElement().getId(), x.GetDstElement().getId())))
+                                .collect(Collectors.toList());
+                    
+                        this.hubMapResult.removeIf(x -> replacedMappedElements.contains(x));
+                        
+                        this.transactionService.Release(
+                                replacedMappedElements.stream().map(x -> x.GetDstElement()).collect(Collectors.toList()), 
+                                resultAsCollection.stream().map(x -> x.GetDstElement()).collect(Collectors.toList()));
+                        
+                        resultAsCollection.forEach(x -> this.transactionService.Retain(x.GetDstElement()));
     
-                    this.selectedHubMapResultForTransfer.clear();
-                    return this.hubMapResult.addAll(resultAsCollection);
+                        this.selectedHubMapResultForTransfer.clear();
+                        return this.hubMapResult.addAll(resultAsCollection);
+                    }
                 }
             }
+
+            return result.Get();
         }
+    }
 
-        return result.Get();
+    /**
+     * Clears the {@linkplain #hubMapResult} and releases together the clones and new elements its mapped rows were depending on
+     */
+    private void ClearHubMapResult()
+    {
+        var mappedElements = this.hubMapResult.stream().map(x -> x.GetDstElement()).collect(Collectors.toList());
+        this.hubMapResult.clear();
+        this.transactionService.Release(mappedElements, Collections.emptyList());
     }
 
     /**
@@ -671,44 +872,56 @@ public final class DstController implements IDstController
     @Override
     public boolean Transfer()
     { 
-        MutablePair<Boolean, Boolean> result = MutablePair.of(true, true);
-        
-        try
+        synchronized (this.mappingLock)
         {
-            this.isHubSessionRefreshSilent = true;
+            MutablePair<Boolean, Boolean> result = MutablePair.of(true, true);
+        
+            this.logService.BeginBulkOperation();
+        
+            try
+            {
+                this.isHubSessionRefreshSilent = true;
                
-            switch(this.CurrentMappingDirection())
+                switch(this.CurrentMappingDirection())
+                {
+                    case FromDstToHub:
+                        result = this.TransferToHub();
+                        break;
+                    case FromHubToDst:
+                        result.left &= this.TransferToDst();
+                        break;
+                    default:
+                        result = MutablePair.of(false, false);
+                        break;        
+                }
+            
+                if(result.getRight().booleanValue())
+                {
+                    this.SaveMappingConfiguration();
+                    result.left &= this.hubController.Refresh();
+                }
+            } 
+            catch (TransactionException exception)
             {
-                case FromDstToHub:
-                    result = this.TransferToHub();
-                    break;
-                case FromHubToDst:
-                    result.left &= this.TransferToDst();
-                    break;
-                default:
-                    result = MutablePair.of(false, false);
-                    break;        
+                this.logger.catching(exception);
             }
-            
-            if(result.getRight().booleanValue())
+            finally
             {
-                this.SaveMappingConfiguration();
-                result.left &= this.hubController.Refresh();
+                try
+                {
+                    (this.CurrentMappingDirection() == MappingDirection.FromHubToDst ? this.selectedHubMapResultForTransfer : this.selectedDstMapResultForTransfer).clear();
+                    this.isHubSessionRefreshSilent = false;
+                    this.logService.Append("Reloading the mapping configuration in progress...");
+                    this.LoadMapping();
+                }
+                finally
+                {
+                    this.logService.EndBulkOperation();
+                }
             }
-        } 
-        catch (TransactionException exception)
-        {
-            this.logger.catching(exception);
-        }
-        finally
-        {
-            (this.CurrentMappingDirection() == MappingDirection.FromHubToDst ? this.selectedHubMapResultForTransfer : this.selectedDstMapResultForTransfer).clear();
-            this.isHubSessionRefreshSilent = false;
-            this.logService.Append("Reloading the mapping configuration in progress...");
-            this.LoadMapping();
-        }
         
-        return result.getLeft();
+            return result.getLeft();
+        }
     }
     
     /**
@@ -726,12 +939,15 @@ public final class DstController implements IDstController
 
             Iteration iterationClone = iterationTransaction.getLeft();
             ThingTransaction transaction = iterationTransaction.getRight();
-            this.mappingConfigurationService.PersistExternalIdentifierMap(transaction, iterationClone);
-            transaction.createOrUpdate(iterationClone);
-            
-            this.hubController.Write(transaction);
-            this.hubController.Refresh();
-            this.mappingConfigurationService.RefreshExternalIdentifierMap();
+            try (var timer = this.metricsService.StartTimer("Transfer.SaveMappingConfiguration"))
+            {
+                this.mappingConfigurationService.PersistExternalIdentifierMap(transaction, iterationClone);
+                transaction.createOrUpdate(iterationClone);
+                
+                this.hubController.Write(transaction);
+                this.hubController.Refresh();
+                this.mappingConfigurationService.RefreshExternalIdentifierMap();
+            }
         }
     }
 
@@ -742,11 +958,16 @@ public final class DstController implements IDstController
      */
     public boolean TransferToDst()
     {
-        try
+        try (var timer = this.metricsService.StartTimer("Transfer.ToDst"))
         {
+            this.metricsService.RecordValue("Transfer.ToDst.Elements", this.selectedHubMapResultForTransfer.size());
             var result = this.transactionService.Commit(() -> this.PrepareElementsForTransferToCapella());
             this.logService.Append(String.format("Transfered %s elements to Capella", this.selectedHubMapResultForTransfer.size()), result);
             
+            var skippedElementCount = this.GetCapellaTransferChangeDetector().GetSkippedElementCount();
+            this.metricsService.RecordValue("Transfer.ToDst.SkippedElements", skippedElementCount);
+            this.logService.Append("%s element(s) without any change have been skipped", skippedElementCount);
+            
             return result;
         } 
         catch (Exception exception)
@@ -755,6 +976,10 @@ public final class DstController implements IDstController
             this.logger.catching(exception);
             return false;
         }
+        finally
+        {
+            this.capellaTransferChangeDetector = null;
+        }
     }
 
     /**
@@ -799,31 +1024,28 @@ public final class DstController implements IDstController
 
 
     /**
-     * Prepares the deployement link by updating the part
+     * Prepares the deployement links of the parts of the top element by only applying the additions and removals 
+     * between the existing links and the parts to deploy
      * 
-     * @param element
+     * @param architecture the {@linkplain CapellaArchitecture} of the top element
      */
     private void PrepareDeployementLinks(CapellaArchitecture architecture)
     {
         var topElement = architecture != null ? this.capellaSessionService.GetTopElement(architecture) : this.capellaSessionService.GetTopElement();
         
+        var partsToDeploy = new LinkedHashMap<String, Part>();
+        
+        this.hubMapResult.stream()
+                .map(x -> this.transactionService.GetOriginal(x.GetDstElement()))
+                .filter(x -> x.eContainer() != null && x.eContainer() instanceof Component && AreTheseEquals(((Component)x.eContainer()).getId(), topElement.getId()))
+                .flatMap(x -> x.eContents().stream().filter(p -> p instanceof Part).map(p -> (Part)p))
+                .forEach(x -> partsToDeploy.putIfAbsent(x.getId(), x));
+        
+        var deploymentLinkSynchronizer = new DeploymentLinkSynchronizer(this.transactionService);
+        
         for(var part : topElement.eContents().stream().filter(x -> x instanceof Part).map(x -> (Part)x).collect(Collectors.toList()))
         {
-            var partsToDeploy = this.hubMapResult.stream()
-                    .map(x -> this.transactionService.GetOriginal(x.GetDstElement()))
-                    .filter(x -> x.eContainer() != null && x.eContainer() instanceof Component && AreTheseEquals(((Component)x.eContainer()).getId(), topElement.getId()))
-                    .flatMap(x -> x.eContents().stream().filter(p -> p instanceof Part).map(p -> (Part)p))
-                    .collect(Collectors.toList());
-            
-            part.getOwnedDeploymentLinks().clear();
-            
-            for(var partToDeploy : partsToDeploy)
-            {
-                var newLink = this.transactionService.Create(PartDeploymentLink.class);
-                newLink.setLocation(part);
-                newLink.setDeployedElement(partToDeploy);
-                part.getOwnedDeploymentLinks().add(newLink);
-            }
+            deploymentLinkSynchronizer.Synchronize(part, partsToDeploy);
         }        
     }
     
@@ -894,6 +1116,11 @@ public final class DstController implements IDstController
      */
     private void PrepareInterfaces(Component element)
     {
+        if(!this.GetCapellaTransferChangeDetector().Visit(element))
+        {
+            return;
+        }
+        
         var allInterfaces = element.getContainedComponentPorts().stream()
                 .flatMap(x -> Stream.concat(x.getProvidedInterfaces().stream(), x.getRequiredInterfaces().stream()))
                 .filter(x -> this.transactionService.IsNew(x))
@@ -941,10 +1168,28 @@ public final class DstController implements IDstController
         if(this.transactionService.IsCloned(element))
         {
             var clonedReference = this.transactionService.GetClone(element);
-            clonedReference.GetOriginal().setDescription(clonedReference.GetClone().getDescription());
-            clonedReference.GetOriginal().setName(clonedReference.GetClone().getName());
-            clonedReference.GetOriginal().setRequirementId(element.getRequirementId());
-            this.exchangeHistory.Append(element, ChangeKind.UPDATE);
+            
+            if(this.GetCapellaTransferChangeDetector().ShouldBeTransferred(clonedReference))
+            {
+                var original = clonedReference.GetOriginal();
+                
+                if(!AreTheseEquals(original.getDescription(), clonedReference.GetClone().getDescription()))
+                {
+                    original.setDescription(clonedReference.GetClone().getDescription());
+                }
+                
+                if(!AreTheseEquals(original.getName(), clonedReference.GetClone().getName()))
+                {
+                    original.setName(clonedReference.GetClone().getName());
+                }
+                
+                if(!AreTheseEquals(original.getRequirementId(), element.getRequirementId()))
+                {
+                    original.setRequirementId(element.getRequirementId());
+                }
+                
+                this.exchangeHistory.Append(element, ChangeKind.UPDATE);
+            }
         }
         
         var container = (RequirementsPkg)element.eContainer();
@@ -964,8 +1209,10 @@ public final class DstController implements IDstController
         
         if(containerIsCloned.booleanValue())
         {
-            this.UpdateRequirementPackage(containerToUpdate);
-            this.exchangeHistory.Append(containerToUpdate, ChangeKind.UPDATE);
+            if(this.UpdateRequirementPackage(containerToUpdate))
+            {
+                this.exchangeHistory.Append(containerToUpdate, ChangeKind.UPDATE);
+            }
         }
         else
         {
@@ -982,16 +1229,19 @@ public final class DstController implements IDstController
      * Updates the provided cloned {@linkplain RequirementsPkg}
      * 
      * @param containerToUpdate the {@linkplain RequirementsPkg}
+     * @return a value indicating whether any child has been added
      */
-    private void UpdateRequirementPackage(RequirementsPkg containerToUpdate)
+    private boolean UpdateRequirementPackage(RequirementsPkg containerToUpdate)
     {
         var requirementPkgCloneReference = this.transactionService.GetClone(containerToUpdate);
         
-        this.UpdateChildrenOfType(requirementPkgCloneReference.GetOriginal().getOwnedRequirementPkgs(), 
+        var hasAddedPackages = this.UpdateChildrenOfType(requirementPkgCloneReference.GetOriginal().getOwnedRequirementPkgs(), 
                 requirementPkgCloneReference.GetClone().getOwnedRequirementPkgs());
         
-        this.UpdateChildrenOfType(requirementPkgCloneReference.GetOriginal().getOwnedRequirements(), 
+        var hasAddedRequirements = this.UpdateChildrenOfType(requirementPkgCloneReference.GetOriginal().getOwnedRequirements(), 
                 requirementPkgCloneReference.GetClone().getOwnedRequirements());
+        
+        return hasAddedPackages || hasAddedRequirements;
     }
 
     /**
@@ -1000,16 +1250,28 @@ public final class DstController implements IDstController
      * @param <TElement> the type of {@linkplain CapellaElement} the collections contains
      * @param originalCollection the original collection
      * @param clonedCollection the cloned collection
+     * @return a value indicating whether any {@linkplain #TElement} has been added
      */
-    private <TElement extends CapellaElement> void UpdateChildrenOfType(EList<TElement> originalCollection,
+    private <TElement extends CapellaElement> boolean UpdateChildrenOfType(EList<TElement> originalCollection,
             EList<TElement> clonedCollection)
     {
+        var originalIds = originalCollection.stream()
+                .map(x -> x.getId())
+                .filter(x -> x != null)
+                .map(x -> x.toLowerCase())
+                .collect(Collectors.toSet());
+        
         var childrenPackagesToAdd = clonedCollection.stream()
-                .filter(x -> originalCollection.stream()
-                            .noneMatch(e -> AreTheseEquals(x.getId(), e.getId(), true)))
+                .filter(x -> x.getId() == null || !originalIds.contains(x.getId().toLowerCase()))
                 .collect(Collectors.toList());
 
+        if(childrenPackagesToAdd.isEmpty())
+        {
+            return false;
+        }
+        
         originalCollection.addAll(childrenPackagesToAdd);
+        return true;
     }
 
 
@@ -1049,10 +1311,14 @@ public final class DstController implements IDstController
     private <TElement extends Component, TElementContainer extends NamedElement> void PrepareComponentContainer(TElementContainer container, TElement element, Function<TElementContainer, EList<TElement>> childrenSelector)
     {
         var original = this.transactionService.GetClone(container).GetOriginal();
-        childrenSelector.apply(original).removeIf(x -> AreTheseEquals(x.getId(), element.getId()));
-        childrenSelector.apply(original).add(element);
-        this.exchangeHistory.Append(container, ChangeKind.UPDATE);
-        this.exchangeHistory.Append(element, ChangeKind.CREATE);
+        
+        if(!childrenSelector.apply(original).contains(element))
+        {
+            childrenSelector.apply(original).removeIf(x -> AreTheseEquals(x.getId(), element.getId()));
+            childrenSelector.apply(original).add(element);
+            this.exchangeHistory.Append(container, ChangeKind.UPDATE);
+            this.exchangeHistory.Append(element, ChangeKind.CREATE);
+        }
 
         if(container instanceof PhysicalComponentPkg || container instanceof Component 
                 && container.eContents().stream()
@@ -1077,6 +1343,11 @@ public final class DstController implements IDstController
      */
     private void PrepareComponent(Component element)
     {
+        if(!this.GetCapellaTransferChangeDetector().ShouldBeTransferred(this.transactionService.GetClone(element)))
+        {
+            return;
+        }
+        
         if(element instanceof PhysicalComponent)
         {
             this.PrepareComponent((PhysicalComponent)element, x -> x.getOwnedPhysicalComponents());
@@ -1100,8 +1371,12 @@ public final class DstController implements IDstController
     private <TElement extends Component> void PrepareComponent(TElement element, Function<TElement, EList<TElement>> childrenSelector)
     {
         var clonedReference = this.transactionService.GetClone(element);
+        var changeDetector = this.GetCapellaTransferChangeDetector();
         
-        clonedReference.GetOriginal().setName(clonedReference.GetClone().getName());
+        if(!AreTheseEquals(clonedReference.GetOriginal().getName(), clonedReference.GetClone().getName()))
+        {
+            clonedReference.GetOriginal().setName(clonedReference.GetClone().getName());
+        }
         
         for (var clonedProperty : clonedReference.GetClone().getContainedProperties().stream().collect(Collectors.toList()))
         {
@@ -1111,9 +1386,12 @@ public final class DstController implements IDstController
             
             if(optionalProperty.isPresent())
             {
-                optionalProperty.get().setOwnedDefaultValue(clonedProperty.getOwnedDefaultValue());
-
-                this.exchangeHistory.Append(clonedProperty, optionalProperty.get());
+                if(changeDetector.HasChanges(clonedProperty.getOwnedDefaultValue(), optionalProperty.get().getOwnedDefaultValue()))
+                {
+                    optionalProperty.get().setOwnedDefaultValue(clonedProperty.getOwnedDefaultValue());
+                    this.exchangeHistory.Append(clonedProperty, optionalProperty.get());
+                }
+                
                 continue;
             }
             
@@ -1121,10 +1399,13 @@ public final class DstController implements IDstController
             this.exchangeHistory.Append(clonedProperty, ChangeKind.CREATE);
         }
         
+        var originalChildrenIds = childrenSelector.apply(clonedReference.GetOriginal()).stream()
+                .map(x -> x.getId())
+                .collect(Collectors.toSet());
+        
         for (var containedElement : childrenSelector.apply(clonedReference.GetClone()).stream().collect(Collectors.toList()))
         {
-            if(childrenSelector.apply(clonedReference.GetOriginal()).stream()
-                    .anyMatch(x -> AreTheseEquals(x.getId(), containedElement.getId())))
+            if(originalChildrenIds.contains(containedElement.getId()))
             {
                 continue;
             }
@@ -1142,10 +1423,14 @@ public final class DstController implements IDstController
             
             if(optionalPort.isPresent())
             {
-                this.UpdateInterfaces(clonedPort.getProvidedInterfaces(), optionalPort.get().getProvidedInterfaces());
-                this.UpdateInterfaces(clonedPort.getRequiredInterfaces(), optionalPort.get().getRequiredInterfaces());
+                if(changeDetector.HasChanges(clonedPort, optionalPort.get()))
+                {
+                    this.UpdateInterfaces(clonedPort.getProvidedInterfaces(), optionalPort.get().getProvidedInterfaces());
+                    this.UpdateInterfaces(clonedPort.getRequiredInterfaces(), optionalPort.get().getRequiredInterfaces());
+                    
+                    this.exchangeHistory.Append(optionalPort.get(), ChangeKind.UPDATE);
+                }
                 
-                this.exchangeHistory.Append(optionalPort.get(), ChangeKind.UPDATE);
                 continue;
             }
             
@@ -1162,13 +1447,27 @@ public final class DstController implements IDstController
      */
     private <TElement extends Component> void PrepareParts(ClonedReferenceElement<TElement> clonedReference)
     {
-        for (var part : clonedReference.GetClone().getContainedParts())
-        {            
+        var changeDetector = this.GetCapellaTransferChangeDetector();
+        
+        for (var part : clonedReference.GetClone().getContainedParts().stream().collect(Collectors.toList()))
+        {
+            var originalPart = clonedReference.GetOriginal().getContainedParts().stream()
+                    .filter(x -> AreTheseEquals(x.getId(), part.getId()))
+                    .findFirst();
+            
+            if(originalPart.isPresent() && !changeDetector.HasChanges(part, originalPart.get()))
+            {
+                continue;
+            }
+            
             if(this.transactionService.IsCloned(part))
             {
                 var clonedPart = this.transactionService.GetClone(part);
                 
-                clonedPart.GetOriginal().setName(clonedPart.GetClone().getName());
+                if(!AreTheseEquals(clonedPart.GetOriginal().getName(), clonedPart.GetClone().getName()))
+                {
+                    clonedPart.GetOriginal().setName(clonedPart.GetClone().getName());
+                }
                 
                 for (var clonedProperty : clonedPart.GetClone().getOwnedPropertyValues().stream().collect(Collectors.toList()))
                 {
@@ -1178,7 +1477,11 @@ public final class DstController implements IDstController
                     
                     if(optionalProperty.isPresent())
                     {
-                        ElementToComponentMappingRule.UpdatePartPropertyValue(optionalProperty.get(), clonedProperty);
+                        if(changeDetector.HasChanges(clonedProperty, optionalProperty.get()))
+                        {
+                            ElementToComponentMappingRule.UpdatePartPropertyValue(optionalProperty.get(), clonedProperty);
+                        }
+                        
                         continue;
                     }
                     
@@ -1231,6 +1534,11 @@ public final class DstController implements IDstController
     {
         for (var interfaceToUpdate : clonedInterfaces)
         {
+            if(originalInterfaces.contains(interfaceToUpdate))
+            {
+                continue;
+            }
+            
             originalInterfaces.removeIf(x -> AreTheseEquals(x.getId(), interfaceToUpdate.getId()));
             originalInterfaces.add(interfaceToUpdate);
         }
@@ -1257,13 +1565,36 @@ public final class DstController implements IDstController
                 return MutablePair.of(true, false);
             }
             
-            this.PrepareThingsForTransfer(iterationClone, transaction);
-            this.hubController.Write(transaction);
+            this.metricsService.RecordValue("Transfer.ToHub.Things", this.selectedDstMapResultForTransfer.size());
+            
+            try (var timer = this.metricsService.StartTimer("Transfer.ToHub.Prepare"))
+            {
+                this.PrepareThingsForTransfer(iterationClone, transaction);
+            }
+            
+            try (var timer = this.metricsService.StartTimer("Transfer.ToHub.Write"))
+            {
+                this.hubController.Write(transaction);
+            }
+            
+            boolean result = this.RefreshHubSession();
+            
+            try (var timer = this.metricsService.StartTimer("Transfer.ToHub.ParameterOverrides"))
+            {
+                this.PrepareParameterOverrides();
+            }
+            
+            result &= this.RefreshHubSession();
+            
+            try (var timer = this.metricsService.StartTimer("Transfer.ToHub.ValueSets"))
+            {
+                this.UpdateParameterValueSets();
+            }
+            
+            var skippedThingCount = this.GetHubTransferChangeDetector().GetSkippedThingCount();
+            this.metricsService.RecordValue("Transfer.ToHub.SkippedThings", skippedThingCount);
+            this.logService.Append("%s thing(s) without any change have been skipped", skippedThingCount);
             
-            boolean result = this.hubController.Refresh();
-            this.PrepareParameterOverrides();
-            result &= this.hubController.Refresh();
-            this.UpdateParameterValueSets();
             return MutablePair.of(result, true);
         }
         catch (Exception exception)
@@ -1271,6 +1602,24 @@ public final class DstController implements IDstController
             this.logService.Append(String.format("The transfer to the HUB failed because %s : %s", exception.getClass().getSimpleName(), exception.toString()), exception);
             return MutablePair.of(false, true);
         }
+        finally
+        {
+            this.transferPreparationIndex = null;
+            this.hubTransferChangeDetector = null;
+        }
+    }
+
+    /**
+     * Refreshes the Hub session and measures how long it takes
+     * 
+     * @return a value indicating whether the refresh succeeded
+     */
+    private boolean RefreshHubSession()
+    {
+        try (var timer = this.metricsService.StartTimer("Transfer.ToHub.Refresh"))
+        {
+            return this.hubController.Refresh();
+        }
     }
 
    /**
@@ -1290,13 +1639,16 @@ public final class DstController implements IDstController
                 .map(x -> (ElementDefinition)x)
                 .filter(x -> !x.getContainedElement().isEmpty())
                 .filter(x -> x.getContainedElement().stream().anyMatch(u -> !u.getParameterOverride().isEmpty()))
+                .filter(x -> this.GetHubTransferChangeDetector().HasChanges(x))
                 .collect(Collectors.toList());
         
+        var resolvedThings = this.ResolveThingsFromOpenIteration(elementDefinitions);
+        
         for (var elementDefinition : elementDefinitions)
         {
             var refElementDefinition = new Ref<>(ElementDefinition.class);
             
-            if(this.hubController.TryGetThingById(elementDefinition.getIid(), refElementDefinition))
+            if(this.TryGetResolvedThing(resolvedThings, elementDefinition.getIid(), refElementDefinition))
             {
                 var updatedElementDefinition = refElementDefinition.Get().clone(false);
                 this.AddOrUpdateIterationAndTransaction(updatedElementDefinition, iterationClone.getElement(), transaction);
@@ -1332,8 +1684,15 @@ public final class DstController implements IDstController
                 .filter(x -> x.getOriginal() != null)
                 .collect(Collectors.toList());
         
-        this.UpdateParameterValueSets(transaction, allParameters, Parameter.class);
-        this.UpdateParameterValueSets(transaction, allParameterOverrides, ParameterOverride.class);
+        var allParametersAndOverrides = new ArrayList<ParameterOrOverrideBase>(allParameters);
+        allParametersAndOverrides.addAll(allParameterOverrides);
+        
+        var resolvedThings = this.ResolveThingsFromOpenIteration(allParametersAndOverrides);
+        var clones = new HashMap<UUID, Thing>();
+        var changeDetector = this.GetHubTransferChangeDetector();
+        
+        this.UpdateParameterValueSets(transaction, allParameters, Parameter.class, resolvedThings, clones, changeDetector);
+        this.UpdateParameterValueSets(transaction, allParameterOverrides, ParameterOverride.class, resolvedThings, clones, changeDetector);
         
         transaction.createOrUpdate(iterationClone);
         this.hubController.Write(transaction);
@@ -1348,30 +1707,160 @@ public final class DstController implements IDstController
      * @param transaction the {@linkplain ThingTransaction}
      * @param allParameters the collection of {@linkplain #TParameter} to update
      * @param clazz the {@linkplain Class} of {@linkplain #TParameter}
+     * @param resolvedThings the {@linkplain Map} of {@linkplain Thing}s resolved from the open {@linkplain Iteration}
+     * @param clones the {@linkplain Map} of clones already registered in the {@linkplain ThingTransaction}
+     * @param changeDetector the {@linkplain HubTransferChangeDetector} that tells whether the values have changed
      * @throws TransactionException can throw {@linkplain TransactionException}
      */
     @Annotations.ExludeFromCodeCoverageGeneratedReport
-    private <TParameter extends ParameterOrOverrideBase> void UpdateParameterValueSets(ThingTransaction transaction, List<TParameter> allParameters, Class<TParameter> clazz) throws TransactionException
+    private <TParameter extends ParameterOrOverrideBase> void UpdateParameterValueSets(ThingTransaction transaction, List<TParameter> allParameters, 
+            Class<TParameter> clazz, Map<UUID, Thing> resolvedThings, Map<UUID, Thing> clones, HubTransferChangeDetector changeDetector) throws TransactionException
     {
         for(var parameter : allParameters)
         {
-            var refNewParameter = new Ref<>(Parameter.class);
+            var refNewParameter = new Ref<>(clazz);
             
-            if(this.hubController.TryGetThingById(parameter.getIid(), refNewParameter))
+            if(!this.TryGetResolvedThing(resolvedThings, parameter.getIid(), refNewParameter)
+                    || !changeDetector.HasValueSetChanges(parameter, refNewParameter.Get()))
             {
-                var newParameterCloned = refNewParameter.Get().clone(false);
+                continue;
+            }
+            
+            var newParameterCloned = this.GetOrCreateClone(transaction, clones, refNewParameter.Get());
+            
+            if(newParameterCloned instanceof Parameter)
+            {
+                this.UpdateValueSets(transaction, clones, ((Parameter)newParameterCloned).getValueSet(), parameter);
+            }
+            else if(newParameterCloned instanceof ParameterOverride)
+            {
+                this.UpdateValueSets(transaction, clones, ((ParameterOverride)newParameterCloned).getValueSet(), parameter);
+            }
+        }
+    }
+    
+    /**
+     * Updates the clones of the provided {@linkplain ParameterValueSetBase}s with the values of the provided {@linkplain ParameterOrOverrideBase}
+     * 
+     * @param <TValueSet> the type of {@linkplain ParameterValueSetBase}
+     * @param transaction the {@linkplain ThingTransaction}
+     * @param clones the {@linkplain Map} of clones already registered in the {@linkplain ThingTransaction}
+     * @param valueSets the {@linkplain List} of {@linkplain #TValueSet} to update
+     * @param parameter the {@linkplain ParameterOrOverrideBase} that holds the new values
+     * @throws TransactionException can throw {@linkplain TransactionException}
+     */
+    private <TValueSet extends ParameterValueSetBase> void UpdateValueSets(ThingTransaction transaction, Map<UUID, Thing> clones, 
+            List<TValueSet> valueSets, ParameterOrOverrideBase parameter) throws TransactionException
+    {
+        for (int index = 0; index < parameter.getValueSets().size() && index < valueSets.size(); index++)
+        {
+            var clone = this.GetOrCreateClone(transaction, clones, valueSets.get(index));
+            this.UpdateValueSet(clone, parameter.getValueSets().get(index));
+        }
+    }
+
+    /**
+     * Gets the clone of the provided {@linkplain Thing} already registered in the {@linkplain ThingTransaction}, 
+     * or clones it and registers the clone
+     * 
+     * @param <TThing> the type of {@linkplain Thing}
+     * @param transaction the {@linkplain ThingTransaction}
+     * @param clones the {@linkplain Map} of clones already registered in the {@linkplain ThingTransaction}
+     * @param thing the {@linkplain #TThing} to clone
+     * @return the clone of the {@linkplain #TThing}
+     * @throws TransactionException can throw {@linkplain TransactionException}
+     */
+    @SuppressWarnings("unchecked")
+    private <TThing extends Thing> TThing GetOrCreateClone(ThingTransaction transaction, Map<UUID, Thing> clones, TThing thing) throws TransactionException
+    {
+        var clone = clones.get(thing.getIid());
+        
+        if(clone == null)
+        {
+            clone = thing.clone(false);
+            clones.put(thing.getIid(), clone);
+            transaction.createOrUpdate(clone);
+        }
+        
+        return (TThing)clone;
+    }
     
-                for (int index = 0; index < parameter.getValueSets().size(); index++)
+    /**
+     * Resolves, in one pass over the open {@linkplain Iteration}, the {@linkplain ElementDefinition}s, {@linkplain Parameter}s and {@linkplain ParameterOverride}s
+     * that have the same iid as one of the provided {@linkplain Thing}s
+     * 
+     * @param things the {@linkplain Collection} of {@linkplain Thing} to resolve
+     * @return a {@linkplain Map} of the resolved {@linkplain Thing}s by iid
+     */
+    private Map<UUID, Thing> ResolveThingsFromOpenIteration(Collection<? extends Thing> things)
+    {
+        var resolvedThings = new HashMap<UUID, Thing>();
+        var iteration = this.hubController.GetOpenIteration();
+        
+        if(iteration == null || things.isEmpty())
+        {
+            return resolvedThings;
+        }
+        
+        try (var timer = this.metricsService.StartTimer("HubLookup.ResolveThingsFromOpenIteration"))
+        {
+            var iids = things.stream().map(Thing::getIid).collect(Collectors.toCollection(HashSet::new));
+            
+            for (var elementDefinition : iteration.getElement())
+            {
+                this.AddIfRequested(iids, resolvedThings, elementDefinition);
+                elementDefinition.getParameter().forEach(x -> this.AddIfRequested(iids, resolvedThings, x));
+                
+                for (var elementUsage : elementDefinition.getContainedElement())
                 {
-                    var clone = newParameterCloned.getValueSet().get(index).clone(false);
-                    this.UpdateValueSet(clone, parameter.getValueSets().get(index));
-                    transaction.createOrUpdate(clone);
+                    elementUsage.getParameterOverride().forEach(x -> this.AddIfRequested(iids, resolvedThings, x));
                 }
-
-                transaction.createOrUpdate(newParameterCloned);
             }
+            
+            this.metricsService.RecordValue("HubLookup.ResolveThingsFromOpenIteration.Resolved", resolvedThings.size());
+            return resolvedThings;
         }
     }
+
+    /**
+     * Adds the provided {@linkplain Thing} to the resolved things when its iid is part of the requested ones
+     * 
+     * @param iids the requested {@linkplain Set} of iid
+     * @param resolvedThings the {@linkplain Map} of resolved {@linkplain Thing}s by iid
+     * @param thing the {@linkplain Thing}
+     */
+    private void AddIfRequested(Set<UUID> iids, Map<UUID, Thing> resolvedThings, Thing thing)
+    {
+        if(iids.contains(thing.getIid()))
+        {
+            resolvedThings.put(thing.getIid(), thing);
+        }
+    }
+    
+    /**
+     * Tries to get the {@linkplain Thing} with the provided iid from the resolved things, 
+     * falls back to the {@linkplain IHubController} when it has not been resolved
+     * 
+     * @param <TThing> the type of {@linkplain Thing}
+     * @param resolvedThings the {@linkplain Map} of resolved {@linkplain Thing}s by iid
+     * @param iid the {@linkplain UUID} of the {@linkplain Thing} to get
+     * @param refThing the {@linkplain Ref} of {@linkplain #TThing}
+     * @return a value indicating whether the {@linkplain Thing} has been found
+     */
+    @SuppressWarnings("unchecked")
+    private <TThing extends Thing> boolean TryGetResolvedThing(Map<UUID, Thing> resolvedThings, UUID iid, Ref<TThing> refThing)
+    {
+        var thing = resolvedThings.get(iid);
+        
+        if(thing != null && refThing.GetType().isInstance(thing))
+        {
+            refThing.Set((TThing)thing);
+            return true;
+        }
+        
+        this.metricsService.Increment("HubLookup.TryGetThingById");
+        return this.hubController.TryGetThingById(iid, refThing);
+    }
     
     /**
      * Updates the specified {@linkplain ParameterValueSetBase}
@@ -1399,8 +1888,10 @@ public final class DstController implements IDstController
         this.AddOrRemoveBinaryRelationshipForTransfer();
         ArrayList<Thing> thingsToTransfer = new ArrayList<>(this.selectedDstMapResultForTransfer);
         
+        var selectedIids = this.GetSelectedDstMapResultForTransferIids();
+        
         Predicate<? super MappedElementRowViewModel<? extends Thing, ? extends CapellaElement>> selectedMappedElement = 
-                x -> this.selectedDstMapResultForTransfer.stream().anyMatch(t -> AreTheseEquals(t.getIid(), x.GetHubElement().getIid()));
+                x -> x.GetHubElement() != null && selectedIids.contains(x.GetHubElement().getIid());
                 
         Collection<Relationship> relationships = this.dstMapResult.stream()
                 .filter(selectedMappedElement)
@@ -1425,7 +1916,10 @@ public final class DstController implements IDstController
                     this.PrepareRequirementForTransfer(iterationClone, transaction, (RequirementsSpecification)thing);
                     break;
                 case BinaryRelationship:
-                    this.AddOrUpdateIterationAndTransaction((BinaryRelationship)thing, iterationClone.getRelationship(), transaction);
+                    if(this.GetHubTransferChangeDetector().ShouldBeTransferred(thing))
+                    {
+                        this.AddOrUpdateIterationAndTransaction((BinaryRelationship)thing, iterationClone.getRelationship(), transaction);
+                    }
                     break;
                 default:
                     break;
@@ -1449,6 +1943,11 @@ public final class DstController implements IDstController
     private void PrepareElementDefinitionForTransfer(Iteration iterationClone, ThingTransaction transaction, 
             ElementDefinition elementDefinition) throws TransactionException
     {
+        if(!this.GetHubTransferChangeDetector().ShouldBeTransferred(elementDefinition))
+        {
+            return;
+        }
+        
         this.PrepareElementUsageForTransfer(iterationClone, transaction, elementDefinition, false);
 
         this.AddOrUpdateIterationAndTransaction(elementDefinition, iterationClone.getElement(), transaction);
@@ -1469,10 +1968,15 @@ public final class DstController implements IDstController
     {
         for (ElementUsage elementUsage : elementDefinition.getContainedElement())
         {
+           if(!shouldPrepareParameterOverride && !this.GetHubTransferChangeDetector().ShouldBeTransferred(elementUsage))
+           {
+               continue;
+           }
+           
            this.AddOrUpdateIterationAndTransaction(elementUsage.getElementDefinition().clone(false), iterationClone.getElement(), transaction);
            this.AddOrUpdateIterationAndTransaction(elementUsage, elementDefinition.getContainedElement(), transaction);
            
-           if(transaction.getAddedThing().stream().anyMatch(x -> AreTheseEquals(x.getIid(), elementUsage.getIid())))
+           if(this.GetTransferPreparationIndex(transaction).IsAdded(elementUsage))
            {
                this.PrepareDefinition(transaction, elementUsage);
            }
@@ -1495,7 +1999,12 @@ public final class DstController implements IDstController
      */
     private <TParameter extends ParameterOrOverrideBase> void PrepareParameterOrOverrideForTransfer(ThingTransaction transaction, ContainerList<TParameter> parameters) throws TransactionException
     {
-        for(var parameter : parameters.stream().filter(x -> x.getOriginal() != null || x.getRevisionNumber() == 0).collect(Collectors.toList()))
+        var changeDetector = this.GetHubTransferChangeDetector();
+        
+        for(var parameter : parameters.stream()
+                .filter(x -> x.getOriginal() != null || x.getRevisionNumber() == 0)
+                .filter(changeDetector::ShouldBeTransferred)
+                .collect(Collectors.toList()))
         {
             transaction.createOrUpdate(parameter);
         }
@@ -1531,6 +2040,13 @@ public final class DstController implements IDstController
     private void PrepareRequirementForTransfer(Iteration iterationClone, ThingTransaction transaction, 
             RequirementsSpecification requirementsSpecification) throws TransactionException
     {
+        var changeDetector = this.GetHubTransferChangeDetector();
+        
+        if(!changeDetector.ShouldBeTransferred(requirementsSpecification))
+        {
+            return;
+        }
+        
         this.AddOrUpdateIterationAndTransaction(requirementsSpecification, iterationClone.getRequirementsSpecification(), transaction);
         
         ContainerList<RequirementsGroup> groups = requirementsSpecification.getGroup();
@@ -1539,11 +2055,19 @@ public final class DstController implements IDstController
         
         for(var requirement : requirementsSpecification.getRequirement())
         {
+            if(!changeDetector.ShouldBeTransferred(requirement))
+            {
+                continue;
+            }
+            
             transaction.createOrUpdate(requirement);
             
             for (Definition definition : requirement.getDefinition())
             {
-                transaction.createOrUpdate(definition);
+                if(changeDetector.ShouldBeTransferred(definition))
+                {
+                    transaction.createOrUpdate(definition);
+                }
             }
         }
     }
@@ -1559,6 +2083,11 @@ public final class DstController implements IDstController
     {
         for(RequirementsGroup requirementsGroup : groups)
         {
+            if(!this.GetHubTransferChangeDetector().ShouldBeTransferred(requirementsGroup))
+            {
+                continue;
+            }
+            
             transaction.createOrUpdate(requirementsGroup);
             
             if(!requirementsGroup.getGroup().isEmpty())
@@ -1582,9 +2111,11 @@ public final class DstController implements IDstController
     {
         try
         {
-            if(thing.getContainer() == null || containerList.stream().noneMatch(x -> x.getIid().equals(thing.getIid())))
+            var index = this.GetTransferPreparationIndex(transaction);
+            
+            if(thing.getContainer() == null || !index.Contains(thing, containerList))
             {
-                containerList.add(thing);
+                index.Add(thing, containerList);
                 this.exchangeHistory.Append(thing, ChangeKind.CREATE);   
             }
             else
@@ -1592,13 +2123,62 @@ public final class DstController implements IDstController
                 this.exchangeHistory.Append(thing, ChangeKind.UPDATE);
             }
 
-            transaction.createOrUpdate(thing);
+            index.CreateOrUpdate(thing);
         }
         catch (Exception exception)
         {
             this.logger.catching(exception);
         }
     }
+    
+    /**
+     * Gets the {@linkplain TransferPreparationIndex} bound to the provided {@linkplain ThingTransaction}, 
+     * building it the first time the transaction is used
+     * 
+     * @param transaction the {@linkplain ThingTransaction}
+     * @return the {@linkplain TransferPreparationIndex}
+     */
+    private TransferPreparationIndex GetTransferPreparationIndex(ThingTransaction transaction)
+    {
+        if(this.transferPreparationIndex == null || !this.transferPreparationIndex.IsBoundTo(transaction))
+        {
+            this.transferPreparationIndex = new TransferPreparationIndex(transaction);
+        }
+        
+        return this.transferPreparationIndex;
+    }
+
+    /**
+     * Gets the {@linkplain HubTransferChangeDetector} of the transfer to the Hub currently being prepared, 
+     * building it the first time it is used
+     * 
+     * @return the {@linkplain HubTransferChangeDetector}
+     */
+    private HubTransferChangeDetector GetHubTransferChangeDetector()
+    {
+        if(this.hubTransferChangeDetector == null)
+        {
+            this.hubTransferChangeDetector = new HubTransferChangeDetector();
+        }
+        
+        return this.hubTransferChangeDetector;
+    }
+
+    /**
+     * Gets the {@linkplain CapellaTransferChangeDetector} of the transfer to Capella currently being prepared, 
+     * building it the first time it is used
+     * 
+     * @return the {@linkplain CapellaTransferChangeDetector}
+     */
+    private CapellaTransferChangeDetector GetCapellaTransferChangeDetector()
+    {
+        if(this.capellaTransferChangeDetector == null)
+        {
+            this.capellaTransferChangeDetector = new CapellaTransferChangeDetector();
+        }
+        
+        return this.capellaTransferChangeDetector;
+    }
 
     /**
      * Adds or Removes all {@linkplain TElement} from/to the relevant selected things to transfer
@@ -1670,9 +2250,19 @@ public final class DstController implements IDstController
      */
     public <TElement extends CapellaElement> boolean TryGetElementByName(DefinedThing thing, Ref<TElement> refElement)
     {
-        return this.TryGetElementBy(x -> x instanceof NamedElement
-                && (AreTheseEquals(thing.getName(), ((NamedElement)x).getName(), true)
-                || AreTheseEquals(thing.getShortName(), ((NamedElement)x).getName(), true)), refElement);
+        var nameKey = this.nameKeyService.GetKey(thing);
+        var shortNameKey = this.nameKeyService.GetShortNameKey(thing);
+        
+        return this.TryGetElementBy(x -> 
+        {
+            if(!(x instanceof NamedElement))
+            {
+                return false;
+            }
+            
+            var elementKey = this.nameKeyService.GetKey((NamedElement)x);
+            return elementKey.IsSameName(nameKey) || elementKey.IsSameName(shortNameKey);
+        }, refElement);
     }
         
     /**
@@ -1728,26 +2318,7 @@ public final class DstController implements IDstController
     @Override
     public boolean TryGetEnumerationPropertyType(EnumerationParameterType thing, CapellaElement referenceElement, Ref<EnumerationPropertyType> refDataType)
     {
-        var sessionUri = this.capellaSessionService.GetSession(referenceElement).getSessionResource().getURI();
-        
-        var elementsBySession = this.capellaSessionService.GetAllCapellaElementsFromOpenSessions();
-                
-        var dataTypes = elementsBySession.get(sessionUri).stream()
-                .filter(x -> x instanceof EnumerationPropertyType)
-                .map(x -> (EnumerationPropertyType)x)
-                .collect(Collectors.toList());
-        
-        var optionalDatatype = dataTypes.stream()
-                .filter(x -> AreTheseEquals(x.getName(), thing.getName(), true) 
-                        || AreTheseEquals(x.getName(), thing.getShortName(), true))
-                .findAny();
-        
-        if(optionalDatatype.isPresent())
-        {
-            refDataType.Set(optionalDatatype.get());
-        }
-        
-        return refDataType.HasValue();
+        return this.GetReferenceDataCatalog(referenceElement).TryGetEnumerationPropertyType(thing.getName(), thing.getShortName(), refDataType);
     }
     
     /**
@@ -1762,25 +2333,31 @@ public final class DstController implements IDstController
     @Override
     public <TThing extends NamedThing & ShortNamedThing> boolean TryGetDataType(TThing thing, CapellaElement referenceElement, Ref<DataType> refDataType)
     {
-        var sessionUri = this.capellaSessionService.GetSession(referenceElement).getSessionResource().getURI();
-        
-        var elementsBySession = this.capellaSessionService.GetAllCapellaElementsFromOpenSessions();
-                
-        var dataTypes = elementsBySession.get(sessionUri).stream()
-                .filter(x -> x instanceof DataType)
-                .map(x -> (DataType)x)
-                .collect(Collectors.toList());
-        
-        var optionalScale = dataTypes.stream()
-                .filter(x -> AreTheseEquals(x.getName(), thing.getName(), true) 
-                        || AreTheseEquals(x.getName(), thing.getShortName(), true))
-                .findAny();
-        
-        if(optionalScale.isPresent())
-        {
-            refDataType.Set(optionalScale.get());
-        }
-        
-        return refDataType.HasValue();
+        return this.GetReferenceDataCatalog(referenceElement).TryGetDataType(thing.getName(), thing.getShortName(), refDataType);
+    }
+    
+    /**
+     * Tries to get a {@linkplain Unit} that matches the provided {@linkplain MeasurementUnit}
+     * 
+     * @param unit the {@linkplain MeasurementUnit} of reference
+     * @param referenceElement a {@linkplain CapellaElement} that will point to the right session
+     * @param refUnit the {@linkplain Ref} of {@linkplain Unit}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    public boolean TryGetUnit(MeasurementUnit unit, CapellaElement referenceElement, Ref<Unit> refUnit)
+    {
+        return this.GetReferenceDataCatalog(referenceElement).TryGetUnit(unit.getName(), unit.getShortName(), refUnit);
+    }
+    
+    /**
+     * Gets the {@linkplain CapellaReferenceDataCatalog} of the session that owns the provided {@linkplain CapellaElement}
+     * 
+     * @param referenceElement a {@linkplain CapellaElement} that will point to the right session
+     * @return the {@linkplain CapellaReferenceDataCatalog}
+     */
+    private CapellaReferenceDataCatalog GetReferenceDataCatalog(CapellaElement referenceElement)
+    {
+        return this.capellaSessionService.GetReferenceDataCatalog(this.capellaSessionService.GetSession(referenceElement));
     }
 }
@@ -0,0 +1,413 @@
+/*
+ * HubTransferChangeDetector.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import static Utils.Operators.Operators.AreTheseEquals;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import cdp4common.commondata.DefinedThing;
+import cdp4common.commondata.Definition;
+import cdp4common.commondata.NamedThing;
+import cdp4common.commondata.ShortNamedThing;
+import cdp4common.commondata.Thing;
+import cdp4common.engineeringmodeldata.BinaryRelationship;
+import cdp4common.engineeringmodeldata.ElementBase;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.ElementUsage;
+import cdp4common.engineeringmodeldata.Parameter;
+import cdp4common.engineeringmodeldata.ParameterOrOverrideBase;
+import cdp4common.engineeringmodeldata.ParameterOverride;
+import cdp4common.engineeringmodeldata.Requirement;
+import cdp4common.engineeringmodeldata.RequirementsGroup;
+import cdp4common.engineeringmodeldata.RequirementsSpecification;
+import cdp4common.engineeringmodeldata.ValueSet;
+import cdp4common.sitedirectorydata.CategorizableThing;
+import cdp4common.types.ValueArray;
+
+/**
+ * The {@linkplain HubTransferChangeDetector} compares the mapped {@linkplain Thing}s with the {@linkplain Thing}s they have been cloned from,
+ * so that only the things that actually differ get registered in the {@linkplain ThingTransaction} of a transfer to the Hub.
+ * It is built once per transfer and keeps track of the things that have been skipped.
+ * Value sets are not part of the structural comparison, they are compared by {@linkplain #HasValueSetChanges(ParameterOrOverrideBase, ParameterOrOverrideBase)}
+ * when the values get written.
+ */
+public final class HubTransferChangeDetector
+{
+    /**
+     * The results of the comparisons already made, keyed by {@linkplain Thing} reference
+     */
+    private final Map<Thing, Boolean> comparedThings = new IdentityHashMap<>();
+
+    /**
+     * The iids of the {@linkplain Thing}s that have been skipped
+     */
+    private final Set<UUID> skippedThingIids = new HashSet<>();
+
+    /**
+     * Gets a value indicating whether the provided {@linkplain Thing} has to be transferred,
+     * when it does not the {@linkplain Thing} is counted as skipped
+     * 
+     * @param thing the {@linkplain Thing}
+     * @return a {@linkplain boolean}
+     */
+    public boolean ShouldBeTransferred(Thing thing)
+    {
+        if(this.HasChanges(thing))
+        {
+            return true;
+        }
+        
+        this.skippedThingIids.add(thing.getIid());
+        return false;
+    }
+
+    /**
+     * Gets a value indicating whether the values of the provided mapped {@linkplain ParameterOrOverrideBase} differ from the current ones,
+     * a different number of value sets being a change, when they do not the parameter is counted as skipped
+     * 
+     * @param parameter the mapped {@linkplain ParameterOrOverrideBase} that holds the new values
+     * @param currentParameter the {@linkplain ParameterOrOverrideBase} from the open iteration
+     * @return a {@linkplain boolean}
+     */
+    public boolean HasValueSetChanges(ParameterOrOverrideBase parameter, ParameterOrOverrideBase currentParameter)
+    {
+        var valueSets = parameter.getValueSets();
+        var currentValueSets = currentParameter.getValueSets();
+        
+        if(valueSets.size() != currentValueSets.size())
+        {
+            return true;
+        }
+        
+        for (var index = 0; index < valueSets.size(); index++)
+        {
+            if(HasValueSetChanges(valueSets.get(index), currentValueSets.get(index)))
+            {
+                return true;
+            }
+        }
+        
+        this.skippedThingIids.add(parameter.getIid());
+        return false;
+    }
+
+    /**
+     * Gets the number of {@linkplain Thing}s that have been skipped because they did not change
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetSkippedThingCount()
+    {
+        return this.skippedThingIids.size();
+    }
+
+    /**
+     * Gets a value indicating whether the provided {@linkplain Thing} or any of the things it contains differ from the {@linkplain Thing} it has been cloned from.
+     * A {@linkplain Thing} that has not been cloned has changes when it is a new one, 
+     * otherwise it is the persisted {@linkplain Thing} itself and it has none.
+     * 
+     * @param thing the {@linkplain Thing}
+     * @return a {@linkplain boolean}
+     */
+    public boolean HasChanges(Thing thing)
+    {
+        var hasChanges = this.comparedThings.get(thing);
+        
+        if(hasChanges == null)
+        {
+            var original = thing.getOriginal();
+            
+            hasChanges = original == null 
+                    ? thing.getRevisionNumber() == 0 
+                    : original.getClassKind() != thing.getClassKind() || this.HasChanges(thing, original);
+            
+            this.comparedThings.put(thing, hasChanges);
+        }
+        
+        return hasChanges;
+    }
+
+    /**
+     * Compares the properties of the provided {@linkplain Thing} with the ones of its original
+     * 
+     * @param thing the {@linkplain Thing}
+     * @param original the original {@linkplain Thing} of the same class kind
+     * @return a value indicating whether any property differs
+     */
+    private boolean HasChanges(Thing thing, Thing original)
+    {
+        if(thing instanceof NamedThing && !AreTheseEquals(((NamedThing)thing).getName(), ((NamedThing)original).getName()))
+        {
+            return true;
+        }
+        
+        if(thing instanceof ShortNamedThing && !AreTheseEquals(((ShortNamedThing)thing).getShortName(), ((ShortNamedThing)original).getShortName()))
+        {
+            return true;
+        }
+        
+        if(thing instanceof CategorizableThing 
+                && HaveReferencesChanged(((CategorizableThing)thing).getCategory(), ((CategorizableThing)original).getCategory()))
+        {
+            return true;
+        }
+        
+        if(thing instanceof DefinedThing 
+                && this.HaveContainedThingsChanged(((DefinedThing)thing).getDefinition(), ((DefinedThing)original).getDefinition()))
+        {
+            return true;
+        }
+        
+        if(thing instanceof Definition)
+        {
+            return !AreTheseEquals(((Definition)thing).getContent(), ((Definition)original).getContent())
+                    || !AreTheseEquals(((Definition)thing).getLanguageCode(), ((Definition)original).getLanguageCode());
+        }
+        
+        if(thing instanceof ElementBase && HasReferenceChanged(((ElementBase)thing).getOwner(), ((ElementBase)original).getOwner()))
+        {
+            return true;
+        }
+        
+        if(thing instanceof ElementDefinition)
+        {
+            return this.HasChanges((ElementDefinition)thing, (ElementDefinition)original);
+        }
+        
+        if(thing instanceof ElementUsage)
+        {
+            return this.HasChanges((ElementUsage)thing, (ElementUsage)original);
+        }
+        
+        if(thing instanceof ParameterOrOverrideBase)
+        {
+            return this.HasChanges((ParameterOrOverrideBase)thing, (ParameterOrOverrideBase)original);
+        }
+        
+        if(thing instanceof RequirementsSpecification)
+        {
+            var specification = (RequirementsSpecification)thing;
+            var originalSpecification = (RequirementsSpecification)original;
+            
+            return specification.isDeprecated() != originalSpecification.isDeprecated()
+                    || this.HaveContainedThingsChanged(specification.getGroup(), originalSpecification.getGroup())
+                    || this.HaveContainedThingsChanged(specification.getRequirement(), originalSpecification.getRequirement());
+        }
+        
+        if(thing instanceof RequirementsGroup)
+        {
+            return this.HaveContainedThingsChanged(((RequirementsGroup)thing).getGroup(), ((RequirementsGroup)original).getGroup());
+        }
+        
+        if(thing instanceof Requirement)
+        {
+            return ((Requirement)thing).isDeprecated() != ((Requirement)original).isDeprecated()
+                    || HasReferenceChanged(((Requirement)thing).getGroup(), ((Requirement)original).getGroup());
+        }
+        
+        if(thing instanceof BinaryRelationship)
+        {
+            return HasReferenceChanged(((BinaryRelationship)thing).getSource(), ((BinaryRelationship)original).getSource())
+                    || HasReferenceChanged(((BinaryRelationship)thing).getTarget(), ((BinaryRelationship)original).getTarget());
+        }
+        
+        return false;
+    }
+
+    /**
+     * Compares the provided {@linkplain ElementDefinition} with its original
+     * 
+     * @param elementDefinition the {@linkplain ElementDefinition}
+     * @param original the original {@linkplain ElementDefinition}
+     * @return a value indicating whether any property or contained thing differs
+     */
+    private boolean HasChanges(ElementDefinition elementDefinition, ElementDefinition original)
+    {
+        return HaveReferencesChanged(elementDefinition.getReferencedElement(), original.getReferencedElement())
+                || this.HaveContainedThingsChanged(elementDefinition.getParameter(), original.getParameter())
+                || this.HaveContainedThingsChanged(elementDefinition.getContainedElement(), original.getContainedElement());
+    }
+
+    /**
+     * Compares the provided {@linkplain ElementUsage} with its original
+     * 
+     * @param elementUsage the {@linkplain ElementUsage}
+     * @param original the original {@linkplain ElementUsage}
+     * @return a value indicating whether any property or contained thing differs
+     */
+    private boolean HasChanges(ElementUsage elementUsage, ElementUsage original)
+    {
+        return elementUsage.getInterfaceEnd() != original.getInterfaceEnd()
+                || HasReferenceChanged(elementUsage.getElementDefinition(), original.getElementDefinition())
+                || HaveReferencesChanged(elementUsage.getExcludeOption(), original.getExcludeOption())
+                || this.HaveContainedThingsChanged(elementUsage.getParameterOverride(), original.getParameterOverride());
+    }
+
+    /**
+     * Compares the provided {@linkplain ParameterOrOverrideBase} with its original, without comparing the value sets
+     * 
+     * @param parameter the {@linkplain ParameterOrOverrideBase}
+     * @param original the original {@linkplain ParameterOrOverrideBase}
+     * @return a value indicating whether any property differs
+     */
+    private boolean HasChanges(ParameterOrOverrideBase parameter, ParameterOrOverrideBase original)
+    {
+        if(HasReferenceChanged(parameter.getOwner(), original.getOwner()))
+        {
+            return true;
+        }
+        
+        if(parameter instanceof ParameterOverride)
+        {
+            return HasReferenceChanged(((ParameterOverride)parameter).getParameter(), ((ParameterOverride)original).getParameter());
+        }
+        
+        var thisParameter = (Parameter)parameter;
+        var originalParameter = (Parameter)original;
+        
+        return thisParameter.isOptionDependent() != originalParameter.isOptionDependent()
+                || HasReferenceChanged(thisParameter.getParameterType(), originalParameter.getParameterType())
+                || HasReferenceChanged(thisParameter.getScale(), originalParameter.getScale())
+                || HasReferenceChanged(thisParameter.getStateDependence(), originalParameter.getStateDependence())
+                || HasReferenceChanged(thisParameter.getGroup(), originalParameter.getGroup());
+    }
+
+    /**
+     * Compares the provided contained {@linkplain Thing}s with the ones contained by the original.
+     * The contained things that are the very same instances as the original ones have not been cloned and are left untouched.
+     * 
+     * @param things the {@linkplain Collection} of contained {@linkplain Thing}s
+     * @param originalThings the {@linkplain Collection} of {@linkplain Thing}s contained by the original
+     * @return a value indicating whether any contained thing has been added, removed or has changes
+     */
+    private boolean HaveContainedThingsChanged(Collection<? extends Thing> things, Collection<? extends Thing> originalThings)
+    {
+        if(things.size() != originalThings.size())
+        {
+            return true;
+        }
+        
+        var originalThingsByIid = new HashMap<UUID, Thing>(originalThings.size() * 2);
+        originalThings.forEach(x -> originalThingsByIid.put(x.getIid(), x));
+        
+        for (var thing : things)
+        {
+            var originalThing = originalThingsByIid.get(thing.getIid());
+            
+            if(originalThing == null || (originalThing != thing && this.HasChanges(thing)))
+            {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+
+    /**
+     * Compares two collections of referenced {@linkplain Thing}s by iid, regardless of their order
+     * 
+     * @param things the {@linkplain Collection} of referenced {@linkplain Thing}s
+     * @param originalThings the {@linkplain Collection} of {@linkplain Thing}s referenced by the original
+     * @return a value indicating whether the references differ
+     */
+    private static boolean HaveReferencesChanged(Collection<? extends Thing> things, Collection<? extends Thing> originalThings)
+    {
+        if(things.size() != originalThings.size())
+        {
+            return true;
+        }
+        
+        var originalIids = new HashSet<UUID>(originalThings.size() * 2);
+        originalThings.forEach(x -> originalIids.add(x.getIid()));
+        
+        return things.stream().anyMatch(x -> !originalIids.contains(x.getIid()));
+    }
+
+    /**
+     * Compares two referenced {@linkplain Thing}s by iid
+     * 
+     * @param thing the referenced {@linkplain Thing}, can be null
+     * @param originalThing the {@linkplain Thing} referenced by the original, can be null
+     * @return a value indicating whether the references differ
+     */
+    private static boolean HasReferenceChanged(Thing thing, Thing originalThing)
+    {
+        if(thing == null || originalThing == null)
+        {
+            return thing != originalThing;
+        }
+        
+        return !Objects.equals(thing.getIid(), originalThing.getIid());
+    }
+
+    /**
+     * Compares the manual values and the value switch of the provided {@linkplain ValueSet}s
+     * 
+     * @param valueSet the {@linkplain ValueSet} that holds the new values
+     * @param currentValueSet the current {@linkplain ValueSet}
+     * @return a value indicating whether the values differ
+     */
+    private static boolean HasValueSetChanges(ValueSet valueSet, ValueSet currentValueSet)
+    {
+        return valueSet.getValueSwitch() != currentValueSet.getValueSwitch() 
+                || HaveValuesChanged(valueSet.getManual(), currentValueSet.getManual());
+    }
+
+    /**
+     * Compares the provided {@linkplain ValueArray}s value by value
+     * 
+     * @param values the new {@linkplain ValueArray}
+     * @param currentValues the current {@linkplain ValueArray}
+     * @return a value indicating whether the values differ
+     */
+    private static boolean HaveValuesChanged(ValueArray<String> values, ValueArray<String> currentValues)
+    {
+        if(values == null || currentValues == null)
+        {
+            return values != currentValues;
+        }
+        
+        Iterator<String> valueIterator = values.iterator();
+        Iterator<String> currentValueIterator = currentValues.iterator();
+        
+        while(valueIterator.hasNext() && currentValueIterator.hasNext())
+        {
+            if(!AreTheseEquals(valueIterator.next(), currentValueIterator.next()))
+            {
+                return true;
+            }
+        }
+        
+        return valueIterator.hasNext() || currentValueIterator.hasNext();
+    }
+}
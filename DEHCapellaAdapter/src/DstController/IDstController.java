@@ -31,6 +31,7 @@ import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.EnumerationPropertyType;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
 import org.polarsys.capella.core.data.capellacore.Trace;
+import org.polarsys.capella.core.data.information.Unit;
 import org.polarsys.capella.core.data.information.datatype.DataType;
 
 import Enumerations.MappingDirection;
@@ -45,6 +46,7 @@ import cdp4common.commondata.Thing;
 import cdp4common.engineeringmodeldata.BinaryRelationship;
 import cdp4common.sitedirectorydata.EnumerationParameterType;
 import cdp4common.sitedirectorydata.MeasurementScale;
+import cdp4common.sitedirectorydata.MeasurementUnit;
 import io.reactivex.Observable;
 
 /**
@@ -96,6 +98,14 @@ public interface IDstController extends IDstControllerBase<NamedElement>
      */
     void LoadMapping();
 
+    /**
+     * Loads the saved mapping and applies the mapping rule to the loaded things
+     * 
+     * @param shouldLoadStaleMappingInBackground a value indicating whether the correspondences that changed 
+     * since the mapping snapshot was saved should be loaded in the background
+     */
+    void LoadMapping(boolean shouldLoadStaleMappingInBackground);
+
     /**
      * Switches the {@linkplain MappingDirection}
      * 
@@ -203,6 +213,16 @@ public interface IDstController extends IDstControllerBase<NamedElement>
      */
     boolean TryGetEnumerationPropertyType(EnumerationParameterType thing, CapellaElement referenceElement, Ref<EnumerationPropertyType> refDataType);
 
+    /**
+     * Tries to get a {@linkplain Unit} that matches the provided {@linkplain MeasurementUnit}
+     * 
+     * @param unit the {@linkplain MeasurementUnit} of reference
+     * @param referenceElement a {@linkplain CapellaElement} that will point to the right session
+     * @param refUnit the {@linkplain Ref} of {@linkplain Unit}
+     * @return a {@linkplain boolean}
+     */
+    boolean TryGetUnit(MeasurementUnit unit, CapellaElement referenceElement, Ref<Unit> refUnit);
+
     /**
      * Gets a value indicating whether there is any session open in Capella
      * 
@@ -0,0 +1,161 @@
+/*
+ * TransferPreparationIndex.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import cdp4common.commondata.Thing;
+import cdp4common.types.ContainerList;
+import cdp4dal.exceptions.TransactionException;
+import cdp4dal.operations.ThingTransaction;
+
+/**
+ * The {@linkplain TransferPreparationIndex} holds the iid lookups used while preparing the {@linkplain Thing}s to transfer to the Hub.
+ * It is built once per {@linkplain ThingTransaction} and kept up to date as things are added,
+ * so that containment and added thing checks do not require to scan the iteration clone or the transaction
+ */
+public final class TransferPreparationIndex
+{
+    /**
+     * The {@linkplain ThingTransaction} this index is bound to
+     */
+    private final ThingTransaction transaction;
+
+    /**
+     * The iids of the things contained in each indexed {@linkplain ContainerList}, keyed by {@linkplain ContainerList} reference
+     */
+    private final Map<ContainerList<? extends Thing>, Set<UUID>> containerListIids = new IdentityHashMap<>();
+
+    /**
+     * The iids of the {@linkplain Thing}s that the {@linkplain #transaction} has registered as added
+     */
+    private final Set<UUID> addedThingIids = new HashSet<>();
+
+    /**
+     * Initializes a new {@linkplain TransferPreparationIndex}
+     *
+     * @param transaction the {@linkplain ThingTransaction} this index is bound to
+     */
+    public TransferPreparationIndex(ThingTransaction transaction)
+    {
+        this.transaction = transaction;
+
+        for (var addedThing : transaction.getAddedThing())
+        {
+            this.addedThingIids.add(addedThing.getIid());
+        }
+    }
+
+    /**
+     * Gets a value indicating whether this index has been built for the provided {@linkplain ThingTransaction}
+     *
+     * @param transaction the {@linkplain ThingTransaction}
+     * @return a {@linkplain boolean}
+     */
+    public boolean IsBoundTo(ThingTransaction transaction)
+    {
+        return this.transaction == transaction;
+    }
+
+    /**
+     * Gets a value indicating whether the provided {@linkplain ContainerList} contains a {@linkplain Thing} with the same iid as the provided one
+     *
+     * @param <TThing> the type of {@linkplain Thing}
+     * @param thing the {@linkplain #TThing}
+     * @param containerList the {@linkplain ContainerList} of {@linkplain #TThing}
+     * @return a {@linkplain boolean}
+     */
+    public <TThing extends Thing> boolean Contains(TThing thing, ContainerList<TThing> containerList)
+    {
+        return this.GetContainerListIids(containerList).contains(thing.getIid());
+    }
+
+    /**
+     * Adds the provided {@linkplain Thing} to the provided {@linkplain ContainerList} and indexes it
+     *
+     * @param <TThing> the type of {@linkplain Thing}
+     * @param thing the {@linkplain #TThing} to add
+     * @param containerList the {@linkplain ContainerList} of {@linkplain #TThing}
+     */
+    public <TThing extends Thing> void Add(TThing thing, ContainerList<TThing> containerList)
+    {
+        containerList.add(thing);
+        this.GetContainerListIids(containerList).add(thing.getIid());
+    }
+
+    /**
+     * Registers the provided {@linkplain Thing} to be created or updated by the {@linkplain #transaction}
+     * and keeps track of it when the transaction registers it as added. The added things are read again after the registration
+     * since the {@linkplain ThingTransaction} is not guaranteed to return a live view
+     *
+     * @param thing the {@linkplain Thing} to create or update
+     * @throws TransactionException can throw {@linkplain TransactionException}
+     */
+    public void CreateOrUpdate(Thing thing) throws TransactionException
+    {
+        var addedThingCount = this.transaction.getAddedThing().size();
+        this.transaction.createOrUpdate(thing);
+
+        if(this.transaction.getAddedThing().size() > addedThingCount)
+        {
+            this.addedThingIids.add(thing.getIid());
+        }
+    }
+
+    /**
+     * Gets a value indicating whether the provided {@linkplain Thing} has been registered as added by the {@linkplain #transaction}
+     *
+     * @param thing the {@linkplain Thing}
+     * @return a {@linkplain boolean}
+     */
+    public boolean IsAdded(Thing thing)
+    {
+        return this.addedThingIids.contains(thing.getIid());
+    }
+
+    /**
+     * Gets the {@linkplain Set} of iids of the provided {@linkplain ContainerList}, indexing it on first access
+     *
+     * @param containerList the {@linkplain ContainerList}
+     * @return a {@linkplain Set} of {@linkplain UUID}
+     */
+    private Set<UUID> GetContainerListIids(ContainerList<? extends Thing> containerList)
+    {
+        return this.containerListIids.computeIfAbsent(containerList, x ->
+        {
+            var iids = new HashSet<UUID>(x.size() * 2);
+
+            for (var thing : x)
+            {
+                iids.add(thing.getIid());
+            }
+
+            return iids;
+        });
+    }
+}
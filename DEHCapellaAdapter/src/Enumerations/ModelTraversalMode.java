@@ -0,0 +1,40 @@
+/*
+ * ModelTraversalMode.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Enumerations;
+
+/**
+ * The {@linkplain ModelTraversalMode} enumerates the ways the {@linkplain Services.CapellaSession.ICapellaSessionService} goes through all the elements of the open Capella models
+ */
+public enum ModelTraversalMode
+{
+    /**
+     * Represents a traversal of the whole resource set on the calling thread, this is the default traversal
+     */
+    Serial,
+    
+    /**
+     * Represents a traversal split by resource and by top-level containment subtrees that runs on a fork join pool under a read-only transaction
+     */
+    Parallel
+}
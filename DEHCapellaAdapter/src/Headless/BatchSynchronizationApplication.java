@@ -0,0 +1,294 @@
+/*
+ * BatchSynchronizationApplication.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+import App.AppContainer;
+import Services.Metrics.IMetricsService;
+
+/**
+ * The {@linkplain BatchSynchronizationApplication} is the Eclipse application that synchronizes Capella projects with the Hub without any user interaction.
+ * It is started with:
+ * 
+ * <pre>
+ * capella -nosplash -consoleLog -application com.rheagroup.dehcapellaadapter.BatchSynchronization -job nightly.properties -report reports/nightly
+ * </pre>
+ * 
+ * When the {@linkplain BatchSynchronizationJob} allows more than one project at a time, each project is synchronized 
+ * by a child process of the same application with its own workspace, since an adapter instance works on one Capella session and one Hub session.
+ */
+@Annotations.ExludeFromCodeCoverageGeneratedReport
+public class BatchSynchronizationApplication implements IApplication
+{
+    /**
+     * The identifier of this application
+     */
+    public static final String APPLICATIONID = "com.rheagroup.dehcapellaadapter.BatchSynchronization";
+
+    /**
+     * The exit code returned when at least one project could not be synchronized
+     */
+    private static final Integer EXITFAILED = Integer.valueOf(1);
+
+    /**
+     * The current class logger
+     */
+    private final Logger logger = LogManager.getLogger();
+
+    /**
+     * Starts this application
+     * 
+     * @param context the {@linkplain IApplicationContext}
+     * @return the exit code
+     * @throws Exception can throw {@linkplain Exception}
+     */
+    @Override
+    public Object start(IApplicationContext context) throws Exception
+    {
+        var arguments = (String[])context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+        var jobPath = GetArgument(arguments, "-job", null);
+        
+        if(jobPath == null)
+        {
+            this.logger.error("The -job argument is required");
+            return EXITFAILED;
+        }
+        
+        var job = BatchSynchronizationJob.Load(Paths.get(jobPath));
+        var report = new BatchSynchronizationReport(Paths.get(GetArgument(arguments, "-report", "dehcapella-report")));
+        var projectName = GetArgument(arguments, "-project", null);
+        
+        var projects = job.GetProjects().stream()
+                .filter(x -> projectName == null || x.GetName().equals(projectName))
+                .collect(Collectors.toList());
+        
+        context.applicationRunning();
+        
+        var haveAllSucceeded = projectName != null || job.GetParallelism() == 1 || projects.size() == 1
+                ? this.SynchronizeInProcess(job, projects, report)
+                : this.SynchronizeInChildProcesses(Paths.get(jobPath).toAbsolutePath(), job, projects, report);
+        
+        if(projectName == null)
+        {
+            report.WriteSummary(projects);
+            this.logger.info(String.format("Batch synchronization report written to %s", report.GetDirectory().toAbsolutePath()));
+        }
+        
+        return haveAllSucceeded && !projects.isEmpty() ? IApplication.EXIT_OK : EXITFAILED;
+    }
+
+    /**
+     * Stops this application
+     */
+    @Override
+    public void stop()
+    {
+        // Projects are synchronized synchronously from start, nothing to interrupt
+    }
+
+    /**
+     * Synchronizes the provided projects one after the other in this process
+     * 
+     * @param job the {@linkplain BatchSynchronizationJob}
+     * @param projects the {@linkplain List} of {@linkplain BatchSynchronizationProject} to synchronize
+     * @param report the {@linkplain BatchSynchronizationReport}
+     * @return a value indicating whether all the projects have been synchronized successfully
+     * @throws IOException when the report cannot be written
+     */
+    private boolean SynchronizeInProcess(BatchSynchronizationJob job, List<BatchSynchronizationProject> projects, BatchSynchronizationReport report) throws IOException
+    {
+        var runner = AppContainer.Container.getComponent(IBatchSynchronizationRunner.class);
+        var metricsService = AppContainer.Container.getComponent(IMetricsService.class);
+        var haveAllSucceeded = true;
+        
+        for (var project : projects)
+        {
+            metricsService.Reset();
+            this.logger.info(String.format("Synchronizing %s %s...", project.GetName(), job.GetMappingDirection()));
+            
+            var result = runner.Synchronize(job, project);
+            report.Write(result, metricsService.ExportToJson());
+            haveAllSucceeded &= result.GetSucceeded();
+            
+            this.logger.info(String.format("%s synchronized %s in %s ms, %s thing(s) transferred", 
+                    project.GetName(), result.GetSucceeded() ? "successfully" : "with failure", result.GetDurationMilliseconds(), result.GetTransferredThingCount()));
+        }
+        
+        return haveAllSucceeded;
+    }
+
+    /**
+     * Synchronizes the provided projects in child processes, at most {@linkplain BatchSynchronizationJob#GetParallelism()} at a time
+     * 
+     * @param jobPath the {@linkplain Path} of the job file
+     * @param job the {@linkplain BatchSynchronizationJob}
+     * @param projects the {@linkplain List} of {@linkplain BatchSynchronizationProject} to synchronize
+     * @param report the {@linkplain BatchSynchronizationReport}
+     * @return a value indicating whether all the projects have been synchronized successfully
+     * @throws InterruptedException when interrupted while waiting for the child processes
+     * @throws ExecutionException when a child process could not be monitored
+     */
+    private boolean SynchronizeInChildProcesses(Path jobPath, BatchSynchronizationJob job, List<BatchSynchronizationProject> projects, 
+            BatchSynchronizationReport report) throws InterruptedException, ExecutionException
+    {
+        var launcher = System.getProperty("eclipse.launcher");
+        var executor = Executors.newFixedThreadPool(Math.min(job.GetParallelism(), projects.size()));
+        var tasks = new ArrayList<Callable<Boolean>>();
+        
+        for (var project : projects)
+        {
+            tasks.add(() -> this.SynchronizeInChildProcess(launcher, jobPath, job, project, report));
+        }
+        
+        try
+        {
+            var haveAllSucceeded = true;
+            
+            for (var result : executor.invokeAll(tasks))
+            {
+                haveAllSucceeded &= result.get();
+            }
+            
+            return haveAllSucceeded;
+        }
+        finally
+        {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Synchronizes the provided project in a child process and records a failure in the report when the child process does not
+     * 
+     * @param launcher the path of the Eclipse launcher
+     * @param jobPath the {@linkplain Path} of the job file
+     * @param job the {@linkplain BatchSynchronizationJob}
+     * @param project the {@linkplain BatchSynchronizationProject} to synchronize
+     * @param report the {@linkplain BatchSynchronizationReport}
+     * @return a value indicating whether the project has been synchronized successfully
+     */
+    private boolean SynchronizeInChildProcess(String launcher, Path jobPath, BatchSynchronizationJob job, BatchSynchronizationProject project, 
+            BatchSynchronizationReport report)
+    {
+        var start = System.nanoTime();
+        var exitCode = -1;
+        String error = null;
+        
+        try
+        {
+            var workspace = report.GetDirectory().resolve("workspaces").resolve(project.GetName()).toAbsolutePath();
+            
+            var process = new ProcessBuilder(launcher, "-nosplash", "-consoleLog", "-application", APPLICATIONID, 
+                        "-data", workspace.toString(), "-job", jobPath.toString(), 
+                        "-report", report.GetDirectory().toAbsolutePath().toString(), "-project", project.GetName())
+                    .redirectErrorStream(true)
+                    .redirectOutput(report.GetProjectFile(project.GetName(), "log").toFile())
+                    .start();
+            
+            this.logger.info(String.format("Synchronizing %s in process %s...", project.GetName(), process.pid()));
+            exitCode = process.waitFor();
+            
+            if(!report.HasBeenWritten(project.GetName()))
+            {
+                error = String.format("The synchronization process exited with code %s without writing its report, see %s", 
+                        exitCode, report.GetProjectFile(project.GetName(), "log").getFileName());
+            }
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            error = "The synchronization has been interrupted";
+        }
+        catch (Exception exception)
+        {
+            this.logger.catching(exception);
+            error = String.format("%s : %s", exception.getClass().getSimpleName(), exception.getMessage());
+        }
+        
+        if(error != null)
+        {
+            this.WriteFailure(report, new BatchSynchronizationResult(project.GetName(), job.GetMappingDirection(), false, 0, 0, 
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), error));
+        }
+        
+        return error == null && exitCode == 0;
+    }
+
+    /**
+     * Writes the provided failed {@linkplain BatchSynchronizationResult} to the report
+     * 
+     * @param report the {@linkplain BatchSynchronizationReport}
+     * @param result the failed {@linkplain BatchSynchronizationResult}
+     */
+    private void WriteFailure(BatchSynchronizationReport report, BatchSynchronizationResult result)
+    {
+        this.logger.error(String.format("%s could not be synchronized: %s", result.GetProjectName(), result.GetError()));
+        
+        try
+        {
+            report.Write(result, "[]");
+        }
+        catch (IOException exception)
+        {
+            this.logger.catching(exception);
+        }
+    }
+
+    /**
+     * Gets the value following the provided option in the provided arguments
+     * 
+     * @param arguments the application arguments
+     * @param option the option name
+     * @param defaultValue the value to return when the option is not provided
+     * @return the option value
+     */
+    private static String GetArgument(String[] arguments, String option, String defaultValue)
+    {
+        for (var index = 0; arguments != null && index < arguments.length - 1; index++)
+        {
+            if(option.equals(arguments[index]))
+            {
+                return arguments[index + 1];
+            }
+        }
+        
+        return defaultValue;
+    }
+}
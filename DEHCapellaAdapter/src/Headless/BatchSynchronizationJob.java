@@ -0,0 +1,266 @@
+/*
+ * BatchSynchronizationJob.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import Enumerations.MappingDirection;
+
+/**
+ * The {@linkplain BatchSynchronizationJob} holds the settings of one headless synchronization run, loaded from a properties file such as:
+ * 
+ * <pre>
+ * hub.uri=http://localhost:5000
+ * hub.username=admin
+ * hub.password.environment=DEH_CAPELLA_HUB_PASSWORD
+ * direction=FromDstToHub
+ * parallelism=4
+ * domain=SYS
+ * mapping=Nightly
+ * projects=alpha,beta
+ * alpha.session=/models/alpha/alpha.aird
+ * alpha.model=Alpha
+ * alpha.iteration=3
+ * beta.session=/models/beta/beta.aird
+ * beta.model=Beta
+ * </pre>
+ * 
+ * Project settings that are not specified for a project fall back to the job level setting with the same key.
+ * When no iteration is specified, the latest iteration of the engineering model is opened.
+ */
+public final class BatchSynchronizationJob
+{
+    /**
+     * The {@linkplain URI} of the Hub data source
+     */
+    private final URI hubUri;
+
+    /**
+     * The user name used to connect to the Hub
+     */
+    private final String userName;
+
+    /**
+     * The password used to connect to the Hub
+     */
+    private final String password;
+
+    /**
+     * The {@linkplain MappingDirection} of the transfer
+     */
+    private final MappingDirection mappingDirection;
+
+    /**
+     * The maximum number of projects synchronized at the same time
+     */
+    private final int parallelism;
+
+    /**
+     * The {@linkplain BatchSynchronizationProject}s to synchronize
+     */
+    private final List<BatchSynchronizationProject> projects;
+
+    /**
+     * Initializes a new {@linkplain BatchSynchronizationJob} from the provided {@linkplain Properties}
+     * 
+     * @param properties the {@linkplain Properties} that describe the job
+     * @param environment the {@linkplain Function} that resolves environment variables by name
+     */
+    public BatchSynchronizationJob(Properties properties, Function<String, String> environment)
+    {
+        this.hubUri = URI.create(GetRequired(properties, "hub.uri"));
+        this.userName = GetRequired(properties, "hub.username");
+        
+        var passwordVariable = properties.getProperty("hub.password.environment");
+        this.password = passwordVariable != null ? environment.apply(passwordVariable) : properties.getProperty("hub.password", "");
+        
+        this.mappingDirection = MappingDirection.valueOf(properties.getProperty("direction", MappingDirection.FromDstToHub.name()).trim());
+        this.parallelism = Math.max(1, Integer.parseInt(properties.getProperty("parallelism", "1").trim()));
+        
+        var projectNames = Arrays.stream(GetRequired(properties, "projects").split(","))
+                .map(String::trim)
+                .filter(x -> !x.isEmpty())
+                .collect(Collectors.toList());
+        
+        var allProjects = new ArrayList<BatchSynchronizationProject>();
+        
+        for (var projectName : projectNames)
+        {
+            var iteration = GetProjectSetting(properties, projectName, "iteration");
+            
+            allProjects.add(new BatchSynchronizationProject(projectName, 
+                    GetRequired(properties, String.format("%s.session", projectName)),
+                    GetRequiredProjectSetting(properties, projectName, "model"),
+                    iteration == null || iteration.isEmpty() ? null : Integer.valueOf(iteration),
+                    GetRequiredProjectSetting(properties, projectName, "domain"),
+                    GetRequiredProjectSetting(properties, projectName, "mapping")));
+        }
+        
+        this.projects = Collections.unmodifiableList(allProjects);
+    }
+
+    /**
+     * Loads the {@linkplain BatchSynchronizationJob} described by the properties file at the provided {@linkplain Path}
+     * 
+     * @param path the {@linkplain Path} of the job file
+     * @return a {@linkplain BatchSynchronizationJob}
+     * @throws IOException when the file cannot be read
+     */
+    public static BatchSynchronizationJob Load(Path path) throws IOException
+    {
+        var properties = new Properties();
+        
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8))
+        {
+            properties.load(reader);
+        }
+        
+        return new BatchSynchronizationJob(properties, System::getenv);
+    }
+
+    /**
+     * Gets the {@linkplain URI} of the Hub data source
+     * 
+     * @return a {@linkplain URI}
+     */
+    public URI GetHubUri()
+    {
+        return this.hubUri;
+    }
+
+    /**
+     * Gets the user name used to connect to the Hub
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetUserName()
+    {
+        return this.userName;
+    }
+
+    /**
+     * Gets the password used to connect to the Hub
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetPassword()
+    {
+        return this.password;
+    }
+
+    /**
+     * Gets the {@linkplain MappingDirection} of the transfer
+     * 
+     * @return a {@linkplain MappingDirection}
+     */
+    public MappingDirection GetMappingDirection()
+    {
+        return this.mappingDirection;
+    }
+
+    /**
+     * Gets the maximum number of projects synchronized at the same time
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetParallelism()
+    {
+        return this.parallelism;
+    }
+
+    /**
+     * Gets the {@linkplain BatchSynchronizationProject}s to synchronize
+     * 
+     * @return an unmodifiable {@linkplain List} of {@linkplain BatchSynchronizationProject}
+     */
+    public List<BatchSynchronizationProject> GetProjects()
+    {
+        return this.projects;
+    }
+
+    /**
+     * Gets the project setting with the provided key, falling back to the job level setting
+     * 
+     * @param properties the {@linkplain Properties}
+     * @param projectName the name of the project
+     * @param key the setting key
+     * @return the setting value or null
+     */
+    private static String GetProjectSetting(Properties properties, String projectName, String key)
+    {
+        var value = properties.getProperty(String.format("%s.%s", projectName, key), properties.getProperty(key));
+        return value == null ? null : value.trim();
+    }
+
+    /**
+     * Gets the required project setting with the provided key, falling back to the job level setting
+     * 
+     * @param properties the {@linkplain Properties}
+     * @param projectName the name of the project
+     * @param key the setting key
+     * @return the setting value
+     */
+    private static String GetRequiredProjectSetting(Properties properties, String projectName, String key)
+    {
+        var value = GetProjectSetting(properties, projectName, key);
+        
+        if(value == null || value.isEmpty())
+        {
+            throw new IllegalArgumentException(String.format("The setting %s is missing for the project %s", key, projectName));
+        }
+        
+        return value;
+    }
+
+    /**
+     * Gets the required setting with the provided key
+     * 
+     * @param properties the {@linkplain Properties}
+     * @param key the setting key
+     * @return the setting value
+     */
+    private static String GetRequired(Properties properties, String key)
+    {
+        var value = properties.getProperty(key);
+        
+        if(value == null || value.trim().isEmpty())
+        {
+            throw new IllegalArgumentException(String.format("The setting %s is missing", key));
+        }
+        
+        return value.trim();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * BatchSynchronizationProject.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+/**
+ * The {@linkplain BatchSynchronizationProject} describes one Capella project to synchronize with the Hub as part of a {@linkplain BatchSynchronizationJob}
+ */
+public final class BatchSynchronizationProject
+{
+    /**
+     * The name that identifies this project in the job and in the report
+     */
+    private final String name;
+
+    /**
+     * The path of the .aird session resource of the Capella project
+     */
+    private final String sessionPath;
+
+    /**
+     * The name of the engineering model to open on the Hub
+     */
+    private final String modelName;
+
+    /**
+     * The number of the iteration to open, null for the latest one
+     */
+    private final Integer iterationNumber;
+
+    /**
+     * The short name of the domain of expertise to open the iteration with
+     */
+    private final String domainShortName;
+
+    /**
+     * The name of the saved mapping configuration to load
+     */
+    private final String mappingName;
+
+    /**
+     * Initializes a new {@linkplain BatchSynchronizationProject}
+     * 
+     * @param name the name that identifies this project
+     * @param sessionPath the path of the .aird session resource
+     * @param modelName the name of the engineering model
+     * @param iterationNumber the number of the iteration, null for the latest one
+     * @param domainShortName the short name of the domain of expertise
+     * @param mappingName the name of the saved mapping configuration
+     */
+    public BatchSynchronizationProject(String name, String sessionPath, String modelName, Integer iterationNumber, String domainShortName, String mappingName)
+    {
+        this.name = name;
+        this.sessionPath = sessionPath;
+        this.modelName = modelName;
+        this.iterationNumber = iterationNumber;
+        this.domainShortName = domainShortName;
+        this.mappingName = mappingName;
+    }
+
+    /**
+     * Gets the name that identifies this project in the job and in the report
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Gets the path of the .aird session resource of the Capella project
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetSessionPath()
+    {
+        return this.sessionPath;
+    }
+
+    /**
+     * Gets the name of the engineering model to open on the Hub
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetModelName()
+    {
+        return this.modelName;
+    }
+
+    /**
+     * Gets the number of the iteration to open
+     * 
+     * @return an {@linkplain Integer}, null for the latest iteration
+     */
+    public Integer GetIterationNumber()
+    {
+        return this.iterationNumber;
+    }
+
+    /**
+     * Gets the short name of the domain of expertise to open the iteration with
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetDomainShortName()
+    {
+        return this.domainShortName;
+    }
+
+    /**
+     * Gets the name of the saved mapping configuration to load
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetMappingName()
+    {
+        return this.mappingName;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * BatchSynchronizationReport.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * The {@linkplain BatchSynchronizationReport} writes the machine readable report of a batch synchronization. Each project gets 
+ * a JSON file and a CSV line, written by the process that synchronized it, and the summary gathers them into a summary.json and a summary.csv
+ */
+public final class BatchSynchronizationReport
+{
+    /**
+     * The name of the JSON summary file
+     */
+    public static final String JSONSUMMARYFILENAME = "summary.json";
+
+    /**
+     * The name of the CSV summary file
+     */
+    public static final String CSVSUMMARYFILENAME = "summary.csv";
+
+    /**
+     * The report directory
+     */
+    private final Path directory;
+
+    /**
+     * Initializes a new {@linkplain BatchSynchronizationReport}
+     * 
+     * @param directory the report directory
+     * @throws IOException when the directory cannot be created
+     */
+    public BatchSynchronizationReport(Path directory) throws IOException
+    {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Gets the report directory
+     * 
+     * @return a {@linkplain Path}
+     */
+    public Path GetDirectory()
+    {
+        return this.directory;
+    }
+
+    /**
+     * Writes the report files of one project
+     * 
+     * @param result the {@linkplain BatchSynchronizationResult} of the project
+     * @param metricsJson the JSON array of metrics recorded while synchronizing the project
+     * @throws IOException when the files cannot be written
+     */
+    public void Write(BatchSynchronizationResult result, String metricsJson) throws IOException
+    {
+        Files.writeString(this.GetProjectFile(result.GetProjectName(), "json"), result.ToJson(metricsJson), StandardCharsets.UTF_8);
+        Files.writeString(this.GetProjectFile(result.GetProjectName(), "csv"), result.ToCsv(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets a value indicating whether the report files of the provided project have been written
+     * 
+     * @param projectName the name of the project
+     * @return a {@linkplain boolean}
+     */
+    public boolean HasBeenWritten(String projectName)
+    {
+        return Files.isRegularFile(this.GetProjectFile(projectName, "json")) && Files.isRegularFile(this.GetProjectFile(projectName, "csv"));
+    }
+
+    /**
+     * Gathers the report files of the provided projects into the summary files
+     * 
+     * @param projects the {@linkplain Collection} of {@linkplain BatchSynchronizationProject} that have been synchronized
+     * @throws IOException when the files cannot be read or written
+     */
+    public void WriteSummary(Collection<BatchSynchronizationProject> projects) throws IOException
+    {
+        var jsonResults = new ArrayList<String>();
+        var csv = new StringBuilder(BatchSynchronizationResult.CSVHEADER).append(System.lineSeparator());
+        
+        for (var project : projects)
+        {
+            if(!this.HasBeenWritten(project.GetName()))
+            {
+                continue;
+            }
+            
+            jsonResults.add(String.format("  %s", Files.readString(this.GetProjectFile(project.GetName(), "json"), StandardCharsets.UTF_8).trim()));
+            csv.append(Files.readString(this.GetProjectFile(project.GetName(), "csv"), StandardCharsets.UTF_8).trim()).append(System.lineSeparator());
+        }
+        
+        Files.writeString(this.directory.resolve(JSONSUMMARYFILENAME), 
+                String.format("[%n%s%n]%n", String.join(String.format(",%n"), jsonResults)), StandardCharsets.UTF_8);
+        
+        Files.writeString(this.directory.resolve(CSVSUMMARYFILENAME), csv.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the {@linkplain Path} of the report file of the provided project with the provided extension
+     * 
+     * @param projectName the name of the project
+     * @param extension the file extension
+     * @return a {@linkplain Path}
+     */
+    Path GetProjectFile(String projectName, String extension)
+    {
+        return this.directory.resolve(String.format("%s.%s", projectName.replaceAll("[^A-Za-z0-9._-]", "_"), extension));
+    }
+}
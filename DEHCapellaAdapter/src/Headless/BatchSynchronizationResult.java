@@ -0,0 +1,205 @@
+/*
+ * BatchSynchronizationResult.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import java.util.Locale;
+
+import Enumerations.MappingDirection;
+
+/**
+ * The {@linkplain BatchSynchronizationResult} is the outcome of the synchronization of one {@linkplain BatchSynchronizationProject}
+ */
+public final class BatchSynchronizationResult
+{
+    /**
+     * The CSV header line matching {@linkplain #ToCsv()}
+     */
+    public static final String CSVHEADER = "project,direction,succeeded,mappedThings,transferredThings,durationMs,error";
+
+    /**
+     * The name of the synchronized project
+     */
+    private final String projectName;
+
+    /**
+     * The {@linkplain MappingDirection} of the transfer
+     */
+    private final MappingDirection mappingDirection;
+
+    /**
+     * A value indicating whether the synchronization succeeded
+     */
+    private final boolean succeeded;
+
+    /**
+     * The number of mapped things loaded from the saved mapping configuration
+     */
+    private final int mappedThingCount;
+
+    /**
+     * The number of things selected for the transfer
+     */
+    private final int transferredThingCount;
+
+    /**
+     * The duration of the synchronization in milliseconds
+     */
+    private final long durationMilliseconds;
+
+    /**
+     * The error message when the synchronization failed
+     */
+    private final String error;
+
+    /**
+     * Initializes a new {@linkplain BatchSynchronizationResult}
+     * 
+     * @param projectName the name of the synchronized project
+     * @param mappingDirection the {@linkplain MappingDirection} of the transfer
+     * @param succeeded a value indicating whether the synchronization succeeded
+     * @param mappedThingCount the number of mapped things loaded from the saved mapping configuration
+     * @param transferredThingCount the number of things selected for the transfer
+     * @param durationMilliseconds the duration of the synchronization in milliseconds
+     * @param error the error message when the synchronization failed, or null
+     */
+    public BatchSynchronizationResult(String projectName, MappingDirection mappingDirection, boolean succeeded, 
+            int mappedThingCount, int transferredThingCount, long durationMilliseconds, String error)
+    {
+        this.projectName = projectName;
+        this.mappingDirection = mappingDirection;
+        this.succeeded = succeeded;
+        this.mappedThingCount = mappedThingCount;
+        this.transferredThingCount = transferredThingCount;
+        this.durationMilliseconds = durationMilliseconds;
+        this.error = error;
+    }
+
+    /**
+     * Gets the name of the synchronized project
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetProjectName()
+    {
+        return this.projectName;
+    }
+
+    /**
+     * Gets a value indicating whether the synchronization succeeded
+     * 
+     * @return a {@linkplain boolean}
+     */
+    public boolean GetSucceeded()
+    {
+        return this.succeeded;
+    }
+
+    /**
+     * Gets the number of mapped things loaded from the saved mapping configuration
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetMappedThingCount()
+    {
+        return this.mappedThingCount;
+    }
+
+    /**
+     * Gets the number of things selected for the transfer
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetTransferredThingCount()
+    {
+        return this.transferredThingCount;
+    }
+
+    /**
+     * Gets the duration of the synchronization in milliseconds
+     * 
+     * @return a {@linkplain long}
+     */
+    public long GetDurationMilliseconds()
+    {
+        return this.durationMilliseconds;
+    }
+
+    /**
+     * Gets the error message when the synchronization failed
+     * 
+     * @return a {@linkplain String} or null
+     */
+    public String GetError()
+    {
+        return this.error;
+    }
+
+    /**
+     * Writes this result as a JSON object including the provided metrics
+     * 
+     * @param metricsJson the JSON array of metrics recorded during the synchronization
+     * @return a JSON {@linkplain String}
+     */
+    public String ToJson(String metricsJson)
+    {
+        return String.format(Locale.ROOT, 
+                "{\"project\": \"%s\", \"direction\": \"%s\", \"succeeded\": %s, \"mappedThings\": %d, \"transferredThings\": %d, \"durationMs\": %d, \"error\": %s, \"metrics\": %s}",
+                EscapeJson(this.projectName), this.mappingDirection, this.succeeded, this.mappedThingCount, this.transferredThingCount, 
+                this.durationMilliseconds, this.error == null ? "null" : String.format("\"%s\"", EscapeJson(this.error)), metricsJson.trim());
+    }
+
+    /**
+     * Writes this result as one CSV line matching the {@linkplain #CSVHEADER}
+     * 
+     * @return a CSV {@linkplain String}
+     */
+    public String ToCsv()
+    {
+        return String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%d,%s", EscapeCsv(this.projectName), this.mappingDirection, this.succeeded, 
+                this.mappedThingCount, this.transferredThingCount, this.durationMilliseconds, this.error == null ? "" : EscapeCsv(this.error));
+    }
+
+    /**
+     * Escapes the provided value so it can be written inside a JSON string
+     * 
+     * @param value the value to escape
+     * @return the escaped {@linkplain String}
+     */
+    private static String EscapeJson(String value)
+    {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\r", "\\r").replace("\n", "\\n");
+    }
+
+    /**
+     * Escapes the provided value so it can be written as one CSV field
+     * 
+     * @param value the value to escape
+     * @return the escaped {@linkplain String}
+     */
+    private static String EscapeCsv(String value)
+    {
+        var singleLine = value.replace("\r", " ").replace("\n", " ");
+        return singleLine.contains(",") || singleLine.contains("\"") ? String.format("\"%s\"", singleLine.replace("\"", "\"\"")) : singleLine;
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * BatchSynchronizationRunner.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import static Utils.Operators.Operators.AreTheseEquals;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+
+import DstController.DstController;
+import DstController.IDstController;
+import Enumerations.MappingDirection;
+import HubController.IHubController;
+import Services.CapellaSession.ICapellaSessionService;
+import Services.CapellaSession.ISiriusSessionManagerWrapper;
+import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
+import cdp4common.commondata.Thing;
+import cdp4common.sitedirectorydata.DomainOfExpertise;
+import cdp4common.sitedirectorydata.EngineeringModelSetup;
+import cdp4common.sitedirectorydata.IterationSetup;
+import cdp4dal.dal.Credentials;
+
+/**
+ * The {@linkplain BatchSynchronizationRunner} synchronizes one Capella project with the Hub without any user interaction
+ */
+public class BatchSynchronizationRunner implements IBatchSynchronizationRunner
+{
+    /**
+     * The current class logger
+     */
+    private final Logger logger = LogManager.getLogger();
+
+    /**
+     * The {@linkplain IHubController} instance
+     */
+    private final IHubController hubController;
+
+    /**
+     * The {@linkplain IDstController} instance
+     */
+    private final IDstController dstController;
+
+    /**
+     * The {@linkplain ICapellaMappingConfigurationService} instance
+     */
+    private final ICapellaMappingConfigurationService mappingConfigurationService;
+
+    /**
+     * The {@linkplain ICapellaSessionService} instance
+     */
+    private final ICapellaSessionService sessionService;
+
+    /**
+     * The {@linkplain ISiriusSessionManagerWrapper} instance
+     */
+    private final ISiriusSessionManagerWrapper sessionManager;
+
+    /**
+     * The {@linkplain IMetricsService} instance
+     */
+    private final IMetricsService metricsService;
+
+    /**
+     * Initializes a new {@linkplain BatchSynchronizationRunner}
+     * 
+     * @param hubController the {@linkplain IHubController} instance
+     * @param dstController the {@linkplain IDstController} instance
+     * @param mappingConfigurationService the {@linkplain ICapellaMappingConfigurationService} instance
+     * @param sessionService the {@linkplain ICapellaSessionService} instance
+     * @param sessionManager the {@linkplain ISiriusSessionManagerWrapper} instance
+     * @param metricsService the {@linkplain IMetricsService} instance
+     */
+    public BatchSynchronizationRunner(IHubController hubController, IDstController dstController, 
+            ICapellaMappingConfigurationService mappingConfigurationService, ICapellaSessionService sessionService, 
+            ISiriusSessionManagerWrapper sessionManager, IMetricsService metricsService)
+    {
+        this.hubController = hubController;
+        this.dstController = dstController;
+        this.mappingConfigurationService = mappingConfigurationService;
+        this.sessionService = sessionService;
+        this.sessionManager = sessionManager;
+        this.metricsService = metricsService;
+    }
+
+    /**
+     * Synchronizes the provided {@linkplain BatchSynchronizationProject} with the Hub: opens the Capella session and the Hub iteration, 
+     * loads the saved mapping configuration, selects all the mapped things and transfers them in the direction of the job
+     * 
+     * @param job the {@linkplain BatchSynchronizationJob} the project belongs to
+     * @param project the {@linkplain BatchSynchronizationProject} to synchronize
+     * @return the {@linkplain BatchSynchronizationResult}
+     */
+    @Override
+    public BatchSynchronizationResult Synchronize(BatchSynchronizationJob job, BatchSynchronizationProject project)
+    {
+        var direction = job.GetMappingDirection();
+        var mappedThingCount = 0;
+        var transferredThingCount = 0;
+        Session session = null;
+        
+        var timer = this.metricsService.StartTimer("BatchSynchronization.Project");
+        
+        try
+        {
+            session = this.sessionManager.OpenSession(URI.createFileURI(project.GetSessionPath()));
+            this.sessionService.SetCurrentSession(session);
+            
+            this.OpenIteration(job, project);
+            this.LoadMappingConfiguration(project);
+            
+            if(this.dstController.CurrentMappingDirection() != direction)
+            {
+                this.dstController.ChangeMappingDirection();
+            }
+            
+            this.dstController.LoadMapping(false);
+            
+            mappedThingCount = direction == MappingDirection.FromDstToHub 
+                    ? this.dstController.GetDstMapResult().size() 
+                    : this.dstController.GetHubMapResult().size();
+            
+            transferredThingCount = this.SelectAllMappedThings(direction);
+            
+            if(transferredThingCount == 0)
+            {
+                timer.close();
+                return new BatchSynchronizationResult(project.GetName(), direction, true, mappedThingCount, 0, timer.GetElapsedMilliseconds(), null);
+            }
+            
+            var succeeded = this.dstController.Transfer();
+            
+            if(succeeded && direction == MappingDirection.FromHubToDst)
+            {
+                this.sessionManager.SaveSession(session);
+            }
+            
+            timer.close();
+            this.metricsService.Increment(succeeded ? "BatchSynchronization.Succeeded" : "BatchSynchronization.Failed");
+            
+            return new BatchSynchronizationResult(project.GetName(), direction, succeeded, mappedThingCount, transferredThingCount, 
+                    timer.GetElapsedMilliseconds(), succeeded ? null : "The transfer did not complete, check the log for details");
+        }
+        catch (Exception exception)
+        {
+            timer.close();
+            this.metricsService.Increment("BatchSynchronization.Failed");
+            this.logger.catching(exception);
+            
+            return new BatchSynchronizationResult(project.GetName(), direction, false, mappedThingCount, transferredThingCount, 
+                    timer.GetElapsedMilliseconds(), String.format("%s : %s", exception.getClass().getSimpleName(), exception.getMessage()));
+        }
+        finally
+        {
+            this.Close(session);
+        }
+    }
+
+    /**
+     * Connects to the Hub and opens the iteration the provided {@linkplain BatchSynchronizationProject} is synchronized with
+     * 
+     * @param job the {@linkplain BatchSynchronizationJob}
+     * @param project the {@linkplain BatchSynchronizationProject}
+     */
+    private void OpenIteration(BatchSynchronizationJob job, BatchSynchronizationProject project)
+    {
+        try (var timer = this.metricsService.StartTimer("BatchSynchronization.OpenIteration"))
+        {
+            if(!this.hubController.Connect(new Credentials(job.GetUserName(), job.GetPassword(), job.GetHubUri(), null)))
+            {
+                throw new IllegalStateException(String.format("Could not connect to the Hub at %s", job.GetHubUri()));
+            }
+            
+            EngineeringModelSetup engineeringModelSetup = this.hubController.GetEngineeringModels().stream()
+                    .filter(x -> AreTheseEquals(x.getName(), project.GetModelName()) || AreTheseEquals(x.getShortName(), project.GetModelName()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(String.format("The engineering model %s could not be found", project.GetModelName())));
+            
+            IterationSetup iterationSetup = engineeringModelSetup.getIterationSetup().stream()
+                    .filter(x -> !x.isDeleted())
+                    .filter(x -> project.GetIterationNumber() == null || x.getIterationNumber() == project.GetIterationNumber())
+                    .max(Comparator.comparingInt(IterationSetup::getIterationNumber))
+                    .orElseThrow(() -> new IllegalStateException(String.format("The iteration %s of %s could not be found", 
+                            Objects.toString(project.GetIterationNumber(), "latest"), project.GetModelName())));
+            
+            DomainOfExpertise domain = engineeringModelSetup.getActiveDomain().stream()
+                    .filter(x -> AreTheseEquals(x.getShortName(), project.GetDomainShortName()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(String.format("The domain %s is not active in %s", project.GetDomainShortName(), project.GetModelName())));
+            
+            if(!this.hubController.OpenIteration(engineeringModelSetup, iterationSetup, domain))
+            {
+                throw new IllegalStateException(String.format("Could not open the iteration %s of %s", iterationSetup.getIterationNumber(), project.GetModelName()));
+            }
+        }
+    }
+
+    /**
+     * Sets the saved mapping configuration of the provided {@linkplain BatchSynchronizationProject} as the current one
+     * 
+     * @param project the {@linkplain BatchSynchronizationProject}
+     */
+    private void LoadMappingConfiguration(BatchSynchronizationProject project)
+    {
+        var externalIdentifierMap = this.hubController.GetAvailableExternalIdentifierMap(DstController.THISTOOLNAME).stream()
+                .filter(x -> AreTheseEquals(x.getName(), project.GetMappingName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(String.format("The mapping configuration %s could not be found", project.GetMappingName())));
+        
+        this.mappingConfigurationService.SetExternalIdentifierMap(externalIdentifierMap);
+    }
+
+    /**
+     * Selects all the mapped things of the provided {@linkplain MappingDirection} for the transfer
+     * 
+     * @param direction the {@linkplain MappingDirection}
+     * @return the number of selected things
+     */
+    private int SelectAllMappedThings(MappingDirection direction)
+    {
+        if(direction == MappingDirection.FromDstToHub)
+        {
+            var selectedIids = new HashSet<UUID>();
+            this.dstController.GetSelectedDstMapResultForTransfer().forEach(x -> selectedIids.add(x.getIid()));
+            
+            for (var mappedElement : this.dstController.GetDstMapResult())
+            {
+                Thing thing = mappedElement.GetHubElement();
+                
+                if(thing != null && selectedIids.add(thing.getIid()))
+                {
+                    this.dstController.GetSelectedDstMapResultForTransfer().add(thing);
+                }
+            }
+            
+            return this.dstController.GetSelectedDstMapResultForTransfer().size();
+        }
+        
+        var selectedElements = Collections.newSetFromMap(new IdentityHashMap<CapellaElement, Boolean>());
+        selectedElements.addAll(this.dstController.GetSelectedHubMapResultForTransfer());
+        
+        for (var mappedElement : this.dstController.GetHubMapResult())
+        {
+            var element = mappedElement.GetDstElement();
+            
+            if(element != null && selectedElements.add(element))
+            {
+                this.dstController.GetSelectedHubMapResultForTransfer().add(element);
+            }
+        }
+        
+        return this.dstController.GetSelectedHubMapResultForTransfer().size();
+    }
+
+    /**
+     * Closes the Hub session and the provided Capella {@linkplain Session}
+     * 
+     * @param session the {@linkplain Session} to close, can be null
+     */
+    private void Close(Session session)
+    {
+        try
+        {
+            this.hubController.Close();
+            
+            if(session != null)
+            {
+                this.sessionService.SetCurrentSession(null);
+                this.sessionManager.CloseSession(session);
+            }
+        }
+        catch (Exception exception)
+        {
+            this.logger.catching(exception);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * IBatchSynchronizationRunner.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+/**
+ * The {@linkplain IBatchSynchronizationRunner} is the interface definition for the {@linkplain BatchSynchronizationRunner}
+ */
+public interface IBatchSynchronizationRunner
+{
+    /**
+     * Synchronizes the provided {@linkplain BatchSynchronizationProject} with the Hub: opens the Capella session and the Hub iteration, 
+     * loads the saved mapping configuration, selects all the mapped things and transfers them in the direction of the job
+     * 
+     * @param job the {@linkplain BatchSynchronizationJob} the project belongs to
+     * @param project the {@linkplain BatchSynchronizationProject} to synchronize
+     * @return the {@linkplain BatchSynchronizationResult}
+     */
+    BatchSynchronizationResult Synchronize(BatchSynchronizationJob job, BatchSynchronizationProject project);
+}
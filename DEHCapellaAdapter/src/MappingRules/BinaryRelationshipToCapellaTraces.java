@@ -40,6 +40,7 @@ import HubController.IHubController;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingEngineService.MappingRule;
+import Services.Metrics.IMetricsService;
 import Utils.Operators.Operators;
 import Utils.Stereotypes.CapellaComponentCollection;
 import Utils.Stereotypes.HubRelationshipElementsCollection;
@@ -70,10 +71,11 @@ public class BinaryRelationshipToCapellaTraces extends HubToDstBaseMappingRule<H
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain ICapellaMappingConfigurationService}
      * @param transactionService the {@linkplain ICapellaTransactionService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
-    public BinaryRelationshipToCapellaTraces(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, ICapellaTransactionService transactionService)
+    public BinaryRelationshipToCapellaTraces(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, ICapellaTransactionService transactionService, IMetricsService metricsService)
     {
-        super(hubController, mappingConfiguration, transactionService);
+        super(hubController, mappingConfiguration, transactionService, metricsService);
     }
     
     /**
@@ -85,7 +87,7 @@ public class BinaryRelationshipToCapellaTraces extends HubToDstBaseMappingRule<H
     @Override
     public ArrayList<Trace> Transform(Object input)
     {
-        try
+        try (var timer = this.StartTransformTimer(input))
         {
             if(this.dstController == null)
             {
@@ -32,6 +32,8 @@ import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingEngineService.MappingRule;
+import Services.Metrics.IMetricsService;
+import Services.Metrics.MetricTimer;
 import ViewModels.Interfaces.IHaveTargetArchitecture;
 import ViewModels.Rows.MappedElementRowViewModel;
 
@@ -53,16 +55,23 @@ public abstract class CapellaBaseMappingRule<TInput extends Object, TOutput> ext
      */
     protected final ICapellaMappingConfigurationService mappingConfiguration;
     
+    /**
+     * The {@linkplain IMetricsService} instance
+     */
+    private final IMetricsService metricsService;
+    
     /**
      * Initializes a new {@linkplain DstToHubBaseMappingRule}
      * 
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain IMagicDrawMappingConfigurationService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
-    protected CapellaBaseMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration)
+    protected CapellaBaseMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, IMetricsService metricsService)
     {
         this.hubController = hubController;
-        this.mappingConfiguration = mappingConfiguration;        
+        this.mappingConfiguration = mappingConfiguration;
+        this.metricsService = metricsService;
     }
     
     /**
@@ -88,4 +97,23 @@ public abstract class CapellaBaseMappingRule<TInput extends Object, TOutput> ext
             }
         }
     }
+    
+    /**
+     * Starts the {@linkplain MetricTimer} that measures the transform of the provided input by this rule
+     * and records the number of elements the input contains
+     * 
+     * @param input the input {@linkplain Object} of the transform
+     * @return a started {@linkplain MetricTimer}
+     */
+    protected MetricTimer StartTransformTimer(Object input)
+    {
+        var name = String.format("MappingRule.%s", this.getClass().getSimpleName());
+        
+        if(input instanceof Collection)
+        {
+            this.metricsService.RecordValue(String.format("%s.Elements", name), ((Collection<?>)input).size());
+        }
+        
+        return this.metricsService.StartTimer(String.format("%s.Transform", name));
+    }
 }
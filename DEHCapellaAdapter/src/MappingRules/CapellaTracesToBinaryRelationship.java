@@ -37,6 +37,7 @@ import DstController.IDstController;
 import HubController.IHubController;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingEngineService.MappingRule;
+import Services.Metrics.IMetricsService;
 import Utils.Operators.Operators;
 import Utils.Stereotypes.CapellaComponentCollection;
 import Utils.Stereotypes.CapellaTracedElementCollection;
@@ -66,10 +67,11 @@ public class CapellaTracesToBinaryRelationship extends DstToHubBaseMappingRule<C
      * 
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain ICapellaMappingConfigurationService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
-    public CapellaTracesToBinaryRelationship(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration)
+    public CapellaTracesToBinaryRelationship(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, IMetricsService metricsService)
     {
-        super(hubController, mappingConfiguration);
+        super(hubController, mappingConfiguration, metricsService);
     }
     
     /**
@@ -81,7 +83,7 @@ public class CapellaTracesToBinaryRelationship extends DstToHubBaseMappingRule<C
     @Override
     public ArrayList<BinaryRelationship> Transform(Object input)
     {
-        try
+        try (var timer = this.StartTransformTimer(input))
         {
             if(this.dstController == null)
             {
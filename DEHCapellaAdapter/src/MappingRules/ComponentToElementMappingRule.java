@@ -28,7 +28,12 @@ import static Utils.Stereotypes.StereotypeUtils.GetShortName;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -53,6 +58,9 @@ import org.polarsys.capella.core.data.pa.PhysicalComponent;
 import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
+import Services.NameKey.INameKeyService;
+import Services.NameKey.NameKey;
 import Utils.Ref;
 import Utils.ValueSetUtils;
 import Utils.Stereotypes.CapellaComponentCollection;
@@ -123,16 +131,35 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
      * This collection serves for future relationship creation.
      */
     private List<Triple<ComponentPort, MappedElementDefinitionRowViewModel, ElementUsage>> portsToConnect = new ArrayList<>();
+
+    /**
+     * The {@linkplain Component}s whose properties have already been mapped to the {@linkplain ElementDefinition} key during the current {@linkplain #Transform(Object)}
+     */
+    private IdentityHashMap<ElementDefinition, Set<Component>> mappedProperties = new IdentityHashMap<>();
+
+    /**
+     * The {@linkplain ParameterIndex} of each {@linkplain ElementDefinition} used during the current {@linkplain #Transform(Object)}
+     */
+    private IdentityHashMap<ElementDefinition, ParameterIndex> parameterIndexes = new IdentityHashMap<>();
+    
+    /**
+     * The {@linkplain INameKeyService} instance
+     */
+    private final INameKeyService nameKeyService;
     
     /**
      * Initializes a new {@linkplain ComponentToElementMappingRule}
      * 
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain ICapellaMappingConfigurationService}
+     * @param metricsService the {@linkplain IMetricsService}
+     * @param nameKeyService the {@linkplain INameKeyService}
      */
-    public ComponentToElementMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration)
+    public ComponentToElementMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, 
+            IMetricsService metricsService, INameKeyService nameKeyService)
     {
-        super(hubController, mappingConfiguration);
+        super(hubController, mappingConfiguration, metricsService);
+        this.nameKeyService = nameKeyService;
     }
     
     /**
@@ -144,7 +171,7 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
     @Override
     public ArrayList<MappedElementDefinitionRowViewModel> Transform(Object input)
     {
-        try
+        try (var timer = this.StartTransformTimer(input))
         {
             this.elements = this.CastInput(input);
             this.Map(this.elements);
@@ -159,6 +186,8 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
         finally
         {
             this.portsToConnect.clear();
+            this.mappedProperties.clear();
+            this.parameterIndexes.clear();
         }
     }
     
@@ -653,20 +682,19 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
      */
     private void MapProperties(ElementUsage elementUsage, ElementDefinition elementDefinition, Component component)
     {
+        var parameterIndex = this.GetParameterIndex(elementDefinition);
+        
         for (Property property : component.getContainedProperties())
         {
-            var optionalParameterToOverride = elementDefinition.getParameter().stream()
-                    .filter(x -> this.AreShortNamesEquals(x.getParameterType(), GetShortName(property)) 
-                            || x.getParameterType().getName().compareToIgnoreCase(property.getName()) == 0)
-                    .findAny();
+            var parameterToOverride = parameterIndex.Get(this.GetPropertyShortName(property), property.getName());
             
-            if(!optionalParameterToOverride.isPresent())
+            if(parameterToOverride == null)
             {
                 continue;
             }
             
             var optionalParameterOverride = elementUsage.getParameterOverride().stream()
-                    .filter(x -> AreTheseEquals(x.getParameter().getIid(), optionalParameterToOverride.get().getIid()))
+                    .filter(x -> AreTheseEquals(x.getParameter().getIid(), parameterToOverride.getIid()))
                     .findAny();
             
             Ref<String> refValue = new Ref<>(String.class, "");
@@ -691,7 +719,7 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
             {
                 parameterOverride = new ParameterOverride(UUID.randomUUID(), null, null);
                 parameterOverride.setOwner(this.hubController.GetCurrentDomainOfExpertise());
-                parameterOverride.setParameter(optionalParameterToOverride.get());
+                parameterOverride.setParameter(parameterToOverride);
             }
             
             var clonedParameterOverride = parameterOverride.clone(true);
@@ -729,12 +757,16 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
     @SuppressWarnings("resource")
     private void MapProperties(ElementDefinition elementDefinition, Component component)
     {
+        if(!this.mappedProperties.computeIfAbsent(elementDefinition, x -> Collections.newSetFromMap(new IdentityHashMap<>())).add(component))
+        {
+            return;
+        }
+        
+        var parameterIndex = this.GetParameterIndex(elementDefinition);
+        
         for (Property property : component.getContainedProperties())
         {
-            var existingParameter = elementDefinition.getParameter().stream()
-                    .filter(x -> this.AreShortNamesEquals(x.getParameterType(), GetShortName(property)) 
-                            || x.getParameterType().getName().compareToIgnoreCase(property.getName()) == 0)
-                    .findAny();
+            var existingParameter = Optional.ofNullable(parameterIndex.Get(this.GetPropertyShortName(property), property.getName()));
 
             var refParameterType = new Ref<>(ParameterType.class);
             Parameter parameter = null;
@@ -781,11 +813,34 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
                 var parameterIid = parameter.getIid();
                 elementDefinition.getParameter().removeIf(x -> AreTheseEquals(x.getIid(), parameterIid));
                 elementDefinition.getParameter().add(parameter);
+                parameterIndex.Register(parameter);
             }
         }
         
         this.logger.info(String.format("ElementDefinition has %s parameters", elementDefinition.getParameter().size()));
     }
+
+    /**
+     * Gets the {@linkplain ParameterIndex} of the provided {@linkplain ElementDefinition}, it is built once per {@linkplain #Transform(Object)}
+     * 
+     * @param elementDefinition the {@linkplain ElementDefinition}
+     * @return the {@linkplain ParameterIndex}
+     */
+    private ParameterIndex GetParameterIndex(ElementDefinition elementDefinition)
+    {
+        return this.parameterIndexes.computeIfAbsent(elementDefinition, x -> new ParameterIndex(x.getParameter()));
+    }
+    
+    /**
+     * Gets the short name of the provided {@linkplain Property} from its precomputed {@linkplain NameKey}
+     * 
+     * @param property the {@linkplain Property}
+     * @return the short name as a {@linkplain String}
+     */
+    private String GetPropertyShortName(Property property)
+    {
+        return this.nameKeyService.GetKey(property).GetShortName();
+    }
     
     /**
      * Tries to extract the value from the provided property and returns it as string
@@ -1044,4 +1099,86 @@ public class ComponentToElementMappingRule extends DstToHubBaseMappingRule<Capel
         valueSet.setManual(newValue);
         valueSet.setValueSwitch(ParameterSwitchKind.MANUAL);
     }
+
+    /**
+     * The {@linkplain ParameterIndex} indexes the {@linkplain Parameter}s of one {@linkplain ElementDefinition} by the short name and by the name of their {@linkplain ParameterType}
+     */
+    private static class ParameterIndex
+    {
+        /**
+         * The {@linkplain Parameter}s by lower case {@linkplain ParameterType} short name
+         */
+        private final HashMap<String, Parameter> parametersByShortName = new HashMap<>();
+
+        /**
+         * The {@linkplain Parameter}s by lower case {@linkplain ParameterType} name
+         */
+        private final HashMap<String, Parameter> parametersByName = new HashMap<>();
+
+        /**
+         * Initializes a new {@linkplain ParameterIndex}
+         * 
+         * @param parameters the {@linkplain Parameter}s to index
+         */
+        ParameterIndex(List<Parameter> parameters)
+        {
+            for (var parameter : parameters)
+            {
+                var shortName = NameKey.CaseFold(parameter.getParameterType().getShortName());
+                var name = NameKey.CaseFold(parameter.getParameterType().getName());
+                
+                if(shortName != null)
+                {
+                    this.parametersByShortName.putIfAbsent(shortName, parameter);
+                }
+                
+                if(name != null)
+                {
+                    this.parametersByName.putIfAbsent(name, parameter);
+                }
+            }
+        }
+
+        /**
+         * Registers the provided {@linkplain Parameter}, replacing any {@linkplain Parameter} indexed under the same {@linkplain ParameterType}
+         * 
+         * @param parameter the {@linkplain Parameter} to register
+         */
+        void Register(Parameter parameter)
+        {
+            var shortName = NameKey.CaseFold(parameter.getParameterType().getShortName());
+            var name = NameKey.CaseFold(parameter.getParameterType().getName());
+            
+            if(shortName != null)
+            {
+                this.parametersByShortName.put(shortName, parameter);
+            }
+            
+            if(name != null)
+            {
+                this.parametersByName.put(name, parameter);
+            }
+        }
+
+        /**
+         * Gets the {@linkplain Parameter} whose {@linkplain ParameterType} matches the provided short name or name
+         * 
+         * @param shortName the short name
+         * @param name the name
+         * @return a {@linkplain Parameter} or null
+         */
+        Parameter Get(String shortName, String name)
+        {
+            var shortNameKey = NameKey.CaseFold(shortName);
+            var parameter = shortNameKey == null ? null : this.parametersByShortName.get(shortNameKey);
+            
+            if(parameter == null)
+            {
+                var nameKey = NameKey.CaseFold(name);
+                parameter = nameKey == null ? null : this.parametersByName.get(nameKey);
+            }
+            
+            return parameter;
+        }
+    }
 }
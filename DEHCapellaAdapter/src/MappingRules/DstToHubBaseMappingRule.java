@@ -34,6 +34,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import DstController.IDstController;
 import HubController.IHubController;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 import Utils.Ref;
 import cdp4common.commondata.ClassKind;
 import cdp4common.commondata.Thing;
@@ -58,10 +59,11 @@ public abstract class DstToHubBaseMappingRule<TInput extends Object, TOutput> ex
      * 
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain ICapellaMappingConfigurationService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
-    protected DstToHubBaseMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration)
+    protected DstToHubBaseMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, IMetricsService metricsService)
     {
-        super(hubController, mappingConfiguration);
+        super(hubController, mappingConfiguration, metricsService);
     }
     
     /**
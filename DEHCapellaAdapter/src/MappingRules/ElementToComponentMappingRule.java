@@ -81,16 +81,17 @@ import DstController.IDstController;
 import Enumerations.CapellaArchitecture;
 import Enumerations.MappingDirection;
 import HubController.IHubController;
+import Services.CapellaSession.CapellaReferenceDataCatalog;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 import Utils.Ref;
 import Utils.ValueSetUtils;
 import Utils.Stereotypes.CapellaTypeEnumerationUtility;
 import Utils.Stereotypes.HubElementCollection;
 import Utils.Stereotypes.RequirementType;
 import ViewModels.Rows.MappedElementDefinitionRowViewModel;
-import cdp4common.commondata.DefinedThing;
 import cdp4common.engineeringmodeldata.BinaryRelationship;
 import cdp4common.engineeringmodeldata.ElementBase;
 import cdp4common.engineeringmodeldata.ElementDefinition;
@@ -131,19 +132,9 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
     private HubElementCollection elements;
     
     /**
-     * The {@linkplain Collection} of {@linkplain DataType} that were created during this mapping
+     * The {@linkplain CapellaReferenceDataCatalog} of {@linkplain DataType}, {@linkplain EnumerationPropertyType} and {@linkplain Unit} that were created during this mapping
      */
-    private Collection<DataType> temporaryDataTypes = new ArrayList<>();
-    
-    /**
-     * The {@linkplain Collection} of {@linkplain EnumerationPropertyType} that were created during this mapping
-     */
-    private Collection<EnumerationPropertyType> temporaryEnumerationPropertyTypes = new ArrayList<>();
-
-    /**
-     * The {@linkplain Collection} of {@linkplain Unit} that were created during this mapping
-     */
-    private Collection<Unit> temporaryUnits = new ArrayList<>();
+    private CapellaReferenceDataCatalog temporaryReferenceData = new CapellaReferenceDataCatalog();
 
     /**
      * The {@linkplain HashMap} of {@linkplain ComponentPort} to connect
@@ -167,11 +158,12 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
      * @param mappingConfiguration the {@linkplain ICapellaMappingConfigurationService}
      * @param sessionService the {@linkplain ICapellaSessionService}
      * @param transactionService the {@linkplain ICapellaTransactionService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
     public ElementToComponentMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration,
-            ICapellaSessionService sessionService, ICapellaTransactionService transactionService)
+            ICapellaSessionService sessionService, ICapellaTransactionService transactionService, IMetricsService metricsService)
     {
-        super(hubController, mappingConfiguration, transactionService);
+        super(hubController, mappingConfiguration, transactionService, metricsService);
         this.sessionService = sessionService;
     }
     
@@ -184,7 +176,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
     @Override
     public ArrayList<MappedElementDefinitionRowViewModel> Transform(Object input)
     {
-        try
+        try (var timer = this.StartTransformTimer(input))
         {
             if(this.dstController == null)
             {
@@ -205,8 +197,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
         }
         finally
         {
-            this.temporaryUnits.clear();
-            this.temporaryDataTypes.clear();
+            this.temporaryReferenceData.Clear();
             this.portsToConnect.clear();
             this.temporaryInterfaces.clear();
             this.elementDefinitionPackage = null;
@@ -653,7 +644,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
      */
     private void GetOrCreateDataType(EnumerationParameterType parameterType, Part part, Ref<EnumerationPropertyType> refParameterType)
     {
-        this.QueryCollectionByNameAndShortName(parameterType, this.temporaryEnumerationPropertyTypes, refParameterType);
+        this.temporaryReferenceData.TryGetEnumerationPropertyType(parameterType.getName(), parameterType.getShortName(), refParameterType);
         
         if(!refParameterType.HasValue() && !this.dstController.TryGetEnumerationPropertyType(parameterType, this.sessionService.GetTopElement(), refParameterType))
         {
@@ -661,7 +652,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
             
             this.CreateEnumerationLiterals(newDataType, (EnumerationParameterType)parameterType);
             
-            this.temporaryEnumerationPropertyTypes.add(newDataType);
+            this.temporaryReferenceData.Register(newDataType);
             this.transactionService.AddReferenceDataToDataPackage(newDataType);
             refParameterType.Set(newDataType);
         }
@@ -677,7 +668,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
      */
     private void GetOrCreateDataType(ParameterType parameterType, Component component, Ref<DataType> refParameterType)
     {
-        this.QueryCollectionByNameAndShortName(parameterType, this.temporaryDataTypes, refParameterType);
+        this.temporaryReferenceData.TryGetDataType(parameterType.getName(), parameterType.getShortName(), refParameterType);
         
         if(!refParameterType.HasValue() && !this.dstController.TryGetDataType(parameterType, this.sessionService.GetTopElement(), refParameterType))
         {
@@ -688,7 +679,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
                 this.CreateEnumerationLiterals((Enumeration)newDataType, (EnumerationParameterType)parameterType);
             }
             
-            this.temporaryDataTypes.add(newDataType);
+            this.temporaryReferenceData.Register(newDataType);
             this.transactionService.AddReferenceDataToDataPackage(newDataType);
             refParameterType.Set(newDataType);
         }
@@ -702,10 +693,9 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
      */
     private void CreateEnumerationLiterals(Enumeration enumerationDataType, EnumerationParameterType enumerationParameterType)
     {
-        for (var valueDefinition : enumerationParameterType.getValueDefinition())
-        {
-            enumerationDataType.getOwnedLiterals().add(this.transactionService.Create(EnumerationLiteral.class, valueDefinition.getName()));
-        }
+        this.transactionService.Create(EnumerationLiteral.class, 
+                enumerationParameterType.getValueDefinition().stream().map(x -> x.getName()).collect(Collectors.toList()), 
+                enumerationDataType.getOwnedLiterals());
     }
 
     /**
@@ -716,13 +706,13 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
      */
     private void CreateEnumerationLiterals(EnumerationPropertyType enumerationDataType, EnumerationParameterType enumerationParameterType)
     {
-        for (var valueDefinition : enumerationParameterType.getValueDefinition().stream()
+        var names = enumerationParameterType.getValueDefinition().stream()
                 .filter(x -> enumerationDataType.getOwnedLiterals().stream()
                         .noneMatch(l -> AreTheseEquals(l.getName(), x.getName(), true)))
-                .collect(Collectors.toList()))
-        {
-            enumerationDataType.getOwnedLiterals().add(this.transactionService.Create(EnumerationPropertyLiteral.class, valueDefinition.getName()));
-        }
+                .map(x -> x.getName())
+                .collect(Collectors.toList());
+        
+        this.transactionService.Create(EnumerationPropertyLiteral.class, names, enumerationDataType.getOwnedLiterals());
     }
     
     /**
@@ -754,7 +744,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
      */
     private void GetOrCreateDataType(MeasurementScale scale, Classifier component, Ref<DataType> refParameterType)
     {
-        this.QueryCollectionByNameAndShortName(scale, this.temporaryDataTypes, refParameterType);
+        this.temporaryReferenceData.TryGetDataType(scale.getName(), scale.getShortName(), refParameterType);
         
         if(!refParameterType.HasValue() && !this.dstController.TryGetDataType(scale, this.sessionService.GetTopElement(), refParameterType))
         {
@@ -766,7 +756,7 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
                 newDataType.setUnit(this.GetOrCreateUnit(scale.getUnit()));
             }
             
-            this.temporaryDataTypes.add(newDataType);
+            this.temporaryReferenceData.Register(newDataType);
             this.transactionService.AddReferenceDataToDataPackage(newDataType);
             refParameterType.Set(newDataType);
         }
@@ -782,13 +772,13 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
     {
         var refUnit = new Ref<>(Unit.class);        
 
-        this.QueryCollectionByNameAndShortName(unit, this.temporaryUnits, refUnit);
+        this.temporaryReferenceData.TryGetUnit(unit.getName(), unit.getShortName(), refUnit);
         
-        if(!refUnit.HasValue() && !this.dstController.TryGetElementByName(unit, refUnit))
+        if(!refUnit.HasValue() && !this.dstController.TryGetUnit(unit, this.sessionService.GetTopElement(), refUnit))
         {
             var newUnit = this.transactionService.Create(Unit.class, unit.getName());
             refUnit.Set(newUnit);
-            this.temporaryUnits.add(newUnit);
+            this.temporaryReferenceData.Register(newUnit);
             this.transactionService.AddReferenceDataToDataPackage(newUnit);
         }        
         
@@ -1363,24 +1353,4 @@ public class ElementToComponentMappingRule extends HubToDstBaseMappingRule<HubEl
         
         return refElement.Get();
     }
-    
-    /**
-     * Searches for the provided {@linkplain Collection} for an {@linkplain #TElement} 
-     * where the name could match either the name or short name of the provided {@linkplain DefinedThing}.
-     * If found, it assigns the value to the provided {@linkplain Ref}
-     * 
-     * @param <TElement> the type of {@linkplain NamedElement} to get
-     * @param definedThing the {@linkplain DefinedThing}
-     * @param collection the {@linkplain Collection} of {@linkplain #TElement} to query
-     * @param refElement the {@linkplain Ref} of {@linkplain #TElement}
-     */
-    private <TElement extends NamedElement> void QueryCollectionByNameAndShortName(DefinedThing definedThing, 
-            Collection<? extends TElement> collection, Ref<TElement> refElement)
-    {
-        collection.stream()
-                .filter(x -> AreTheseEquals(x.getName(), definedThing.getName(), true) 
-                        || AreTheseEquals(x.getName(), definedThing.getShortName(), true))
-                .findAny()
-                .ifPresent(x -> refElement.Set(x));
-    }
 }
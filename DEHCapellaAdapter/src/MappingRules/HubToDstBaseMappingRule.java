@@ -27,6 +27,7 @@ import DstController.IDstController;
 import HubController.IHubController;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 
 /**
  * The HubToDstBaseMappingRule is the mapping rule for rules that maps from the HUB to DST
@@ -52,10 +53,11 @@ public abstract class HubToDstBaseMappingRule<TInput extends Object, TOutput> ex
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain IMagicDrawMappingConfigurationService}
      * @param transactionService the {@linkplain ICapellaTransactionService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
-    protected HubToDstBaseMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, ICapellaTransactionService transactionService)
+    protected HubToDstBaseMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, ICapellaTransactionService transactionService, IMetricsService metricsService)
     {
-        super(hubController, mappingConfiguration);
+        super(hubController, mappingConfiguration, metricsService);
         this.transactionService = transactionService;
     }    
 }
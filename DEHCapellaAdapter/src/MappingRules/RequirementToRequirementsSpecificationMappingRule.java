@@ -47,6 +47,8 @@ import org.polarsys.capella.core.data.requirement.SystemUserRequirement;
 import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
+import Services.NameKey.INameKeyService;
 import Utils.Ref;
 import Utils.Stereotypes.CapellaRequirementCollection;
 import Utils.Stereotypes.StereotypeUtils;
@@ -71,16 +73,25 @@ public class RequirementToRequirementsSpecificationMappingRule extends DstToHubB
      * The collection of {@linkplain RequirementsGroup} that are being mapped
      */
     private ArrayList<RequirementsGroup> temporaryRequirementsGroups = new ArrayList<RequirementsGroup>();
+    
+    /**
+     * The {@linkplain INameKeyService} instance
+     */
+    private final INameKeyService nameKeyService;
 
     /**
      * Initializes a new {@linkplain RequirementToRequirementsSpecificationMappingRule}
      * 
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain ICapellaMappingConfigurationService}
+     * @param metricsService the {@linkplain IMetricsService}
+     * @param nameKeyService the {@linkplain INameKeyService}
      */
-    public RequirementToRequirementsSpecificationMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration)
+    public RequirementToRequirementsSpecificationMappingRule(IHubController hubController, ICapellaMappingConfigurationService mappingConfiguration, 
+            IMetricsService metricsService, INameKeyService nameKeyService)
     {
-        super(hubController, mappingConfiguration);
+        super(hubController, mappingConfiguration, metricsService);
+        this.nameKeyService = nameKeyService;
     }    
     
     /**
@@ -92,7 +103,7 @@ public class RequirementToRequirementsSpecificationMappingRule extends DstToHubB
     @Override
     public ArrayList<MappedDstRequirementRowViewModel> Transform(Object input)
     {
-        try
+        try (var timer = this.StartTransformTimer(input))
         {
             CapellaRequirementCollection mappedElements = this.CastInput(input);
             this.Map(mappedElements);
@@ -220,11 +231,14 @@ public class RequirementToRequirementsSpecificationMappingRule extends DstToHubB
     private boolean TryGetOrCreateRequirement(Requirement dstRequirement, Ref<RequirementsSpecification> refRequirementsSpecification, 
             Ref<RequirementsGroup> refRequirementsGroup, Ref<cdp4common.engineeringmodeldata.Requirement> refRequirement)
     {
+        var shortName = GetShortName(dstRequirement);
+        var nameKey = this.nameKeyService.GetKey(dstRequirement);
+        
         var optionalRequirement = refRequirementsSpecification.Get()
                 .getRequirement()
                 .stream()
                 .filter(x -> !x.isDeprecated())
-                .filter(x -> this.AreShortNamesEquals(x, GetShortName(dstRequirement)) || AreTheseEquals(x.getName(), dstRequirement.getName(), true))
+                .filter(x -> this.AreShortNamesEquals(x, shortName) || nameKey.IsSameName(this.nameKeyService.GetKey(x)))
                 .findFirst();
         
         if(optionalRequirement.isPresent())
@@ -388,9 +402,11 @@ public class RequirementToRequirementsSpecificationMappingRule extends DstToHubB
      */
     private boolean TryToFindGroup(RequirementsPkg currentPackage, Ref<RequirementsSpecification> refRequirementsSpecification, Ref<RequirementsGroup> refRequirementsGroup)
     {
+        var shortName = this.nameKeyService.GetKey(currentPackage).GetShortName();
+        
         Optional<RequirementsGroup> optionalRequirementsGroup = Stream.concat(this.temporaryRequirementsGroups.stream(), 
                 refRequirementsSpecification.Get().getAllContainedGroups().stream())
-            .filter(x -> this.AreShortNamesEquals(x, GetShortName(currentPackage)))
+            .filter(x -> this.AreShortNamesEquals(x, shortName))
             .findFirst();
         
         if(optionalRequirementsGroup.isPresent())
@@ -412,9 +428,11 @@ public class RequirementToRequirementsSpecificationMappingRule extends DstToHubB
      */
     private boolean TryGetOrCreateRequirementSpecification(Structure currentPackage, Ref<RequirementsSpecification> refRequirementSpecification)
     {
+        var shortName = this.nameKeyService.GetKey(currentPackage).GetShortName();
+        
         Optional<RequirementsSpecification> optionalRequirementsSpecification = this.requirementsSpecifications
                 .stream()
-                .filter(x -> this.AreShortNamesEquals(x, GetShortName(currentPackage)))
+                .filter(x -> this.AreShortNamesEquals(x, shortName))
                 .findFirst();
 
         if(optionalRequirementsSpecification.isPresent())
@@ -426,7 +444,7 @@ public class RequirementToRequirementsSpecificationMappingRule extends DstToHubB
             optionalRequirementsSpecification = this.hubController.GetOpenIteration()
                     .getRequirementsSpecification()
                     .stream()
-                    .filter(x -> this.AreShortNamesEquals(x, GetShortName(currentPackage)))
+                    .filter(x -> this.AreShortNamesEquals(x, shortName))
                     .findFirst();
             
             if(optionalRequirementsSpecification.isPresent())
@@ -437,7 +455,7 @@ public class RequirementToRequirementsSpecificationMappingRule extends DstToHubB
             {
                 RequirementsSpecification requirementsSpecification = new RequirementsSpecification();
                 requirementsSpecification.setName(currentPackage.getName());
-                requirementsSpecification.setShortName(GetShortName(currentPackage));
+                requirementsSpecification.setShortName(shortName);
                 requirementsSpecification.setIid(UUID.randomUUID());
                 requirementsSpecification.setOwner(this.hubController.GetCurrentDomainOfExpertise());
                 refRequirementSpecification.Set(requirementsSpecification);             
@@ -40,6 +40,7 @@ import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 import Utils.Ref;
 import Utils.Stereotypes.CapellaRequirementCollection;
 import Utils.Stereotypes.CapellaTypeEnumerationUtility;
@@ -73,11 +74,12 @@ public class RequirementsSpecificationToRequirementMappingRule extends HubToDstB
      * @param hubController the {@linkplain IHubController}
      * @param mappingConfiguration the {@linkplain ICapellaMappingConfigurationService}
      * @param transactionService the {@linkplain ICapellaTransactionService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
     public RequirementsSpecificationToRequirementMappingRule(IHubController hubController, 
-            ICapellaMappingConfigurationService mappingConfiguration, ICapellaTransactionService transactionService)
+            ICapellaMappingConfigurationService mappingConfiguration, ICapellaTransactionService transactionService, IMetricsService metricsService)
     {
-        super(hubController, mappingConfiguration, transactionService);
+        super(hubController, mappingConfiguration, transactionService, metricsService);
     }    
     
     /**
@@ -89,7 +91,7 @@ public class RequirementsSpecificationToRequirementMappingRule extends HubToDstB
     @Override
     public ArrayList<MappedHubRequirementRowViewModel> Transform(Object input)
     {
-        try
+        try (var timer = this.StartTransformTimer(input))
         {
             if(this.dstController == null)
             {
@@ -0,0 +1,224 @@
+/*
+ * CapellaObjectBrowserRenderCache.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Renderers;
+
+import java.awt.Color;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.swing.Icon;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.polarsys.capella.common.data.modellingcore.AbstractNamedElement;
+
+import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
+import ViewModels.CapellaObjectBrowser.Rows.ElementRowViewModel;
+import ViewModels.ObjectBrowser.Interfaces.IRowViewModel;
+
+/**
+ * The {@linkplain CapellaObjectBrowserRenderCache} holds what the {@linkplain CapellaObjectBrowserRenderDataProvider} needs to paint a cell,
+ * so that repainting rows does not allocate colours, resolve icons nor read names again
+ */
+public class CapellaObjectBrowserRenderCache
+{
+    /**
+     * The background {@linkplain Color} of the rows that are selected for transfer
+     */
+    public static final Color SELECTEDBACKGROUND = new Color(104, 143, 184);
+
+    /**
+     * The background {@linkplain Color} of the highlighted rows
+     */
+    public static final Color HIGHLIGHTEDBACKGROUND = Color.YELLOW;
+
+    /**
+     * The background {@linkplain Color} of any other row
+     */
+    public static final Color DEFAULTBACKGROUND = Color.WHITE;
+
+    /**
+     * The {@linkplain Function} that resolves the {@linkplain Icon} of one element, the element is null for the rows that do not represent any
+     */
+    private final Function<EObject, Icon> iconResolver;
+
+    /**
+     * The resolved {@linkplain Icon}s by {@linkplain EClass} of the represented elements
+     */
+    private final Map<EClass, Icon> iconsByEClass = new ConcurrentHashMap<>();
+
+    /**
+     * The resolved {@linkplain Icon}s by row class, for the rows that do not represent any element
+     */
+    private final Map<Class<?>, Icon> iconsByRowClass = new ConcurrentHashMap<>();
+
+    /**
+     * The cached {@linkplain DisplayName} by row view model, the rows that are not displayed anymore get collected with their entries
+     */
+    private final Map<Object, DisplayName> displayNames = new WeakHashMap<>();
+
+    /**
+     * Initializes a new {@linkplain CapellaObjectBrowserRenderCache}
+     * 
+     * @param iconResolver the {@linkplain Function} that resolves the {@linkplain Icon} of one element
+     */
+    public CapellaObjectBrowserRenderCache(Function<EObject, Icon> iconResolver)
+    {
+        this.iconResolver = iconResolver;
+    }
+
+    /**
+     * Gets the background {@linkplain Color} that corresponds to the state of the specified row view model
+     * 
+     * @param rowViewModel the row view model
+     * @return one of the shared {@linkplain Color}
+     */
+    public Color GetBackground(Object rowViewModel)
+    {
+        if(rowViewModel instanceof IRowViewModel)
+        {
+            return this.GetBackground(((IRowViewModel)rowViewModel).GetIsSelected(), ((IRowViewModel)rowViewModel).GetIsHighlighted());
+        }
+        
+        return DEFAULTBACKGROUND;
+    }
+
+    /**
+     * Gets the background {@linkplain Color} that corresponds to the specified row state
+     * 
+     * @param isSelected a value indicating whether the row is selected for transfer
+     * @param isHighlighted a value indicating whether the row is highlighted
+     * @return one of the shared {@linkplain Color}
+     */
+    public Color GetBackground(boolean isSelected, boolean isHighlighted)
+    {
+        if(isSelected)
+        {
+            return SELECTEDBACKGROUND;
+        }
+        
+        if(isHighlighted)
+        {
+            return HIGHLIGHTEDBACKGROUND;
+        }
+        
+        return DEFAULTBACKGROUND;
+    }
+
+    /**
+     * Gets the {@linkplain Icon} of the specified row view model, resolved once per {@linkplain EClass} of the represented element
+     * or once per row class when the row does not represent any element
+     * 
+     * @param rowViewModel the row view model
+     * @return an {@linkplain Icon}
+     */
+    public Icon GetIcon(Object rowViewModel)
+    {
+        var element = rowViewModel instanceof IElementRowViewModel 
+                ? ((IElementRowViewModel<?>)rowViewModel).GetElement() 
+                : null;
+
+        if(element != null)
+        {
+            return this.iconsByEClass.computeIfAbsent(element.eClass(), x -> this.iconResolver.apply(element));
+        }
+
+        return this.iconsByRowClass.computeIfAbsent(rowViewModel == null ? Object.class : rowViewModel.getClass(), x -> this.iconResolver.apply(null));
+    }
+
+    /**
+     * Gets the display name of the specified row view model, the cached name is only read again from the row when the row represents another element 
+     * or when the name of its element is not the one the cached name was read for. A renamed element gets its row to read its name again on the painting thread
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain String}
+     */
+    public synchronized String GetDisplayName(IElementRowViewModel<?> rowViewModel)
+    {
+        var element = rowViewModel.GetElement();
+        var elementName = element instanceof AbstractNamedElement ? ((AbstractNamedElement)element).getName() : null;
+        var displayName = this.displayNames.get(rowViewModel);
+        
+        if(displayName == null || displayName.element != element || !Objects.equals(displayName.elementName, elementName))
+        {
+            if(displayName != null && displayName.element == element && rowViewModel instanceof ElementRowViewModel)
+            {
+                ((ElementRowViewModel<?>)rowViewModel).UpdateName();
+            }
+            
+            displayName = new DisplayName(element, elementName, rowViewModel.GetName());
+            this.displayNames.put(rowViewModel, displayName);
+        }
+        
+        return displayName.name;
+    }
+
+    /**
+     * Clears the cached display names and icons
+     */
+    public synchronized void Clear()
+    {
+        this.displayNames.clear();
+        this.iconsByEClass.clear();
+        this.iconsByRowClass.clear();
+    }
+
+    /**
+     * The {@linkplain DisplayName} is a name of a row with the element and the element name it has been read for
+     */
+    private static class DisplayName
+    {
+        /**
+         * The element the row represented when the name was read
+         */
+        final Object element;
+
+        /**
+         * The name of the element when the name of the row was read
+         */
+        final String elementName;
+
+        /**
+         * The name of the row
+         */
+        final String name;
+
+        /**
+         * Initializes a new {@linkplain DisplayName}
+         * 
+         * @param element the represented element
+         * @param elementName the name of the represented element
+         * @param name the name of the row
+         */
+        DisplayName(Object element, String elementName, String name)
+        {
+            this.element = element;
+            this.elementName = elementName;
+            this.name = name;
+        }
+    }
+}
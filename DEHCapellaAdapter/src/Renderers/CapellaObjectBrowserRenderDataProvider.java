@@ -24,13 +24,14 @@
 package Renderers;
 
 import java.awt.Color;
+import java.util.function.Supplier;
 
 import javax.swing.Icon;
 
+import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.data.capellacore.AbstractPropertyValue;
 import org.polarsys.capella.core.data.capellacore.Relationship;
 import org.polarsys.capella.core.data.capellacore.Structure;
-import org.polarsys.capella.core.data.capellamodeller.Project;
 import org.polarsys.capella.core.data.capellamodeller.SystemEngineering;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.Part;
@@ -41,9 +42,9 @@ import org.polarsys.capella.core.data.requirement.Requirement;
 import org.polarsys.capella.core.data.requirement.RequirementsPkg;
 
 import Utils.ImageLoader.ImageLoader;
+import ViewModels.CapellaObjectBrowser.Interfaces.ICapellaObjectBrowserViewModel;
 import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
 import ViewModels.CapellaObjectBrowser.Rows.RequirementRowViewModel;
-import ViewModels.ObjectBrowser.Interfaces.IRowViewModel;
 import ViewModels.ObjectBrowser.RenderDataProvider.ObjectBrowserRenderDataProvider;
 import cdp4common.commondata.ClassKind;
 
@@ -53,6 +54,34 @@ import cdp4common.commondata.ClassKind;
 @Annotations.ExludeFromCodeCoverageGeneratedReport
 public class CapellaObjectBrowserRenderDataProvider extends ObjectBrowserRenderDataProvider
 {
+    /**
+     * The {@linkplain CapellaObjectBrowserRenderCache} shared by all the Capella object browsers
+     */
+    private static final CapellaObjectBrowserRenderCache renderCache = new CapellaObjectBrowserRenderCache(CapellaObjectBrowserRenderDataProvider::ResolveIcon);
+    
+    /**
+     * The {@linkplain Supplier} of the {@linkplain ICapellaObjectBrowserViewModel} that holds the state of the rows of the rendered tree
+     */
+    private final Supplier<ICapellaObjectBrowserViewModel> dataContextSupplier;
+    
+    /**
+     * Initializes a new {@linkplain CapellaObjectBrowserRenderDataProvider}
+     * 
+     * @param dataContextSupplier the {@linkplain Supplier} of the {@linkplain ICapellaObjectBrowserViewModel} that holds the state of the rows of the rendered tree
+     */
+    public CapellaObjectBrowserRenderDataProvider(Supplier<ICapellaObjectBrowserViewModel> dataContextSupplier)
+    {
+        this.dataContextSupplier = dataContextSupplier;
+    }
+    
+    /**
+     * Clears the {@linkplain CapellaObjectBrowserRenderCache} shared by all the Capella object browsers
+     */
+    public static void ClearRenderCache()
+    {
+        renderCache.Clear();
+    }
+    
     /**
      * Gets the specified row view model node name
      * 
@@ -64,7 +93,7 @@ public class CapellaObjectBrowserRenderDataProvider extends ObjectBrowserRenderD
     {
         if(rowViewModel instanceof IElementRowViewModel)
         {
-            return ((IElementRowViewModel<?>)rowViewModel).GetName();
+            return renderCache.GetDisplayName((IElementRowViewModel<?>)rowViewModel);
         }
 
         return "undefined";
@@ -92,20 +121,15 @@ public class CapellaObjectBrowserRenderDataProvider extends ObjectBrowserRenderD
     @Override
     public Color getBackground(Object rowViewModel)
     {
-        if (rowViewModel instanceof IRowViewModel)
+        var dataContext = this.dataContextSupplier.get();
+        
+        if(dataContext != null && rowViewModel instanceof IElementRowViewModel)
         {
-            if(((IRowViewModel)rowViewModel).GetIsSelected())
-            {
-                return new Color(104, 143, 184);
-            }
-            
-            if(((IRowViewModel)rowViewModel).GetIsHighlighted())
-            {
-                return Color.YELLOW;
-            }            
+            var elementRowViewModel = (IElementRowViewModel<?>)rowViewModel;
+            return renderCache.GetBackground(dataContext.IsSelected(elementRowViewModel), dataContext.IsHighlighted(elementRowViewModel));
         }
         
-        return Color.WHITE;
+        return renderCache.GetBackground(rowViewModel);
     }
 
     /**
@@ -143,54 +167,52 @@ public class CapellaObjectBrowserRenderDataProvider extends ObjectBrowserRenderD
     @Override
     public Icon getIcon(Object rowViewModel)
     {
-        if(rowViewModel instanceof IElementRowViewModel)
+        return renderCache.GetIcon(rowViewModel);
+    }
+    
+    /**
+     * Resolves the {@linkplain Icon} that represents the specified element
+     * 
+     * @param element the {@linkplain EObject} element, null for the rows that do not represent any
+     * @return an {@linkplain Icon}
+     */
+    private static Icon ResolveIcon(EObject element)
+    {
+        if(element instanceof SystemEngineering)
+        {
+            return ImageLoader.GetDstIcon();
+        }
+        else if(element instanceof Structure)
+        {
+            return ImageLoader.GetIcon(ImageLoader.ThingFolder, "parametergroup.png");
+        }
+        else if(element instanceof Relationship)
+        {
+            return ImageLoader.GetIcon(ClassKind.Relationship);
+        }
+        else if(element instanceof ComponentPort)
+        {
+            return ImageLoader.GetIcon(ClassKind.ElementUsage);
+        }
+        else if(element instanceof Component)
+        {
+            return ImageLoader.GetIcon(ClassKind.ElementDefinition);
+        }
+        else if(element instanceof Part)
+        {
+            return ImageLoader.GetIcon(ClassKind.ElementUsage);
+        }
+        else if(element instanceof Requirement)
+        {
+            return ImageLoader.GetIcon(ClassKind.Requirement);
+        }
+        else if(element instanceof RequirementsPkg)
+        {
+            return ImageLoader.GetIcon(ClassKind.RequirementsSpecification);
+        }
+        else if(element instanceof Property || element instanceof AbstractPropertyValue || element instanceof DataValue)
         {
-            var element = (IElementRowViewModel<?>)rowViewModel;
-            
-            if(element.GetElement() instanceof SystemEngineering)
-            {
-                return ImageLoader.GetDstIcon();
-            }
-            else if(element.GetElement() instanceof Structure)
-            {
-                return ImageLoader.GetIcon(ImageLoader.ThingFolder, "parametergroup.png");
-            }
-            else if(element.GetElement() instanceof Relationship)
-            {
-                return ImageLoader.GetIcon(ClassKind.Relationship);
-            }
-            else if(element.GetElement() instanceof ComponentPort)
-            {
-                return ImageLoader.GetIcon(ClassKind.ElementUsage);
-            }
-            else if(element.GetElement() instanceof Component)
-            {
-                return ImageLoader.GetIcon(ClassKind.ElementDefinition);
-            }
-            else if(element.GetElement() instanceof Part)
-            {
-                return ImageLoader.GetIcon(ClassKind.ElementUsage);
-            }
-            else if(element.GetElement() instanceof Requirement)
-            {
-                return ImageLoader.GetIcon(ClassKind.Requirement);
-            }
-            else if(element.GetElement() instanceof RequirementsPkg)
-            {
-                return ImageLoader.GetIcon(ClassKind.RequirementsSpecification);
-            }
-            else if(element.GetElement() instanceof Property)
-            {
-                return ImageLoader.GetIcon(ClassKind.Parameter);
-            }
-            else if(element.GetElement() instanceof AbstractPropertyValue)
-            {
-                return ImageLoader.GetIcon(ClassKind.Parameter);
-            }
-            else if(element.GetElement() instanceof DataValue)
-            {
-                return ImageLoader.GetIcon(ClassKind.Parameter);
-            }
+            return ImageLoader.GetIcon(ClassKind.Parameter);
         }
         
         return ImageLoader.GetDstIcon();
@@ -23,8 +23,10 @@
  */
 package Services.CapellaLog;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -33,10 +35,37 @@ import org.eclipse.core.runtime.ILog;
 
 /**
  * The {@linkplain CapellaLogService} provides an easy way to report status messages 
- * to the default {@linkplain Logger} as well as to the eclipse UI logger
+ * to the default {@linkplain Logger} as well as to the eclipse UI logger.
+ * Outside of bulk operations, entries are written synchronously. During bulk operations, entries are queued in a bounded buffer,
+ * written in batches by a background thread and repeated messages are rate limited.
  */
 public class CapellaLogService implements ICapellaLogService
 {
+    /**
+     * The maximum number of entries the buffer can hold before the oldest ones get dropped
+     */
+    static final int BUFFERCAPACITY = 4096;
+
+    /**
+     * The maximum number of entries written per batch
+     */
+    static final int BATCHSIZE = 256;
+
+    /**
+     * The delay in milliseconds the background thread waits once entries got queued, so that the entries of a burst get written as batches
+     */
+    static final long FLUSHINTERVAL = 200;
+
+    /**
+     * The number of consecutive identical messages that are written during a bulk operation before the next ones get suppressed
+     */
+    static final int MAXIMUMREPEATEDENTRIES = 3;
+
+    /**
+     * The {@linkplain StackWalker} used to resolve the caller
+     */
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
     /**
      * The current class {@linkplain Logger}
      */
@@ -46,6 +75,46 @@ public class CapellaLogService implements ICapellaLogService
      * The eclipse logger that is used to report to the error log tab
      */
     private final ILog platformLogger;
+
+    /**
+     * The bounded buffer of {@linkplain LogEntry} waiting to be written
+     */
+    private final ArrayBlockingQueue<LogEntry> buffer = new ArrayBlockingQueue<>(BUFFERCAPACITY);
+
+    /**
+     * The number of bulk operations currently in progress
+     */
+    private final AtomicInteger bulkOperationDepth = new AtomicInteger();
+
+    /**
+     * The object used to preserve the order of written entries between the background thread, {@linkplain #Flush()} and the entries written right away
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * The object used to synchronize the rate limiting state and the queuing, the background thread waits on it while the buffer is empty
+     */
+    private final Object queueLock = new Object();
+
+    /**
+     * The background {@linkplain Thread} that writes the buffered entries
+     */
+    private Thread flushThread;
+
+    /**
+     * The last queued {@linkplain LogEntry}, used to detect repeated messages
+     */
+    private LogEntry lastEntry;
+
+    /**
+     * The number of consecutive occurrences of the {@linkplain #lastEntry}
+     */
+    private int repeatedEntryCount;
+
+    /**
+     * The number of entries dropped because the buffer was full
+     */
+    private int droppedEntryCount;
     
     /**
      * Initializes a new {@linkplain CapellaLogService}
@@ -56,6 +125,53 @@ public class CapellaLogService implements ICapellaLogService
     {
         this.platformLogger = platformLogger;
     }
+
+    /**
+     * Begins a bulk operation, from there until the matching {@linkplain #EndBulkOperation()}, entries are written in batches
+     * from a background thread and repeated messages are rate limited. Bulk operations can be nested.
+     */
+    @Override
+    public void BeginBulkOperation()
+    {
+        this.bulkOperationDepth.incrementAndGet();
+    }
+
+    /**
+     * Ends a bulk operation, when the outermost bulk operation ends, all pending entries are written
+     * under the {@linkplain #writeLock} so that no entry written right away can get ahead of them
+     */
+    @Override
+    public void EndBulkOperation()
+    {
+        synchronized (this.writeLock)
+        {
+            if(this.bulkOperationDepth.updateAndGet(x -> Math.max(0, x - 1)) == 0)
+            {
+                this.Flush();
+            }
+        }
+    }
+
+    /**
+     * Writes all the pending entries, including the summary of the suppressed repeated messages and of the dropped entries
+     */
+    @Override
+    public void Flush()
+    {
+        synchronized (this.queueLock)
+        {
+            this.QueueRepeatedEntrySummary();
+            this.lastEntry = null;
+            
+            if(this.droppedEntryCount > 0)
+            {
+                this.Enqueue(new LogEntry(Level.WARN, String.format("%s log entries were dropped because the log buffer was full", this.droppedEntryCount), "", null));
+                this.droppedEntryCount = 0;
+            }
+        }
+        
+        this.WriteBatches();
+    }
     
     /**
      * Appends a string message with the default severity {@linkplain Level}
@@ -94,11 +210,11 @@ public class CapellaLogService implements ICapellaLogService
     {
         if(successStatus)
         {
-            this.Append(String.format("%s %s", message, " with success"), Level.INFO);
+            this.Append(message + "  with success", Level.INFO);
         }
         else
         {
-            this.Append(String.format("%s %s", message, " with errors, check the Capella log file for more details."), Level.ERROR);
+            this.Append(message + "  with errors, check the Capella log file for more details.", Level.ERROR);
         }
     }
     /**
@@ -126,12 +242,7 @@ public class CapellaLogService implements ICapellaLogService
     @Override
     public void Append(String message, Throwable exception)
     {
-        platformLogger.error(this.GetLogEntryMessage(message, Level.ERROR), exception);
-                
-        String logMessage = String.format("%s %s", this.GetCaller(), message);
-        
-        this.logger.catching(exception);
-        this.logger.error(logMessage);      
+        this.Write(new LogEntry(Level.ERROR, message, this.GetCaller(Level.ERROR), exception));
     }
     
     /**
@@ -143,35 +254,7 @@ public class CapellaLogService implements ICapellaLogService
     @Override
     public void Append(String message, Level level)
     {
-        var text = this.GetLogEntryMessage(message, level);
-        
-        if(level == Level.INFO)
-        {
-            platformLogger.info(text);
-        }
-        else if(level == Level.WARN)
-        {
-            platformLogger.warn(text);
-        }
-        else if(level == Level.ERROR)
-        {
-            platformLogger.error(text);
-        }
-        
-        String logMessage = String.format("%s %s", this.GetCaller(), message);
-        this.logger.log(level, logMessage);        
-    }
-
-    /**
-     * Gets the formated message
-     * 
-     * @param message the {@linkplain String} message to display
-     * @param level the {@linkplain Level}
-     * @return
-     */
-    private String GetLogEntryMessage(String message, Level level)
-    {
-        return String.format("[DEHCapellaAdapter] [%s] %s", level, message);
+        this.Write(new LogEntry(level, message, this.GetCaller(level), null));
     }
 
     /**
@@ -189,28 +272,208 @@ public class CapellaLogService implements ICapellaLogService
      {
          this.Append(String.format(message, args),  level);
      }
-         
+
     /**
-     * Gets the caller class and line number as a string
+     * Writes the provided {@linkplain LogEntry} right away or queues it when a bulk operation is in progress.
+     * An entry written right away is written after the entries that are still queued
      * 
-     * @return a {@linkplain String}
+     * @param entry the {@linkplain LogEntry}
      */
-    private Object GetCaller()
+    private void Write(LogEntry entry)
     {
-        try
+        if(this.bulkOperationDepth.get() == 0)
+        {
+            synchronized (this.writeLock)
+            {
+                this.WriteBatches();
+                this.WriteEntry(entry);
+            }
+            
+            return;
+        }
+        
+        synchronized (this.queueLock)
         {
-            StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+            if(entry.IsRepetitionOf(this.lastEntry))
+            {
+                if(++this.repeatedEntryCount > MAXIMUMREPEATEDENTRIES)
+                {
+                    return;
+                }
+            }
+            else
+            {
+                this.QueueRepeatedEntrySummary();
+                this.lastEntry = entry;
+                this.repeatedEntryCount = 1;
+            }
             
-            Optional<StackTraceElement> stackElement = Arrays.asList(stackTrace).stream()
-                    .skip(1)
-                    .filter(x -> !x.getFileName().contains(this.getClass().getSimpleName()))
-                    .findFirst();
+            this.Enqueue(entry);
+        }
+        
+        this.EnsureFlushThreadIsStarted();
+    }
+
+    /**
+     * Queues a summary of the suppressed repetitions of the {@linkplain #lastEntry} if any
+     */
+    private void QueueRepeatedEntrySummary()
+    {
+        if(this.lastEntry != null && this.repeatedEntryCount > MAXIMUMREPEATEDENTRIES)
+        {
+            this.Enqueue(new LogEntry(this.lastEntry.level, 
+                    String.format("The previous message has been repeated %s more times", this.repeatedEntryCount - MAXIMUMREPEATEDENTRIES), "", null));
+        }
+        
+        this.repeatedEntryCount = 0;
+    }
+
+    /**
+     * Queues the provided {@linkplain LogEntry}, dropping the oldest one when the buffer is full, and wakes the background thread up.
+     * Has to be called while holding the {@linkplain #queueLock}
+     * 
+     * @param entry the {@linkplain LogEntry}
+     */
+    private void Enqueue(LogEntry entry)
+    {
+        while(!this.buffer.offer(entry))
+        {
+            if(this.buffer.poll() != null)
+            {
+                this.droppedEntryCount++;
+            }
+        }
+        
+        this.queueLock.notifyAll();
+    }
+
+    /**
+     * Starts the background thread that writes the buffered entries if it is not running yet
+     */
+    private synchronized void EnsureFlushThreadIsStarted()
+    {
+        if(this.flushThread != null)
+        {
+            return;
+        }
+        
+        this.flushThread = new Thread(this::ProcessBuffer, "DEHCapellaAdapter log writer");
+        this.flushThread.setDaemon(true);
+        this.flushThread.start();
+    }
+
+    /**
+     * Waits until entries get queued and writes them in batches, the thread does not wake up while the log is idle.
+     * The entries are not taken from the buffer before the {@linkplain #writeLock} is held so that {@linkplain #Flush()} cannot write newer ones first
+     */
+    private void ProcessBuffer()
+    {
+        while(!Thread.currentThread().isInterrupted())
+        {
+            try
+            {
+                synchronized (this.queueLock)
+                {
+                    while(this.buffer.isEmpty())
+                    {
+                        this.queueLock.wait();
+                    }
+                }
+                
+                Thread.sleep(FLUSHINTERVAL);
+                this.WriteBatches();
+            }
+            catch (InterruptedException exception)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch (Exception exception)
+            {
+                this.logger.catching(exception);
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered entries by batches of {@linkplain #BATCHSIZE} until the buffer is empty
+     */
+    private void WriteBatches()
+    {
+        synchronized (this.writeLock)
+        {
+            var batch = new ArrayList<LogEntry>(BATCHSIZE);
             
-            if(stackElement.isPresent())
+            while(this.buffer.drainTo(batch, BATCHSIZE) > 0)
             {
-                return String.format("%s {Line %s} -", stackElement.get().getClassName(), 
-                        stackElement.get().getLineNumber());
+                for (var entry : batch)
+                {
+                    this.WriteEntry(entry);
+                }
+                
+                batch.clear();
             }
+        }
+    }
+
+    /**
+     * Writes the provided {@linkplain LogEntry} to the platform logger and to the {@linkplain Logger}
+     * 
+     * @param entry the {@linkplain LogEntry} to write
+     */
+    private void WriteEntry(LogEntry entry)
+    {
+        var text = String.format("[DEHCapellaAdapter] [%s] %s", entry.level, entry.message);
+        
+        if(entry.exception != null)
+        {
+            this.platformLogger.error(text, entry.exception);
+        }
+        else if(entry.level == Level.INFO)
+        {
+            this.platformLogger.info(text);
+        }
+        else if(entry.level == Level.WARN)
+        {
+            this.platformLogger.warn(text);
+        }
+        else if(entry.level == Level.ERROR)
+        {
+            this.platformLogger.error(text);
+        }
+        
+        if(entry.caller == null)
+        {
+            return;
+        }
+        
+        if(entry.exception != null)
+        {
+            this.logger.catching(entry.exception);
+        }
+        
+        this.logger.log(entry.level, entry.caller + " " + entry.message);
+    }
+         
+    /**
+     * Gets the caller class and line number as a string when the provided {@linkplain Level} is enabled
+     * 
+     * @param level the {@linkplain Level} of the entry
+     * @return a {@linkplain String}, null when the {@linkplain Level} is not enabled for the {@linkplain Logger}
+     */
+    private String GetCaller(Level level)
+    {
+        if(!this.logger.isEnabled(level))
+        {
+            return null;
+        }
+        
+        try
+        {
+            return stackWalker.walk(frames -> frames
+                    .filter(x -> !x.getClassName().startsWith(CapellaLogService.class.getName()))
+                    .findFirst()
+                    .map(x -> String.format("%s {Line %s} -", x.getClassName(), x.getLineNumber()))
+                    .orElse(""));
         } 
         catch (Exception exception)
         {
@@ -219,4 +482,58 @@ public class CapellaLogService implements ICapellaLogService
         
         return "";
     }
+
+    /**
+     * The {@linkplain LogEntry} holds one message to write
+     */
+    private static final class LogEntry
+    {
+        /**
+         * The {@linkplain Level} of this entry
+         */
+        final Level level;
+
+        /**
+         * The message of this entry
+         */
+        final String message;
+
+        /**
+         * The caller description, null when the {@linkplain Logger} does not log at this entry {@linkplain Level}
+         */
+        final String caller;
+
+        /**
+         * The {@linkplain Throwable} attached to this entry if any
+         */
+        final Throwable exception;
+
+        /**
+         * Initializes a new {@linkplain LogEntry}
+         * 
+         * @param level the {@linkplain Level}
+         * @param message the message
+         * @param caller the caller description
+         * @param exception the {@linkplain Throwable}
+         */
+        LogEntry(Level level, String message, String caller, Throwable exception)
+        {
+            this.level = level;
+            this.message = message;
+            this.caller = caller;
+            this.exception = exception;
+        }
+
+        /**
+         * Gets a value indicating whether this entry repeats the provided one
+         * 
+         * @param entry the other {@linkplain LogEntry}
+         * @return a {@linkplain boolean}
+         */
+        boolean IsRepetitionOf(LogEntry entry)
+        {
+            return entry != null && this.exception == null && entry.exception == null 
+                    && this.level == entry.level && Objects.equals(this.message, entry.message);
+        }
+    }
 }
@@ -25,13 +25,27 @@ package Services.CapellaLog;
 
 import org.apache.logging.log4j.Level;
 
-import io.reactivex.Observable;
-
 /**
  * The {@linkplain ICapellaLogService} is the interface definition for the service {@linkplain CapellaLogService}
  */
 public interface ICapellaLogService 
 {
+    /**
+     * Begins a bulk operation, from there until the matching {@linkplain #EndBulkOperation()}, entries are written in batches
+     * from a background thread and repeated messages are rate limited. Bulk operations can be nested.
+     */
+    void BeginBulkOperation();
+
+    /**
+     * Ends a bulk operation, when the outermost bulk operation ends, all pending entries are written
+     */
+    void EndBulkOperation();
+
+    /**
+     * Writes all the pending entries
+     */
+    void Flush();
+
     /**
      * Appends a format-able string message using {@linkplain #String.format(String, args)} with the specified {@linkplain Level}
      * 
@@ -44,7 +44,6 @@ import io.reactivex.Observable;
 /**
  * The {@linkplain CapellaSelectionService} is a wrapper around the jface {@linkplain ISelectionService}
  */
-@ExludeFromCodeCoverageGeneratedReport
 public class CapellaSelectionService implements ICapellaSelectionService
 {
     /**
@@ -58,9 +57,10 @@ public class CapellaSelectionService implements ICapellaSelectionService
     private final Logger logger = LogManager.getLogger();
     
     /**
-     * The {@linkplain ISelectionService} this {@linkplain CapellaSelectionService} wraps
+     * The {@linkplain ISelectionService} this {@linkplain CapellaSelectionService} wraps, 
+     * null until a workbench window is available, which never happens in the headless batch application
      */
-    private ISelectionService selectionService = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getSelectionService();
+    private ISelectionService selectionService;
     
     /**
      * Backing field for {@linkplain SelectionChanged}
@@ -75,15 +75,49 @@ public class CapellaSelectionService implements ICapellaSelectionService
     @Override
     public Observable<EObject> SelectionChanged()
     {
+        this.TryAttachToSelectionService();
         return this.selectionChanged.Observable();
     }
     
     /**
-     * Initializes a new {@linkplain CapellaSelectionService}
+     * Initializes a new {@linkplain CapellaSelectionService}, 
+     * the selection listener is only attached once a workbench window is available so that the service can be resolved without a workbench
      */
-    @ExludeFromCodeCoverageGeneratedReport
     public CapellaSelectionService()
-    {    
+    {
+        this.TryAttachToSelectionService();
+    }
+    
+    /**
+     * Gets the {@linkplain ISelectionService} of the active workbench window and attaches the selection listener to it, if it is not attached yet
+     * 
+     * @return a value indicating whether the {@linkplain ISelectionService} is available
+     */
+    private synchronized boolean TryAttachToSelectionService()
+    {
+        if(this.selectionService != null)
+        {
+            return true;
+        }
+        
+        var window = PlatformUI.isWorkbenchRunning() ? PlatformUI.getWorkbench().getActiveWorkbenchWindow() : null;
+        
+        if(window == null)
+        {
+            return false;
+        }
+        
+        this.selectionService = window.getSelectionService();
+        this.AttachSelectionListener();
+        return true;
+    }
+    
+    /**
+     * Attaches the listener that forwards the selected {@linkplain EObject} to the {@linkplain #selectionChanged}
+     */
+    @ExludeFromCodeCoverageGeneratedReport
+    private void AttachSelectionListener()
+    {
         this.selectionService.addSelectionListener(new @ExludeFromCodeCoverageGeneratedReport ISelectionListener()
         {
             /**
@@ -134,15 +168,18 @@ public class CapellaSelectionService implements ICapellaSelectionService
     /**
      * Gets the selected items from the first browser that has some selected items
      * 
-     * @return the selection as {@linkplain ISelection}
+     * @return the selection as {@linkplain ISelection}, empty when there is no workbench
      */
     private StructuredSelection GetSelectedItems()
     {
-        var window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+        if(!this.TryAttachToSelectionService())
+        {
+            return StructuredSelection.EMPTY;
+        }
         
         for (String browser : BrowsersIdentifiers)
         {
-            var selection = window.getSelectionService().getSelection(browser);
+            var selection = this.selectionService.getSelection(browser);
             
             if(selection instanceof StructuredSelection)
             {
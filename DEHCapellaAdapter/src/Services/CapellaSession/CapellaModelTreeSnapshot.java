@@ -0,0 +1,76 @@
+/*
+ * CapellaModelTreeSnapshot.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaSession;
+
+import ViewModels.CapellaObjectBrowser.Rows.RootRowViewModel;
+
+/**
+ * The {@linkplain CapellaModelTreeSnapshot} is the version-stamped tree of the models of the open sessions shared by the Capella object browsers.
+ * Its rows represent the models as they were at the stamped version and should not be modified by the browsers that display them, 
+ * a view that needs to alter its rows works on its own copy from {@linkplain ICapellaSessionService#GetModels()}
+ */
+public class CapellaModelTreeSnapshot
+{
+    /**
+     * The version of the models this snapshot has been built from
+     */
+    private final long version;
+    
+    /**
+     * The {@linkplain RootRowViewModel} of the tree
+     */
+    private final RootRowViewModel root;
+    
+    /**
+     * Initializes a new {@linkplain CapellaModelTreeSnapshot}
+     * 
+     * @param version the version of the models this snapshot has been built from
+     * @param root the {@linkplain RootRowViewModel} of the tree
+     */
+    CapellaModelTreeSnapshot(long version, RootRowViewModel root)
+    {
+        this.version = version;
+        this.root = root;
+    }
+    
+    /**
+     * Gets the version of the models this snapshot has been built from
+     * 
+     * @return a {@linkplain long}
+     */
+    public long GetVersion()
+    {
+        return this.version;
+    }
+    
+    /**
+     * Gets the {@linkplain RootRowViewModel} of the tree
+     * 
+     * @return a {@linkplain RootRowViewModel}
+     */
+    public RootRowViewModel GetRoot()
+    {
+        return this.root;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * CapellaReferenceDataCatalog.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaSession;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.polarsys.capella.core.data.capellacore.EnumerationPropertyType;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+import org.polarsys.capella.core.data.information.Unit;
+import org.polarsys.capella.core.data.information.datatype.DataType;
+
+import Services.NameKey.NameKey;
+import Utils.Ref;
+
+/**
+ * The {@linkplain CapellaReferenceDataCatalog} indexes the {@linkplain DataType}s, {@linkplain EnumerationPropertyType}s and {@linkplain Unit}s
+ * of one Capella model by normalised name so they can be queried without going through the whole model.
+ * Elements can be registered while the mapping rules query the catalog from another thread.
+ */
+public class CapellaReferenceDataCatalog
+{
+    /**
+     * The {@linkplain DataType}s by normalised name
+     */
+    private final Map<String, DataType> dataTypes = new ConcurrentHashMap<>();
+
+    /**
+     * The {@linkplain EnumerationPropertyType}s by normalised name
+     */
+    private final Map<String, EnumerationPropertyType> enumerationPropertyTypes = new ConcurrentHashMap<>();
+
+    /**
+     * The {@linkplain Unit}s by normalised name
+     */
+    private final Map<String, Unit> units = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new empty {@linkplain CapellaReferenceDataCatalog}
+     */
+    public CapellaReferenceDataCatalog()
+    {
+    }
+
+    /**
+     * Initializes a new {@linkplain CapellaReferenceDataCatalog} registering the reference data found in the provided elements
+     *
+     * @param elements the {@linkplain Iterator} of {@linkplain Object} to go through
+     */
+    public CapellaReferenceDataCatalog(Iterator<?> elements)
+    {
+        while(elements.hasNext())
+        {
+            var element = elements.next();
+            
+            if(element instanceof NamedElement)
+            {
+                this.Register((NamedElement)element);
+            }
+        }
+    }
+
+    /**
+     * Registers the provided {@linkplain NamedElement} when it is a {@linkplain DataType}, an {@linkplain EnumerationPropertyType} or a {@linkplain Unit}.
+     * The first registered element with a given name is kept.
+     *
+     * @param element the {@linkplain NamedElement} to register
+     */
+    public void Register(NamedElement element)
+    {
+        var key = Normalise(element.getName());
+
+        if(key == null)
+        {
+            return;
+        }
+
+        if(element instanceof DataType)
+        {
+            this.dataTypes.putIfAbsent(key, (DataType)element);
+        }
+        else if(element instanceof EnumerationPropertyType)
+        {
+            this.enumerationPropertyTypes.putIfAbsent(key, (EnumerationPropertyType)element);
+        }
+        else if(element instanceof Unit)
+        {
+            this.units.putIfAbsent(key, (Unit)element);
+        }
+    }
+
+    /**
+     * Removes all the registered elements
+     */
+    public void Clear()
+    {
+        this.dataTypes.clear();
+        this.enumerationPropertyTypes.clear();
+        this.units.clear();
+    }
+
+    /**
+     * Tries to get a {@linkplain DataType} whose name matches either the provided name or short name
+     *
+     * @param name the name
+     * @param shortName the short name
+     * @param refDataType the {@linkplain Ref} of {@linkplain DataType}
+     * @return a value indicating whether the {@linkplain DataType} has been found
+     */
+    public boolean TryGetDataType(String name, String shortName, Ref<DataType> refDataType)
+    {
+        return TryGet(this.dataTypes, name, shortName, refDataType);
+    }
+
+    /**
+     * Tries to get a {@linkplain EnumerationPropertyType} whose name matches either the provided name or short name
+     *
+     * @param name the name
+     * @param shortName the short name
+     * @param refEnumerationPropertyType the {@linkplain Ref} of {@linkplain EnumerationPropertyType}
+     * @return a value indicating whether the {@linkplain EnumerationPropertyType} has been found
+     */
+    public boolean TryGetEnumerationPropertyType(String name, String shortName, Ref<EnumerationPropertyType> refEnumerationPropertyType)
+    {
+        return TryGet(this.enumerationPropertyTypes, name, shortName, refEnumerationPropertyType);
+    }
+
+    /**
+     * Tries to get a {@linkplain Unit} whose name matches either the provided name or short name
+     *
+     * @param name the name
+     * @param shortName the short name
+     * @param refUnit the {@linkplain Ref} of {@linkplain Unit}
+     * @return a value indicating whether the {@linkplain Unit} has been found
+     */
+    public boolean TryGetUnit(String name, String shortName, Ref<Unit> refUnit)
+    {
+        return TryGet(this.units, name, shortName, refUnit);
+    }
+
+    /**
+     * Tries to get the element from the provided {@linkplain Map} by name first then by short name
+     *
+     * @param <TElement> the type of {@linkplain NamedElement}
+     * @param elements the {@linkplain Map} of {@linkplain #TElement} by normalised name
+     * @param name the name
+     * @param shortName the short name
+     * @param refElement the {@linkplain Ref} of {@linkplain #TElement}
+     * @return a value indicating whether the {@linkplain #TElement} has been found
+     */
+    private static <TElement extends NamedElement> boolean TryGet(Map<String, TElement> elements, String name, String shortName, Ref<TElement> refElement)
+    {
+        var element = GetByKey(elements, name);
+
+        if(element == null)
+        {
+            element = GetByKey(elements, shortName);
+        }
+
+        if(element != null)
+        {
+            refElement.Set(element);
+        }
+
+        return element != null;
+    }
+
+    /**
+     * Gets the element from the provided {@linkplain Map} registered under the normalised provided name
+     *
+     * @param <TElement> the type of {@linkplain NamedElement}
+     * @param elements the {@linkplain Map} of {@linkplain #TElement} by normalised name
+     * @param name the name
+     * @return a {@linkplain #TElement} or null
+     */
+    private static <TElement extends NamedElement> TElement GetByKey(Map<String, TElement> elements, String name)
+    {
+        var key = Normalise(name);
+        return key == null ? null : elements.get(key);
+    }
+
+    /**
+     * Normalises the provided name so that name comparison is case insensitive
+     *
+     * @param name the name to normalise
+     * @return the normalised {@linkplain String} or null
+     */
+    private static String Normalise(String name)
+    {
+        return NameKey.CaseFold(name);
+    }
+}
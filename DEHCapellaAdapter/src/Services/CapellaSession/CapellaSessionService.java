@@ -25,16 +25,26 @@ package Services.CapellaSession;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.common.command.CommandStackListener;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.transaction.RunnableWithResult;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.transaction.util.TransactionUtil;
 import org.eclipse.sirius.business.api.session.Session;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellamodeller.Project;
@@ -45,7 +55,9 @@ import org.polarsys.capella.core.model.helpers.BlockArchitectureExt;
 import org.polarsys.capella.core.model.helpers.BlockArchitectureExt.Type;
 
 import Enumerations.CapellaArchitecture;
+import Enumerations.ModelTraversalMode;
 import Reactive.ObservableValue;
+import Services.Metrics.IMetricsService;
 import Services.NavigationService.INavigationService;
 import ViewModels.CapellaObjectBrowser.Rows.RootRowViewModel;
 import io.reactivex.Observable;
@@ -71,11 +83,53 @@ public class CapellaSessionService implements ICapellaSessionService
      */
     private ISiriusSessionManagerWrapper sessionManager;
     
+    /**
+     * The {@linkplain IMetricsService} instance
+     */
+    private final IMetricsService metricsService;
+    
     /**
      * Backing field for {@linkplain HasAnyOpenSessionObservable}
      */
     private ObservableValue<Boolean> hasAnyOpenSession = new ObservableValue<>(false, Boolean.class);
 
+    /**
+     * The {@linkplain CapellaReferenceDataCatalog} by {@linkplain Session}, read by the mapping rules and the background traversals
+     */
+    private final ConcurrentHashMap<Session, CapellaReferenceDataCatalog> referenceDataCatalogs = new ConcurrentHashMap<>();
+    
+    /**
+     * The version of the models of the open sessions, incremented each time one of them changes
+     */
+    private final AtomicLong modelsVersion = new AtomicLong();
+    
+    /**
+     * The {@linkplain CommandStackListener} that increments the {@linkplain #modelsVersion} by observed {@linkplain Session}
+     */
+    private final HashMap<Session, CommandStackListener> commandStackListeners = new HashMap<>();
+    
+    /**
+     * The last built {@linkplain CapellaModelTreeSnapshot}
+     */
+    private CapellaModelTreeSnapshot modelTreeSnapshot;
+    
+    /**
+     * The {@linkplain ModelTraversalMode} used to go through all the elements of the open {@linkplain Session}s, 
+     * {@linkplain ModelTraversalMode#Serial} until the parallel traversal is measured against it
+     */
+    private volatile ModelTraversalMode modelTraversalMode = ModelTraversalMode.Serial;
+    
+    /**
+     * Sets the {@linkplain ModelTraversalMode} used to go through all the elements of the open {@linkplain Session}s
+     * 
+     * @param modelTraversalMode the {@linkplain ModelTraversalMode}
+     */
+    @Override
+    public void SetModelTraversalMode(ModelTraversalMode modelTraversalMode)
+    {
+        this.modelTraversalMode = modelTraversalMode;
+    }
+
     /**
      * Gets the {@linkplain Observable} of value indicating whether there is any session open
      * 
@@ -102,6 +156,22 @@ public class CapellaSessionService implements ICapellaSessionService
     {
         return this.sessionUpdated.Observable();
     }
+    
+    /**
+     * Backing field for {@linkplain SessionRemoved}
+     */
+    private ObservableValue<Session> sessionRemoved = new ObservableValue<>();
+
+    /**
+     * Gets the {@linkplain Observable} of {@linkplain Session} that indicates when the emitted session gets closed
+     * 
+     * @return an {@linkplain Observable} of {@linkplain Session}
+     */
+    @Override
+    public Observable<Session> SessionRemoved()
+    {
+        return this.sessionRemoved.Observable();
+    }
 
     /**
      * Backing field for the {@linkplain #GetCurrentSession()}
@@ -143,20 +213,25 @@ public class CapellaSessionService implements ICapellaSessionService
      * 
      * @param sessionListener the {@linkplain ICapellaSessionListenerService} instance
      * @param sessionManager the {@linkplain ISiriusSessionManagerWrapper} instance
+     * @param metricsService the {@linkplain IMetricsService} instance
      */
-    public CapellaSessionService(ICapellaSessionListenerService sessionListener, ISiriusSessionManagerWrapper sessionManager)
+    public CapellaSessionService(ICapellaSessionListenerService sessionListener, ISiriusSessionManagerWrapper sessionManager, IMetricsService metricsService)
     {
         this.sessionListener = sessionListener;
         this.sessionManager = sessionManager;
+        this.metricsService = metricsService;
         
         this.hasAnyOpenSession.Value(this.sessionManager.HasAnyOpenSession());
         
         this.sessionManager.AddListener(this.sessionListener);
+        this.sessionManager.GetSessions().forEach(this::ObserveModelChanges);
 
         this.sessionListener.SessionUpdated()
             .subscribe(x -> 
             {
                 this.hasAnyOpenSession.Value(this.sessionManager.HasAnyOpenSession());
+                this.RemoveReferenceDataCatalog(x);
+                this.modelsVersion.incrementAndGet();
                 this.sessionUpdated.Value(x);
             });
             
@@ -164,6 +239,7 @@ public class CapellaSessionService implements ICapellaSessionService
             .subscribe(x -> 
             {
                 this.hasAnyOpenSession.Value(this.sessionManager.HasAnyOpenSession());
+                this.ObserveModelChanges(x);
                 this.SetCurrentSession(x);
             });
         
@@ -171,9 +247,63 @@ public class CapellaSessionService implements ICapellaSessionService
             .subscribe(x -> 
             {
                 this.hasAnyOpenSession.Value(this.sessionManager.HasAnyOpenSession());
+                this.RemoveReferenceDataCatalog(x);
+                this.StopObservingModelChanges(x);
                 this.SetCurrentSession(null);
+                this.sessionRemoved.Value(x);
             });
     }
+    
+    /**
+     * Increments the {@linkplain #modelsVersion} and drops the {@linkplain CapellaReferenceDataCatalog} of the provided {@linkplain Session}
+     * each time a command gets executed, undone or redone on its models
+     * 
+     * @param session the {@linkplain Session} to observe
+     */
+    private synchronized void ObserveModelChanges(Session session)
+    {
+        this.modelsVersion.incrementAndGet();
+        
+        if(session == null || this.commandStackListeners.containsKey(session) 
+                || session.getTransactionalEditingDomain() == null || session.getTransactionalEditingDomain().getCommandStack() == null)
+        {
+            return;
+        }
+        
+        CommandStackListener listener = x -> 
+        {
+            this.RemoveReferenceDataCatalog(session);
+            this.modelsVersion.incrementAndGet();
+        };
+        
+        session.getTransactionalEditingDomain().getCommandStack().addCommandStackListener(listener);
+        this.commandStackListeners.put(session, listener);
+    }
+    
+    /**
+     * Stops observing the changes on the provided {@linkplain Session} models
+     * 
+     * @param session the {@linkplain Session} that got removed
+     */
+    private synchronized void StopObservingModelChanges(Session session)
+    {
+        this.modelsVersion.incrementAndGet();
+        var listener = this.commandStackListeners.remove(session);
+        
+        if(listener == null)
+        {
+            return;
+        }
+        
+        try
+        {
+            session.getTransactionalEditingDomain().getCommandStack().removeCommandStackListener(listener);
+        }
+        catch(Exception exception)
+        {
+            this.logger.catching(exception);
+        }
+    }
 
     /**
      * Gets the session corresponding to a semantic {@linkplain EObject} 
@@ -223,11 +353,52 @@ public class CapellaSessionService implements ICapellaSessionService
             return null;
         }
         
-        var rootRowViewModel = new RootRowViewModel("Capella Models");
+        try (var timer = this.metricsService.StartTimer("CapellaSession.GetModels"))
+        {
+            var rootRowViewModel = new RootRowViewModel("Capella Models");
+            
+            for (var session : this.sessionManager.GetSessions())
+            {
+                var semanticRoots = new ArrayList<Notifier>();
+                session.getSemanticResources().forEach(x -> semanticRoots.addAll(x.getContents()));
+                
+                rootRowViewModel.GetContainedRows().add(new RootRowViewModel(URI.decode(session.getSessionResource().getURI().lastSegment()), semanticRoots));
+            }
+            
+            return rootRowViewModel;
+        }
+    }
+    
+    /**
+     * Gets the {@linkplain CapellaModelTreeSnapshot} of the models of the active sessions shared by the browsers that display the models as they are, 
+     * the snapshot is only built again when the models changed since
+     * 
+     * @return a {@linkplain CapellaModelTreeSnapshot}, or null if no active session is found
+     */
+    @Override
+    public synchronized CapellaModelTreeSnapshot GetModelTreeSnapshot()
+    {
+        var version = this.modelsVersion.get();
         
-        this.ProcessSessionsElements((uri, notifiers) -> rootRowViewModel.GetContainedRows().add(new RootRowViewModel(URI.decode(uri.lastSegment()), notifiers)));
+        if(this.modelTreeSnapshot == null || this.modelTreeSnapshot.GetVersion() != version)
+        {
+            var models = this.GetModels();
+            this.modelTreeSnapshot = models == null ? null : new CapellaModelTreeSnapshot(version, models);
+        }
         
-        return rootRowViewModel;
+        return this.modelTreeSnapshot;
+    }
+
+    /**
+     * Gets the version of the models of the open sessions, it changes each time a session is added, updated or removed 
+     * and each time a command is executed, undone or redone on their models
+     * 
+     * @return the version of the models
+     */
+    @Override
+    public long GetModelsVersion()
+    {
+        return this.modelsVersion.get();
     }
 
     /**
@@ -239,19 +410,75 @@ public class CapellaSessionService implements ICapellaSessionService
      */
     private void ProcessSessionsElements(BiConsumer<URI, ArrayList<Notifier>> action)
     {
-        for (var session : this.sessionManager.GetSessions())
+        try (var timer = this.metricsService.StartTimer("CapellaSession.ProcessSessionsElements"))
         {
-            Notifier element;
-            var elements = new ArrayList<Notifier>();
-            var contents = session.getTransactionalEditingDomain().getResourceSet().getAllContents();
-            
-            while(contents.hasNext() && (element = contents.next()) !=null)
+            for (var session : this.sessionManager.GetSessions())
             {
-                elements.add((Notifier)element);
+                var elements = this.modelTraversalMode == ModelTraversalMode.Parallel 
+                        ? this.GetSessionElementsInParallel(session)
+                        : this.GetSessionElements(session);
+                
+                this.metricsService.RecordValue("CapellaSession.ProcessSessionsElements.Elements", elements.size());
+                action.accept(session.getSessionResource().getURI(), elements);
             }
+        }
+    }
+    
+    /**
+     * Gets all the {@linkplain Notifier} of the resource set of the provided {@linkplain Session} on the calling thread
+     * 
+     * @param session the {@linkplain Session}
+     * @return an {@linkplain ArrayList} of {@linkplain Notifier}
+     */
+    private ArrayList<Notifier> GetSessionElements(Session session)
+    {
+        Notifier element;
+        var elements = new ArrayList<Notifier>();
+        var contents = session.getTransactionalEditingDomain().getResourceSet().getAllContents();
+        
+        while(contents.hasNext() && (element = contents.next()) !=null)
+        {
+            elements.add((Notifier)element);
+        }
+        
+        return elements;
+    }
+    
+    /**
+     * Gets all the {@linkplain Notifier} of the resource set of the provided {@linkplain Session} on the common {@linkplain ForkJoinPool},
+     * the work is split by {@linkplain Resource} and by top-level containment subtrees and runs under a read-only transaction 
+     * so that no command can change the models in the meantime, the fragments that are not loaded yet get loaded within the same transaction
+     * 
+     * @param session the {@linkplain Session}
+     * @return an {@linkplain ArrayList} of {@linkplain Notifier}
+     */
+    private ArrayList<Notifier> GetSessionElementsInParallel(Session session)
+    {
+        try (var timer = this.metricsService.StartTimer("CapellaSession.ProcessSessionsElements.Parallel"))
+        {
+            var editingDomain = session.getTransactionalEditingDomain();
             
-            action.accept(session.getSessionResource().getURI(), elements);
+            var elements = TransactionUtil.runExclusive(editingDomain, new RunnableWithResult.Impl<ArrayList<Notifier>>()
+            {
+                @Override
+                public void run()
+                {
+                    this.setResult(ModelTraversalTask.Traverse(ForkJoinPool.commonPool(), editingDomain.getResourceSet()));
+                }
+            });
+            
+            if(elements != null)
+            {
+                return elements;
+            }
+        }
+        catch(InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+            this.logger.catching(exception);
         }
+        
+        return this.GetSessionElements(session);
     }
     
     /**
@@ -277,6 +504,129 @@ public class CapellaSessionService implements ICapellaSessionService
         return sessionAndObjectsMap;
     }
 
+    /**
+     * Gets the {@linkplain CapellaElement}s with the provided ids from the currently open {@linkplain Session}s without going through all their elements
+     * 
+     * @param ids the {@linkplain Collection} of ids of the elements to get
+     * @return a {@linkplain HashMap} of {@linkplain URI} and a {@linkplain List} of the {@linkplain CapellaElement}s that have been found
+     */
+    @Override
+    public HashMap<URI, List<CapellaElement>> GetCapellaElementsFromOpenSessions(Collection<String> ids)
+    {
+        var sessionAndObjectsMap = new HashMap<URI, List<CapellaElement>>();
+        
+        try (var timer = this.metricsService.StartTimer("CapellaSession.GetCapellaElementsById"))
+        {
+            for (var session : this.sessionManager.GetSessions())
+            {
+                var elements = new ArrayList<CapellaElement>();
+                
+                for (var id : ids)
+                {
+                    session.getSemanticResources().stream()
+                        .map(x -> x.getEObject(id))
+                        .filter(x -> x instanceof CapellaElement)
+                        .findFirst()
+                        .ifPresent(x -> elements.add((CapellaElement)x));
+                }
+                
+                sessionAndObjectsMap.putIfAbsent(session.getSessionResource().getURI(), elements);
+            }
+        }
+        
+        return sessionAndObjectsMap;
+    }
+
+    /**
+     * Gets the hash of the content of the provided {@linkplain CapellaElement} and of its contained elements, 
+     * it only changes when one of their attributes or references changes
+     * 
+     * @param element the {@linkplain CapellaElement}
+     * @return the hash, or null if the element is null
+     */
+    @Override
+    public String GetElementHash(CapellaElement element)
+    {
+        if(element == null)
+        {
+            return null;
+        }
+        
+        var hash = GetContentHash(element);
+        
+        for (var contents = element.eAllContents(); contents.hasNext();)
+        {
+            hash = 31 * hash + GetContentHash(contents.next());
+        }
+        
+        return Integer.toHexString(hash);
+    }
+    
+    /**
+     * Gets the hash of the values of the persisted attributes and non containment references of the provided {@linkplain EObject}, 
+     * the referenced elements are hashed by their {@linkplain URI} fragment, which is their id for Capella elements
+     * 
+     * @param element the {@linkplain EObject}
+     * @return the hash
+     */
+    private static int GetContentHash(EObject element)
+    {
+        var hash = element.eClass().getName().hashCode();
+        
+        for (var feature : element.eClass().getEAllStructuralFeatures())
+        {
+            if(feature.isTransient() || feature.isDerived() || !element.eIsSet(feature)
+                    || (feature instanceof EReference && ((EReference)feature).isContainment()))
+            {
+                continue;
+            }
+            
+            hash = 31 * hash + feature.getName().hashCode();
+            var value = element.eGet(feature, false);
+            
+            for (var item : feature.isMany() ? (Collection<?>)value : Collections.singletonList(value))
+            {
+                hash = 31 * hash + (item instanceof EObject 
+                        ? String.valueOf(EcoreUtil.getURI((EObject)item).fragment()) 
+                        : String.valueOf(item)).hashCode();
+            }
+        }
+        
+        return hash;
+    }
+
+    /**
+     * Gets the {@linkplain CapellaReferenceDataCatalog} of the provided {@linkplain Session}, 
+     * the catalog is built on first access and kept until a command changes the session models or the session gets updated or closed
+     * 
+     * @param session the {@linkplain Session}
+     * @return the {@linkplain CapellaReferenceDataCatalog}
+     */
+    @Override
+    public CapellaReferenceDataCatalog GetReferenceDataCatalog(Session session)
+    {
+        return this.referenceDataCatalogs.computeIfAbsent(session, x -> 
+        {
+            try (var timer = this.metricsService.StartTimer("CapellaSession.BuildReferenceDataCatalog"))
+            {
+                return new CapellaReferenceDataCatalog(session.getTransactionalEditingDomain().getResourceSet().getAllContents());
+            }
+        });
+    }
+
+    /**
+     * Removes the {@linkplain CapellaReferenceDataCatalog} of the provided {@linkplain Session} that got changed, updated, renamed or closed
+     * 
+     * @param session the {@linkplain Session}
+     */
+    private void RemoveReferenceDataCatalog(Session session)
+    {
+        if(session != null)
+        {
+            this.referenceDataCatalogs.remove(session);
+        }
+    }
+
     /**
      * Gets the top element from the {@linkplain Session} that owns the provided {@linkplain CapellaElement} in the Physical Architecture package
      * 
@@ -38,6 +38,7 @@ import org.polarsys.capella.core.data.pa.PhysicalComponent;
 import org.polarsys.capella.core.model.helpers.BlockArchitectureExt.Type;
 
 import Enumerations.CapellaArchitecture;
+import Enumerations.ModelTraversalMode;
 import ViewModels.CapellaObjectBrowser.Rows.RootRowViewModel;
 import io.reactivex.Observable;
 
@@ -60,6 +61,22 @@ public interface ICapellaSessionService
      */
     RootRowViewModel GetModels();
 
+    /**
+     * Gets the {@linkplain CapellaModelTreeSnapshot} of the models of the active sessions shared by the browsers that display the models as they are, 
+     * the snapshot is only built again when the models changed since
+     * 
+     * @return a {@linkplain CapellaModelTreeSnapshot}, or null if no active session is found
+     */
+    CapellaModelTreeSnapshot GetModelTreeSnapshot();
+
+    /**
+     * Gets the version of the models of the open sessions, it changes each time a session is added, updated or removed 
+     * and each time a command is executed, undone or redone on their models
+     * 
+     * @return the version of the models
+     */
+    long GetModelsVersion();
+
     /**
      * Gets the session corresponding to a semantic {@linkplain EObject} 
      * 
@@ -82,6 +99,39 @@ public interface ICapellaSessionService
      */
     HashMap<URI, List<CapellaElement>> GetAllCapellaElementsFromOpenSessions();
 
+    /**
+     * Sets the {@linkplain ModelTraversalMode} used to go through all the elements of the open {@linkplain Session}s
+     * 
+     * @param modelTraversalMode the {@linkplain ModelTraversalMode}
+     */
+    void SetModelTraversalMode(ModelTraversalMode modelTraversalMode);
+
+    /**
+     * Gets the {@linkplain CapellaElement}s with the provided ids from the currently open {@linkplain Session}s without going through all their elements
+     * 
+     * @param ids the {@linkplain Collection} of ids of the elements to get
+     * @return a {@linkplain HashMap} of {@linkplain URI} and a {@linkplain List} of the {@linkplain CapellaElement}s that have been found
+     */
+    HashMap<URI, List<CapellaElement>> GetCapellaElementsFromOpenSessions(Collection<String> ids);
+
+    /**
+     * Gets the hash of the content of the provided {@linkplain CapellaElement} and of its contained elements, 
+     * it only changes when one of their attributes or references changes
+     * 
+     * @param element the {@linkplain CapellaElement}
+     * @return the hash, or null if the element is null
+     */
+    String GetElementHash(CapellaElement element);
+
+    /**
+     * Gets the {@linkplain CapellaReferenceDataCatalog} of the provided {@linkplain Session}, 
+     * the catalog is built on first access and kept until the session gets updated or closed
+     * 
+     * @param session the {@linkplain Session}
+     * @return the {@linkplain CapellaReferenceDataCatalog}
+     */
+    CapellaReferenceDataCatalog GetReferenceDataCatalog(Session session);
+
     /**
      * Gets the {@linkplain Observable} of {@linkplain Session} that indicates when the emitted session gets saved
      * 
@@ -89,6 +139,13 @@ public interface ICapellaSessionService
      */
     Observable<Session> SessionUpdated();
 
+    /**
+     * Gets the {@linkplain Observable} of {@linkplain Session} that indicates when the emitted session gets closed
+     * 
+     * @return an {@linkplain Observable} of {@linkplain Session}
+     */
+    Observable<Session> SessionRemoved();
+
     /**
      * Gets the {@linkplain Project} from the {@linkplain Session} that owns the provided {@linkplain CapellaElement}
      * 
@@ -25,6 +25,7 @@ package Services.CapellaSession;
 
 import java.util.Collection;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.business.api.session.Session;
 import org.eclipse.sirius.business.api.session.SessionManagerListener;
@@ -62,4 +63,26 @@ public interface ISiriusSessionManagerWrapper
      * @param listener the new {@linkplain SessionManagerListener}
      */
     void AddListener(SessionManagerListener listener);
+
+    /**
+     * Gets the {@linkplain Session} whose session resource is located at the provided {@linkplain URI} and opens it if required
+     * 
+     * @param sessionResourceUri the {@linkplain URI} of the .aird session resource
+     * @return the open {@linkplain Session}
+     */
+    Session OpenSession(URI sessionResourceUri);
+
+    /**
+     * Saves the provided {@linkplain Session}
+     * 
+     * @param session the {@linkplain Session} to save
+     */
+    void SaveSession(Session session);
+
+    /**
+     * Closes the provided {@linkplain Session} without saving it
+     * 
+     * @param session the {@linkplain Session} to close
+     */
+    void CloseSession(Session session);
 }
@@ -0,0 +1,257 @@
+/*
+ * ModelTraversalTask.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaSession;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+/**
+ * The {@linkplain ModelTraversalTask} collects the {@linkplain Notifier}s of one {@linkplain Resource} or of one containment subtree,
+ * it forks one task per {@linkplain Resource} and per containment subtree up to {@linkplain #MAXIMUMSPLITDEPTH} and goes through the deeper subtrees serially.
+ * The tasks do not resolve any proxy, so they never load resources from the pool threads, and each element is collected by the task of its own {@linkplain Resource}.
+ * The containment proxies of the fragments that are not loaded yet are resolved on the calling thread between two rounds of traversal
+ */
+final class ModelTraversalTask extends RecursiveTask<ArrayList<Notifier>>
+{
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The depth in the containment tree of a {@linkplain Resource} below which the subtrees are not split anymore
+     */
+    static final int MAXIMUMSPLITDEPTH = 3;
+    
+    /**
+     * The {@linkplain Resource} that contains the elements to collect
+     */
+    private final transient Resource resource;
+    
+    /**
+     * The root {@linkplain EObject} of the subtree to collect, null when the task collects the whole {@linkplain #resource}
+     */
+    private final transient EObject root;
+    
+    /**
+     * The depth of the {@linkplain #root} in the containment tree of the {@linkplain #resource}
+     */
+    private final int depth;
+    
+    /**
+     * The {@linkplain Queue} that receives the containment proxies met by all the tasks of the current round
+     */
+    private final transient Queue<EObject> proxies;
+    
+    /**
+     * Initializes a new {@linkplain ModelTraversalTask}
+     * 
+     * @param resource the {@linkplain Resource} that contains the elements to collect
+     * @param root the root {@linkplain EObject} of the subtree to collect, null to collect the whole {@linkplain Resource}
+     * @param depth the depth of the root in the containment tree of the {@linkplain Resource}
+     * @param proxies the {@linkplain Queue} that receives the containment proxies
+     */
+    private ModelTraversalTask(Resource resource, EObject root, int depth, Queue<EObject> proxies)
+    {
+        this.resource = resource;
+        this.root = root;
+        this.depth = depth;
+        this.proxies = proxies;
+    }
+    
+    /**
+     * Collects all the {@linkplain Notifier}s of the {@linkplain Resource}s of the provided {@linkplain ResourceSet} on the provided {@linkplain ForkJoinPool},
+     * in the order of the {@linkplain Resource}s, each {@linkplain Resource} preceding its elements. The containment proxies met during one round are resolved 
+     * on the calling thread, which loads their fragments, and the newly loaded {@linkplain Resource}s are collected by the next round
+     * 
+     * @param pool the {@linkplain ForkJoinPool} to run the traversal on
+     * @param resourceSet the {@linkplain ResourceSet}
+     * @return an {@linkplain ArrayList} of {@linkplain Notifier}
+     */
+    static ArrayList<Notifier> Traverse(ForkJoinPool pool, ResourceSet resourceSet)
+    {
+        var elements = new ArrayList<Notifier>();
+        var traversedResources = new HashSet<Resource>();
+        var proxies = new ConcurrentLinkedQueue<EObject>();
+        var resources = new ArrayList<Resource>(resourceSet.getResources());
+        
+        while(!resources.isEmpty())
+        {
+            var tasks = new ArrayList<ModelTraversalTask>(resources.size());
+            
+            for (var resource : resources)
+            {
+                traversedResources.add(resource);
+                var task = new ModelTraversalTask(resource, null, 0, proxies);
+                pool.execute(task);
+                tasks.add(task);
+            }
+            
+            for (var task : tasks)
+            {
+                elements.addAll(task.join());
+            }
+            
+            for (var proxy = proxies.poll(); proxy != null; proxy = proxies.poll())
+            {
+                EcoreUtil.resolve(proxy, resourceSet);
+            }
+            
+            resources = new ArrayList<Resource>(resourceSet.getResources());
+            resources.removeIf(traversedResources::contains);
+        }
+        
+        return elements;
+    }
+
+    /**
+     * Collects the {@linkplain Notifier}s of this task {@linkplain Resource} or subtree
+     * 
+     * @return an {@linkplain ArrayList} of {@linkplain Notifier}
+     */
+    @Override
+    protected ArrayList<Notifier> compute()
+    {
+        var elements = new ArrayList<Notifier>();
+        List<EObject> children;
+        
+        if(this.root == null)
+        {
+            elements.add(this.resource);
+            children = this.resource.getContents();
+        }
+        else
+        {
+            elements.add(this.root);
+            children = this.GetChildren(this.root);
+        }
+        
+        if(this.depth >= MAXIMUMSPLITDEPTH)
+        {
+            for (var child : children)
+            {
+                this.CollectSubtree(child, elements);
+            }
+            
+            return elements;
+        }
+        
+        var tasks = new ArrayList<ModelTraversalTask>(children.size());
+        
+        for (var child : children)
+        {
+            tasks.add(new ModelTraversalTask(this.resource, child, this.depth + 1, this.proxies));
+        }
+        
+        for (var task : invokeAll(tasks))
+        {
+            elements.addAll(task.join());
+        }
+        
+        return elements;
+    }
+
+    /**
+     * Collects the provided {@linkplain EObject} and all the elements of its containment subtree in depth first order
+     * 
+     * @param subtreeRoot the root {@linkplain EObject} of the subtree
+     * @param elements the {@linkplain ArrayList} of {@linkplain Notifier} to fill
+     */
+    private void CollectSubtree(EObject subtreeRoot, ArrayList<Notifier> elements)
+    {
+        var stack = new ArrayDeque<EObject>();
+        stack.push(subtreeRoot);
+        
+        while(!stack.isEmpty())
+        {
+            var element = stack.pop();
+            elements.add(element);
+            var children = this.GetChildren(element);
+            
+            for (var index = children.size() - 1; index >= 0; index--)
+            {
+                stack.push(children.get(index));
+            }
+        }
+    }
+    
+    /**
+     * Gets the children of the provided {@linkplain EObject} that are contained in this task {@linkplain Resource} without resolving any proxy,
+     * the containment proxies are queued in {@linkplain #proxies} so that their fragments get loaded and collected by the next round
+     * 
+     * @param element the parent {@linkplain EObject}
+     * @return a {@linkplain List} of {@linkplain EObject}
+     */
+    @SuppressWarnings("unchecked")
+    private List<EObject> GetChildren(EObject element)
+    {
+        var contents = element.eContents();
+        
+        if(contents == null)
+        {
+            return new ArrayList<>();
+        }
+        
+        var children = new ArrayList<EObject>(contents.size());
+        
+        Iterator<EObject> iterator = contents instanceof InternalEList 
+                ? ((InternalEList<EObject>)contents).basicIterator() 
+                : contents.iterator();
+        
+        while(iterator.hasNext())
+        {
+            var child = iterator.next();
+            
+            if(child == null)
+            {
+                continue;
+            }
+            
+            if(child.eIsProxy())
+            {
+                this.proxies.add(child);
+            }
+            else if(child.eResource() == element.eResource())
+            {
+                children.add(child);
+            }
+        }
+        
+        return children;
+    }
+}
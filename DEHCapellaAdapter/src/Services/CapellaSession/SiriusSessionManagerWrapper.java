@@ -27,6 +27,8 @@ import java.util.Collection;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.business.api.session.Session;
 import org.eclipse.sirius.business.api.session.SessionManager;
@@ -107,4 +109,47 @@ public class SiriusSessionManagerWrapper implements ISiriusSessionManagerWrapper
         }
     }
     
+    /**
+     * Gets the {@linkplain Session} whose session resource is located at the provided {@linkplain URI} and opens it if required
+     * 
+     * @param sessionResourceUri the {@linkplain URI} of the .aird session resource
+     * @return the open {@linkplain Session}
+     */
+    @Override
+    public Session OpenSession(URI sessionResourceUri)
+    {
+        var session = this.GetManager().getSession(sessionResourceUri, new NullProgressMonitor());
+        
+        if(!session.isOpen())
+        {
+            session.open(new NullProgressMonitor());
+        }
+        
+        return session;
+    }
+    
+    /**
+     * Saves the provided {@linkplain Session}
+     * 
+     * @param session the {@linkplain Session} to save
+     */
+    @Override
+    public void SaveSession(Session session)
+    {
+        session.save(new NullProgressMonitor());
+    }
+    
+    /**
+     * Closes the provided {@linkplain Session} without saving it
+     * 
+     * @param session the {@linkplain Session} to close
+     */
+    @Override
+    public void CloseSession(Session session)
+    {
+        if(session.isOpen())
+        {
+            session.close(new NullProgressMonitor());
+        }
+    }
 }
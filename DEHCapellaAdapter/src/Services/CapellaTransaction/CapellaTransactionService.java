@@ -23,23 +23,34 @@
  */
 package Services.CapellaTransaction;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EFactory;
 import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.common.ef.command.AbstractReadWriteCommand;
 import org.polarsys.capella.common.helpers.TransactionHelper;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.EnumerationPropertyType;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
+import org.polarsys.capella.core.data.cs.Part;
 import org.polarsys.capella.core.data.information.DataPkg;
 import org.polarsys.capella.core.data.information.Unit;
 import org.polarsys.capella.core.data.information.datatype.DataType;
@@ -49,7 +60,7 @@ import org.polarsys.capella.core.model.helpers.BlockArchitectureExt.Type;
 import Enumerations.CapellaArchitecture;
 import Services.CapellaSession.ICapellaSessionService;
 import Utils.Ref;
-import Utils.Stereotypes.StereotypeUtils;
+import Utils.Stereotypes.CapellaTypeRegistry;
 
 /**
  * The CapellaTransactionService is a service that takes care of clones and transactions in Capella
@@ -72,6 +83,23 @@ public class CapellaTransactionService implements ICapellaTransactionService
      */
     private HashMap<String, ClonedReferenceElement<? extends CapellaElement>> cloneReferences = new HashMap<>();
     
+    /**
+     * Holds the same {@linkplain ClonedReferenceElement} as {@linkplain #cloneReferences} in one bucket per {@linkplain Class} of the original element, 
+     * which maps one to one to its {@linkplain EClass}, so that {@linkplain #GetClones(Class)} only checks each type once
+     */
+    private HashMap<Class<?>, HashMap<String, ClonedReferenceElement<? extends CapellaElement>>> cloneReferencesByType = new HashMap<>();
+    
+    /**
+     * Holds the number of mapped rows that depend on each clone or new element by id, see {@linkplain #Retain(CapellaElement)} and {@linkplain #Release(Collection, Collection)}
+     */
+    private HashMap<String, Integer> referenceCounts = new HashMap<>();
+    
+    /**
+     * Holds the clones and new elements each retained mapped row depends on, one entry per {@linkplain #Retain(CapellaElement)} call, 
+     * by id of the element the mapped row references
+     */
+    private HashMap<String, ArrayDeque<List<CapellaElement>>> retainedDependencies = new HashMap<>();
+    
     /**
      * Holds the newly created {@linkplain CapellaElement} for future reference such as in {@linkplain #IsClonedOrNew(EObject)}, {@linkplain #GetNew(String, Class)}
      */
@@ -103,9 +131,43 @@ public class CapellaTransactionService implements ICapellaTransactionService
     @Override
     public <TElement extends CapellaElement> Collection<ClonedReferenceElement<? extends CapellaElement>> GetClones(Class<TElement> clazz)
     {
-        return Collections.unmodifiableCollection(cloneReferences.values().stream()
-                .filter(x -> clazz.isAssignableFrom(x.GetOriginal().getClass()))
-                .collect(Collectors.toList()));
+        var clones = new ArrayList<ClonedReferenceElement<? extends CapellaElement>>();
+        
+        for (var bucket : this.cloneReferencesByType.entrySet())
+        {
+            if(clazz.isAssignableFrom(bucket.getKey()))
+            {
+                clones.addAll(bucket.getValue().values());
+            }
+        }
+        
+        return Collections.unmodifiableCollection(clones);
+    }
+    
+    /**
+     * Gets the number of clones and their estimated size in bytes per type of cloned element, the largest first
+     * 
+     * @return a {@linkplain List} of {@linkplain CloneUsage}
+     */
+    @Override
+    public List<CloneUsage> GetCloneUsages()
+    {
+        var usages = new ArrayList<CloneUsage>();
+        
+        for (var bucket : this.cloneReferencesByType.entrySet())
+        {
+            var estimatedBytes = 0L;
+            
+            for (var clonedReference : bucket.getValue().values())
+            {
+                estimatedBytes += CloneUsage.Estimate(clonedReference.GetClone());
+            }
+            
+            usages.add(new CloneUsage(bucket.getKey().getSimpleName(), bucket.getValue().size(), estimatedBytes));
+        }
+        
+        usages.sort(Comparator.comparingLong(CloneUsage::GetEstimatedBytes).reversed());
+        return usages;
     }
     
     /**
@@ -170,10 +232,234 @@ public class CapellaTransactionService implements ICapellaTransactionService
         {
             var clonedReference = new ClonedReferenceElement<TElement>(original);
             this.cloneReferences.put(original.getId(), clonedReference);
+            this.cloneReferencesByType.computeIfAbsent(original.getClass(), x -> new HashMap<>()).put(original.getId(), clonedReference);
             return clonedReference.GetClone();
         }
     }
     
+    /**
+     * Registers one more mapped row that references the provided element, the clones and new elements it depends on are recorded, 
+     * such as the element itself, its containers, the parts that it types and its ports, so that they get released together
+     * 
+     * @param element the {@linkplain CapellaElement} referenced by the mapped row
+     */
+    @Override
+    public void Retain(CapellaElement element)
+    {
+        if(element == null)
+        {
+            return;
+        }
+        
+        var dependencies = this.GetDependencies(element);
+        
+        if(dependencies.isEmpty())
+        {
+            return;
+        }
+        
+        for (var dependency : dependencies)
+        {
+            this.referenceCounts.merge(dependency.getId(), 1, Integer::sum);
+        }
+        
+        this.retainedDependencies.computeIfAbsent(element.getId(), x -> new ArrayDeque<>()).push(dependencies);
+    }
+    
+    /**
+     * Unregisters one mapped row that referenced the provided element, see {@linkplain #Release(Collection, Collection)}
+     * 
+     * @param element the {@linkplain CapellaElement} that was referenced by the mapped row
+     */
+    @Override
+    public void Release(CapellaElement element)
+    {
+        this.Release(Arrays.asList(element), Collections.emptyList());
+    }
+    
+    /**
+     * Unregisters the mapped rows that referenced the provided released elements, the clones and new elements that no mapped row depends on anymore 
+     * are released together with their registered target {@linkplain CapellaArchitecture}. The ones the kept elements depend on are not released, 
+     * so that the mapped rows replacing the released ones can retain them afterwards, and a container is never released while another clone or new element it contains is kept.
+     * Clones and new elements that were never retained are kept until {@linkplain #Reset()}
+     * 
+     * @param releasedElements the {@linkplain Collection} of {@linkplain CapellaElement} that were referenced by the dropped mapped rows
+     * @param keptElements the {@linkplain Collection} of {@linkplain CapellaElement} referenced by the mapped rows that replace the dropped ones
+     */
+    @Override
+    public void Release(Collection<? extends CapellaElement> releasedElements, Collection<? extends CapellaElement> keptElements)
+    {
+        var keptDependencies = new HashSet<CapellaElement>();
+        
+        for (var keptElement : keptElements)
+        {
+            if(keptElement != null)
+            {
+                keptDependencies.addAll(this.GetDependencies(keptElement));
+            }
+        }
+        
+        var unreferencedElements = new LinkedHashSet<CapellaElement>();
+        
+        for (var releasedElement : releasedElements)
+        {
+            var dependenciesStack = releasedElement == null ? null : this.retainedDependencies.get(releasedElement.getId());
+            
+            if(dependenciesStack == null)
+            {
+                continue;
+            }
+            
+            var dependencies = dependenciesStack.pop();
+            
+            if(dependenciesStack.isEmpty())
+            {
+                this.retainedDependencies.remove(releasedElement.getId());
+            }
+            
+            for (var dependency : dependencies)
+            {
+                if(this.referenceCounts.merge(dependency.getId(), -1, Integer::sum) > 0)
+                {
+                    continue;
+                }
+                
+                this.referenceCounts.remove(dependency.getId());
+                
+                if(!keptDependencies.contains(dependency))
+                {
+                    unreferencedElements.add(dependency);
+                }
+            }
+        }
+        
+        if(unreferencedElements.isEmpty())
+        {
+            return;
+        }
+        
+        var keptContainers = this.GetKeptContainers(unreferencedElements);
+        
+        for (var unreferencedElement : unreferencedElements)
+        {
+            if(!keptContainers.contains(unreferencedElement))
+            {
+                this.Drop(unreferencedElement);
+            }
+        }
+    }
+    
+    /**
+     * Gets the clones and new elements a mapped row that references the provided {@linkplain CapellaElement} depends on: 
+     * the element itself, its containers, the parts contained by its container that it types, and its contained elements such as its ports
+     * 
+     * @param element the {@linkplain CapellaElement}
+     * @return a {@linkplain List} of {@linkplain CapellaElement}
+     */
+    private List<CapellaElement> GetDependencies(CapellaElement element)
+    {
+        var dependencies = new ArrayList<CapellaElement>();
+        this.AddIfClonedOrNew(element, dependencies);
+        
+        for (var container = element.eContainer(); container != null; container = container.eContainer())
+        {
+            this.AddIfClonedOrNew(container, dependencies);
+        }
+        
+        if(element.eContainer() != null)
+        {
+            for (var sibling : element.eContainer().eContents())
+            {
+                if(sibling instanceof Part && ((Part)sibling).getAbstractType() == element)
+                {
+                    this.AddIfClonedOrNew(sibling, dependencies);
+                }
+            }
+        }
+        
+        for (var contents = element.eAllContents(); contents.hasNext();)
+        {
+            this.AddIfClonedOrNew(contents.next(), dependencies);
+        }
+        
+        return dependencies;
+    }
+    
+    /**
+     * Adds the provided {@linkplain EObject} to the provided {@linkplain List} if it is a clone or a new element
+     * 
+     * @param element the {@linkplain EObject}
+     * @param dependencies the {@linkplain List} of {@linkplain CapellaElement}
+     */
+    private void AddIfClonedOrNew(EObject element, List<CapellaElement> dependencies)
+    {
+        if(this.IsClonedOrNew(element))
+        {
+            dependencies.add((CapellaElement)element);
+        }
+    }
+    
+    /**
+     * Gets the containers of the clones and new elements that are not about to be released, each kept element containment chain is only gone through once
+     * 
+     * @param releasedElements the {@linkplain Collection} of {@linkplain CapellaElement} about to be released
+     * @return a {@linkplain Set} of the {@linkplain EObject}s that contain a kept clone or new element
+     */
+    private Set<EObject> GetKeptContainers(Collection<CapellaElement> releasedElements)
+    {
+        var elements = new ArrayList<CapellaElement>(this.newReferences.values());
+        this.cloneReferences.values().forEach(x -> elements.add(x.GetClone()));
+        
+        var keptContainers = new HashSet<EObject>();
+        
+        for (var element : elements)
+        {
+            if(releasedElements.contains(element))
+            {
+                continue;
+            }
+            
+            var parent = element.eContainer();
+            
+            while(parent != null && keptContainers.add(parent))
+            {
+                parent = parent.eContainer();
+            }
+        }
+        
+        return keptContainers;
+    }
+    
+    /**
+     * Drops the provided clone or new element and its registered target {@linkplain CapellaArchitecture}
+     * 
+     * @param element the {@linkplain CapellaElement} to drop
+     */
+    private void Drop(CapellaElement element)
+    {
+        if(this.IsCloned(element))
+        {
+            var clonedReference = this.cloneReferences.remove(element.getId());
+            var bucket = this.cloneReferencesByType.get(clonedReference.GetOriginal().getClass());
+            
+            if(bucket != null)
+            {
+                bucket.remove(element.getId());
+                
+                if(bucket.isEmpty())
+                {
+                    this.cloneReferencesByType.remove(clonedReference.GetOriginal().getClass());
+                }
+            }
+        }
+        else if(this.newReferences.get(element.getId()) == element)
+        {
+            this.newReferences.remove(element.getId());
+        }
+        
+        this.registeredTargetArchitecture.remove(element.getId());
+    }
+    
     /**
      * Verifies that the provided {@linkplain #TElement} is a clone
      * 
@@ -290,18 +576,76 @@ public class CapellaTransactionService implements ICapellaTransactionService
     @Override
     public <TInstance extends CapellaElement> TInstance Create(Class<TInstance> clazz)
     {
-        var eClassAndFactory = StereotypeUtils.GetEClassAndFactory(clazz.getSimpleName());
+        var eClassAndFactory = CapellaTypeRegistry.GetEClassAndFactory(clazz);
         
-        if (eClassAndFactory.getLeft() != null && eClassAndFactory.getRight() != null && eClassAndFactory.getLeft() instanceof EClass) 
+        if (eClassAndFactory != null) 
         {
-            var reference = clazz.cast(eClassAndFactory.getRight().create((EClass)eClassAndFactory.getLeft()));
-            this.newReferences.put(reference.getId(), reference);
-            return reference;
+            return this.Create(clazz, eClassAndFactory);
         }
         
         this.Logger.error(String.format("Could not initialize the tpe [%s]", clazz.getSimpleName()));
         return null;
-    }    
+    }
+    
+    /**
+     * Initializes one new {@linkplain NamedElement} from the specified {@linkplain #Class} per provided name and adds them to the provided containment {@linkplain EList},
+     * the {@linkplain EClass} and {@linkplain EFactory} are resolved once and the containment {@linkplain EList} is sized once for all the new elements
+     * 
+     * @param <TInstance> the {@linkplain Type} of {@linkplain CapellaElement}
+     * @param clazz the {@linkplain Class} of {@linkplain #TInstance}
+     * @param names the {@linkplain Collection} of names of the new elements
+     * @param containment the containment {@linkplain EList} that receives the new elements
+     * @return an {@linkplain ArrayList} of the new elements
+     */
+    @Override
+    public <TInstance extends NamedElement> ArrayList<TInstance> Create(Class<TInstance> clazz, Collection<String> names, EList<? super TInstance> containment)
+    {
+        var newElements = new ArrayList<TInstance>(names.size());
+        
+        if(names.isEmpty())
+        {
+            return newElements;
+        }
+        
+        var eClassAndFactory = CapellaTypeRegistry.GetEClassAndFactory(clazz);
+        
+        if (eClassAndFactory == null) 
+        {
+            this.Logger.error(String.format("Could not initialize the tpe [%s]", clazz.getSimpleName()));
+            return newElements;
+        }
+        
+        if(containment instanceof BasicEList)
+        {
+            ((BasicEList<?>)containment).grow(containment.size() + names.size());
+        }
+        
+        for (var name : names)
+        {
+            var newElement = this.Create(clazz, eClassAndFactory);
+            newElement.setName(name);
+            containment.add(newElement);
+            newElements.add(newElement);
+        }
+        
+        return newElements;
+    }
+    
+    /**
+     * Initializes a new {@linkplain CapellaElement} from the specified {@linkplain #Class} through the provided {@linkplain EFactory}
+     * and registers it as a new reference
+     * 
+     * @param <TInstance> the {@linkplain Type} of {@linkplain CapellaElement}
+     * @param clazz the {@linkplain Class} of {@linkplain #TInstance}
+     * @param eClassAndFactory the {@linkplain Pair} of {@linkplain EClass} and {@linkplain EFactory} of the provided {@linkplain Class}
+     * @return an instance of the provided type
+     */
+    private <TInstance extends CapellaElement> TInstance Create(Class<TInstance> clazz, Pair<EClass, EFactory> eClassAndFactory)
+    {
+        var reference = clazz.cast(eClassAndFactory.getRight().create(eClassAndFactory.getLeft()));
+        this.newReferences.put(reference.getId(), reference);
+        return reference;
+    }
 
     /**
      * Gets the registered target {@linkplain CapellaArchitecture} for the specified {@linkplain CapellaElement}
@@ -334,6 +678,9 @@ public class CapellaTransactionService implements ICapellaTransactionService
     public void Reset()
     {
         this.cloneReferences.clear();
+        this.cloneReferencesByType.clear();
+        this.referenceCounts.clear();
+        this.retainedDependencies.clear();
         this.newReferences.clear();
         this.registeredTargetArchitecture.clear();
     }
@@ -380,7 +727,8 @@ public class CapellaTransactionService implements ICapellaTransactionService
      */
     private <TElement extends NamedElement> void AddReferenceDataToDataPackage(Function<DataPkg, EList<TElement>> getDataPackageElementCollectionFunction, TElement newElement)
     {
-        var project = this.sessionService.GetProject(this.sessionService.GetCurrentSession());
+        var session = this.sessionService.GetCurrentSession();
+        var project = this.sessionService.GetProject(session);
         
         TransactionHelper.getExecutionManager(project).execute(new AbstractReadWriteCommand()
         {
@@ -0,0 +1,136 @@
+/*
+ * CloneUsage.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaTransaction;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * The {@linkplain CloneUsage} is an immutable view of the clones of one type the {@linkplain ICapellaTransactionService} holds at the time it was taken.
+ * The size is an estimate based on the number of copied objects and of their structural features, it does not account for the referenced values
+ */
+public final class CloneUsage
+{
+    /**
+     * The estimated size in bytes of the header of one copied object
+     */
+    private static final long ESTIMATEDOBJECTHEADERBYTES = 16;
+    
+    /**
+     * The estimated size in bytes of one structural feature of a copied object
+     */
+    private static final long ESTIMATEDFEATUREBYTES = 8;
+    
+    /**
+     * The name of the type of the cloned elements
+     */
+    private final String type;
+
+    /**
+     * The number of clones
+     */
+    private final int count;
+
+    /**
+     * The estimated size in bytes of all the clones including their contained elements
+     */
+    private final long estimatedBytes;
+
+    /**
+     * Initializes a new {@linkplain CloneUsage}
+     * 
+     * @param type the name of the type of the cloned elements
+     * @param count the number of clones
+     * @param estimatedBytes the estimated size in bytes of all the clones including their contained elements
+     */
+    CloneUsage(String type, int count, long estimatedBytes)
+    {
+        this.type = type;
+        this.count = count;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Gets the name of the type of the cloned elements
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Gets the number of clones
+     * 
+     * @return an int
+     */
+    public int GetCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Gets the estimated size in bytes of all the clones including their contained elements
+     * 
+     * @return a long
+     */
+    public long GetEstimatedBytes()
+    {
+        return this.estimatedBytes;
+    }
+    
+    /**
+     * Estimates the size in bytes of the provided clone and of all its contained elements
+     * 
+     * @param clone the cloned {@linkplain EObject}
+     * @return the estimated size in bytes
+     */
+    static long Estimate(EObject clone)
+    {
+        if(clone == null)
+        {
+            return 0;
+        }
+        
+        var estimatedBytes = Estimate(clone.eClass().getFeatureCount());
+        
+        for (var iterator = clone.eAllContents(); iterator.hasNext();)
+        {
+            estimatedBytes += Estimate(iterator.next().eClass().getFeatureCount());
+        }
+        
+        return estimatedBytes;
+    }
+    
+    /**
+     * Estimates the size in bytes of one object that has the provided number of structural features
+     * 
+     * @param featureCount the number of structural features
+     * @return the estimated size in bytes
+     */
+    private static long Estimate(int featureCount)
+    {
+        return ESTIMATEDOBJECTHEADERBYTES + ESTIMATEDFEATUREBYTES * featureCount;
+    }
+}
@@ -23,9 +23,12 @@
  */
 package Services.CapellaTransaction;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.EnumerationPropertyType;
@@ -73,6 +76,38 @@ public interface ICapellaTransactionService
      */
     <TElement extends CapellaElement> Collection<ClonedReferenceElement<? extends CapellaElement>> GetClones(Class<TElement> clazz);
 
+    /**
+     * Gets the number of clones and their estimated size in bytes per type of cloned element, the largest first
+     * 
+     * @return a {@linkplain List} of {@linkplain CloneUsage}
+     */
+    List<CloneUsage> GetCloneUsages();
+
+    /**
+     * Registers one more mapped row that references the provided element and records the clones and new elements it depends on, 
+     * such as the element itself, its containers, the parts that it types and its ports
+     * 
+     * @param element the {@linkplain CapellaElement} referenced by the mapped row
+     */
+    void Retain(CapellaElement element);
+
+    /**
+     * Unregisters one mapped row that referenced the provided element, 
+     * the clones and new elements that no mapped row depends on anymore are released
+     * 
+     * @param element the {@linkplain CapellaElement} that was referenced by the mapped row
+     */
+    void Release(CapellaElement element);
+
+    /**
+     * Unregisters the mapped rows that referenced the provided released elements, the clones and new elements that no mapped row depends on anymore are released,
+     * except the ones the kept elements depend on and the containers of the clones and new elements that are kept
+     * 
+     * @param releasedElements the {@linkplain Collection} of {@linkplain CapellaElement} that were referenced by the dropped mapped rows
+     * @param keptElements the {@linkplain Collection} of {@linkplain CapellaElement} referenced by the mapped rows that replace the dropped ones
+     */
+    void Release(Collection<? extends CapellaElement> releasedElements, Collection<? extends CapellaElement> keptElements);
+
     /**
      * Gets a read only {@linkplain Collection} of the clones reference
      * 
@@ -151,6 +186,17 @@ public interface ICapellaTransactionService
      */
     <TInstance extends CapellaElement> TInstance Create(Class<TInstance> clazz);
 
+    /**
+     * Initializes one new {@linkplain NamedElement} from the specified {@linkplain #Class} per provided name and adds them to the provided containment {@linkplain EList}
+     * 
+     * @param <TInstance> the {@linkplain Type} of {@linkplain CapellaElement}
+     * @param clazz the {@linkplain Class} of {@linkplain #TInstance}
+     * @param names the {@linkplain Collection} of names of the new elements
+     * @param containment the containment {@linkplain EList} that receives the new elements
+     * @return an {@linkplain ArrayList} of the new elements
+     */
+    <TInstance extends NamedElement> ArrayList<TInstance> Create(Class<TInstance> clazz, Collection<String> names, EList<? super TInstance> containment);
+
     /**
      * Gets the {@linkplain CapellaElement} where the element id == the provided id
      * 
@@ -29,7 +29,8 @@ package Services.Diagram;
 public interface IPhysicalArchitectureDiagramGenerator
 {
     /**
-     * Generates or regenerates the Physical Architecture Diagram 
+     * Generates or regenerates the Physical Architecture Diagram, 
+     * only adding and removing the containers of the parts and deployment links that changed since the last generation
      */
     void Generate();
 }
@@ -23,7 +23,15 @@
  */
 package Services.Diagram;
 
+import static Utils.Operators.Operators.AreTheseEquals;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,6 +46,7 @@ import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
 
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.business.api.modelingproject.ModelingProject;
 import org.eclipse.sirius.business.api.query.DRepresentationQuery;
@@ -46,9 +55,11 @@ import org.eclipse.sirius.diagram.DDiagram;
 import org.eclipse.sirius.diagram.DDiagramElement;
 import org.eclipse.sirius.diagram.DNode;
 import org.eclipse.sirius.diagram.DNodeContainer;
+import org.eclipse.sirius.diagram.DragAndDropTarget;
 import org.eclipse.sirius.diagram.business.api.query.DDiagramElementQuery;
 import org.eclipse.sirius.diagram.business.api.query.DNodeQuery;
 import org.eclipse.sirius.diagram.business.api.query.NodeStyleQuery;
+import org.eclipse.sirius.diagram.description.ContainerMapping;
 import org.eclipse.sirius.diagram.description.DescriptionPackage;
 import org.eclipse.sirius.diagram.description.Layer;
 import org.eclipse.sirius.diagram.description.Layout;
@@ -58,6 +69,7 @@ import org.eclipse.sirius.viewpoint.DRepresentationElement;
 import org.eclipse.sirius.viewpoint.description.RepresentationDescription;
 import org.eclipse.sirius.viewpoint.description.Viewpoint;
 import org.eclipse.ui.internal.misc.UIStats;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
 import org.polarsys.capella.core.data.capellamodeller.Project;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.DeployableElement;
@@ -115,7 +127,8 @@ public class PhysicalArchitectureDiagramGenerator implements IPhysicalArchitectu
     }
     
     /**
-     * Generates or regenerates the Physical Architecture Diagram 
+     * Generates or regenerates the Physical Architecture Diagram, 
+     * only adding and removing the containers of the parts and deployment links that changed since the last generation
      */
     @Override
     public void Generate()
@@ -134,58 +147,178 @@ public class PhysicalArchitectureDiagramGenerator implements IPhysicalArchitectu
         
         this.transactionService.Commit(() -> 
         {
-            var diagram = (DDiagram)descriptor.getRepresentation();
-            var diagramServices = new DiagramServices();
-            
-            for (var element : diagram.getNodes())
-            {
-                diagramServices.removeAbstractDNodeView(element);
-            }
-            
+            var synchronization = new DiagramSynchronization((DDiagram)descriptor.getRepresentation());
             var component = this.sessionService.GetTopElement();
             
-            var mapping = diagramServices.getContainerMapping(diagram, "PAB_PC");
-            
-            if(mapping != null )
+            if(synchronization.componentMapping != null)
             {
-                var container = diagramServices.createContainer(mapping, component, diagram, diagram);
-                container.setName(component.getName());
-                container.setTarget(component);
+                var diagram = synchronization.diagram;
+                
+                var container = this.SynchronizeContainers(synchronization, diagram, diagram.getOwnedDiagramElements(), 
+                        Arrays.asList(component), synchronization.componentMapping).get(component);
                 
-                for(var part : component.getContainedParts())
+                var partContainers = this.SynchronizeContainers(synchronization, container, container.getOwnedDiagramElements(), 
+                        component.getContainedParts(), synchronization.componentMapping);
+                
+                for (var partContainer : partContainers.entrySet())
                 {
-                    var partContainer = diagramServices.createContainer(mapping, part, container, diagram);
-                    partContainer.setName(part.getName());
-                    partContainer.setTarget(part);
-                    this.GoThroughParts(part, partContainer, diagram, diagramServices);
+                    this.GoThroughParts((Part)partContainer.getKey(), partContainer.getValue(), synchronization);
                 }
             }
             
-            this.capellaLog.Append("Diagram [%s] updated", descriptor.getName());
+            this.capellaLog.Append("Diagram [%s] updated, %s node(s) added and %s node(s) removed", descriptor.getName(), 
+                    synchronization.addedNodeCount, synchronization.removedNodeCount);
         });
     }
 
     /**
-     * Iterates through the parts of a deploy-able element, adding them to a container on a diagram.
+     * Iterates through the parts of a deploy-able element, synchronizing the containers of its deployed parts on a diagram.
      *
      * @param deployableElement The deploy-able element to iterate through.
-     * @param container         The container to add the parts to.
-     * @param diagram           The diagram where the container resides.
-     * @param diagramServices   The services for interacting with the diagram.
+     * @param container         The container that holds the deployed parts.
+     * @param synchronization   The {@linkplain DiagramSynchronization} of the current run.
+     */
+    private void GoThroughParts(Part deployableElement, DNodeContainer container, DiagramSynchronization synchronization)
+    {
+        if(synchronization.deploymentMapping == null)
+        {
+            return;
+        }
+        
+        var deployedParts = deployableElement.getOwnedDeploymentLinks().stream()
+                .map(x -> x.getDeployedElement())
+                .filter(x -> x instanceof Part)
+                .map(x -> (Part)x)
+                .distinct()
+                .collect(Collectors.toList());
+        
+        var deployedPartContainers = this.SynchronizeContainers(synchronization, container, container.getOwnedDiagramElements(), 
+                deployedParts, synchronization.deploymentMapping);
+        
+        for (var deployedPartContainer : deployedPartContainers.entrySet())
+        {
+            this.GoThroughParts((Part)deployedPartContainer.getKey(), deployedPartContainer.getValue(), synchronization);
+        }
+    }
+
+    /**
+     * Synchronizes the containers owned by the provided view with the provided targets. 
+     * The existing containers are matched by target and kept with their layout, the missing ones are created
+     * and the ones displaying targets that are no longer expected are removed.
+     * Elements that have not been created with the generator mappings are left untouched.
+     *
+     * @param synchronization The {@linkplain DiagramSynchronization} of the current run.
+     * @param view            The view that owns the containers.
+     * @param ownedElements   The {@linkplain DDiagramElement}s owned by the view.
+     * @param targets         The elements that should be displayed in the view.
+     * @param mapping         The {@linkplain ContainerMapping} of the containers.
+     * @return a {@linkplain Map} of the {@linkplain DNodeContainer}s by target, in the order of the targets
      */
-    private void GoThroughParts(Part deployableElement, DNodeContainer container, DDiagram diagram, DiagramServices diagramServices)
+    private Map<NamedElement, DNodeContainer> SynchronizeContainers(DiagramSynchronization synchronization, DragAndDropTarget view, 
+            EList<DDiagramElement> ownedElements, List<? extends NamedElement> targets, ContainerMapping mapping)
     {
-        for (var links : deployableElement.getOwnedDeploymentLinks())
+        var expectedTargets = new HashSet<EObject>(targets);
+        var existingContainers = new HashMap<EObject, DNodeContainer>();
+        
+        for (var element : new ArrayList<>(ownedElements))
+        {
+            if(!(element instanceof DNodeContainer) || !synchronization.IsGenerated(((DNodeContainer)element).getActualMapping()))
+            {
+                continue;
+            }
+            
+            var nodeContainer = (DNodeContainer)element;
+            
+            if(nodeContainer.getActualMapping() == mapping && expectedTargets.contains(nodeContainer.getTarget())
+                    && existingContainers.putIfAbsent(nodeContainer.getTarget(), nodeContainer) == null)
+            {
+                continue;
+            }
+            
+            synchronization.diagramServices.removeAbstractDNodeView(nodeContainer);
+            synchronization.removedNodeCount++;
+        }
+        
+        var containers = new LinkedHashMap<NamedElement, DNodeContainer>();
+        
+        for (var target : targets)
         {
-            var mapping = diagramServices.getContainerMapping(diagram, "PAB_Deployment");
+            var container = existingContainers.get(target);
+            
+            if(container == null)
+            {
+                container = synchronization.diagramServices.createContainer(mapping, target, view, synchronization.diagram);
+                container.setTarget(target);
+                synchronization.addedNodeCount++;
+            }
             
-            if(mapping != null && links.getDeployedElement() instanceof Part)
+            if(!AreTheseEquals(container.getName(), target.getName()))
             {
-                var node = diagramServices.createContainer(mapping, links.getDeployedElement(), container, diagram);
-                node.setName(links.getDeployedElement().getName());
-                node.setTarget(links.getDeployedElement());
-                this.GoThroughParts((Part)links.getDeployedElement(), node, diagram, diagramServices);
-            }            
+                container.setName(target.getName());
+            }
+            
+            containers.put(target, container);
+        }
+        
+        return containers;
+    }
+
+    /**
+     * The {@linkplain DiagramSynchronization} holds what is resolved once per diagram generation run
+     */
+    private static final class DiagramSynchronization
+    {
+        /**
+         * The {@linkplain DDiagram} being synchronized
+         */
+        final DDiagram diagram;
+
+        /**
+         * The {@linkplain DiagramServices}
+         */
+        final DiagramServices diagramServices = new DiagramServices();
+
+        /**
+         * The {@linkplain ContainerMapping} of the components and parts
+         */
+        final ContainerMapping componentMapping;
+
+        /**
+         * The {@linkplain ContainerMapping} of the deployed parts
+         */
+        final ContainerMapping deploymentMapping;
+
+        /**
+         * The number of nodes that have been added
+         */
+        int addedNodeCount;
+
+        /**
+         * The number of nodes that have been removed
+         */
+        int removedNodeCount;
+
+        /**
+         * Initializes a new {@linkplain DiagramSynchronization} resolving the container mappings of the provided {@linkplain DDiagram}
+         * 
+         * @param diagram the {@linkplain DDiagram}
+         */
+        DiagramSynchronization(DDiagram diagram)
+        {
+            this.diagram = diagram;
+            this.componentMapping = this.diagramServices.getContainerMapping(diagram, "PAB_PC");
+            this.deploymentMapping = this.diagramServices.getContainerMapping(diagram, "PAB_Deployment");
+        }
+
+        /**
+         * Gets a value indicating whether the provided {@linkplain ContainerMapping} is one the generator creates containers with
+         * 
+         * @param mapping the {@linkplain ContainerMapping}
+         * @return a {@linkplain boolean}
+         */
+        boolean IsGenerated(ContainerMapping mapping)
+        {
+            return mapping != null && (mapping == this.componentMapping || mapping == this.deploymentMapping);
         }
     }
 }
@@ -27,11 +27,9 @@ import static Utils.Operators.Operators.AreTheseEquals;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.time.StopWatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.ui.ISelectionService;
@@ -42,6 +40,7 @@ import HubController.IHubController;
 import Services.CapellaLog.ICapellaLogService;
 import Services.CapellaSelection.ICapellaSelectionService;
 import Services.CapellaSession.ICapellaSessionService;
+import Services.Metrics.IMetricsService;
 import Services.NavigationService.INavigationService;
 import Utils.Ref;
 import Utils.Stereotypes.CapellaComponentCollection;
@@ -129,6 +128,11 @@ public class MapCommandService implements IMapCommandService
      */
     private final IHubToDstMappingConfigurationDialogViewModel hubMappingDialogViewModel;
     
+    /**
+     * The {@linkplain IMetricsService} instance
+     */
+    private final IMetricsService metricsService;
+    
     /**
      * Backing field for {@linkplain CanExecuteObservable}
      */
@@ -147,12 +151,13 @@ public class MapCommandService implements IMapCommandService
      * @param elementDefinitionBrowserViewModel the {@linkplain IElementDefinitionBrowserViewModel} instance
      * @param requirementBrowserViewModel the {@linkplain IRequirementBrowserViewModel} instance
      * @param hubMappingDialog the {@linkplain IHubToDstMappingConfigurationDialogViewModel} instance
+     * @param metricsService the {@linkplain IMetricsService} instance
      */
     public MapCommandService(ICapellaSelectionService selectionService, IDstController dstController,
             INavigationService navigationService, IDstToHubMappingConfigurationDialogViewModel dstMappingDialog,
             ICapellaLogService logService, IHubController hubController, ICapellaSessionService sessionService,
             IElementDefinitionBrowserViewModel elementDefinitionBrowserViewModel, IRequirementBrowserViewModel requirementBrowserViewModel,
-            IHubToDstMappingConfigurationDialogViewModel hubMappingDialog)
+            IHubToDstMappingConfigurationDialogViewModel hubMappingDialog, IMetricsService metricsService)
     {
         this.selectionService = selectionService;
         this.dstController = dstController;
@@ -164,6 +169,7 @@ public class MapCommandService implements IMapCommandService
         this.elementDefinitionBrowserViewModel = elementDefinitionBrowserViewModel;
         this.requirementBrowserViewModel = requirementBrowserViewModel;
         this.hubMappingDialogViewModel = hubMappingDialog;
+        this.metricsService = metricsService;
     }
     
     /**
@@ -409,23 +415,21 @@ public class MapCommandService implements IMapCommandService
                 .filter(m -> m.GetIsValid())
                 .collect(Collectors.toList());
                     
-        StopWatch timer = StopWatch.createStarted();
+        this.metricsService.RecordValue(String.format("MapCommand.%s.Elements", mappingDirection), validMappedElements.size());
+        var timer = this.metricsService.StartTimer(String.format("MapCommand.%s", mappingDirection));
         
         Task.Run(() -> this.MapSelectedElements(validMappedElements, mappingDirection), boolean.class)
             .Observable()
             .subscribe(t -> 
             {
-                if(timer.isStarted())
-                {
-                    timer.stop();
-                }
+                timer.close();
                    
                 if(t.GetStatus() == TaskStatus.Faulted)
                 {
                     this.logger.catching(t.GetException());
                 }
                 
-                this.logService.Append(String.format("Mapping action is done in %s ms", timer.getTime(TimeUnit.MILLISECONDS)), t.GetResult() == null ? false : t.GetResult().booleanValue());
+                this.logService.Append(String.format("Mapping action is done in %s ms", timer.GetElapsedMilliseconds()), t.GetResult() == null ? false : t.GetResult().booleanValue());
 
             }, t -> this.logger.catching(t));
     }
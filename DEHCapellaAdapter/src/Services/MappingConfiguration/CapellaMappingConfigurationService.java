@@ -29,13 +29,17 @@ import static Utils.Stereotypes.StereotypeUtils.GetChildren;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.MutableTriple;
+import org.eclipse.emf.common.util.URI;
 import org.polarsys.capella.common.data.modellingcore.AbstractNamedElement;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
@@ -48,6 +52,9 @@ import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
+import Services.MappingSnapshot.IMappingSnapshotService;
+import Services.MappingSnapshot.MappingSnapshotEntry;
+import Services.Metrics.IMetricsService;
 import Utils.Ref;
 import Utils.StreamExtensions;
 import ViewModels.Interfaces.IHaveTargetArchitecture;
@@ -78,6 +85,31 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
      * The {@linkplain ICapellaTransactionService}
      */
     private final ICapellaTransactionService transactionService;
+    
+    /**
+     * The {@linkplain IMetricsService}
+     */
+    private final IMetricsService metricsService;
+    
+    /**
+     * The {@linkplain IMappingSnapshotService}
+     */
+    private final IMappingSnapshotService snapshotService;
+    
+    /**
+     * The correspondences that the last {@linkplain #LoadMapping()} left to {@linkplain #LoadStaleMapping(HashMap)}
+     */
+    private final ArrayList<MutableTriple<UUID, CapellaExternalIdentifier, UUID>> staleCorrespondences = new ArrayList<>();
+    
+    /**
+     * The {@linkplain MappingSnapshotEntry}s of the correspondences loaded since the last {@linkplain #LoadMapping()}
+     */
+    private final ArrayList<MappingSnapshotEntry> snapshotEntries = new ArrayList<>();
+    
+    /**
+     * The hash of the Capella elements by id computed since the last {@linkplain #LoadMapping()}
+     */
+    private final HashMap<String, String> elementHashes = new HashMap<>();
 
     /**
      * Initializes a new {@linkplain MagicDrawMappingConfigurationService}
@@ -85,12 +117,17 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
      * @param hubController the {@linkplain IHubController}
      * @param sessionService the {@linkplain ICapellaSessionService}
      * @param transactionService the {@linkplain ICapellaTransactionService}
+     * @param metricsService the {@linkplain IMetricsService}
+     * @param snapshotService the {@linkplain IMappingSnapshotService}
      */
-    public CapellaMappingConfigurationService(IHubController hubController, ICapellaSessionService sessionService, ICapellaTransactionService transactionService)
+    public CapellaMappingConfigurationService(IHubController hubController, ICapellaSessionService sessionService, ICapellaTransactionService transactionService,
+            IMetricsService metricsService, IMappingSnapshotService snapshotService)
     {
         super(hubController, CapellaExternalIdentifier.class);
         this.sessionService = sessionService;
         this.transactionService = transactionService;
+        this.metricsService = metricsService;
+        this.snapshotService = snapshotService;
         
         this.hubController.GetIsSessionOpenObservable()
         .subscribe(x -> 
@@ -104,22 +141,316 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
     }
     
     /**
-     * Loads the mapping configuration and generates the map result respectively
+     * Loads the mapping configuration and generates the map result respectively. 
+     * When a mapping snapshot has been saved for the current mapping configuration, only the correspondences 
+     * for which neither the Capella element nor the Hub thing changed are loaded, straight from their ids, 
+     * the other ones are left to {@linkplain #LoadStaleMapping(HashMap)}
+     * 
+     * @return a {@linkplain Collection} of {@linkplain IMappedElementRowViewModel}
+     */
+    @Override
+    public synchronized Collection<IMappedElementRowViewModel> LoadMapping()
+    {
+        try (var timer = this.metricsService.StartTimer("MappingConfiguration.LoadMapping"))
+        {
+            var mappedElements = new ArrayList<IMappedElementRowViewModel>();
+            this.staleCorrespondences.clear();
+            this.snapshotEntries.clear();
+            this.elementHashes.clear();
+            
+            this.metricsService.RecordValue("MappingConfiguration.LoadMapping.Correspondences", this.correspondences.size());
+            
+            var snapshot = this.GetMappingSnapshot();
+            
+            if(snapshot.isEmpty())
+            {
+                this.LoadMapping(this.sessionService.GetAllCapellaElementsFromOpenSessions(), this.correspondences, mappedElements);
+                this.SaveMappingSnapshot();
+                return mappedElements;
+            }
+            
+            var upToDateCorrespondences = new ArrayList<MutableTriple<UUID, CapellaExternalIdentifier, UUID>>();
+            var snapshotElementHashes = new HashMap<String, String>();
+            
+            for (var correspondence : this.correspondences)
+            {
+                var entry = snapshot.get(MappingSnapshotEntry.GetKey(correspondence.middle.Identifier, correspondence.right, correspondence.middle.MappingDirection));
+                
+                if(this.IsUpToDate(correspondence, entry))
+                {
+                    upToDateCorrespondences.add(correspondence);
+                    snapshotElementHashes.put(correspondence.middle.Identifier, entry.CapellaElementHash);
+                }
+                else
+                {
+                    this.staleCorrespondences.add(correspondence);
+                }
+            }
+            
+            var elements = new HashMap<URI, List<CapellaElement>>();
+            
+            for (var sessionElements : this.sessionService.GetCapellaElementsFromOpenSessions(snapshotElementHashes.keySet()).entrySet())
+            {
+                elements.put(sessionElements.getKey(), sessionElements.getValue().stream()
+                        .filter(x -> snapshotElementHashes.containsKey(x.getId()) && snapshotElementHashes.get(x.getId()).equals(this.GetElementHash(x)))
+                        .collect(Collectors.toList()));
+            }
+            
+            var loadedIdentifiers = this.LoadMapping(elements, upToDateCorrespondences, mappedElements);
+            
+            upToDateCorrespondences.stream()
+                .filter(x -> !loadedIdentifiers.contains(x.middle.Identifier))
+                .forEach(this.staleCorrespondences::add);
+            
+            this.metricsService.RecordValue("MappingConfiguration.LoadMapping.UpToDateCorrespondences", this.correspondences.size() - this.staleCorrespondences.size());
+            
+            if(this.staleCorrespondences.isEmpty())
+            {
+                this.SaveMappingSnapshot();
+            }
+            
+            return mappedElements;
+        }
+    }
+    
+    /**
+     * Gets the elements of the open Capella models that the correspondences {@linkplain #LoadMapping()} could not take from the mapping snapshot refer to. 
+     * The models are only read, so that the elements can be looked up in the background before {@linkplain #LoadStaleMapping(HashMap)} loads them
+     * 
+     * @return a {@linkplain HashMap} of session {@linkplain URI} and {@linkplain List} of {@linkplain CapellaElement}
+     */
+    @Override
+    public HashMap<URI, List<CapellaElement>> GetStaleElements()
+    {
+        Set<String> staleIdentifiers;
+        
+        synchronized (this)
+        {
+            staleIdentifiers = this.staleCorrespondences.stream()
+                    .map(x -> x.middle.Identifier)
+                    .collect(Collectors.toSet());
+        }
+        
+        var staleElements = new HashMap<URI, List<CapellaElement>>();
+        
+        if(staleIdentifiers.isEmpty())
+        {
+            return staleElements;
+        }
+        
+        for (var sessionElements : this.sessionService.GetAllCapellaElementsFromOpenSessions().entrySet())
+        {
+            staleElements.put(sessionElements.getKey(), sessionElements.getValue().stream()
+                    .filter(x -> staleIdentifiers.contains(x.getId()))
+                    .collect(Collectors.toList()));
+        }
+        
+        return staleElements;
+    }
+    
+    /**
+     * Loads the correspondences that {@linkplain #LoadMapping()} could not take from the mapping snapshot 
+     * because either the Capella model or the Hub thing changed since the snapshot was saved
      * 
+     * @param staleElements the elements {@linkplain #GetStaleElements()} looked up, by session {@linkplain URI}
      * @return a {@linkplain Collection} of {@linkplain IMappedElementRowViewModel}
      */
     @Override
-    public Collection<IMappedElementRowViewModel> LoadMapping()
+    public synchronized Collection<IMappedElementRowViewModel> LoadStaleMapping(HashMap<URI, List<CapellaElement>> staleElements)
     {
-        var mappedElements = new ArrayList<IMappedElementRowViewModel>();    
-        var sessionsAndElementsMap = this.sessionService.GetAllCapellaElementsFromOpenSessions();
+        var mappedElements = new ArrayList<IMappedElementRowViewModel>();
         
-        for (var sessionUri : sessionsAndElementsMap.keySet())
+        if(this.staleCorrespondences.isEmpty())
         {
-            mappedElements.addAll(this.LoadMapping(sessionsAndElementsMap.get(sessionUri)));
+            return mappedElements;
+        }
+        
+        try (var timer = this.metricsService.StartTimer("MappingConfiguration.LoadStaleMapping"))
+        {
+            this.metricsService.RecordValue("MappingConfiguration.LoadStaleMapping.Correspondences", this.staleCorrespondences.size());
+            
+            var correspondences = new ArrayList<>(this.staleCorrespondences);
+            this.staleCorrespondences.clear();
+            
+            this.LoadMapping(staleElements, correspondences, mappedElements);
+            this.SaveMappingSnapshot();
+            return mappedElements;
         }
+    }
+    
+    /**
+     * Gets a value indicating whether the last {@linkplain #LoadMapping()} left correspondences to be loaded by {@linkplain #LoadStaleMapping(HashMap)}
+     * 
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    public synchronized boolean HasStaleCorrespondences()
+    {
+        return !this.staleCorrespondences.isEmpty();
+    }
+    
+    /**
+     * Loads the provided correspondences for the provided elements
+     * 
+     * @param sessionsAndElementsMap the {@linkplain HashMap} of session {@linkplain URI} and {@linkplain List} of {@linkplain CapellaElement}
+     * @param correspondences the {@linkplain Collection} of correspondences to load
+     * @param mappedElements the {@linkplain Collection} of {@linkplain IMappedElementRowViewModel} to fill
+     * @return the {@linkplain Set} of the Capella element ids that have been found
+     */
+    private Set<String> LoadMapping(HashMap<URI, List<CapellaElement>> sessionsAndElementsMap, 
+            Collection<MutableTriple<UUID, CapellaExternalIdentifier, UUID>> correspondences, Collection<IMappedElementRowViewModel> mappedElements)
+    {
+        var correspondencesByIdentifier = this.GroupByIdentifier(correspondences);
+        var loadedIdentifiers = new HashSet<String>();
+        
+        for (var sessionUri : sessionsAndElementsMap.keySet())
+        {
+            var elements = sessionsAndElementsMap.get(sessionUri);
+            this.metricsService.RecordValue("MappingConfiguration.LoadMapping.Elements", elements.size());
+            
+            for (var element : elements)
+            {
+                var elementCorrespondences = correspondencesByIdentifier.get(element.getId());
                 
-        return mappedElements;
+                if(elementCorrespondences != null)
+                {
+                    loadedIdentifiers.add(element.getId());
+                    mappedElements.addAll(this.GetMappedElements(sessionUri, element, elementCorrespondences));
+                }
+            }
+        }
+        
+        return loadedIdentifiers;
+    }
+
+    /**
+     * Groups the provided correspondences by Capella element id
+     * 
+     * @param correspondences the {@linkplain Collection} of correspondences
+     * @return a {@linkplain HashMap} of Capella element id and {@linkplain List} of correspondences
+     */
+    private HashMap<String, List<MutableTriple<UUID, CapellaExternalIdentifier, UUID>>> GroupByIdentifier(
+            Collection<MutableTriple<UUID, CapellaExternalIdentifier, UUID>> correspondences)
+    {
+        var correspondencesByIdentifier = new HashMap<String, List<MutableTriple<UUID, CapellaExternalIdentifier, UUID>>>();
+        
+        for (var correspondence : correspondences)
+        {
+            correspondencesByIdentifier.computeIfAbsent(correspondence.middle.Identifier, x -> new ArrayList<>()).add(correspondence);
+        }
+        
+        return correspondencesByIdentifier;
+    }
+    
+    /**
+     * Gets the {@linkplain MappingSnapshotEntry}s saved for the current mapping configuration by key, 
+     * a mapping configuration that has not been saved to the Hub has no snapshot
+     * 
+     * @return a {@linkplain HashMap} of key and {@linkplain MappingSnapshotEntry}
+     */
+    private HashMap<String, MappingSnapshotEntry> GetMappingSnapshot()
+    {
+        var snapshot = new HashMap<String, MappingSnapshotEntry>();
+        var externalIdentifierMap = this.GetExternalIdentifierMap();
+        
+        if(externalIdentifierMap == null || externalIdentifierMap.getRevisionNumber() < 1)
+        {
+            return snapshot;
+        }
+        
+        for (var entry : this.snapshotService.Get(externalIdentifierMap.getIid()))
+        {
+            snapshot.put(entry.GetKey(), entry);
+        }
+        
+        return snapshot;
+    }
+    
+    /**
+     * Saves the {@linkplain MappingSnapshotEntry}s of the loaded correspondences as the snapshot of the current mapping configuration
+     */
+    private void SaveMappingSnapshot()
+    {
+        var externalIdentifierMap = this.GetExternalIdentifierMap();
+        
+        if(externalIdentifierMap == null || externalIdentifierMap.getRevisionNumber() < 1)
+        {
+            return;
+        }
+        
+        try
+        {
+            this.snapshotService.Save(externalIdentifierMap.getIid(), this.snapshotEntries);
+        }
+        catch(Exception exception)
+        {
+            this.logger.catching(exception);
+        }
+    }
+    
+    /**
+     * Gets a value indicating whether the provided correspondence may be loaded as it was when the provided {@linkplain MappingSnapshotEntry} was saved, 
+     * that is when the Hub thing did not change since. Whether the Capella element changed is checked against {@linkplain MappingSnapshotEntry#CapellaElementHash} once it is found
+     * 
+     * @param correspondence the correspondence
+     * @param entry the {@linkplain MappingSnapshotEntry}, can be null
+     * @return a value indicating whether the correspondence is up to date
+     */
+    private boolean IsUpToDate(MutableTriple<UUID, CapellaExternalIdentifier, UUID> correspondence, MappingSnapshotEntry entry)
+    {
+        return entry != null 
+                && entry.TargetArchitecture == correspondence.middle.TargetArchitecture
+                && entry.SessionUri != null
+                && entry.CapellaElementHash != null
+                && entry.HubRevisionNumber == this.GetRevisionNumber(correspondence.right);
+    }
+    
+    /**
+     * Gets the hash of the provided {@linkplain CapellaElement}, computed once per {@linkplain #LoadMapping()}
+     * 
+     * @param element the {@linkplain CapellaElement}
+     * @return the hash
+     */
+    private String GetElementHash(CapellaElement element)
+    {
+        return this.elementHashes.computeIfAbsent(element.getId(), x -> this.sessionService.GetElementHash(element));
+    }
+    
+    /**
+     * Adds the {@linkplain MappingSnapshotEntry} of the provided loaded correspondence to the ones to save
+     * 
+     * @param sessionUri the {@linkplain URI} of the session the element belongs to
+     * @param element the {@linkplain CapellaElement}
+     * @param correspondence the loaded correspondence
+     */
+    private void AddSnapshotEntry(URI sessionUri, CapellaElement element, MutableTriple<UUID, CapellaExternalIdentifier, UUID> correspondence)
+    {
+        if(sessionUri == null)
+        {
+            return;
+        }
+        
+        var entry = new MappingSnapshotEntry();
+        entry.CapellaId = element.getId();
+        entry.HubIid = correspondence.right;
+        entry.HubRevisionNumber = this.GetRevisionNumber(correspondence.right);
+        entry.CapellaElementHash = this.GetElementHash(element);
+        entry.SessionUri = sessionUri.toString();
+        entry.MappingDirection = correspondence.middle.MappingDirection;
+        entry.TargetArchitecture = correspondence.middle.TargetArchitecture;
+        this.snapshotEntries.add(entry);
+    }
+    
+    /**
+     * Gets the revision number of the {@linkplain Thing} with the provided iid
+     * 
+     * @param iid the {@linkplain UUID} of the {@linkplain Thing}
+     * @return the revision number, -1 when the {@linkplain Thing} does not exist
+     */
+    private int GetRevisionNumber(UUID iid)
+    {
+        var refThing = new Ref<>(Thing.class);
+        return this.hubController.TryGetThingById(iid, refThing) ? refThing.Get().getRevisionNumber() : -1;
     }
 
     /**
@@ -188,7 +519,7 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
     {
         var refHubElement = new Ref<TThing>(thingType);
         
-        if(this.hubController.TryGetThingById(correspondence.getRight(), refHubElement))
+        if(this.TryGetThingById(correspondence.getRight(), refHubElement))
         {
             TRowViewModel newMappedElement = rowViewModelType.getDeclaredConstructor(thingType, MappingDirection.class).newInstance(refHubElement.Get(), MappingDirection.FromHubToDst);
                 
@@ -209,10 +540,16 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
     public Collection<IMappedElementRowViewModel> LoadMapping(Collection<CapellaElement> elements)
     {
         var mappedElements = new ArrayList<IMappedElementRowViewModel>();
+        var correspondencesByIdentifier = this.GroupByIdentifier(this.correspondences);
         
         for (var element : elements)
         {
-            mappedElements.addAll(this.GetMappedElements(element));
+            var correspondences = correspondencesByIdentifier.get(element.getId());
+            
+            if(correspondences != null)
+            {
+                mappedElements.addAll(this.GetMappedElements(null, element, correspondences));
+            }
         }
         
         return mappedElements;
@@ -221,15 +558,14 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
     /**
      * Retrieves the mapped elements for the given CapellaElement.
      *
+     * @param sessionUri the {@linkplain URI} of the session the element belongs to, can be null
      * @param element The CapellaElement for which mapped elements are retrieved.
+     * @param correspondences the correspondences whose Capella element id is the one of the element
      * @return A collection of IMappedElementRowViewModel representing the mapped elements.
      */
-    private Collection<IMappedElementRowViewModel> GetMappedElements(CapellaElement element)
+    private Collection<IMappedElementRowViewModel> GetMappedElements(URI sessionUri, CapellaElement element, 
+            Collection<MutableTriple<UUID, CapellaExternalIdentifier, UUID>> correspondences)
     {
-        var correspondences = this.correspondences.stream()
-                .filter(x -> AreTheseEquals(x.middle.Identifier, element.getId()))
-                .collect(Collectors.toList());
-        
         var result = new ArrayList<IMappedElementRowViewModel>();
         
         for(var correspondence : correspondences)
@@ -254,7 +590,7 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
                 
                 mappedElement.SetTargetArchitecture(targetArchitecture);
                 
-                if(this.hubController.TryGetThingById(internalId, refElementUsage))
+                if(this.TryGetThingById(internalId, refElementUsage))
                 {
                     mappedElement.SetHubElement(refElementUsage.Get().clone(false));
                 }
@@ -264,6 +600,7 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
                     continue;
                 }
                             
+                this.AddSnapshotEntry(sessionUri, element, correspondence);
                 result.add(mappedElement);
             }
             
@@ -278,11 +615,12 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
                 
                 mappedElement.SetTargetArchitecture(targetArchitecture);
                 
-                if(this.hubController.TryGetThingById(internalId, refElementDefinition))
+                if(this.TryGetThingById(internalId, refElementDefinition))
                 {
                     mappedElement.SetHubElement(refElementDefinition.Get().clone(false));
                 }
                             
+                this.AddSnapshotEntry(sessionUri, element, correspondence);
                 result.add(mappedElement);
             }
             else if(element instanceof Requirement)
@@ -293,12 +631,14 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
                     this.GetMappedRequirement(mappedElement, internalId);
                     mappedElement.SetTargetArchitecture(targetArchitecture);
                     
+                    this.AddSnapshotEntry(sessionUri, element, correspondence);
                     result.add(mappedElement);
                 }
                 else
                 {
                     var mappedElement = new MappedDstRequirementRowViewModel((Requirement)element, mappingDirection);
                     this.GetMappedRequirement(mappedElement, internalId);
+                    this.AddSnapshotEntry(sessionUri, element, correspondence);
                     result.add(mappedElement);
                 }            
             }
@@ -307,6 +647,20 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
         return result;
     }
 
+    /**
+     * Tries to get the {@linkplain Thing} with the provided iid from the {@linkplain IHubController} and counts the lookup
+     * 
+     * @param <TThing> the type of {@linkplain Thing}
+     * @param iid the {@linkplain UUID} of the {@linkplain Thing} to get
+     * @param refThing the {@linkplain Ref} of {@linkplain #TThing}
+     * @return a value indicating whether the {@linkplain Thing} has been found
+     */
+    private <TThing extends Thing> boolean TryGetThingById(UUID iid, Ref<TThing> refThing)
+    {
+        this.metricsService.Increment("HubLookup.TryGetThingById");
+        return this.hubController.TryGetThingById(iid, refThing);
+    }
+
     /**
      * Gets the mapped {@linkplain cdp4common.engineeringmodeldata.Requirement}
      * 
@@ -318,7 +672,7 @@ public class CapellaMappingConfigurationService extends MappingConfigurationServ
     {
         var refHubRequirement = new Ref<>(cdp4common.engineeringmodeldata.Requirement.class);
         
-        if(this.hubController.TryGetThingById(internalId, refHubRequirement))
+        if(this.TryGetThingById(internalId, refHubRequirement))
         {
             var requirementSpecification = refHubRequirement.Get().getContainerOfType(RequirementsSpecification.class).clone(true);
             
@@ -24,8 +24,13 @@
 package Services.MappingConfiguration;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 
+import org.eclipse.emf.common.util.URI;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+
 import Enumerations.CapellaArchitecture;
 import Enumerations.MappingDirection;
 import ViewModels.Interfaces.IMappedElementRowViewModel;
@@ -43,6 +48,30 @@ public interface ICapellaMappingConfigurationService extends IMappingConfigurati
      */
     Collection<IMappedElementRowViewModel> LoadMapping();
 
+    /**
+     * Gets the elements of the open Capella models that the correspondences {@linkplain #LoadMapping()} could not take from the mapping snapshot refer to, 
+     * the models are only read so that it can run in the background
+     * 
+     * @return a {@linkplain HashMap} of session {@linkplain URI} and {@linkplain List} of {@linkplain CapellaElement}
+     */
+    HashMap<URI, List<CapellaElement>> GetStaleElements();
+
+    /**
+     * Loads the correspondences that {@linkplain #LoadMapping()} could not take from the mapping snapshot 
+     * because either the Capella model or the Hub thing changed since the snapshot was saved
+     * 
+     * @param staleElements the elements {@linkplain #GetStaleElements()} looked up, by session {@linkplain URI}
+     * @return a {@linkplain Collection} of {@linkplain IMappedElementRowViewModel}
+     */
+    Collection<IMappedElementRowViewModel> LoadStaleMapping(HashMap<URI, List<CapellaElement>> staleElements);
+
+    /**
+     * Gets a value indicating whether the last {@linkplain #LoadMapping()} left correspondences to be loaded by {@linkplain #LoadStaleMapping(HashMap)}
+     * 
+     * @return a {@linkplain boolean}
+     */
+    boolean HasStaleCorrespondences();
+
     /**
      * Adds one correspondence to the {@linkplain ExternalIdentifierMap}
      * 
@@ -0,0 +1,38 @@
+/*
+ * MappingSnapshot.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.MappingSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * The {@linkplain MappingSnapshot} holds the resolved correspondences of the mapping configurations saved as Json and handled by the {@linkplain MappingSnapshotService}
+ */
+public class MappingSnapshot
+{
+    /**
+     * Gets or sets the {@linkplain MappingSnapshotEntry}s by mapping configuration iid
+     */
+    public HashMap<String, ArrayList<MappingSnapshotEntry>> configurations = new HashMap<>();
+}
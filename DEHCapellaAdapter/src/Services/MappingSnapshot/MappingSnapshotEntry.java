@@ -0,0 +1,93 @@
+/*
+ * MappingSnapshotEntry.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.MappingSnapshot;
+
+import java.util.UUID;
+
+import Enumerations.CapellaArchitecture;
+import Enumerations.MappingDirection;
+
+/**
+ * The {@linkplain MappingSnapshotEntry} is one resolved correspondence of a mapping configuration saved as Json in the {@linkplain MappingSnapshot}
+ */
+public class MappingSnapshotEntry
+{
+    /**
+     * Gets or sets the id of the Capella element
+     */
+    public String CapellaId;
+    
+    /**
+     * Gets or sets the iid of the Hub thing
+     */
+    public UUID HubIid;
+    
+    /**
+     * Gets or sets the revision number of the Hub thing when the correspondence got resolved, -1 when the thing did not exist
+     */
+    public int HubRevisionNumber = -1;
+    
+    /**
+     * Gets or sets the hash of the content of the Capella element and of its contained elements when the correspondence got resolved
+     */
+    public String CapellaElementHash;
+    
+    /**
+     * Gets or sets the {@linkplain URI} of the session the Capella element belongs to
+     */
+    public String SessionUri;
+    
+    /**
+     * Gets or sets the {@linkplain MappingDirection}
+     */
+    public MappingDirection MappingDirection;
+    
+    /**
+     * Gets or sets the target {@linkplain CapellaArchitecture}
+     */
+    public CapellaArchitecture TargetArchitecture;
+    
+    /**
+     * Gets the key that identifies the correspondence this entry represents
+     * 
+     * @return a {@linkplain String} key
+     */
+    public String GetKey()
+    {
+        return GetKey(this.CapellaId, this.HubIid, this.MappingDirection);
+    }
+    
+    /**
+     * Gets the key that identifies the correspondence between the provided ids in the provided direction
+     * 
+     * @param capellaId the id of the Capella element
+     * @param hubIid the iid of the Hub thing
+     * @param mappingDirection the {@linkplain MappingDirection}
+     * @return a {@linkplain String} key
+     */
+    public static String GetKey(String capellaId, UUID hubIid, MappingDirection mappingDirection)
+    {
+        return String.format("%s|%s|%s", capellaId, hubIid, mappingDirection);
+    }
+}
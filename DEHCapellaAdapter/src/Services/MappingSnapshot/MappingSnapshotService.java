@@ -0,0 +1,100 @@
+/*
+ * MappingSnapshotService.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.MappingSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
+
+import Services.UserPreferenceService.UserPreferenceBaseService;
+
+/**
+ * The {@linkplain MappingSnapshotService} persists the {@linkplain MappingSnapshot} next to the user preferences
+ * so that the mapping configurations can be loaded without resolving again the correspondences that did not change
+ */
+public class MappingSnapshotService extends UserPreferenceBaseService<MappingSnapshot> implements IMappingSnapshotService
+{
+    /**
+     * Value indicating whether the {@linkplain MappingSnapshot} file has been read
+     */
+    private boolean hasBeenRead;
+    
+    /**
+     * Gets the {@linkplain Class} of {@linkplain #TUserPreference}
+     */
+    @Override
+    protected Class<MappingSnapshot> GetUserPreferenceType()
+    {
+        return MappingSnapshot.class;
+    }
+
+    /**
+     * Gets the user preference file name
+     */
+    @Override
+    protected String GetFileName()
+    {
+        return "CapellaMappingSnapshot";
+    }
+
+    /**
+     * Gets the {@linkplain MappingSnapshotEntry}s saved for the mapping configuration with the provided iid
+     * 
+     * @param externalIdentifierMapIid the {@linkplain UUID} of the mapping configuration
+     * @return a {@linkplain Collection} of {@linkplain MappingSnapshotEntry}, empty when no snapshot has been saved
+     */
+    @Override
+    public synchronized Collection<MappingSnapshotEntry> Get(UUID externalIdentifierMapIid)
+    {
+        this.ReadOnce();
+        var entries = this.GetUserPreference().configurations.get(externalIdentifierMapIid.toString());
+        return entries == null ? new ArrayList<>() : new ArrayList<>(entries);
+    }
+
+    /**
+     * Saves the provided {@linkplain MappingSnapshotEntry}s as the snapshot of the mapping configuration with the provided iid
+     * 
+     * @param externalIdentifierMapIid the {@linkplain UUID} of the mapping configuration
+     * @param entries the {@linkplain Collection} of {@linkplain MappingSnapshotEntry}
+     */
+    @Override
+    public synchronized void Save(UUID externalIdentifierMapIid, Collection<MappingSnapshotEntry> entries)
+    {
+        this.ReadOnce();
+        this.GetUserPreference().configurations.put(externalIdentifierMapIid.toString(), new ArrayList<>(entries));
+        this.Save();
+    }
+    
+    /**
+     * Reads the {@linkplain MappingSnapshot} file the first time it is needed, the file is only written afterward
+     */
+    private void ReadOnce()
+    {
+        if(!this.hasBeenRead)
+        {
+            this.Read();
+            this.hasBeenRead = true;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * IMetricsService.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Metrics;
+
+import java.util.List;
+
+import Enumerations.MetricKind;
+
+/**
+ * The {@linkplain IMetricsService} is the interface definition for the service {@linkplain MetricsService}
+ */
+public interface IMetricsService
+{
+    /**
+     * Starts a {@linkplain MetricTimer} that records its duration under the provided name when it gets closed
+     * 
+     * @param name the name of the timer
+     * @return a started {@linkplain MetricTimer}
+     */
+    MetricTimer StartTimer(String name);
+
+    /**
+     * Records a duration under the provided timer name
+     * 
+     * @param name the name of the timer
+     * @param nanoseconds the duration in nanoseconds
+     */
+    void RecordDuration(String name, long nanoseconds);
+
+    /**
+     * Records a value under the provided histogram name
+     * 
+     * @param name the name of the histogram
+     * @param value the value to record
+     */
+    void RecordValue(String name, long value);
+
+    /**
+     * Increments the counter with the provided name by one
+     * 
+     * @param name the name of the counter
+     */
+    void Increment(String name);
+
+    /**
+     * Increments the counter with the provided name by the provided amount
+     * 
+     * @param name the name of the counter
+     * @param amount the amount to add
+     */
+    void Increment(String name, long amount);
+
+    /**
+     * Gets a {@linkplain MetricSnapshot} of each recorded metric sorted by {@linkplain MetricKind} then by name
+     * 
+     * @return a {@linkplain List} of {@linkplain MetricSnapshot}
+     */
+    List<MetricSnapshot> GetSnapshots();
+
+    /**
+     * Removes all the recorded metrics
+     */
+    void Reset();
+
+    /**
+     * Exports the current {@linkplain MetricSnapshot}s as a JSON array
+     * 
+     * @return a JSON {@linkplain String}
+     */
+    String ExportToJson();
+
+    /**
+     * Exports the current {@linkplain MetricSnapshot}s as comma separated values with one header line
+     * 
+     * @return a CSV {@linkplain String}
+     */
+    String ExportToCsv();
+}
@@ -0,0 +1,145 @@
+/*
+ * Metric.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Metrics;
+
+import java.util.Arrays;
+
+import Enumerations.MetricKind;
+
+/**
+ * The {@linkplain Metric} accumulates the samples recorded under one name. It keeps the exact count, total, minimum and maximum 
+ * and retains the most recent {@linkplain #RETAINEDSAMPLECOUNT} samples to compute percentiles with a bounded memory footprint.
+ */
+final class Metric
+{
+    /**
+     * The number of most recent samples retained for computing percentiles
+     */
+    static final int RETAINEDSAMPLECOUNT = 1024;
+
+    /**
+     * The name of this metric
+     */
+    private final String name;
+
+    /**
+     * The {@linkplain MetricKind}
+     */
+    private final MetricKind kind;
+
+    /**
+     * The retained samples used as a ring buffer
+     */
+    private final long[] samples = new long[RETAINEDSAMPLECOUNT];
+
+    /**
+     * The number of recorded samples
+     */
+    private long count;
+
+    /**
+     * The sum of all recorded samples
+     */
+    private long total;
+
+    /**
+     * The smallest recorded sample
+     */
+    private long minimum = Long.MAX_VALUE;
+
+    /**
+     * The largest recorded sample
+     */
+    private long maximum = Long.MIN_VALUE;
+
+    /**
+     * Initializes a new {@linkplain Metric}
+     * 
+     * @param name the name of this metric
+     * @param kind the {@linkplain MetricKind}
+     */
+    Metric(String name, MetricKind kind)
+    {
+        this.name = name;
+        this.kind = kind;
+    }
+
+    /**
+     * Gets the {@linkplain MetricKind}
+     * 
+     * @return a {@linkplain MetricKind}
+     */
+    MetricKind GetKind()
+    {
+        return this.kind;
+    }
+
+    /**
+     * Records the provided sample
+     * 
+     * @param value the sample value
+     */
+    synchronized void Record(long value)
+    {
+        this.samples[(int)(this.count % RETAINEDSAMPLECOUNT)] = value;
+        this.count++;
+        this.total += value;
+        this.minimum = Math.min(this.minimum, value);
+        this.maximum = Math.max(this.maximum, value);
+    }
+
+    /**
+     * Takes a {@linkplain MetricSnapshot} of this metric, durations of {@linkplain MetricKind#Timer} are converted to milliseconds
+     * 
+     * @return a {@linkplain MetricSnapshot}
+     */
+    synchronized MetricSnapshot Snapshot()
+    {
+        if(this.count == 0)
+        {
+            return new MetricSnapshot(this.name, this.kind, 0, 0, 0, 0, 0, 0, 0);
+        }
+        
+        var retained = Arrays.copyOf(this.samples, (int)Math.min(this.count, RETAINEDSAMPLECOUNT));
+        Arrays.sort(retained);
+        
+        double scale = this.kind == MetricKind.Timer ? 1e-6 : 1;
+        
+        return new MetricSnapshot(this.name, this.kind, this.count, this.total * scale, this.minimum * scale, this.maximum * scale, 
+                Percentile(retained, 0.5) * scale, Percentile(retained, 0.95) * scale, Percentile(retained, 0.99) * scale);
+    }
+
+    /**
+     * Gets the nearest-rank percentile from the provided sorted samples
+     * 
+     * @param sortedSamples the sorted samples
+     * @param percentile the percentile between 0 and 1
+     * @return the sample at the requested percentile
+     */
+    private static long Percentile(long[] sortedSamples, double percentile)
+    {
+        var rank = (int)Math.ceil(percentile * sortedSamples.length);
+        return sortedSamples[Math.max(0, rank - 1)];
+    }
+}
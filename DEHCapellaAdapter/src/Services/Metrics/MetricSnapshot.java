@@ -0,0 +1,204 @@
+/*
+ * MetricSnapshot.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Metrics;
+
+import Enumerations.MetricKind;
+
+/**
+ * The {@linkplain MetricSnapshot} is an immutable view of one metric at the time it was taken.
+ * Values of {@linkplain MetricKind#Timer} metrics are expressed in milliseconds.
+ */
+public final class MetricSnapshot
+{
+    /**
+     * The name of the metric
+     */
+    private final String name;
+
+    /**
+     * The {@linkplain MetricKind}
+     */
+    private final MetricKind kind;
+
+    /**
+     * The number of recorded samples
+     */
+    private final long count;
+
+    /**
+     * The sum of all recorded samples
+     */
+    private final double total;
+
+    /**
+     * The smallest recorded sample
+     */
+    private final double minimum;
+
+    /**
+     * The largest recorded sample
+     */
+    private final double maximum;
+
+    /**
+     * The median of the retained samples
+     */
+    private final double median;
+
+    /**
+     * The 95th percentile of the retained samples
+     */
+    private final double percentile95;
+
+    /**
+     * The 99th percentile of the retained samples
+     */
+    private final double percentile99;
+
+    /**
+     * Initializes a new {@linkplain MetricSnapshot}
+     * 
+     * @param name the name of the metric
+     * @param kind the {@linkplain MetricKind}
+     * @param count the number of recorded samples
+     * @param total the sum of all recorded samples
+     * @param minimum the smallest recorded sample
+     * @param maximum the largest recorded sample
+     * @param median the median of the retained samples
+     * @param percentile95 the 95th percentile of the retained samples
+     * @param percentile99 the 99th percentile of the retained samples
+     */
+    MetricSnapshot(String name, MetricKind kind, long count, double total, double minimum, double maximum, double median, double percentile95, double percentile99)
+    {
+        this.name = name;
+        this.kind = kind;
+        this.count = count;
+        this.total = total;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.median = median;
+        this.percentile95 = percentile95;
+        this.percentile99 = percentile99;
+    }
+
+    /**
+     * Gets the name of the metric
+     * 
+     * @return a {@linkplain String}
+     */
+    public String GetName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Gets the {@linkplain MetricKind}
+     * 
+     * @return a {@linkplain MetricKind}
+     */
+    public MetricKind GetKind()
+    {
+        return this.kind;
+    }
+
+    /**
+     * Gets the number of recorded samples
+     * 
+     * @return a {@linkplain long}
+     */
+    public long GetCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Gets the sum of all recorded samples
+     * 
+     * @return a {@linkplain double}
+     */
+    public double GetTotal()
+    {
+        return this.total;
+    }
+
+    /**
+     * Gets the smallest recorded sample
+     * 
+     * @return a {@linkplain double}
+     */
+    public double GetMinimum()
+    {
+        return this.minimum;
+    }
+
+    /**
+     * Gets the largest recorded sample
+     * 
+     * @return a {@linkplain double}
+     */
+    public double GetMaximum()
+    {
+        return this.maximum;
+    }
+
+    /**
+     * Gets the mean of all recorded samples
+     * 
+     * @return a {@linkplain double}
+     */
+    public double GetMean()
+    {
+        return this.count == 0 ? 0 : this.total / this.count;
+    }
+
+    /**
+     * Gets the median of the retained samples
+     * 
+     * @return a {@linkplain double}
+     */
+    public double GetMedian()
+    {
+        return this.median;
+    }
+
+    /**
+     * Gets the 95th percentile of the retained samples
+     * 
+     * @return a {@linkplain double}
+     */
+    public double GetPercentile95()
+    {
+        return this.percentile95;
+    }
+
+    /**
+     * Gets the 99th percentile of the retained samples
+     * 
+     * @return a {@linkplain double}
+     */
+    public double GetPercentile99()
+    {
+        return this.percentile99;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MetricTimer.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@linkplain MetricTimer} measures the time elapsed between its creation and its closing, 
+ * and records it into the {@linkplain IMetricsService} that started it. It is meant to be used in a try-with-resources statement.
+ */
+public final class MetricTimer implements AutoCloseable
+{
+    /**
+     * The {@linkplain IMetricsService} to record the duration into
+     */
+    private final IMetricsService metricsService;
+    
+    /**
+     * The name of the timer
+     */
+    private final String name;
+    
+    /**
+     * The {@linkplain System#nanoTime()} at which this timer started
+     */
+    private final long start;
+    
+    /**
+     * The measured duration in nanoseconds, -1 as long as this timer is running
+     */
+    private long elapsed = -1;
+
+    /**
+     * Initializes a new {@linkplain MetricTimer} and starts it
+     * 
+     * @param metricsService the {@linkplain IMetricsService} to record the duration into
+     * @param name the name of the timer
+     */
+    MetricTimer(IMetricsService metricsService, String name)
+    {
+        this.metricsService = metricsService;
+        this.name = name;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Gets the elapsed time in milliseconds, either up to now if this timer is still running or up to its closing
+     * 
+     * @return the elapsed time in milliseconds
+     */
+    public long GetElapsedMilliseconds()
+    {
+        return TimeUnit.NANOSECONDS.toMillis(this.elapsed < 0 ? System.nanoTime() - this.start : this.elapsed);
+    }
+
+    /**
+     * Stops this timer and records the measured duration, subsequent calls have no effect
+     */
+    @Override
+    public void close()
+    {
+        if(this.elapsed >= 0)
+        {
+            return;
+        }
+        
+        this.elapsed = System.nanoTime() - this.start;
+        this.metricsService.RecordDuration(this.name, this.elapsed);
+    }
+}
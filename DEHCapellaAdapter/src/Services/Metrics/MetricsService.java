@@ -0,0 +1,201 @@
+/*
+ * MetricsService.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import Enumerations.MetricKind;
+
+/**
+ * The {@linkplain MetricsService} records the timers, histograms and counters of the adapter so that runs can be compared 
+ * from the metrics view or from an exported JSON or CSV file
+ */
+public class MetricsService implements IMetricsService
+{
+    /**
+     * The CSV header line
+     */
+    private static final String CSVHEADER = "name,kind,count,total,mean,minimum,maximum,median,percentile95,percentile99";
+
+    /**
+     * The recorded {@linkplain Metric}s by name
+     */
+    private final ConcurrentHashMap<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a {@linkplain MetricTimer} that records its duration under the provided name when it gets closed
+     * 
+     * @param name the name of the timer
+     * @return a started {@linkplain MetricTimer}
+     */
+    @Override
+    public MetricTimer StartTimer(String name)
+    {
+        return new MetricTimer(this, name);
+    }
+
+    /**
+     * Records a duration under the provided timer name
+     * 
+     * @param name the name of the timer
+     * @param nanoseconds the duration in nanoseconds
+     */
+    @Override
+    public void RecordDuration(String name, long nanoseconds)
+    {
+        this.GetOrAdd(name, MetricKind.Timer).Record(nanoseconds);
+    }
+
+    /**
+     * Records a value under the provided histogram name
+     * 
+     * @param name the name of the histogram
+     * @param value the value to record
+     */
+    @Override
+    public void RecordValue(String name, long value)
+    {
+        this.GetOrAdd(name, MetricKind.Histogram).Record(value);
+    }
+
+    /**
+     * Increments the counter with the provided name by one
+     * 
+     * @param name the name of the counter
+     */
+    @Override
+    public void Increment(String name)
+    {
+        this.Increment(name, 1);
+    }
+
+    /**
+     * Increments the counter with the provided name by the provided amount
+     * 
+     * @param name the name of the counter
+     * @param amount the amount to add
+     */
+    @Override
+    public void Increment(String name, long amount)
+    {
+        this.GetOrAdd(name, MetricKind.Counter).Record(amount);
+    }
+
+    /**
+     * Gets a {@linkplain MetricSnapshot} of each recorded metric sorted by {@linkplain MetricKind} then by name
+     * 
+     * @return a {@linkplain List} of {@linkplain MetricSnapshot}
+     */
+    @Override
+    public List<MetricSnapshot> GetSnapshots()
+    {
+        return this.metrics.values().stream()
+                .map(Metric::Snapshot)
+                .sorted(Comparator.comparing(MetricSnapshot::GetKind).thenComparing(MetricSnapshot::GetName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Removes all the recorded metrics
+     */
+    @Override
+    public void Reset()
+    {
+        this.metrics.clear();
+    }
+
+    /**
+     * Exports the current {@linkplain MetricSnapshot}s as a JSON array
+     * 
+     * @return a JSON {@linkplain String}
+     */
+    @Override
+    public String ExportToJson()
+    {
+        return this.GetSnapshots().stream()
+                .map(x -> String.format(Locale.ROOT, 
+                        "  {\"name\": \"%s\", \"kind\": \"%s\", \"count\": %d, \"total\": %.3f, \"mean\": %.3f, \"minimum\": %.3f, \"maximum\": %.3f, \"median\": %.3f, \"percentile95\": %.3f, \"percentile99\": %.3f}",
+                        EscapeJson(x.GetName()), x.GetKind(), x.GetCount(), x.GetTotal(), x.GetMean(), x.GetMinimum(), x.GetMaximum(), 
+                        x.GetMedian(), x.GetPercentile95(), x.GetPercentile99()))
+                .collect(Collectors.joining(String.format(",%n"), String.format("[%n"), String.format("%n]%n")));
+    }
+
+    /**
+     * Exports the current {@linkplain MetricSnapshot}s as comma separated values with one header line
+     * 
+     * @return a CSV {@linkplain String}
+     */
+    @Override
+    public String ExportToCsv()
+    {
+        var builder = new StringBuilder(CSVHEADER).append(System.lineSeparator());
+        
+        for (var snapshot : this.GetSnapshots())
+        {
+            builder.append(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n", 
+                    EscapeCsv(snapshot.GetName()), snapshot.GetKind(), snapshot.GetCount(), snapshot.GetTotal(), snapshot.GetMean(), 
+                    snapshot.GetMinimum(), snapshot.GetMaximum(), snapshot.GetMedian(), snapshot.GetPercentile95(), snapshot.GetPercentile99()));
+        }
+        
+        return builder.toString();
+    }
+
+    /**
+     * Gets the {@linkplain Metric} with the provided name or registers a new one of the provided {@linkplain MetricKind}
+     * 
+     * @param name the name of the metric
+     * @param kind the {@linkplain MetricKind} to use when the metric does not exist yet
+     * @return a {@linkplain Metric}
+     */
+    private Metric GetOrAdd(String name, MetricKind kind)
+    {
+        return this.metrics.computeIfAbsent(name, x -> new Metric(x, kind));
+    }
+
+    /**
+     * Escapes the provided value so it can be written inside a JSON string
+     * 
+     * @param value the value to escape
+     * @return the escaped {@linkplain String}
+     */
+    private static String EscapeJson(String value)
+    {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Escapes the provided value so it can be written as one CSV field
+     * 
+     * @param value the value to escape
+     * @return the escaped {@linkplain String}
+     */
+    private static String EscapeCsv(String value)
+    {
+        return value.contains(",") || value.contains("\"") ? String.format("\"%s\"", value.replace("\"", "\"\"")) : value;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * INameKeyService.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.NameKey;
+
+import org.polarsys.capella.common.data.modellingcore.AbstractNamedElement;
+
+import cdp4common.commondata.DefinedThing;
+
+/**
+ * The {@linkplain INameKeyService} is the interface definition for the service {@linkplain NameKeyService}
+ */
+public interface INameKeyService
+{
+    /**
+     * Gets the {@linkplain NameKey} of the provided Capella {@linkplain AbstractNamedElement},
+     * it is computed once and kept until the name of the element changes
+     * 
+     * @param element the {@linkplain AbstractNamedElement}
+     * @return a {@linkplain NameKey}
+     */
+    NameKey GetKey(AbstractNamedElement element);
+
+    /**
+     * Gets the {@linkplain NameKey} of the name of the provided {@linkplain DefinedThing},
+     * it is computed once and kept until the name of the thing changes
+     * 
+     * @param thing the {@linkplain DefinedThing}
+     * @return a {@linkplain NameKey}
+     */
+    NameKey GetKey(DefinedThing thing);
+
+    /**
+     * Gets the {@linkplain NameKey} of the short name of the provided {@linkplain DefinedThing},
+     * it is computed once and kept until the short name of the thing changes
+     * 
+     * @param thing the {@linkplain DefinedThing}
+     * @return a {@linkplain NameKey}
+     */
+    NameKey GetShortNameKey(DefinedThing thing);
+
+    /**
+     * Removes all the computed {@linkplain NameKey}s
+     */
+    void Clear();
+}
@@ -0,0 +1,164 @@
+/*
+ * NameKey.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.NameKey;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import Utils.Stereotypes.StereotypeUtils;
+
+/**
+ * The {@linkplain NameKey} holds the exact, the case folded and the short name keys computed once from a name,
+ * so that name matchers compare precomputed keys instead of normalising both sides on each comparison
+ */
+public final class NameKey
+{
+    /**
+     * The {@linkplain NameKey} of a null name
+     */
+    public static final NameKey EMPTY = new NameKey(null);
+    
+    /**
+     * The exact name
+     */
+    private final String exact;
+
+    /**
+     * The case folded name
+     */
+    private final String caseFolded;
+
+    /**
+     * The 10-25 compliant short name computed from the name
+     */
+    private final String shortName;
+
+    /**
+     * Initializes a new {@linkplain NameKey}
+     * 
+     * @param name the name to compute the keys from, can be null
+     */
+    private NameKey(String name)
+    {
+        this.exact = name;
+        this.caseFolded = CaseFold(name);
+        this.shortName = name == null ? null : StereotypeUtils.GetShortName(name);
+    }
+
+    /**
+     * Gets the {@linkplain NameKey} of the provided name
+     * 
+     * @param name the name, can be null
+     * @return a {@linkplain NameKey}
+     */
+    public static NameKey From(String name)
+    {
+        return name == null ? EMPTY : new NameKey(name);
+    }
+
+    /**
+     * Folds the case of the provided name the same way the {@linkplain NameKey}s do
+     * 
+     * @param name the name to fold, can be null
+     * @return the case folded {@linkplain String} or null
+     */
+    public static String CaseFold(String name)
+    {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the exact name
+     * 
+     * @return a {@linkplain String} or null
+     */
+    public String GetExact()
+    {
+        return this.exact;
+    }
+
+    /**
+     * Gets the case folded name
+     * 
+     * @return a {@linkplain String} or null
+     */
+    public String GetCaseFolded()
+    {
+        return this.caseFolded;
+    }
+
+    /**
+     * Gets the 10-25 compliant short name computed from the name
+     * 
+     * @return a {@linkplain String} or null
+     */
+    public String GetShortName()
+    {
+        return this.shortName;
+    }
+
+    /**
+     * Gets a value indicating whether this {@linkplain NameKey} has been computed from the provided name
+     * 
+     * @param name the name
+     * @return a {@linkplain boolean}
+     */
+    public boolean IsComputedFrom(String name)
+    {
+        return Objects.equals(this.exact, name);
+    }
+
+    /**
+     * Verifies that the provided {@linkplain NameKey} represents the same name ignoring the case
+     * 
+     * @param other the other {@linkplain NameKey}
+     * @return a value indicating whether both names are equal ignoring the case
+     */
+    public boolean IsSameName(NameKey other)
+    {
+        return other != null && this.caseFolded != null && this.caseFolded.equals(other.caseFolded);
+    }
+
+    /**
+     * Verifies that the provided {@linkplain NameKey} has the same short name
+     * 
+     * @param other the other {@linkplain NameKey}
+     * @return a value indicating whether both short names are equal
+     */
+    public boolean IsSameShortName(NameKey other)
+    {
+        return other != null && this.shortName != null && this.shortName.equals(other.shortName);
+    }
+
+    /**
+     * Gets a {@linkplain String} representation of this {@linkplain NameKey}
+     * 
+     * @return a {@linkplain String}
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("%s [%s, %s]", this.exact, this.caseFolded, this.shortName);
+    }
+}
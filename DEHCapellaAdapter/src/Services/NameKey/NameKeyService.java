@@ -0,0 +1,160 @@
+/*
+ * NameKeyService.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.NameKey;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.polarsys.capella.common.data.modellingcore.AbstractNamedElement;
+
+import cdp4common.commondata.DefinedThing;
+
+/**
+ * The {@linkplain NameKeyService} computes and caches the {@linkplain NameKey}s of the Capella elements and of the hub things.
+ * The keys are held in weak maps and verified against the current names, so that the Capella elements are never modified, 
+ * which allows to get keys outside of any transaction and from several threads
+ */
+public class NameKeyService implements INameKeyService
+{
+    /**
+     * The {@linkplain NameKey}s of the {@linkplain AbstractNamedElement}s, weakly referenced so that they do not outlive the Capella session, 
+     * EMF objects are compared by identity
+     */
+    private final Map<AbstractNamedElement, NameKey> elementKeys = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    /**
+     * The {@linkplain ThingNameKeys} of the {@linkplain DefinedThing}s, weakly referenced so that they do not outlive the hub session
+     */
+    private final Map<DefinedThing, ThingNameKeys> thingKeys = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets the {@linkplain NameKey} of the provided Capella {@linkplain AbstractNamedElement},
+     * it is computed once and kept until the name of the element changes
+     * 
+     * @param element the {@linkplain AbstractNamedElement}
+     * @return a {@linkplain NameKey}
+     */
+    @Override
+    public NameKey GetKey(AbstractNamedElement element)
+    {
+        if(element == null)
+        {
+            return NameKey.EMPTY;
+        }
+        
+        var name = element.getName();
+        var key = this.elementKeys.get(element);
+        
+        if(key == null || !key.IsComputedFrom(name))
+        {
+            key = NameKey.From(name);
+            this.elementKeys.put(element, key);
+        }
+        
+        return key;
+    }
+
+    /**
+     * Gets the {@linkplain NameKey} of the name of the provided {@linkplain DefinedThing},
+     * it is computed once and kept until the name of the thing changes
+     * 
+     * @param thing the {@linkplain DefinedThing}
+     * @return a {@linkplain NameKey}
+     */
+    @Override
+    public NameKey GetKey(DefinedThing thing)
+    {
+        return thing == null ? NameKey.EMPTY : this.GetThingNameKeys(thing).name;
+    }
+
+    /**
+     * Gets the {@linkplain NameKey} of the short name of the provided {@linkplain DefinedThing},
+     * it is computed once and kept until the short name of the thing changes
+     * 
+     * @param thing the {@linkplain DefinedThing}
+     * @return a {@linkplain NameKey}
+     */
+    @Override
+    public NameKey GetShortNameKey(DefinedThing thing)
+    {
+        return thing == null ? NameKey.EMPTY : this.GetThingNameKeys(thing).shortName;
+    }
+
+    /**
+     * Removes all the computed {@linkplain NameKey}s
+     */
+    @Override
+    public void Clear()
+    {
+        this.elementKeys.clear();
+        this.thingKeys.clear();
+    }
+
+    /**
+     * Gets the {@linkplain ThingNameKeys} of the provided {@linkplain DefinedThing}, computing them again when its name or short name changed
+     * 
+     * @param thing the {@linkplain DefinedThing}
+     * @return the {@linkplain ThingNameKeys}
+     */
+    private ThingNameKeys GetThingNameKeys(DefinedThing thing)
+    {
+        var keys = this.thingKeys.get(thing);
+        
+        if(keys == null || !keys.name.IsComputedFrom(thing.getName()) || !keys.shortName.IsComputedFrom(thing.getShortName()))
+        {
+            keys = new ThingNameKeys(thing);
+            this.thingKeys.put(thing, keys);
+        }
+        
+        return keys;
+    }
+
+    /**
+     * The {@linkplain ThingNameKeys} holds the {@linkplain NameKey}s of the name and of the short name of one {@linkplain DefinedThing}
+     */
+    private static final class ThingNameKeys
+    {
+        /**
+         * The {@linkplain NameKey} of the name
+         */
+        final NameKey name;
+
+        /**
+         * The {@linkplain NameKey} of the short name
+         */
+        final NameKey shortName;
+
+        /**
+         * Initializes a new {@linkplain ThingNameKeys}
+         * 
+         * @param thing the {@linkplain DefinedThing}
+         */
+        ThingNameKeys(DefinedThing thing)
+        {
+            this.name = NameKey.From(thing.getName());
+            this.shortName = NameKey.From(thing.getShortName());
+        }
+    }
+}
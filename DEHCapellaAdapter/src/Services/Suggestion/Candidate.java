@@ -0,0 +1,74 @@
+/*
+ * Candidate.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Suggestion;
+
+/**
+ * The {@linkplain Candidate} is an element suggested by a {@linkplain TrigramIndex} along with the similarity of its name
+ * 
+ * @param <TElement> the type of the suggested element
+ */
+public final class Candidate<TElement>
+{
+    /**
+     * The suggested element
+     */
+    private final TElement element;
+
+    /**
+     * The similarity between the queried name and the name of the {@linkplain #element}, between 0 and 1
+     */
+    private final double similarity;
+
+    /**
+     * Initializes a new {@linkplain Candidate}
+     * 
+     * @param element the suggested element
+     * @param similarity the similarity between 0 and 1
+     */
+    Candidate(TElement element, double similarity)
+    {
+        this.element = element;
+        this.similarity = similarity;
+    }
+
+    /**
+     * Gets the suggested element
+     * 
+     * @return the {@linkplain #TElement}
+     */
+    public TElement GetElement()
+    {
+        return this.element;
+    }
+
+    /**
+     * Gets the similarity between the queried name and the name of the suggested element
+     * 
+     * @return a {@linkplain double} between 0 and 1
+     */
+    public double GetSimilarity()
+    {
+        return this.similarity;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * ISuggestionService.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Suggestion;
+
+import java.util.List;
+
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+
+import Enumerations.CapellaArchitecture;
+import cdp4common.commondata.DefinedThing;
+
+/**
+ * The {@linkplain ISuggestionService} is the interface definition for the service {@linkplain SuggestionService}
+ */
+public interface ISuggestionService
+{
+    /**
+     * Gets the Capella {@linkplain NamedElement}s whose names are the most similar to the provided name.
+     * Returns an empty list while the index of the open Capella models is being built.
+     * 
+     * @param <TElement> the type of {@linkplain NamedElement}
+     * @param name the name to look for
+     * @param architecture the {@linkplain CapellaArchitecture} the elements have to belong to, null to look in all architectures
+     * @param elementType the {@linkplain Class} of {@linkplain #TElement} the elements have to be instance of
+     * @param count the maximum number of {@linkplain Candidate}s to return
+     * @return a {@linkplain List} of {@linkplain Candidate} sorted by descending similarity
+     */
+    <TElement extends NamedElement> List<Candidate<TElement>> GetCapellaCandidates(String name, CapellaArchitecture architecture, Class<TElement> elementType, int count);
+
+    /**
+     * Gets the non deprecated {@linkplain DefinedThing}s of the open iteration whose names are the most similar to the provided name.
+     * Returns an empty list while the index of the open iteration is being built.
+     * 
+     * @param <TThing> the type of {@linkplain DefinedThing}, either element definitions or requirements are indexed
+     * @param name the name to look for
+     * @param thingType the {@linkplain Class} of {@linkplain #TThing} the things have to be instance of
+     * @param count the maximum number of {@linkplain Candidate}s to return
+     * @return a {@linkplain List} of {@linkplain Candidate} sorted by descending similarity
+     */
+    <TThing extends DefinedThing> List<Candidate<TThing>> GetHubCandidates(String name, Class<TThing> thingType, int count);
+
+    /**
+     * Builds again, in the background, the indexes of the open Capella models and of the open iteration
+     */
+    void Rebuild();
+}
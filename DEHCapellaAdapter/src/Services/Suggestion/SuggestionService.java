@@ -0,0 +1,400 @@
+/*
+ * SuggestionService.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+
+import Enumerations.CapellaArchitecture;
+import HubController.IHubController;
+import Services.CapellaSession.ICapellaSessionService;
+import cdp4common.commondata.DefinedThing;
+import cdp4common.commondata.Thing;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.Iteration;
+import cdp4common.engineeringmodeldata.Requirement;
+
+/**
+ * The {@linkplain SuggestionService} builds, in the background, {@linkplain TrigramIndex}es over the names of the Capella {@linkplain NamedElement}s,
+ * partitioned by {@linkplain CapellaArchitecture} and {@linkplain EClass}, and over the names of the {@linkplain ElementDefinition}s and {@linkplain Requirement}s
+ * of the open iteration. The Capella indexes are built again once the version of the Capella models changed, 
+ * and the hub indexes once the open iteration or the revision of one of its indexed things changed.
+ */
+public class SuggestionService implements ISuggestionService
+{
+    /**
+     * The similarity below which no candidate is suggested
+     */
+    private static final double MINIMUMSIMILARITY = 0.3;
+
+    /**
+     * The current class logger
+     */
+    private final Logger logger = LogManager.getLogger();
+
+    /**
+     * The {@linkplain ICapellaSessionService} instance
+     */
+    private final ICapellaSessionService sessionService;
+
+    /**
+     * The {@linkplain IHubController} instance
+     */
+    private final IHubController hubController;
+
+    /**
+     * The {@linkplain ExecutorService} that builds the indexes one at a time
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(x -> 
+    {
+        var thread = new Thread(x, "DEH-Capella suggestion index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The version of the Capella models the Capella indexes are built or being built for, -1 when none is requested
+     */
+    private final AtomicLong capellaModelsVersion = new AtomicLong(-1);
+
+    /**
+     * The generation of the hub index, incremented on each rebuild request so that outdated builds get discarded
+     */
+    private final AtomicInteger hubGeneration = new AtomicInteger();
+
+    /**
+     * The {@linkplain TrigramIndex}es of the Capella {@linkplain NamedElement}s by {@linkplain CapellaArchitecture} and {@linkplain EClass}, null until built
+     */
+    private volatile HashMap<Pair<CapellaArchitecture, EClass>, TrigramIndex<NamedElement>> capellaIndexes;
+
+    /**
+     * The {@linkplain TrigramIndex}es of the {@linkplain DefinedThing}s by {@linkplain Class}, null until built
+     */
+    private volatile HashMap<Class<? extends DefinedThing>, TrigramIndex<DefinedThing>> hubIndexes;
+
+    /**
+     * The open {@linkplain Iteration} and its revision the hub indexes are built or being built for, null when none is requested
+     */
+    private Pair<Iteration, Integer> hubIterationRevision;
+
+    /**
+     * Initializes a new {@linkplain SuggestionService}
+     * 
+     * @param sessionService the {@linkplain ICapellaSessionService} instance
+     * @param hubController the {@linkplain IHubController} instance
+     */
+    public SuggestionService(ICapellaSessionService sessionService, IHubController hubController)
+    {
+        this.sessionService = sessionService;
+        this.hubController = hubController;
+        
+        this.sessionService.HasAnyOpenSessionObservable().subscribe(x -> this.RebuildCapellaIndexes(false), this.logger::catching);
+        this.sessionService.SessionUpdated().subscribe(x -> this.RebuildCapellaIndexes(false), this.logger::catching);
+        this.hubController.GetIsSessionOpenObservable().subscribe(x -> this.RebuildHubIndexes(false), this.logger::catching);
+        this.hubController.GetSessionEventObservable().subscribe(x -> this.RebuildHubIndexes(false), this.logger::catching);
+    }
+
+    /**
+     * Gets the Capella {@linkplain NamedElement}s whose names are the most similar to the provided name.
+     * Returns an empty list while the index of the open Capella models is being built, 
+     * the index gets built again when the Capella models changed since it was last built.
+     * 
+     * @param <TElement> the type of {@linkplain NamedElement}
+     * @param name the name to look for
+     * @param architecture the {@linkplain CapellaArchitecture} the elements have to belong to, null to look in all architectures
+     * @param elementType the {@linkplain Class} of {@linkplain #TElement} the elements have to be instance of
+     * @param count the maximum number of {@linkplain Candidate}s to return
+     * @return a {@linkplain List} of {@linkplain Candidate} sorted by descending similarity
+     */
+    @Override
+    public <TElement extends NamedElement> List<Candidate<TElement>> GetCapellaCandidates(String name, CapellaArchitecture architecture, Class<TElement> elementType, int count)
+    {
+        this.RebuildCapellaIndexes(false);
+        var indexes = this.capellaIndexes;
+        
+        if(indexes == null)
+        {
+            return new ArrayList<>();
+        }
+        
+        return Query(indexes.entrySet().stream()
+                .filter(x -> architecture == null || x.getKey().getLeft() == architecture)
+                .filter(x -> x.getKey().getRight().getInstanceClass() != null && elementType.isAssignableFrom(x.getKey().getRight().getInstanceClass()))
+                .map(x -> x.getValue()), name, elementType, count);
+    }
+
+    /**
+     * Gets the non deprecated {@linkplain DefinedThing}s of the open iteration whose names are the most similar to the provided name.
+     * Returns an empty list while the index of the open iteration is being built.
+     * 
+     * @param <TThing> the type of {@linkplain DefinedThing}, either element definitions or requirements are indexed
+     * @param name the name to look for
+     * @param thingType the {@linkplain Class} of {@linkplain #TThing} the things have to be instance of
+     * @param count the maximum number of {@linkplain Candidate}s to return
+     * @return a {@linkplain List} of {@linkplain Candidate} sorted by descending similarity
+     */
+    @Override
+    public <TThing extends DefinedThing> List<Candidate<TThing>> GetHubCandidates(String name, Class<TThing> thingType, int count)
+    {
+        var indexes = this.hubIndexes;
+        
+        if(indexes == null)
+        {
+            return new ArrayList<>();
+        }
+        
+        return Query(indexes.entrySet().stream()
+                .filter(x -> thingType.isAssignableFrom(x.getKey()))
+                .map(x -> x.getValue()), name, thingType, count);
+    }
+
+    /**
+     * Builds again, in the background, the indexes of the open Capella models and of the open iteration
+     */
+    @Override
+    public void Rebuild()
+    {
+        this.RebuildCapellaIndexes(true);
+        this.RebuildHubIndexes(true);
+    }
+
+    /**
+     * Queries the provided {@linkplain TrigramIndex}es and merges their {@linkplain Candidate}s
+     * 
+     * @param <TElement> the type of the indexed elements
+     * @param <TResult> the type of the returned elements
+     * @param indexes the {@linkplain Stream} of {@linkplain TrigramIndex} to query
+     * @param name the name to look for
+     * @param resultType the {@linkplain Class} of {@linkplain #TResult}
+     * @param count the maximum number of {@linkplain Candidate}s to return
+     * @return a {@linkplain List} of {@linkplain Candidate} sorted by descending similarity
+     */
+    private static <TElement, TResult extends TElement> List<Candidate<TResult>> Query(Stream<TrigramIndex<TElement>> indexes, String name, Class<TResult> resultType, int count)
+    {
+        return indexes.flatMap(x -> x.Query(name, count, MINIMUMSIMILARITY).stream())
+                .filter(x -> resultType.isInstance(x.GetElement()))
+                .sorted(Comparator.comparingDouble(Candidate<TElement>::GetSimilarity).reversed())
+                .limit(count)
+                .map(x -> new Candidate<>(resultType.cast(x.GetElement()), x.GetSimilarity()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Discards the current Capella indexes and builds them again in the background when the version of the Capella models changed 
+     * since they were requested
+     * 
+     * @param force a value indicating whether the indexes have to be built again even if the models did not change
+     */
+    private synchronized void RebuildCapellaIndexes(boolean force)
+    {
+        var version = this.sessionService.GetModelsVersion();
+        
+        if(this.capellaModelsVersion.getAndSet(version) == version && !force)
+        {
+            return;
+        }
+        
+        this.capellaIndexes = null;
+        
+        this.executor.execute(() -> 
+        {
+            if(version != this.capellaModelsVersion.get())
+            {
+                return;
+            }
+            
+            try
+            {
+                var indexes = this.BuildCapellaIndexes();
+                
+                if(version == this.capellaModelsVersion.get())
+                {
+                    this.capellaIndexes = indexes;
+                }
+            }
+            catch(Exception exception)
+            {
+                this.logger.catching(exception);
+            }
+        });
+    }
+
+    /**
+     * Discards the current hub indexes and builds them again in the background when the open {@linkplain Iteration} or its revision changed 
+     * since they were requested
+     * 
+     * @param force a value indicating whether the indexes have to be built again even if the open {@linkplain Iteration} did not change
+     */
+    private synchronized void RebuildHubIndexes(boolean force)
+    {
+        var iterationRevision = this.GetOpenIterationRevision();
+        
+        if(!force && this.hubIterationRevision != null && iterationRevision != null 
+                && this.hubIterationRevision.getLeft() == iterationRevision.getLeft() 
+                && this.hubIterationRevision.getRight().equals(iterationRevision.getRight()))
+        {
+            return;
+        }
+        
+        this.hubIterationRevision = iterationRevision;
+        var generation = this.hubGeneration.incrementAndGet();
+        this.hubIndexes = null;
+        
+        this.executor.execute(() -> 
+        {
+            if(generation != this.hubGeneration.get())
+            {
+                return;
+            }
+            
+            try
+            {
+                var indexes = this.BuildHubIndexes();
+                
+                if(generation == this.hubGeneration.get())
+                {
+                    this.hubIndexes = indexes;
+                }
+            }
+            catch(Exception exception)
+            {
+                this.logger.catching(exception);
+            }
+        });
+    }
+
+    /**
+     * Gets the open {@linkplain Iteration} and the highest revision among it and the things the hub indexes are built from
+     * 
+     * @return a {@linkplain Pair} of {@linkplain Iteration} and revision number, or null when no iteration is open
+     */
+    private Pair<Iteration, Integer> GetOpenIterationRevision()
+    {
+        var iteration = this.hubController.GetOpenIteration();
+        
+        if(iteration == null)
+        {
+            return null;
+        }
+        
+        var requirements = iteration.getRequirementsSpecification().stream()
+                .flatMap(x -> Stream.<Thing>concat(Stream.of(x), x.getRequirement().stream()));
+        
+        var revision = Stream.<Thing>concat(Stream.<Thing>concat(Stream.of(iteration), iteration.getElement().stream()), requirements)
+                .mapToInt(Thing::getRevisionNumber)
+                .max()
+                .orElse(0);
+        
+        return Pair.of(iteration, revision);
+    }
+
+    /**
+     * Builds the {@linkplain TrigramIndex}es of the {@linkplain NamedElement}s of the open Capella models, 
+     * the models of each {@linkplain Session} are read under a read-only transaction so that no command can change them in the meantime
+     * 
+     * @return a {@linkplain HashMap} of {@linkplain TrigramIndex} by {@linkplain CapellaArchitecture} and {@linkplain EClass}
+     * @throws InterruptedException if the thread got interrupted while waiting for the read-only transaction
+     */
+    HashMap<Pair<CapellaArchitecture, EClass>, TrigramIndex<NamedElement>> BuildCapellaIndexes() throws InterruptedException
+    {
+        var partitions = new HashMap<Pair<CapellaArchitecture, EClass>, List<NamedElement>>();
+        
+        for (var session : this.sessionService.GetOpenSessions())
+        {
+            var editingDomain = session.getTransactionalEditingDomain();
+            
+            editingDomain.runExclusive(() -> 
+            {
+                var contents = editingDomain.getResourceSet().getAllContents();
+                
+                while(contents.hasNext())
+                {
+                    var element = contents.next();
+                    
+                    if(element instanceof NamedElement)
+                    {
+                        var namedElement = (NamedElement)element;
+                        partitions.computeIfAbsent(Pair.of(CapellaArchitecture.From(namedElement), namedElement.eClass()), x -> new ArrayList<>()).add(namedElement);
+                    }
+                }
+            });
+        }
+        
+        return BuildIndexes(partitions, NamedElement::getName);
+    }
+
+    /**
+     * Builds the {@linkplain TrigramIndex}es of the non deprecated {@linkplain ElementDefinition}s and {@linkplain Requirement}s of the open iteration
+     * 
+     * @return a {@linkplain HashMap} of {@linkplain TrigramIndex} by {@linkplain Class}
+     */
+    HashMap<Class<? extends DefinedThing>, TrigramIndex<DefinedThing>> BuildHubIndexes()
+    {
+        var partitions = new HashMap<Class<? extends DefinedThing>, List<DefinedThing>>();
+        var iteration = this.hubController.GetOpenIteration();
+        
+        if(iteration != null)
+        {
+            partitions.put(ElementDefinition.class, new ArrayList<>(iteration.getElement()));
+            partitions.put(Requirement.class, iteration.getRequirementsSpecification().stream()
+                    .flatMap(x -> x.getRequirement().stream())
+                    .filter(x -> !x.isDeprecated())
+                    .collect(Collectors.toList()));
+        }
+        
+        return BuildIndexes(partitions, DefinedThing::getName);
+    }
+
+    /**
+     * Builds one {@linkplain TrigramIndex} per partition
+     * 
+     * @param <TKey> the type of partition key
+     * @param <TElement> the type of element
+     * @param partitions the {@linkplain HashMap} of elements by partition key
+     * @param nameSelector the {@linkplain Function} that gets the name of an element
+     * @return a {@linkplain HashMap} of {@linkplain TrigramIndex} by partition key
+     */
+    private static <TKey, TElement> HashMap<TKey, TrigramIndex<TElement>> BuildIndexes(HashMap<TKey, List<TElement>> partitions, Function<TElement, String> nameSelector)
+    {
+        var indexes = new HashMap<TKey, TrigramIndex<TElement>>();
+        partitions.forEach((key, elements) -> indexes.put(key, new TrigramIndex<>(elements, nameSelector)));
+        return indexes;
+    }
+}
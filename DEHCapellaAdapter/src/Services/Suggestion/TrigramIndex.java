@@ -0,0 +1,280 @@
+/*
+ * TrigramIndex.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import Services.NameKey.NameKey;
+
+/**
+ * The {@linkplain TrigramIndex} is an immutable index of elements by the trigrams of their case folded names,
+ * it returns the elements whose names are the most similar to a queried name without comparing the queried name to every element
+ * 
+ * @param <TElement> the type of indexed element
+ */
+public final class TrigramIndex<TElement>
+{
+    /**
+     * The indexed elements
+     */
+    private final List<TElement> elements = new ArrayList<>();
+
+    /**
+     * The number of distinct trigrams of the name of each element in {@linkplain #elements}
+     */
+    private final int[] trigramCounts;
+
+    /**
+     * The indexes in {@linkplain #elements} of the elements that contain a trigram, by trigram
+     */
+    private final HashMap<String, int[]> postings = new HashMap<>();
+    
+    /**
+     * The {@linkplain QueryScratch} of each thread that queries this index, so that a query does not allocate buffers the size of the index
+     */
+    private final ThreadLocal<QueryScratch> queryScratch = ThreadLocal.withInitial(() -> new QueryScratch(this.elements.size()));
+
+    /**
+     * Initializes a new {@linkplain TrigramIndex}
+     * 
+     * @param elements the {@linkplain Collection} of elements to index, the elements without name are ignored
+     * @param nameSelector the {@linkplain Function} that gets the name of an element
+     */
+    public TrigramIndex(Collection<? extends TElement> elements, Function<TElement, String> nameSelector)
+    {
+        var counts = new int[elements.size()];
+        var postingsBuilder = new HashMap<String, Postings>();
+        
+        for (var element : elements)
+        {
+            var trigrams = GetTrigrams(nameSelector.apply(element));
+            
+            if(trigrams.isEmpty())
+            {
+                continue;
+            }
+            
+            var index = this.elements.size();
+            this.elements.add(element);
+            counts[index] = trigrams.size();
+            
+            for (var trigram : trigrams)
+            {
+                postingsBuilder.computeIfAbsent(trigram, x -> new Postings()).Add(index);
+            }
+        }
+        
+        this.trigramCounts = Arrays.copyOf(counts, this.elements.size());
+        postingsBuilder.forEach((trigram, postings) -> this.postings.put(trigram, postings.ToArray()));
+    }
+
+    /**
+     * Gets the number of indexed elements
+     * 
+     * @return an {@linkplain int}
+     */
+    public int Size()
+    {
+        return this.elements.size();
+    }
+
+    /**
+     * Gets the elements whose names are the most similar to the provided name, the similarity is the Dice coefficient of the name trigrams
+     * 
+     * @param name the name to look for
+     * @param count the maximum number of {@linkplain Candidate}s to return
+     * @param minimumSimilarity the similarity below which elements are not returned
+     * @return a {@linkplain List} of {@linkplain Candidate} sorted by descending similarity
+     */
+    public List<Candidate<TElement>> Query(String name, int count, double minimumSimilarity)
+    {
+        var trigrams = GetTrigrams(name);
+        
+        if(trigrams.isEmpty() || count <= 0)
+        {
+            return new ArrayList<>();
+        }
+        
+        var scratch = this.queryScratch.get();
+        var commonTrigrams = scratch.commonTrigrams;
+        var matchingElements = scratch.matchingElements;
+        var matchingElementCount = 0;
+        
+        for (var trigram : trigrams)
+        {
+            var elementIndexes = this.postings.get(trigram);
+            
+            if(elementIndexes == null)
+            {
+                continue;
+            }
+            
+            for (var index : elementIndexes)
+            {
+                if(commonTrigrams[index]++ == 0)
+                {
+                    matchingElements[matchingElementCount++] = index;
+                }
+            }
+        }
+        
+        var bestCandidates = new PriorityQueue<Candidate<TElement>>(count + 1, Comparator.comparingDouble(Candidate::GetSimilarity));
+        
+        for (var matchingIndex = 0; matchingIndex < matchingElementCount; matchingIndex++)
+        {
+            var index = matchingElements[matchingIndex];
+            var similarity = 2d * commonTrigrams[index] / (trigrams.size() + this.trigramCounts[index]);
+            commonTrigrams[index] = 0;
+            
+            if(similarity < minimumSimilarity)
+            {
+                continue;
+            }
+            
+            bestCandidates.add(new Candidate<>(this.elements.get(index), similarity));
+            
+            if(bestCandidates.size() > count)
+            {
+                bestCandidates.poll();
+            }
+        }
+        
+        var candidates = new ArrayList<>(bestCandidates);
+        candidates.sort(Comparator.comparingDouble(Candidate<TElement>::GetSimilarity).reversed());
+        return candidates;
+    }
+
+    /**
+     * Gets the distinct trigrams of the provided name once case folded, each word being padded so that short names still produce trigrams
+     * 
+     * @param name the name
+     * @return a {@linkplain Set} of trigrams
+     */
+    static Set<String> GetTrigrams(String name)
+    {
+        var trigrams = new LinkedHashSet<String>();
+        
+        if(StringUtils.isBlank(name))
+        {
+            return trigrams;
+        }
+        
+        for (var word : NameKey.CaseFold(name).split("[^\\p{L}\\p{N}]+"))
+        {
+            if(word.isEmpty())
+            {
+                continue;
+            }
+            
+            var paddedWord = String.format("  %s ", word);
+            
+            for (var index = 0; index + 3 <= paddedWord.length(); index++)
+            {
+                trigrams.add(paddedWord.substring(index, index + 3));
+            }
+        }
+        
+        return trigrams;
+    }
+
+    /**
+     * The {@linkplain QueryScratch} holds the buffers a thread reuses across its queries, 
+     * the common trigram counts are reset to zero while the matching elements are scored
+     */
+    private static final class QueryScratch
+    {
+        /**
+         * The number of trigrams each element shares with the queried name, by element index
+         */
+        final int[] commonTrigrams;
+
+        /**
+         * The indexes of the elements that share at least one trigram with the queried name
+         */
+        final int[] matchingElements;
+
+        /**
+         * Initializes a new {@linkplain QueryScratch}
+         * 
+         * @param size the number of indexed elements
+         */
+        QueryScratch(int size)
+        {
+            this.commonTrigrams = new int[size];
+            this.matchingElements = new int[size];
+        }
+    }
+
+    /**
+     * The {@linkplain Postings} is the growable list of element indexes used while building the {@linkplain TrigramIndex}
+     */
+    private static final class Postings
+    {
+        /**
+         * The element indexes
+         */
+        private int[] indexes = new int[4];
+
+        /**
+         * The number of element indexes
+         */
+        private int size;
+
+        /**
+         * Adds the provided element index
+         * 
+         * @param index the element index
+         */
+        void Add(int index)
+        {
+            if(this.size == this.indexes.length)
+            {
+                this.indexes = Arrays.copyOf(this.indexes, this.size * 2);
+            }
+            
+            this.indexes[this.size++] = index;
+        }
+
+        /**
+         * Gets the element indexes as an array of the exact size
+         * 
+         * @return an array of {@linkplain int}
+         */
+        int[] ToArray()
+        {
+            return Arrays.copyOf(this.indexes, this.size);
+        }
+    }
+}
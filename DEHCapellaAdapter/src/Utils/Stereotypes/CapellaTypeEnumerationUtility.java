@@ -23,10 +23,6 @@
  */
 package Utils.Stereotypes;
 
-import java.util.Arrays;
-import java.util.Optional;
-import java.util.function.Function;
-
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
@@ -57,26 +53,7 @@ public final class CapellaTypeEnumerationUtility
     @SuppressWarnings("unchecked")
     public static <TEnum extends Enum<?> & ICapellaTypeEnumeration<?, ?>> TEnum From(Class<? extends CapellaElement> classType)
     {
-        Function<TEnum[], Optional<TEnum>> result = x -> Arrays.asList(x)
-                .stream()
-                .filter(e -> e.ClassType() == classType)
-                .findFirst();
-        
-        var component = result.apply((TEnum[]) ComponentType.values());
-        
-        if(component.isPresent())
-        {
-            return component.get();
-        }
-        
-        var requirement = result.apply((TEnum[]) RequirementType.values());
-        
-        if(requirement.isPresent())
-        {
-            return requirement.get();
-        }
-        
-        return null;
+        return (TEnum)CapellaTypeRegistry.GetType(classType);
     }
     
     /**
@@ -85,25 +62,9 @@ public final class CapellaTypeEnumerationUtility
      * @param valueOrLabel a {@linkplain String} that could potentially match the {@linkplain Label} of the enum value
      * @return a {@linkplain ComponentType}
      */
-    @SuppressWarnings("finally")
     public static ComponentType ComponentTypeFrom(String valueOrLabel)
     {
-        for(var value : ComponentType.values())
-        {
-            if(VerifyEnumerationValue(valueOrLabel, value)) 
-            {
-                return value;
-            }
-        }
-        
-        try
-        {
-            return ComponentType.valueOf(valueOrLabel);
-        }
-        finally
-        {
-            return null;
-        }
+        return CapellaTypeRegistry.GetComponentType(valueOrLabel);
     }
     
     /**
@@ -112,37 +73,8 @@ public final class CapellaTypeEnumerationUtility
      * @param valueOrLabel a {@linkplain String} that could potentially match the {@linkplain Label} of the enum value
      * @return a {@linkplain RequirementType}
      */
-    @SuppressWarnings("finally")
     public static RequirementType RequirementTypeFrom(String valueOrLabel)
     {
-        for(var value : RequirementType.values())
-        {
-            if(VerifyEnumerationValue(valueOrLabel, value)) 
-            {
-                return value;
-            }
-        }
-                
-        try
-        {
-            return RequirementType.valueOf(valueOrLabel);
-        }
-        finally
-        {
-            return null;
-        }
-    }
-
-    /**
-     * Assert that the provided {@linkplain #value} matches the provided {@linkplain #valueOrLabel}
-     * 
-     * @param valueOrLabel a {@linkplain String} that could potentially match the {@linkplain Label} of the enum value
-     * @param value the current {@linkplain ICapellaTypeEnumeration} value
-     * @return a value indicating whether the {@linkplain #value} meets the requirements in order to match the provided {@linkplain #valueOrLabel}
-     */
-    private static boolean VerifyEnumerationValue(String valueOrLabel, ICapellaTypeEnumeration<?, ?> value)
-    {
-        return value.Label().equalsIgnoreCase(valueOrLabel) || (value.ClassType() != null 
-                && value.ClassType().getSimpleName().equalsIgnoreCase(valueOrLabel));
+        return CapellaTypeRegistry.GetRequirementType(valueOrLabel);
     }
 }
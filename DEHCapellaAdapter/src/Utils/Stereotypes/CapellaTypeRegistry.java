@@ -0,0 +1,234 @@
+/*
+ * CapellaTypeRegistry.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Utils.Stereotypes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EFactory;
+import org.eclipse.emf.ecore.EPackage;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+
+/**
+ * The {@linkplain CapellaTypeRegistry} holds the {@linkplain EClass}es and {@linkplain EFactory}s of the Capella types
+ * and the {@linkplain ComponentType} and {@linkplain RequirementType} lookups. It is built once when the adapter gets started
+ * so that creating Capella elements and resolving category names do not probe every {@linkplain EPackage} nor loop over the enumeration values
+ */
+@Annotations.ExludeFromCodeCoverageGeneratedReport
+public final class CapellaTypeRegistry
+{
+    /**
+     * The current class logger
+     */
+    private static final Logger logger = LogManager.getLogger();
+    
+    /**
+     * The current {@linkplain CapellaTypeRegistry} instance
+     */
+    private static volatile CapellaTypeRegistry current;
+    
+    /**
+     * The {@linkplain EClassifier} and their {@linkplain EFactory} by {@linkplain EClassifier} name, 
+     * the first {@linkplain EPackage} from {@linkplain StereotypeUtils#GetEPackages()} that defines a name wins
+     */
+    private final HashMap<String, Pair<EClassifier, EFactory>> eClassifiersByName = new HashMap<>();
+    
+    /**
+     * The {@linkplain EClass} and their {@linkplain EFactory} by Java instance {@linkplain Class}
+     */
+    private final HashMap<Class<?>, Pair<EClass, EFactory>> eClassesByInstanceClass = new HashMap<>();
+    
+    /**
+     * The {@linkplain ICapellaTypeEnumeration} values by {@linkplain ICapellaTypeEnumeration#ClassType()}
+     */
+    private final HashMap<Class<?>, ICapellaTypeEnumeration<?, ?>> typesByClass = new HashMap<>();
+    
+    /**
+     * The {@linkplain ComponentType} by label and by class simple name, ignoring the case
+     */
+    private final TreeMap<String, ComponentType> componentTypes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    /**
+     * The {@linkplain RequirementType} by label and by class simple name, ignoring the case
+     */
+    private final TreeMap<String, RequirementType> requirementTypes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    /**
+     * Initializes a new {@linkplain CapellaTypeRegistry}
+     * 
+     * @param ePackages the {@linkplain List} of {@linkplain EPackage} to register in order of precedence
+     */
+    private CapellaTypeRegistry(List<EPackage> ePackages)
+    {
+        for (var ePackage : ePackages)
+        {
+            var eFactory = ePackage.getEFactoryInstance();
+            
+            for (var eClassifier : ePackage.getEClassifiers())
+            {
+                if(this.eClassifiersByName.putIfAbsent(eClassifier.getName(), Pair.of(eClassifier, eFactory)) == null 
+                        && eClassifier instanceof EClass && eClassifier.getInstanceClass() != null)
+                {
+                    this.eClassesByInstanceClass.putIfAbsent(eClassifier.getInstanceClass(), Pair.of((EClass)eClassifier, eFactory));
+                }
+            }
+        }
+        
+        this.RegisterTypes(ComponentType.values(), this.componentTypes);
+        this.RegisterTypes(RequirementType.values(), this.requirementTypes);
+    }
+    
+    /**
+     * Registers the provided {@linkplain ICapellaTypeEnumeration} values by class, by label and by class simple name,
+     * the first value that matches wins
+     * 
+     * @param <TEnum> the type of {@linkplain ICapellaTypeEnumeration}
+     * @param values the values to register
+     * @param typesByName the {@linkplain TreeMap} that holds the values by label and by class simple name
+     */
+    private <TEnum extends ICapellaTypeEnumeration<?, ?>> void RegisterTypes(TEnum[] values, TreeMap<String, TEnum> typesByName)
+    {
+        for (var value : values)
+        {
+            this.typesByClass.putIfAbsent(value.ClassType(), value);
+            typesByName.putIfAbsent(value.Label(), value);
+            
+            if(value.ClassType() != null)
+            {
+                typesByName.putIfAbsent(value.ClassType().getSimpleName(), value);
+            }
+        }
+    }
+    
+    /**
+     * Builds the {@linkplain CapellaTypeRegistry} if it has not been built yet
+     */
+    public static void Initialize()
+    {
+        Current();
+    }
+    
+    /**
+     * Gets the current {@linkplain CapellaTypeRegistry}, builds it on first use
+     * 
+     * @return the {@linkplain CapellaTypeRegistry}
+     */
+    private static CapellaTypeRegistry Current()
+    {
+        var registry = current;
+        
+        if(registry == null)
+        {
+            synchronized (CapellaTypeRegistry.class)
+            {
+                registry = current;
+                
+                if(registry == null)
+                {
+                    registry = new CapellaTypeRegistry(StereotypeUtils.GetEPackages());
+                    current = registry;
+                    logger.debug(String.format("The Capella type registry holds %s classes", registry.eClassesByInstanceClass.size()));
+                }
+            }
+        }
+        
+        return registry;
+    }
+    
+    /**
+     * Gets the {@linkplain EClass} and the {@linkplain EFactory} that can create instances of the provided {@linkplain Class}
+     * 
+     * @param clazz the {@linkplain Class}
+     * @return a {@linkplain Pair} of {@linkplain EClass} and {@linkplain EFactory}, or null if the provided class is not a Capella type
+     */
+    public static Pair<EClass, EFactory> GetEClassAndFactory(Class<?> clazz)
+    {
+        var registry = Current();
+        var eClassAndFactory = registry.eClassesByInstanceClass.get(clazz);
+        
+        if(eClassAndFactory != null)
+        {
+            return eClassAndFactory;
+        }
+        
+        var eClassifierAndFactory = registry.eClassifiersByName.get(clazz.getSimpleName());
+        
+        if(eClassifierAndFactory != null && eClassifierAndFactory.getLeft() instanceof EClass)
+        {
+            return Pair.of((EClass)eClassifierAndFactory.getLeft(), eClassifierAndFactory.getRight());
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Gets the {@linkplain EClassifier} and its {@linkplain EFactory} that have the provided name
+     * 
+     * @param className the {@linkplain EClassifier} name
+     * @return a {@linkplain Pair} of {@linkplain EClassifier} and {@linkplain EFactory}, or null if none has the provided name
+     */
+    public static Pair<EClassifier, EFactory> GetEClassifierAndFactory(String className)
+    {
+        return className == null ? null : Current().eClassifiersByName.get(className);
+    }
+    
+    /**
+     * Gets the {@linkplain ComponentType} or the {@linkplain RequirementType} whose {@linkplain ICapellaTypeEnumeration#ClassType()} is the provided {@linkplain Class}
+     * 
+     * @param classType the {@linkplain CapellaElement} {@linkplain Class}
+     * @return a {@linkplain ICapellaTypeEnumeration}, or null
+     */
+    public static ICapellaTypeEnumeration<?, ?> GetType(Class<? extends CapellaElement> classType)
+    {
+        return Current().typesByClass.get(classType);
+    }
+    
+    /**
+     * Gets the {@linkplain ComponentType} whose label or class simple name matches the provided {@linkplain String}, ignoring the case
+     * 
+     * @param valueOrLabel the {@linkplain String} label or class simple name
+     * @return a {@linkplain ComponentType}, or null
+     */
+    public static ComponentType GetComponentType(String valueOrLabel)
+    {
+        return valueOrLabel == null ? null : Current().componentTypes.get(valueOrLabel);
+    }
+    
+    /**
+     * Gets the {@linkplain RequirementType} whose label or class simple name matches the provided {@linkplain String}, ignoring the case
+     * 
+     * @param valueOrLabel the {@linkplain String} label or class simple name
+     * @return a {@linkplain RequirementType}, or null
+     */
+    public static RequirementType GetRequirementType(String valueOrLabel)
+    {
+        return valueOrLabel == null ? null : Current().requirementTypes.get(valueOrLabel);
+    }
+}
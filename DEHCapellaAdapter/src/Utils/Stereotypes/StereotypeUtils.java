@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -75,6 +76,11 @@ import Utils.Ref;
 @Annotations.ExludeFromCodeCoverageGeneratedReport
 public final class StereotypeUtils
 { 
+    /**
+     * The {@linkplain Pattern} that matches the characters that are not allowed in a 10-25 short name
+     */
+    private static final Pattern SHORTNAMEEXCLUDEDCHARACTERS = Pattern.compile("[^a-zA-Z0-9-]|\\s");
+    
     /**
      * Gets a 10-25 compliant short name from the provided stereotype name
      * 
@@ -83,7 +89,7 @@ public final class StereotypeUtils
      */
     public static String GetShortName(String name)
     {
-        return name.replaceAll("[^a-zA-Z0-9-]|\\s", "").toLowerCase();
+        return SHORTNAMEEXCLUDEDCHARACTERS.matcher(name).replaceAll("").toLowerCase();
     }
 
     /**
@@ -259,25 +265,16 @@ public final class StereotypeUtils
      */
     public static Pair<EClassifier, EFactory> GetEClassAndFactory(String className)
     {
-        for (var ePackage : StereotypeUtils.GetEPackages())
-        {
-            var eClass = ePackage.getEClassifier(className);
-            
-            if(eClass != null)
-            {
-                return Pair.of(eClass, ePackage.getEFactoryInstance());
-            }
-        }
-        
-        return Pair.of(null, null);
+        var eClassAndFactory = CapellaTypeRegistry.GetEClassifierAndFactory(className);
+        return eClassAndFactory != null ? eClassAndFactory : Pair.of(null, null);
     }
 
     /**
-     * Gets a {@linkplain List} of {@linkplain EPackage}s instance
+     * Gets a {@linkplain List} of {@linkplain EPackage}s instance in the order the {@linkplain CapellaTypeRegistry} resolves the class names
      * 
      * @return {@linkplain List} of {@linkplain EPackage}
      */
-    private static List<EPackage> GetEPackages()
+    static List<EPackage> GetEPackages()
     {
         return Arrays.asList(PaPackage.eINSTANCE, LaPackage.eINSTANCE, FaPackage.eINSTANCE, RequirementPackage.eINSTANCE, CapellacorePackage.eINSTANCE,
                 InformationPackage.eINSTANCE, DatavaluePackage.eINSTANCE, DatatypePackage.eINSTANCE, CapellacommonPackage.eINSTANCE, 
@@ -25,16 +25,18 @@ package ViewModels;
 
 import static Utils.Operators.Operators.AreTheseEquals;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 
 import org.eclipse.emf.ecore.EObject;
-import org.netbeans.swing.outline.DefaultOutlineModel;
 import org.netbeans.swing.outline.OutlineModel;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
@@ -50,11 +52,10 @@ import DstController.IDstController;
 import Enumerations.CapellaArchitecture;
 import Enumerations.MappingDirection;
 import Reactive.ObservableCollection;
+import Services.CapellaSession.CapellaModelTreeSnapshot;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Utils.Ref;
-import ViewModels.CapellaObjectBrowser.CapellaObjectBrowserTreeRowViewModel;
-import ViewModels.CapellaObjectBrowser.CapellaObjectBrowserTreeViewModel;
 import ViewModels.CapellaObjectBrowser.CapellaObjectBrowserViewModel;
 import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
 import ViewModels.CapellaObjectBrowser.Rows.ElementRowViewModel;
@@ -64,7 +65,6 @@ import ViewModels.Interfaces.IHaveTargetArchitecture;
 import ViewModels.ObjectBrowser.Interfaces.IHaveContainedRows;
 import ViewModels.Rows.MappedElementRowViewModel;
 import cdp4common.commondata.Thing;
-import cdp4common.engineeringmodeldata.Iteration;
 import io.reactivex.Observable;
 
 /**
@@ -81,6 +81,16 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
      * The {@linkplain ICapellaTransactionService}
      */
     private final ICapellaTransactionService transactionService;
+    
+    /**
+     * A value indicating whether the tree displays the shared {@linkplain CapellaModelTreeSnapshot}, whose rows cannot be altered
+     */
+    private boolean isDisplayingModelTreeSnapshot;
+    
+    /**
+     * The ids of the mapped elements when the tree got built, the rows that represent them or their clones are highlighted
+     */
+    private Set<String> mappedElementIds = new HashSet<>();
 
     /**
      * Initializes a new {@linkplain RequirementImpactViewViewModel}
@@ -125,9 +135,9 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
             .ItemsAdded()
             .subscribe(x ->
             {
-                for(var thing : x)
+                for(var element : x)
                 {
-                    this.SwitchIsSelected(thing, true);
+                    this.GetRowStateTable().SetIsSelected(element.getId(), true);
                 }
                 
                 this.shouldRefreshTree.Value(true);
@@ -137,88 +147,30 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
             .ItemRemoved()
             .subscribe(x -> 
             {
-                this.SwitchIsSelected(x, false);
+                this.GetRowStateTable().SetIsSelected(x.getId(), false);
                 this.shouldRefreshTree.Value(true);
             });
         
         this.dstController.GetSelectedHubMapResultForTransfer()
             .IsEmptyObservable()
-            .subscribe(x -> 
+            .subscribe(isEmpty -> 
             {
-                this.DeselectRow((RootRowViewModel)this.browserTreeModel.Value().getRoot());
-                this.shouldRefreshTree.Value(true);
+                if(isEmpty)
+                {
+                    this.GetRowStateTable().ClearSelected();
+                    this.shouldRefreshTree.Value(true);
+                }
             });
     }
 
     /**
-     * De-selects every row in the tree
-     * 
-     * @param rowViewModel the current row view model to de-select
-     */
-    @SuppressWarnings("unchecked")
-    private void DeselectRow(IElementRowViewModel<?> rowViewModel)
-    {
-        this.SwitchIsSelected(rowViewModel, false);
-        
-        if(rowViewModel instanceof IHaveContainedRows)
-        {
-            for (var childRowViewModel : ((IHaveContainedRows<? extends IElementRowViewModel<?>>)rowViewModel).GetContainedRows())
-            {
-                this.DeselectRow(childRowViewModel);
-            }
-        }
-    }
-
-    /**
-     * Sets is selected property on the row view model that represents the provided {@linkplain CapellaElement}
+     * Computes the differences on the rows of the provided {@linkplain RootRowViewModel}
      * 
-     * @param element The {@linkplain CapellaElement} to find the corresponding row view model
-     * @param shouldSelect A value indicating whether the row view model should set as selected
+     * @param rootRowViewModel the {@linkplain RootRowViewModel} which rows are not shared with other browsers
+     * @return the updated {@linkplain RootRowViewModel}
      */
-    private void SwitchIsSelected(CapellaElement element, boolean shouldSelect)
+    protected RootRowViewModel ComputeDifferences(RootRowViewModel rootRowViewModel)
     {
-        var refRowViewModel = new Ref<ElementRowViewModel<? extends CapellaElement>>(null);
-        
-        if(this.TryGetRowViewModelById(((RootRowViewModel) this.browserTreeModel.Value().getRoot()).GetContainedRows(), element, refRowViewModel))
-        {        
-            this.SwitchIsSelected(refRowViewModel.Get(), shouldSelect);
-        }
-    }
-
-    /**
-     * Sets is selected property on the row view model 
-     * 
-     * @param shouldSelect a value indicating whether the row view model should set as selected
-     * @param rowViewModel the row view model to select or de-select
-     */
-    private void SwitchIsSelected(IElementRowViewModel<? extends CapellaElement> rowViewModel, boolean shouldSelect)
-    {
-        if(!rowViewModel.GetIsSelected() && shouldSelect)
-        {
-            rowViewModel.SetIsSelected(true);
-        }
-        else if(rowViewModel.GetIsSelected() && !shouldSelect)
-        {
-            rowViewModel.SetIsSelected(false);            
-        }
-    }
-
-    /**
-     * Computes the difference for the provided {@linkplain Thing}
-     * 
-     * @return a {@linkplain RootRowViewModel}
-     */
-    protected RootRowViewModel ComputeDifferences()
-    {
-        var model = this.browserTreeModel.Value();
-        
-        if(model == null)
-        {
-            return null;
-        }
-        
-        var rootRowViewModel = (RootRowViewModel) model.getRoot();
-        
         try
         {
             for (var mappedElementRowViewModel : this.dstController.GetHubMapResult())
@@ -228,7 +180,7 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
                 if(this.TryGetRowViewModelById(rootRowViewModel.GetContainedRows(), mappedElementRowViewModel.GetDstElement(), refRowViewModel)
                         && this.VerifyArchitecture(mappedElementRowViewModel, refRowViewModel.Get().GetElement()))
                 {
-                    refRowViewModel.Get().UpdateElement(mappedElementRowViewModel.GetDstElement(), true);
+                    refRowViewModel.Get().UpdateElement(mappedElementRowViewModel.GetDstElement(), false);
                     continue;
                 }
                 
@@ -237,7 +189,7 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
                 if(this.TryToFindParent(rootRowViewModel.GetContainedRows(), mappedElementRowViewModel.GetDstElement().eContainer(), refRowViewModel, refCapellaElementParentToUpdate)
                         && this.VerifyArchitecture(mappedElementRowViewModel, refCapellaElementParentToUpdate.Get()))
                 {
-                    refRowViewModel.Get().UpdateElement(refCapellaElementParentToUpdate.Get(), true);
+                    refRowViewModel.Get().UpdateElement(refCapellaElementParentToUpdate.Get(), false);
                 }
                 else
                 {
@@ -272,7 +224,7 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
             var architectureRowViewModel = this.transactionService.Clone((BlockArchitecture)refRowViewModel.Get().GetElement());
             architectureRowViewModel.getOwnedRequirementPkgs().removeIf(x -> AreTheseEquals(x.getId(), parent.getId()));
             architectureRowViewModel.getOwnedRequirementPkgs().add((RequirementsPkg)parent);
-            refRowViewModel.Get().UpdateElement(architectureRowViewModel, true);
+            refRowViewModel.Get().UpdateElement(architectureRowViewModel, false);
         }
         else if(mappedElementRowViewModel.GetDstElement() instanceof PhysicalComponent 
                 && this.TryGetRowViewModelOfType(rootRowViewModel.GetContainedRows(), PhysicalComponentPkg.class, refRowViewModel))
@@ -292,7 +244,7 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
                     rootElement.getOwnedPhysicalComponentPkgs().add((PhysicalComponentPkg)parent);
                 }
                 
-                rootPhysicalElementRowViewModel.UpdateElement(rootElement, true);
+                rootPhysicalElementRowViewModel.UpdateElement(rootElement, false);
             }
         }
         else if(mappedElementRowViewModel.GetDstElement() instanceof LogicalComponent 
@@ -305,7 +257,7 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
             if(!AreTheseEquals(rootElement.getId(), parent.getId()))
             {
                 rootElement.getOwnedLogicalComponents().add((LogicalComponent)parent);
-                rootLogicalElementRowViewModel.UpdateElement(rootElement, true);
+                rootLogicalElementRowViewModel.UpdateElement(rootElement, false);
             }            
         }
     }
@@ -374,7 +326,8 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
     }
 
     /**
-     * Gets the {@linkplain Thing} by its Iid from the capella sessions
+     * Gets the {@linkplain Thing} by its Iid from the capella sessions, 
+     * the searched types are architectures or packages at the top of an architecture so only the contained rows of these are searched
      * 
      * @param childrenCollection the {@linkplain Collection} collection from the parent row view model
      * @param element the {@linkplain EObject} represented by the searched {@linkplain TElementRowViewModel}
@@ -384,11 +337,12 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
             Class<? extends CapellaElement> clazz, Ref<ElementRowViewModel<? extends CapellaElement>> refElement)
     {
         Predicate<IElementRowViewModel<? extends CapellaElement>> a  = x -> clazz.isAssignableFrom(x.GetElement().getClass());
-        return this.TryGetRowViewModelBy(childrenCollection, a, refElement);
+        return this.TryGetRowViewModelBy(childrenCollection, a, x -> x.GetElement() instanceof BlockArchitecture, refElement);
     }
     
     /**
-     * Gets the {@linkplain Thing} by its Iid from the capella sessions
+     * Gets the {@linkplain Thing} by its Iid from the capella sessions, 
+     * only the contained rows of the rows that represent a container of the element are searched
      * 
      * @param childrenCollection the {@linkplain Collection} collection from the parent row view model
      * @param element the {@linkplain EObject} represented by the searched {@linkplain TElementRowViewModel}
@@ -397,7 +351,10 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
     private boolean TryGetRowViewModelById(Collection<IElementRowViewModel<? extends CapellaElement>> childrenCollection, 
             EObject element, Ref<ElementRowViewModel<? extends CapellaElement>> refElement)
     {
-        return this.TryGetRowViewModelBy(childrenCollection, x -> AreTheseEquals(x.GetElement().getId(), ((CapellaElement)element).getId()), refElement);
+        var containerIds = this.GetContainerIds(element);
+        
+        return this.TryGetRowViewModelBy(childrenCollection, x -> AreTheseEquals(x.GetElement().getId(), ((CapellaElement)element).getId()), 
+                x -> containerIds.contains(x.GetElement().getId()), refElement);
     }
         
     /**
@@ -405,11 +362,14 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
      * 
      * @param childrenCollection the {@linkplain Collection} collection from the parent row view model
      * @param predicate the {@linkplain Predicate} that test the view models against the specified check
+     * @param shouldSearchContainedRows the {@linkplain Predicate} that tells whether the contained rows of a view model can contain the searched one, 
+     * so that the contained rows of the other view models do not get computed
      * @param refElement the {@linkplain Ref} of {@linkplain TElementRowViewModel} as ref parameter
      */
     @SuppressWarnings("unchecked")
     private boolean TryGetRowViewModelBy(Collection<IElementRowViewModel<? extends CapellaElement>> childrenCollection, 
-            Predicate<IElementRowViewModel<? extends CapellaElement>> predicate, Ref<ElementRowViewModel<? extends CapellaElement>> refElement)
+            Predicate<IElementRowViewModel<? extends CapellaElement>> predicate, Predicate<IElementRowViewModel<? extends CapellaElement>> shouldSearchContainedRows, 
+            Ref<ElementRowViewModel<? extends CapellaElement>> refElement)
     {
         if(childrenCollection == null || childrenCollection.isEmpty())
         {
@@ -424,9 +384,10 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
                 break;
             }
             
-            if(childRowViewModel instanceof IHaveContainedRows)
+            if(childRowViewModel instanceof IHaveContainedRows && childRowViewModel.GetElement() != null && shouldSearchContainedRows.test(childRowViewModel))
             {
-                if(this.TryGetRowViewModelBy(((IHaveContainedRows<IElementRowViewModel<? extends CapellaElement>>)childRowViewModel).GetContainedRows(), predicate, refElement))
+                if(this.TryGetRowViewModelBy(((IHaveContainedRows<IElementRowViewModel<? extends CapellaElement>>)childRowViewModel).GetContainedRows(), 
+                        predicate, shouldSearchContainedRows, refElement))
                 {
                     break;
                 }
@@ -444,28 +405,39 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
     @Override
     protected void UpdateBrowserTrees(Boolean isConnected)
     {
-        if(this.browserTreeModel.Value() == null || this.dstController.GetHubMapResult().isEmpty())
+        if(this.dstController.GetHubMapResult().isEmpty())
         {
-            this.SetOutlineModel(DefaultOutlineModel.createOutlineModel(
-                    new CapellaObjectBrowserTreeViewModel(this.SessionService.GetModels()), new CapellaObjectBrowserTreeRowViewModel(), true));
+            var modelTreeSnapshot = this.SessionService.GetModelTreeSnapshot();
+            this.isDisplayingModelTreeSnapshot = modelTreeSnapshot != null;
+            
+            this.mappedElementIds = new HashSet<>();
+            this.SetOutlineModel(this.CreateOutlineModel(modelTreeSnapshot != null ? modelTreeSnapshot.GetRoot() : this.SessionService.GetModels()));
         }
-        if(isConnected || !this.dstController.GetHubMapResult().isEmpty())
+        else
         {
-            var treeModel = new CapellaObjectBrowserTreeViewModel(this.ComputeDifferences());                        
-            this.SetOutlineModel(DefaultOutlineModel.createOutlineModel(treeModel, new CapellaObjectBrowserTreeRowViewModel(), true));
+            var rootRowViewModel = this.isDisplayingModelTreeSnapshot || this.browserTreeModel.Value() == null
+                    ? this.SessionService.GetModels()
+                    : (RootRowViewModel)this.browserTreeModel.Value().getRoot();
+            
+            this.isDisplayingModelTreeSnapshot = false;
+            
+            this.mappedElementIds = this.dstController.GetHubMapResult().stream()
+                    .map(x -> x.GetDstElement().getId())
+                    .collect(Collectors.toCollection(HashSet::new));
+            
+            this.SetOutlineModel(this.CreateOutlineModel(this.ComputeDifferences(rootRowViewModel)));
         }
     
         this.isTheTreeVisible.Value(isConnected);
     }
     
     /**
-     * Updates the {@linkplain browserTreeModel} based on the provided {@linkplain Iteration}
+     * Updates the {@linkplain browserTreeModel} with the provided {@linkplain OutlineModel}
      * 
-     * @param iteration the {@linkplain Iteration}
+     * @param model the {@linkplain OutlineModel}
      */
     protected void SetOutlineModel(OutlineModel model)
     {
-        this.UpdateHighlightOnRows(model);
         this.browserTreeModel.Value(model);
         
         if(model.getChildCount(model.getRoot()) == 1)
@@ -477,116 +449,104 @@ public class CapellaImpactViewViewModel extends CapellaObjectBrowserViewModel im
     }
 
     /**
-     * Updates the <code>IsHighlighted</code> property on each row of the specified model
+     * Selects for transfer the mapped elements represented by the selected row and its contained rows, 
+     * or deselects them when they are all selected already
      * 
-     * @param model the {@linkplain OutlineModel}
+     * @param selectedRow the selected view model {@linkplain ElementRowViewModel}
      */
-    private void UpdateHighlightOnRows(OutlineModel model)
+    @Override
+    public void OnSelectionChanged(ElementRowViewModel<? extends CapellaElement> selectedRow) 
     {
-        var rowViewModel = model.getRoot();
+        if(selectedRow == null || this.dstController.GetHubMapResult().isEmpty())
+        {
+            return;
+        }
         
-        if(rowViewModel instanceof IHaveContainedRows)
+        var mappedElements = this.GetMappedElements(selectedRow);
+        
+        if(mappedElements.isEmpty())
         {
-            this.UpdateHiglightOnRows((IElementRowViewModel<?>)rowViewModel);
+            return;
         }
-    }
-
-    /**
-     * Updates the <code>IsHighlighted</code> property on each row of the specified model
-     * 
-     * @param rowViewModel the {@linkplain IElementRowViewModel}
-     */
-    @SuppressWarnings("unchecked")
-    private void UpdateHiglightOnRows(IElementRowViewModel<?> rowViewModel)
-    {
-        if(rowViewModel instanceof IHaveContainedRows)
+        
+        var selectedElements = this.dstController.GetSelectedHubMapResultForTransfer();
+        
+        if(mappedElements.stream().allMatch(x -> this.GetRowStateTable().IsSelected(x.getId())))
+        {
+            selectedElements.removeIf(x -> mappedElements.stream().anyMatch(m -> AreTheseEquals(m.getId(), x.getId())));
+            return;
+        }
+        
+        for (var mappedElement : mappedElements)
         {
-            for (var childRow : ((IHaveContainedRows<IElementRowViewModel<?>>)rowViewModel).GetContainedRows())
+            if(!this.GetRowStateTable().IsSelected(mappedElement.getId()))
             {
-                if(childRow.GetElement() == null)
-                {
-                    continue;
-                }
-                
-                boolean isHighlighted = this.dstController.GetHubMapResult().stream()
-                        .anyMatch(r -> AreTheseEquals(r.GetDstElement().getId(), childRow.GetElement().getId()))
-                        || this.transactionService.IsClonedOrNew(childRow.GetElement());
-                
-                childRow.SetIsHighlighted(isHighlighted);
-                
-                this.UpdateHiglightOnRows(childRow);
+                selectedElements.add(mappedElement);
             }
         }
     }
 
     /**
-     * Compute eligible rows where the represented {@linkplain Thing} can be transfered,
-     * and return the filtered collection for feedback application on the tree
+     * Gets a value indicating whether the specified row represents a mapped element or one of its cloned or new containers, 
+     * the rows of the shared {@linkplain CapellaModelTreeSnapshot} are never highlighted
      * 
-     * @param selectedRow the selected view model {@linkplain ElementRowViewModel}
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain boolean}
      */
     @Override
-    public void OnSelectionChanged(ElementRowViewModel<? extends CapellaElement> selectedRow) 
+    public boolean IsHighlighted(IElementRowViewModel<?> rowViewModel)
     {
-        this.AddOrRemoveSelectedRowToTransfer(selectedRow);
+        return !this.isDisplayingModelTreeSnapshot && rowViewModel.GetElement() != null 
+                && (this.mappedElementIds.contains(rowViewModel.GetElement().getId()) || this.transactionService.IsClonedOrNew(rowViewModel.GetElement()));
     }
-
+    
     /**
-     * Adds or remove the {@linkplain Thing} to/from the relevant collection depending on the {@linkplain MappingDirection}
+     * Gets the mapped elements that are represented by the provided row or contained in the element it represents, 
+     * they are found from the containment of the mapped elements so that the contained rows do not get computed
      * 
-     * @param rowViewModel the {@linkplain ElementRowViewModel} that contains the element to add or remove
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain List} of {@linkplain CapellaElement}
      */
-    private void AddOrRemoveSelectedRowToTransfer(IElementRowViewModel<?> rowViewModel)
+    private List<CapellaElement> GetMappedElements(IElementRowViewModel<?> rowViewModel)
     {
-        if(rowViewModel.SwitchIsSelectedValue())
-        {
-            this.AddOrRemoveSelectedRowToTransfer(rowViewModel, row -> 
-            {
-                if(this.dstController.GetSelectedHubMapResultForTransfer().stream().noneMatch(x -> x == row.GetElement()))
-                {
-                    this.dstController.GetSelectedHubMapResultForTransfer().add(row.GetElement());
-                }
-                
-                return true;
-            }, new Ref<>(Boolean.class));
-        }
-        else
+        if(rowViewModel.GetElement() == null)
         {
-            this.AddOrRemoveSelectedRowToTransfer(rowViewModel, 
-                    row -> !this.dstController.GetSelectedHubMapResultForTransfer().removeIf(x -> x == row.GetElement()), new Ref<>(Boolean.class));
+            return new ArrayList<>();
         }
+        
+        var id = rowViewModel.GetElement().getId();
+        
+        return this.dstController.GetHubMapResult().stream()
+                .map(x -> (CapellaElement)x.GetDstElement())
+                .filter(x -> this.GetContainerIds(x).contains(id))
+                .collect(Collectors.toList());
     }
     
     /**
-     * Adds or delete the {@linkplain Thing} to/from the relevant collection depending on the {@linkplain MappingDirection}
+     * Gets the ids of the provided element and of its containers, 
+     * the containers of an uncontained clone are the ones of the element it has been cloned from
      * 
-     * @param rowViewModel the {@linkplain ElementRowViewModel} that contains the element to add or remove
-     * @param addOrRemoveFunction the {@linkplain Consumer} to call/accept on each row, that allows this method to either add or delete to/from the relevant collection
+     * @param element the {@linkplain EObject}
+     * @return a {@linkplain Set} of ids
      */
-    @SuppressWarnings("unchecked")
-    private void AddOrRemoveSelectedRowToTransfer(IElementRowViewModel<?> rowViewModel, Function<IElementRowViewModel<?>, Boolean> addOrRemoveFunction, Ref<Boolean> refCanBeSelectedOrDeselected)
+    private Set<String> GetContainerIds(EObject element)
     {
-        if(rowViewModel instanceof IHaveContainedRows)
+        var ids = new HashSet<String>();
+        var container = element;
+        
+        while(container instanceof CapellaElement && ids.add(((CapellaElement)container).getId()))
         {
-            for (var childRow : ((IHaveContainedRows<IElementRowViewModel<?>>)rowViewModel).GetContainedRows())
+            var parent = container.eContainer();
+            
+            if(parent == null)
             {
-                this.AddOrRemoveSelectedRowToTransfer(childRow, addOrRemoveFunction, refCanBeSelectedOrDeselected);
+                var original = this.transactionService.GetOriginal((CapellaElement)container);
+                parent = original != null && original != container ? original.eContainer() : null;
             }
+            
+            container = parent;
         }
         
-        if(rowViewModel != null && rowViewModel.GetElement() != null && this.dstController.GetHubMapResult().stream()
-                .anyMatch(r -> AreTheseEquals(r.GetDstElement().getId(), rowViewModel.GetElement().getId())))
-        {
-            refCanBeSelectedOrDeselected.Set(addOrRemoveFunction.apply(rowViewModel));
-        }
-        
-        if(refCanBeSelectedOrDeselected.HasValue())
-        {
-            rowViewModel.SetIsSelected(refCanBeSelectedOrDeselected.Get());
-        }
-        else
-        {
-            rowViewModel.SetIsSelected(false);
-        }
+        return ids;
     }
 }
@@ -25,6 +25,7 @@ package ViewModels.CapellaObjectBrowser;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.swing.tree.TreeModel;
 
@@ -35,9 +36,11 @@ import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
 
 import Reactive.ObservableValue;
+import Services.CapellaSession.CapellaModelTreeSnapshot;
 import Services.CapellaSession.ICapellaSessionService;
 import ViewModels.ObjectBrowserBaseViewModel;
 import ViewModels.CapellaObjectBrowser.Interfaces.ICapellaObjectBrowserViewModel;
+import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
 import ViewModels.CapellaObjectBrowser.Rows.ElementRowViewModel;
 import ViewModels.CapellaObjectBrowser.Rows.RootRowViewModel;
 import io.reactivex.Observable;
@@ -68,6 +71,36 @@ public class CapellaObjectBrowserViewModel extends ObjectBrowserBaseViewModel<El
         return this.selectedElement.Observable();
     }
     
+    /**
+     * The {@linkplain CapellaModelTreeSnapshot} the current tree displays, null when the tree displays specific elements
+     */
+    private CapellaModelTreeSnapshot displayedModelTreeSnapshot;
+    
+    /**
+     * The {@linkplain CapellaObjectBrowserVirtualizedTreeViewModel} of the {@linkplain OutlineModel} the last {@linkplain #BuildTree(Collection)} created
+     */
+    private CapellaObjectBrowserVirtualizedTreeViewModel treeModel;
+    
+    /**
+     * The {@linkplain OutlineModel} the last {@linkplain #BuildTree(Collection)} created
+     */
+    private OutlineModel outlineModel;
+    
+    /**
+     * The {@linkplain RowStateTable} that holds the selection and highlight state of the rows of this browser
+     */
+    private final RowStateTable rowStateTable = new RowStateTable();
+    
+    /**
+     * Gets the {@linkplain RowStateTable} that holds the selection and highlight state of the rows of this browser
+     * 
+     * @return the {@linkplain RowStateTable}
+     */
+    protected RowStateTable GetRowStateTable()
+    {
+        return this.rowStateTable;
+    }
+    
     /**
      * Initializes a new {@linkplain CapellaObjectBrowserViewModel}
      * 
@@ -90,7 +123,10 @@ public class CapellaObjectBrowserViewModel extends ObjectBrowserBaseViewModel<El
     }
     
     /**
-     * Creates the {@linkplain OutlineModel} tree from the provided {@linkplain Collection} of {@linkplain EObject}
+     * Creates the {@linkplain OutlineModel} tree from the provided {@linkplain Collection} of {@linkplain EObject}, 
+     * when no element is provided the tree displays the shared {@linkplain CapellaModelTreeSnapshot} 
+     * and is only created again when the models changed since the last time it was built. 
+     * The tree is a {@linkplain CapellaObjectBrowserVirtualizedTreeViewModel} so that only the browsed rows are resident
      * 
      * @param elements the {@linkplain Collection} of {@linkplain EObject}
      */
@@ -101,19 +137,87 @@ public class CapellaObjectBrowserViewModel extends ObjectBrowserBaseViewModel<El
         
         if(elements != null)
         {
+            this.displayedModelTreeSnapshot = null;
             rootRowViewModel = new RootRowViewModel("", (List<EObject>)elements);
         }
         else
         {
-            rootRowViewModel = this.SessionService.GetModels();
+            var modelTreeSnapshot = this.SessionService.GetModelTreeSnapshot();
+            
+            if(modelTreeSnapshot != null && modelTreeSnapshot == this.displayedModelTreeSnapshot && this.browserTreeModel.Value() != null)
+            {
+                this.isTheTreeVisible.Value(true);
+                return;
+            }
+            
+            this.displayedModelTreeSnapshot = modelTreeSnapshot;
+            rootRowViewModel = modelTreeSnapshot != null ? modelTreeSnapshot.GetRoot() : this.SessionService.GetModels();
         }
         
-        this.browserTreeModel.Value(DefaultOutlineModel.createOutlineModel(
-                new CapellaObjectBrowserTreeViewModel(rootRowViewModel),
-                new CapellaObjectBrowserTreeRowViewModel(), true));
-                
+        this.rowStateTable.Clear();
+        this.browserTreeModel.Value(this.CreateOutlineModel(rootRowViewModel));
+        
         this.isTheTreeVisible.Value(true);
     }
+    
+    /**
+     * Creates the {@linkplain OutlineModel} of a {@linkplain CapellaObjectBrowserVirtualizedTreeViewModel} with the provided root, 
+     * the rows get their selection and highlight state from the {@linkplain RowStateTable} of this browser
+     * 
+     * @param rootRowViewModel the {@linkplain RootRowViewModel}
+     * @return the {@linkplain OutlineModel}
+     */
+    protected OutlineModel CreateOutlineModel(RootRowViewModel rootRowViewModel)
+    {
+        this.treeModel = new CapellaObjectBrowserVirtualizedTreeViewModel(rootRowViewModel, this.rowStateTable);
+        this.outlineModel = DefaultOutlineModel.createOutlineModel(this.treeModel, new CapellaObjectBrowserTreeRowViewModel(), true);
+        this.outlineModel.getTreePathSupport().addTreeExpansionListener(this.treeModel);
+        return this.outlineModel;
+    }
+    
+    /**
+     * Highlights the rows of the current tree that represent the provided elements, the other rows are not highlighted anymore. 
+     * Nothing is highlighted when the current tree has not been created by {@linkplain #BuildTree(Collection)}
+     * 
+     * @param elements the {@linkplain Collection} of {@linkplain EObject} to highlight
+     */
+    @Override
+    public void HighlightElements(Collection<? extends EObject> elements)
+    {
+        if(this.treeModel == null || this.browserTreeModel.Value() != this.outlineModel)
+        {
+            return;
+        }
+        
+        this.treeModel.HighlightElements(elements.stream()
+                .filter(x -> x instanceof CapellaElement)
+                .map(x -> ((CapellaElement)x).getId())
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Gets a value indicating whether the specified row is displayed as selected for transfer in this browser
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    public boolean IsSelected(IElementRowViewModel<?> rowViewModel)
+    {
+        return this.rowStateTable.IsSelected(rowViewModel);
+    }
+
+    /**
+     * Gets a value indicating whether the specified row is displayed as highlighted in this browser
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    public boolean IsHighlighted(IElementRowViewModel<?> rowViewModel)
+    {
+        return this.rowStateTable.IsHighlighted(rowViewModel);
+    }
 
     /**
      * Updates this view model {@linkplain TreeModel}
@@ -0,0 +1,439 @@
+/*
+ * CapellaObjectBrowserVirtualizedTreeViewModel.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels.CapellaObjectBrowser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeExpansionListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
+import ViewModels.CapellaObjectBrowser.Rows.ElementRowViewModel;
+import ViewModels.CapellaObjectBrowser.Rows.RootRowViewModel;
+import ViewModels.ObjectBrowser.Interfaces.IHaveContainedRows;
+
+/**
+ * The {@linkplain CapellaObjectBrowserVirtualizedTreeViewModel} is the {@linkplain TreeModel} for the Capella object browser that only keeps the browsed part of the models resident. 
+ * The contained rows of a row are computed from the EMF containment the first time the tree asks for them, 
+ * and the contained rows of the rows that got collapsed are released once more than {@linkplain #residentCollapsedRowCount} rows are collapsed. 
+ * The selection and highlight state of the rows is kept by element id in the {@linkplain RowStateTable} of the browser, so it survives the release of the rows.
+ */
+public class CapellaObjectBrowserVirtualizedTreeViewModel implements TreeModel, TreeExpansionListener
+{
+    /**
+     * The default number of collapsed rows which contained rows are kept resident
+     */
+    public static final int DEFAULTRESIDENTCOLLAPSEDROWCOUNT = 64;
+    
+    /**
+     * The number of trees that display each row expanded, the rows of the {@linkplain Services.CapellaSession.CapellaModelTreeSnapshot} being shared between the browsers,
+     * a row is only released when none of them displays it expanded
+     */
+    private static final Map<ElementRowViewModel<?>, Integer> expandedRowCounts = new WeakHashMap<>();
+    
+    /**
+     * The live {@linkplain CapellaObjectBrowserVirtualizedTreeViewModel}s, the ones that display the same root share their rows 
+     * and are all notified when contained rows get released
+     */
+    private static final Set<CapellaObjectBrowserVirtualizedTreeViewModel> treeModels = Collections.newSetFromMap(new WeakHashMap<>());
+    
+    /**
+     * The root element of the tree
+     */
+    private final Object root;
+    
+    /**
+     * The number of collapsed rows which contained rows are kept resident
+     */
+    private final int residentCollapsedRowCount;
+    
+    /**
+     * The collapsed rows which contained rows are still resident with their {@linkplain TreePath}, from the least to the most recently collapsed
+     */
+    private final LinkedHashMap<ElementRowViewModel<?>, TreePath> collapsedRows = new LinkedHashMap<>();
+    
+    /**
+     * The {@linkplain RowStateTable} that holds the selection and highlight state of the rows
+     */
+    private final RowStateTable rowStateTable;
+    
+    /**
+     * The {@linkplain EventListenerList} of the {@linkplain TreeModelListener}s
+     */
+    private final EventListenerList listeners = new EventListenerList();
+    
+    /**
+     * Initializes a new {@linkplain CapellaObjectBrowserVirtualizedTreeViewModel}
+     * 
+     * @param rootRowViewModel the {@linkplain RootRowViewModel}
+     * @param rowStateTable the {@linkplain RowStateTable} that holds the selection and highlight state of the rows
+     */
+    public CapellaObjectBrowserVirtualizedTreeViewModel(RootRowViewModel rootRowViewModel, RowStateTable rowStateTable)
+    {
+        this(rootRowViewModel, rowStateTable, DEFAULTRESIDENTCOLLAPSEDROWCOUNT);
+    }
+    
+    /**
+     * Initializes a new {@linkplain CapellaObjectBrowserVirtualizedTreeViewModel}
+     * 
+     * @param rootRowViewModel the {@linkplain RootRowViewModel}
+     * @param rowStateTable the {@linkplain RowStateTable} that holds the selection and highlight state of the rows
+     * @param residentCollapsedRowCount the number of collapsed rows which contained rows are kept resident
+     */
+    public CapellaObjectBrowserVirtualizedTreeViewModel(RootRowViewModel rootRowViewModel, RowStateTable rowStateTable, int residentCollapsedRowCount)
+    {
+        this.root = rootRowViewModel;
+        this.rowStateTable = rowStateTable;
+        this.residentCollapsedRowCount = Math.max(1, residentCollapsedRowCount);
+        
+        synchronized (treeModels)
+        {
+            treeModels.add(this);
+        }
+    }
+    
+    /**
+     * Gets the {@linkplain RowStateTable} that holds the selection and highlight state of the rows
+     * 
+     * @return the {@linkplain RowStateTable}
+     */
+    public RowStateTable GetRowStateTable()
+    {
+        return this.rowStateTable;
+    }
+
+    /**
+     * Highlights the rows that represent the elements with the provided ids, the other rows are not highlighted anymore. 
+     * The listeners are notified of the resident rows which state changed, the other rows get their state from the {@linkplain RowStateTable} when they get created again
+     * 
+     * @param ids the {@linkplain Set} of ids of the elements to highlight
+     */
+    public void HighlightElements(Set<String> ids)
+    {
+        var changedIds = this.rowStateTable.SetHighlighted(ids);
+        
+        if(!changedIds.isEmpty())
+        {
+            this.NotifyContainedRowsChanged(new TreePath(this.root), changedIds);
+        }
+    }
+    
+    /**
+     * Notifies the listeners of the resident rows contained in the last row of the specified path which represent one of the specified elements
+     * 
+     * @param path the {@linkplain TreePath} of the parent row
+     * @param changedIds the {@linkplain Set} of ids of the elements which rows changed
+     */
+    private void NotifyContainedRowsChanged(TreePath path, Set<String> changedIds)
+    {
+        var parent = path.getLastPathComponent();
+        
+        if(!(parent instanceof IHaveContainedRows) || (parent instanceof ElementRowViewModel && !((ElementRowViewModel<?>)parent).AreContainedRowsComputed()))
+        {
+            return;
+        }
+        
+        var containedRows = ((IHaveContainedRows<?>)parent).GetContainedRows();
+        
+        for (var index = 0; index < containedRows.size(); index++)
+        {
+            var containedRow = containedRows.get(index);
+            
+            if(containedRow instanceof IElementRowViewModel && ((IElementRowViewModel<?>)containedRow).GetElement() != null
+                    && changedIds.contains(((IElementRowViewModel<?>)containedRow).GetElement().getId()))
+            {
+                this.FireTreeNodeChanged(path, index, containedRow);
+            }
+            
+            this.NotifyContainedRowsChanged(path.pathByAddingChild(containedRow), changedIds);
+        }
+    }
+    
+    /**
+     * Notifies the listeners that the specified row changed
+     * 
+     * @param parentPath the {@linkplain TreePath} of the parent of the row
+     * @param index the index of the row in its parent
+     * @param row the row that changed
+     */
+    private void FireTreeNodeChanged(TreePath parentPath, int index, Object row)
+    {
+        var event = new TreeModelEvent(this, parentPath, new int[] { index }, new Object[] { row });
+        
+        for (var listener : this.listeners.getListeners(TreeModelListener.class))
+        {
+            listener.treeNodesChanged(event);
+        }
+    }
+
+    /**
+     * Gets the root element of the tree
+     * 
+     * @return an {@linkplain Object}
+     */
+    @Override
+    public Object getRoot()
+    {
+        return this.root;
+    }
+
+    /**
+     * Gets the child of the specified parent at the specified index, the contained rows of the parent are computed if they are not resident
+     * 
+     * @param parent the parent row
+     * @param index the index of the child
+     * @return the child row, or null if the index is out of range
+     */
+    @Override
+    public Object getChild(Object parent, int index)
+    {
+        var containedRows = this.GetContainedRows(parent);
+        return containedRows != null && index >= 0 && index < containedRows.size() ? containedRows.get(index) : null;
+    }
+
+    /**
+     * Gets the number of children of the specified parent, the contained rows of the parent are computed if they are not resident
+     * 
+     * @param parent the parent row
+     * @return the number of children
+     */
+    @Override
+    public int getChildCount(Object parent)
+    {
+        var containedRows = this.GetContainedRows(parent);
+        return containedRows != null ? containedRows.size() : 0;
+    }
+
+    /**
+     * Gets a value indicating whether the specified node is a leaf, 
+     * the contained rows of a row that are not resident are not computed, the row tells from the EMF containment whether it would have any
+     * 
+     * @param node the row
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    public boolean isLeaf(Object node)
+    {
+        if(!(node instanceof IHaveContainedRows))
+        {
+            return true;
+        }
+        
+        if(node instanceof ElementRowViewModel)
+        {
+            return !((ElementRowViewModel<?>)node).HasContainedRows();
+        }
+        
+        return ((IHaveContainedRows<?>)node).GetContainedRows().isEmpty();
+    }
+
+    /**
+     * Gets the index of the specified child in the children of the specified parent
+     * 
+     * @param parent the parent row
+     * @param child the child row
+     * @return the index, or -1 if the child does not belong to the parent
+     */
+    @Override
+    public int getIndexOfChild(Object parent, Object child)
+    {
+        var containedRows = this.GetContainedRows(parent);
+        
+        if(containedRows == null || child == null)
+        {
+            return -1;
+        }
+        
+        for (var index = 0; index < containedRows.size(); index++)
+        {
+            if(containedRows.get(index) == child)
+            {
+                return index;
+            }
+        }
+        
+        return -1;
+    }
+
+    /**
+     * Occurs when the value of the specified path changed, the rows are not editable
+     * 
+     * @param path the {@linkplain TreePath}
+     * @param newValue the new value
+     */
+    @Override
+    public void valueForPathChanged(TreePath path, Object newValue) { }
+
+    /**
+     * Adds the specified {@linkplain TreeModelListener}
+     * 
+     * @param listener the {@linkplain TreeModelListener}
+     */
+    @Override
+    public void addTreeModelListener(TreeModelListener listener)
+    {
+        this.listeners.add(TreeModelListener.class, listener);
+    }
+
+    /**
+     * Removes the specified {@linkplain TreeModelListener}
+     * 
+     * @param listener the {@linkplain TreeModelListener}
+     */
+    @Override
+    public void removeTreeModelListener(TreeModelListener listener)
+    {
+        this.listeners.remove(TreeModelListener.class, listener);
+    }
+
+    /**
+     * Occurs when a row got expanded in the tree
+     * 
+     * @param event the {@linkplain TreeExpansionEvent}
+     */
+    @Override
+    public void treeExpanded(TreeExpansionEvent event)
+    {
+        if(event.getPath().getLastPathComponent() instanceof ElementRowViewModel)
+        {
+            var row = (ElementRowViewModel<?>)event.getPath().getLastPathComponent();
+            this.collapsedRows.remove(row);
+            
+            synchronized (expandedRowCounts)
+            {
+                expandedRowCounts.merge(row, 1, Integer::sum);
+                row.SetIsExpanded(true);
+            }
+        }
+    }
+
+    /**
+     * Occurs when a row got collapsed in the tree, the contained rows of the least recently collapsed rows are released 
+     * 
+     * @param event the {@linkplain TreeExpansionEvent}
+     */
+    @Override
+    public void treeCollapsed(TreeExpansionEvent event)
+    {
+        if(!(event.getPath().getLastPathComponent() instanceof ElementRowViewModel))
+        {
+            return;
+        }
+        
+        var row = (ElementRowViewModel<?>)event.getPath().getLastPathComponent();
+        
+        synchronized (expandedRowCounts)
+        {
+            var count = expandedRowCounts.computeIfPresent(row, (x, y) -> y > 1 ? y - 1 : null);
+            row.SetIsExpanded(count != null);
+        }
+        
+        this.collapsedRows.remove(row);
+        this.collapsedRows.put(row, event.getPath());
+        
+        var iterator = this.collapsedRows.entrySet().iterator();
+        
+        while (this.collapsedRows.size() > this.residentCollapsedRowCount && iterator.hasNext())
+        {
+            var collapsedRow = iterator.next();
+            iterator.remove();
+            
+            if(!collapsedRow.getKey().GetIsExpanded())
+            {
+                this.Release(collapsedRow.getKey(), collapsedRow.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Releases the contained rows of the specified row, all the trees that display the same root are notified as they share the released rows
+     * 
+     * @param row the collapsed {@linkplain ElementRowViewModel}
+     * @param path the {@linkplain TreePath} of the row
+     */
+    private void Release(ElementRowViewModel<?> row, TreePath path)
+    {
+        if(!row.AreContainedRowsComputed())
+        {
+            return;
+        }
+        
+        row.ReleaseContainedRows();
+        
+        var sharingTreeModels = new ArrayList<CapellaObjectBrowserVirtualizedTreeViewModel>();
+        
+        synchronized (treeModels)
+        {
+            for (var treeModel : treeModels)
+            {
+                if(treeModel.root == this.root)
+                {
+                    sharingTreeModels.add(treeModel);
+                }
+            }
+        }
+        
+        for (var treeModel : sharingTreeModels)
+        {
+            treeModel.FireTreeStructureChanged(path);
+        }
+    }
+    
+    /**
+     * Notifies the listeners that the structure under the specified row changed
+     * 
+     * @param path the {@linkplain TreePath} of the row
+     */
+    private void FireTreeStructureChanged(TreePath path)
+    {
+        var event = new TreeModelEvent(this, path);
+        
+        for (var listener : this.listeners.getListeners(TreeModelListener.class))
+        {
+            listener.treeStructureChanged(event);
+        }
+    }
+    
+    /**
+     * Gets the contained rows of the specified parent, they get computed when they are not resident
+     * 
+     * @param parent the parent row
+     * @return a {@linkplain List} of rows, or null if the parent cannot contain any row
+     */
+    private List<?> GetContainedRows(Object parent)
+    {
+        return parent instanceof IHaveContainedRows ? ((IHaveContainedRows<?>)parent).GetContainedRows() : null;
+    }
+}
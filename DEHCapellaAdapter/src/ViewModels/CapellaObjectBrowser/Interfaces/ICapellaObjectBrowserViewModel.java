@@ -53,4 +53,27 @@ public interface ICapellaObjectBrowserViewModel extends IObjectBrowserBaseViewMo
      * @param elements the {@linkplain Collection} of {@linkplain EObject}
      */
     void BuildTree(Collection<EObject> elements);
+
+    /**
+     * Highlights the rows of the current tree that represent the provided elements, the other rows are not highlighted anymore
+     * 
+     * @param elements the {@linkplain Collection} of {@linkplain EObject} to highlight
+     */
+    void HighlightElements(Collection<? extends EObject> elements);
+
+    /**
+     * Gets a value indicating whether the specified row is displayed as selected for transfer in this browser
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain boolean}
+     */
+    boolean IsSelected(IElementRowViewModel<?> rowViewModel);
+
+    /**
+     * Gets a value indicating whether the specified row is displayed as highlighted in this browser
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain boolean}
+     */
+    boolean IsHighlighted(IElementRowViewModel<?> rowViewModel);
 }
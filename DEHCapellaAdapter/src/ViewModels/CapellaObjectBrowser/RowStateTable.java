@@ -0,0 +1,162 @@
+/*
+ * RowStateTable.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels.CapellaObjectBrowser;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+
+import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
+
+/**
+ * The {@linkplain RowStateTable} holds the selection and highlight state of the rows of a browser by id of the {@linkplain CapellaElement} they represent. 
+ * The rows never hold this state, so that it is kept whether the rows are resident or not and the rows can be shared between browsers
+ */
+public class RowStateTable
+{
+    /**
+     * The ids of the elements which rows are selected
+     */
+    private final Set<String> selectedIds = new HashSet<>();
+    
+    /**
+     * The ids of the elements which rows are highlighted
+     */
+    private final Set<String> highlightedIds = new HashSet<>();
+    
+    /**
+     * Gets a value indicating whether the specified row is selected
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain boolean}
+     */
+    public boolean IsSelected(IElementRowViewModel<?> rowViewModel)
+    {
+        return this.IsSelected(GetId(rowViewModel));
+    }
+    
+    /**
+     * Gets a value indicating whether the row of the element with the specified id is selected
+     * 
+     * @param id the element id
+     * @return a {@linkplain boolean}
+     */
+    public boolean IsSelected(String id)
+    {
+        return id != null && this.selectedIds.contains(id);
+    }
+    
+    /**
+     * Sets a value indicating whether the row of the element with the specified id is selected
+     * 
+     * @param id the element id
+     * @param isSelected the {@linkplain boolean} value
+     */
+    public void SetIsSelected(String id, boolean isSelected)
+    {
+        if(isSelected)
+        {
+            this.selectedIds.add(id);
+        }
+        else
+        {
+            this.selectedIds.remove(id);
+        }
+    }
+    
+    /**
+     * Clears the selection state of all the rows
+     */
+    public void ClearSelected()
+    {
+        this.selectedIds.clear();
+    }
+    
+    /**
+     * Gets a value indicating whether the specified row is highlighted
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return a {@linkplain boolean}
+     */
+    public boolean IsHighlighted(IElementRowViewModel<?> rowViewModel)
+    {
+        return this.IsHighlighted(GetId(rowViewModel));
+    }
+    
+    /**
+     * Gets a value indicating whether the row of the element with the specified id is highlighted
+     * 
+     * @param id the element id
+     * @return a {@linkplain boolean}
+     */
+    public boolean IsHighlighted(String id)
+    {
+        return id != null && this.highlightedIds.contains(id);
+    }
+    
+    /**
+     * Highlights the rows of the elements with the provided ids, the other rows are not highlighted anymore
+     * 
+     * @param ids the {@linkplain Collection} of ids of the elements to highlight
+     * @return the {@linkplain Set} of ids of the elements which highlight state changed
+     */
+    public Set<String> SetHighlighted(Collection<String> ids)
+    {
+        var changedIds = new HashSet<String>(this.highlightedIds);
+        
+        for (var id : new HashSet<String>(ids))
+        {
+            if(!changedIds.remove(id))
+            {
+                changedIds.add(id);
+            }
+        }
+        
+        this.highlightedIds.clear();
+        this.highlightedIds.addAll(ids);
+        return changedIds;
+    }
+    
+    /**
+     * Clears this table
+     */
+    public void Clear()
+    {
+        this.selectedIds.clear();
+        this.highlightedIds.clear();
+    }
+    
+    /**
+     * Gets the id of the element the specified row represents
+     * 
+     * @param rowViewModel the {@linkplain IElementRowViewModel}
+     * @return the id, or null if the row does not represent any element
+     */
+    private static String GetId(IElementRowViewModel<?> rowViewModel)
+    {
+        return rowViewModel != null && rowViewModel.GetElement() != null ? rowViewModel.GetElement().getId() : null;
+    }
+}
@@ -49,6 +49,18 @@ public class BlockArchitectureRowViewModel extends ProjectStructuralElementRowVi
         super(parent, element, Structure.class);
     }
     
+    /**
+     * Gets a value indicating whether the provided {@linkplain Structure} gets a contained row
+     * 
+     * @param element the {@linkplain Structure}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    protected boolean IsContainedElement(Structure element)
+    {
+        return element instanceof ComponentPkg || element instanceof RequirementsPkg || element instanceof Folder;
+    }
+    
     /**
      * Adds to the contained element the corresponding row view model representing the provided {@linkplain TContainedElement}
      * 
@@ -23,6 +23,7 @@
  */
 package ViewModels.CapellaObjectBrowser.Rows;
 
+import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.cs.Component;
 import org.polarsys.capella.core.data.cs.ComponentPkg;
@@ -53,6 +54,7 @@ public class ComponentRowViewModel extends ElementRowViewModel<Component> implem
     @Override
     public ObservableCollection<IElementRowViewModel<? extends CapellaElement>> GetContainedRows()
     {
+        this.EnsureContainedRowsAreComputed();
         return this.containedRows;
     }
     
@@ -65,7 +67,6 @@ public class ComponentRowViewModel extends ElementRowViewModel<Component> implem
     public ComponentRowViewModel(IElementRowViewModel<?> parent, Component element)
     {
         super(parent, element);
-        this.ComputeContainedRows();
     }
     
     /**
@@ -76,6 +77,11 @@ public class ComponentRowViewModel extends ElementRowViewModel<Component> implem
     {
         for (var element : this.GetElement().eContents())
         {
+            if(!this.IsContainedRowElement(element))
+            {
+                continue;
+            }
+            
             if(element instanceof Part)
             {
                 this.GetContainedRows().add(new PartRowViewModel(this, (Part)element));
@@ -98,4 +104,17 @@ public class ComponentRowViewModel extends ElementRowViewModel<Component> implem
             }
         }
     }
+    
+    /**
+     * Gets a value indicating whether the specified element contained by the represented {@linkplain Component} gets a contained row
+     * 
+     * @param element the contained {@linkplain EObject}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    protected boolean IsContainedRowElement(EObject element)
+    {
+        return element instanceof Part || element instanceof Property || element instanceof Component 
+                || element instanceof ComponentPkg || element instanceof Relationship;
+    }
 }
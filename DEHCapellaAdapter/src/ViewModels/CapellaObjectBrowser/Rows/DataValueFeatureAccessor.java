@@ -0,0 +1,137 @@
+/*
+ * DataValueFeatureAccessor.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels.CapellaObjectBrowser.Rows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.polarsys.capella.core.data.information.datavalue.DataValue;
+import org.polarsys.capella.core.data.information.datavalue.DatavaluePackage;
+
+/**
+ * The {@linkplain DataValueFeatureAccessor} gives access to one single valued owned {@linkplain DataValue} feature of an {@linkplain EClass}.
+ * The accessors of each {@linkplain EClass} are computed once from the EMF metamodel and cached.
+ */
+final class DataValueFeatureAccessor
+{
+    /**
+     * The prefix of the name of the features holding owned {@linkplain DataValue}
+     */
+    private static final String OWNEDFEATUREPREFIX = "owned";
+
+    /**
+     * The cached {@linkplain DataValueFeatureAccessor}s by {@linkplain EClass}
+     */
+    private static final Map<EClass, List<DataValueFeatureAccessor>> accessors = new ConcurrentHashMap<>();
+
+    /**
+     * The {@linkplain EStructuralFeature} this accessor reads
+     */
+    private final EStructuralFeature feature;
+
+    /**
+     * The display name of the {@linkplain DataValue} held by the {@linkplain #feature}
+     */
+    private final String name;
+
+    /**
+     * Initializes a new {@linkplain DataValueFeatureAccessor}
+     * 
+     * @param feature the {@linkplain EStructuralFeature} to read
+     */
+    private DataValueFeatureAccessor(EStructuralFeature feature)
+    {
+        this.feature = feature;
+        this.name = feature.getName().substring(OWNEDFEATUREPREFIX.length());
+    }
+
+    /**
+     * Gets the display name of the {@linkplain DataValue} held by the represented feature, e.g. DefaultValue for ownedDefaultValue
+     * 
+     * @return a {@linkplain String}
+     */
+    String GetName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Gets the {@linkplain DataValue} held by the represented feature of the provided {@linkplain EObject}
+     * 
+     * @param element the {@linkplain EObject}
+     * @return a {@linkplain DataValue} or null
+     */
+    DataValue GetDataValue(EObject element)
+    {
+        var value = element.eGet(this.feature);
+        return value instanceof DataValue ? (DataValue)value : null;
+    }
+
+    /**
+     * Gets the {@linkplain DataValueFeatureAccessor}s of the provided {@linkplain EClass}
+     * 
+     * @param eClass the {@linkplain EClass}
+     * @return an unmodifiable {@linkplain List} of {@linkplain DataValueFeatureAccessor}
+     */
+    static List<DataValueFeatureAccessor> GetAccessors(EClass eClass)
+    {
+        if(eClass == null)
+        {
+            return Collections.emptyList();
+        }
+        
+        return accessors.computeIfAbsent(eClass, DataValueFeatureAccessor::ComputeAccessors);
+    }
+
+    /**
+     * Computes the {@linkplain DataValueFeatureAccessor}s of the provided {@linkplain EClass} from its owned single valued {@linkplain DataValue} references
+     * 
+     * @param eClass the {@linkplain EClass}
+     * @return an unmodifiable {@linkplain List} of {@linkplain DataValueFeatureAccessor}
+     */
+    private static List<DataValueFeatureAccessor> ComputeAccessors(EClass eClass)
+    {
+        var result = new ArrayList<DataValueFeatureAccessor>();
+        
+        for (var feature : eClass.getEAllStructuralFeatures())
+        {
+            if(feature instanceof EReference && !feature.isMany() 
+                    && feature.getName().startsWith(OWNEDFEATUREPREFIX)
+                    && feature.getEType() instanceof EClass
+                    && DatavaluePackage.Literals.DATA_VALUE.isSuperTypeOf((EClass)feature.getEType()))
+            {
+                result.add(new DataValueFeatureAccessor(feature));
+            }
+        }
+        
+        return Collections.unmodifiableList(result);
+    }
+}
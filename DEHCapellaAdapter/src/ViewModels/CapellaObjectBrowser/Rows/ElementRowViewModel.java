@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
 import org.polarsys.capella.core.data.requirement.Requirement;
@@ -216,6 +217,14 @@ public abstract class ElementRowViewModel<TElement extends CapellaElement> imple
         this.name = name;
     }
     
+    /**
+     * Reads the name of the represented {@linkplain CapellaElement} again, after it got renamed
+     */
+    public void UpdateName()
+    {
+        this.UpdateProperties();
+    }
+    
     /**
      * Updates this view model properties
      */ 
@@ -267,12 +276,78 @@ public abstract class ElementRowViewModel<TElement extends CapellaElement> imple
             this.isHighlighted = true;
         }
         
-        if(this instanceof IHaveContainedRows)
+        this.ReleaseContainedRows();
+    }
+    
+    /**
+     * A value indicating whether the contained rows of this row view model have been computed
+     */
+    private boolean areContainedRowsComputed;
+    
+    /**
+     * Gets a value indicating whether the contained rows of this row view model have been computed
+     * 
+     * @return a {@linkplain boolean}
+     */
+    public boolean AreContainedRowsComputed()
+    {
+        return this.areContainedRowsComputed;
+    }
+    
+    /**
+     * Computes the contained rows of this row view model the first time they are requested,
+     * so that only the rows of the browsed part of the models get created
+     */
+    protected void EnsureContainedRowsAreComputed()
+    {
+        if(!this.areContainedRowsComputed && this instanceof IHaveContainedRows)
+        {
+            this.areContainedRowsComputed = true;
+            ((IHaveContainedRows<?>)this).ComputeContainedRows();
+        }
+    }
+    
+    /**
+     * Gets a value indicating whether this row view model has any contained row, 
+     * without computing the contained rows when they are not computed yet
+     * 
+     * @return a {@linkplain boolean}
+     */
+    public boolean HasContainedRows()
+    {
+        if(!(this instanceof IHaveContainedRows))
+        {
+            return false;
+        }
+        
+        if(this.areContainedRowsComputed)
+        {
+            return !((IHaveContainedRows<?>)this).GetContainedRows().isEmpty();
+        }
+        
+        return this.element != null && this.element.eContents().stream().anyMatch(this::IsContainedRowElement);
+    }
+    
+    /**
+     * Gets a value indicating whether the specified element contained by the represented {@linkplain CapellaElement} gets a contained row
+     * 
+     * @param element the contained {@linkplain EObject}
+     * @return a {@linkplain boolean}
+     */
+    protected boolean IsContainedRowElement(EObject element)
+    {
+        return false;
+    }
+    
+    /**
+     * Releases the contained rows of this row view model, they get computed again the next time they are requested
+     */
+    public void ReleaseContainedRows()
+    {
+        if(this.areContainedRowsComputed && this instanceof IHaveContainedRows)
         {
-            var thisAsParent = (IHaveContainedRows<?>)this;
-            
-            thisAsParent.GetContainedRows().clear();
-            thisAsParent.ComputeContainedRows();
+            ((IHaveContainedRows<?>)this).GetContainedRows().clear();
+            this.areContainedRowsComputed = false;
         }
     }
 }
@@ -23,6 +23,7 @@
  */
 package ViewModels.CapellaObjectBrowser.Rows;
 
+import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.Structure;
 import org.polarsys.capella.core.data.cs.Component;
@@ -60,6 +61,7 @@ public abstract class ProjectStructuralElementRowViewModel<TElement extends Stru
     @Override
     public ObservableCollection<IElementRowViewModel<?>> GetContainedRows()
     {
+        this.EnsureContainedRowsAreComputed();
         return this.containedRows;
     }
 
@@ -74,7 +76,6 @@ public abstract class ProjectStructuralElementRowViewModel<TElement extends Stru
     {
         super(parent, element);
         this.containedElementClazz = containedElementClazz;
-        this.ComputeContainedRows();
     }
     
     /**
@@ -91,6 +92,11 @@ public abstract class ProjectStructuralElementRowViewModel<TElement extends Stru
         
         for (var element : this.GetElement().eContents())
         {
+            if(!this.IsContainedRowElement(element))
+            {
+                continue;
+            }
+            
             if(this.containedElementClazz.isAssignableFrom(element.getClass()))
             {
                 this.AddToContainedRows((TContainedElement)element);
@@ -102,6 +108,32 @@ public abstract class ProjectStructuralElementRowViewModel<TElement extends Stru
         }
     }
     
+    /**
+     * Gets a value indicating whether the specified element contained by the represented {@linkplain Structure} gets a contained row
+     * 
+     * @param element the contained {@linkplain EObject}
+     * @return a {@linkplain boolean}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    protected boolean IsContainedRowElement(EObject element)
+    {
+        return this.containedElementClazz.isAssignableFrom(element.getClass()) 
+                ? this.IsContainedElement((TContainedElement)element) 
+                : element instanceof ComponentPkg;
+    }
+    
+    /**
+     * Gets a value indicating whether the provided {@linkplain #TContainedElement} gets a contained row through {@linkplain #AddToContainedRows(CapellaElement)}
+     * 
+     * @param element the {@linkplain #TContainedElement}
+     * @return a {@linkplain boolean}
+     */
+    protected boolean IsContainedElement(TContainedElement element)
+    {
+        return true;
+    }
+    
     /**
      * Adds to the contained element the corresponding row view model representing the provided {@linkplain #TContainedElement}
      * 
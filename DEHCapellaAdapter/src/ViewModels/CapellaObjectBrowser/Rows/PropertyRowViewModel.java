@@ -23,15 +23,10 @@
  */
 package ViewModels.CapellaObjectBrowser.Rows;
 
-import java.lang.reflect.Modifier;
-import java.util.regex.Pattern;
-
-import org.apache.logging.log4j.LogManager;
+import org.eclipse.emf.ecore.EObject;
 import org.polarsys.capella.core.data.capellacore.AbstractPropertyValue;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.information.Property;
-import org.polarsys.capella.core.data.information.datavalue.DataValue;
-import org.reflections.ReflectionUtils;
 
 import Reactive.ObservableCollection;
 import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
@@ -56,6 +51,7 @@ public class PropertyRowViewModel extends ElementRowViewModel<Property> implemen
     @Override
     public ObservableCollection<PropertyValueBaseRowViewModel<? extends CapellaElement>> GetContainedRows()
     {
+        this.EnsureContainedRowsAreComputed();
         return this.containedRows;
     }
     
@@ -68,7 +64,6 @@ public class PropertyRowViewModel extends ElementRowViewModel<Property> implemen
     public PropertyRowViewModel(IElementRowViewModel<?> parent, Property element)
     {
         super(parent, element);
-        this.ComputeContainedRows();
     }
     
     /**
@@ -79,6 +74,11 @@ public class PropertyRowViewModel extends ElementRowViewModel<Property> implemen
     {
         for (var element : this.GetElement().eContents())
         {
+            if(!this.IsContainedRowElement(element))
+            {
+                continue;
+            }
+            
             if(element instanceof AbstractPropertyValue)
             {
                 this.GetContainedRows().add(new PropertyAbstractPropertyValueRowViewModel(this, (AbstractPropertyValue)element));
@@ -91,35 +91,40 @@ public class PropertyRowViewModel extends ElementRowViewModel<Property> implemen
     /**
      * Process data values for the represented {@linkplain Property}
      */
-    @SuppressWarnings("unchecked")
     private void ProcessDataValues()
     {
-       final String patternString = "getOwned";
-
-        Pattern pattern = Pattern.compile(patternString);
-
-        var allMethods = ReflectionUtils.getAllMethods(
-                this.GetElement().getClass(), 
-                x -> x.getModifiers() == Modifier.PUBLIC && pattern.matcher(x.getName()).find());
-        
-        for (var method : allMethods)
+        for (var accessor : DataValueFeatureAccessor.GetAccessors(this.GetElement().eClass()))
         {
-            try
+            var dataValue = accessor.GetDataValue(this.GetElement());
+            
+            if(dataValue != null)
             {
-                var invoke = method.invoke(this.GetElement());
-                
-                if(invoke instanceof DataValue)
-                {
-                    this.GetContainedRows().add(
-                            new PropertyDataValueRowViewModel(
-                                    this, ((DataValue)invoke), method.getName().replaceAll(patternString, "")));
-                }                
-                
-            } 
-            catch (Exception exception)
-            {
-                LogManager.getLogger().catching(exception);
+                this.GetContainedRows().add(new PropertyDataValueRowViewModel(this, dataValue, accessor.GetName()));
             }
         }
     }
+    
+    /**
+     * Gets a value indicating whether this row view model has any contained row, including the rows of the data values
+     * 
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    public boolean HasContainedRows()
+    {
+        return super.HasContainedRows() || (!this.AreContainedRowsComputed() && DataValueFeatureAccessor.GetAccessors(this.GetElement().eClass()).stream()
+                .anyMatch(x -> x.GetDataValue(this.GetElement()) != null));
+    }
+    
+    /**
+     * Gets a value indicating whether the specified element contained by the represented {@linkplain Property} gets a contained row
+     * 
+     * @param element the contained {@linkplain EObject}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    protected boolean IsContainedRowElement(EObject element)
+    {
+        return element instanceof AbstractPropertyValue;
+    }
 }
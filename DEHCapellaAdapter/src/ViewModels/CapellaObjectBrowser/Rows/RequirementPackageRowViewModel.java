@@ -48,6 +48,18 @@ public class RequirementPackageRowViewModel extends ProjectStructuralElementRowV
         super(parent, element, CapellaElement.class);
     }
     
+    /**
+     * Gets a value indicating whether the provided {@linkplain CapellaElement} gets a contained row
+     * 
+     * @param element the {@linkplain CapellaElement}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    protected boolean IsContainedElement(CapellaElement element)
+    {
+        return element instanceof Requirement || element instanceof RequirementsPkg || element instanceof Folder;
+    }
+    
     /**
      * Adds to the contained element the corresponding row view model representing the provided {@linkplain TContainedElement}
      * 
@@ -123,6 +123,18 @@ public class RootRowViewModel extends ProjectStructuralElementRowViewModel<Syste
     }
 
 
+    /**
+     * Gets a value indicating whether the provided {@linkplain CapellaElement} gets a contained row
+     * 
+     * @param element the {@linkplain CapellaElement}
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    protected boolean IsContainedElement(CapellaElement element)
+    {
+        return element instanceof BlockArchitecture;
+    }
+    
     /**
      * Adds to the contained element the corresponding row view model representing the provided {@linkplain TContainedElement}
      * 
@@ -27,7 +27,9 @@ import static Utils.Operators.Operators.AreTheseEquals;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
@@ -44,6 +46,8 @@ import Enumerations.MappedElementRowStatus;
 import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.CapellaTransaction.ICapellaTransactionService;
+import Services.Suggestion.Candidate;
+import Services.Suggestion.ISuggestionService;
 import Utils.Ref;
 import ViewModels.CapellaObjectBrowser.Interfaces.ICapellaObjectBrowserViewModel;
 import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
@@ -71,11 +75,26 @@ import io.reactivex.disposables.Disposable;
  */
 public class HubToDstMappingConfigurationDialogViewModel extends MappingConfigurationDialogViewModel<Thing, NamedElement, ElementRowViewModel<? extends CapellaElement>> implements IHubToDstMappingConfigurationDialogViewModel
 {
+    /**
+     * The maximum number of Capella elements suggested for a hub thing that has no exact match
+     */
+    private static final int CANDIDATECOUNT = 10;
+    
     /**
      * The {@linkplain IDstController}
      */
     private final IDstController dstController;
 
+    /**
+     * The {@linkplain ISuggestionService}
+     */
+    private final ISuggestionService suggestionService;
+    
+    /**
+     * The Capella elements suggested for the hub things that have no exact match, by hub thing iid
+     */
+    private final HashMap<UUID, List<NamedElement>> candidates = new HashMap<>();
+    
     /**
      * The {@linkplain ICapellaTransactionService}
      */
@@ -112,17 +131,19 @@ public class HubToDstMappingConfigurationDialogViewModel extends MappingConfigur
      * @param capellaObjectBrowserViewModel the {@linkplain ICapellaObjectBrowserViewModel}
      * @param transactionService the {@linkplain ICapellaTransactionService}
      * @param mappedElementListViewViewModel the {@linkplain ICapellaMappedElementListViewViewModel}
+     * @param suggestionService the {@linkplain ISuggestionService}
      */
     public HubToDstMappingConfigurationDialogViewModel(IDstController dstController, IHubController hubController, 
             IElementDefinitionBrowserViewModel elementDefinitionBrowserViewModel, IRequirementBrowserViewModel requirementBrowserViewModel,
             ICapellaObjectBrowserViewModel capellaObjectBrowserViewModel, ICapellaTransactionService transactionService,
-            ICapellaMappedElementListViewViewModel mappedElementListViewViewModel)
+            ICapellaMappedElementListViewViewModel mappedElementListViewViewModel, ISuggestionService suggestionService)
     {
         super(dstController, hubController, elementDefinitionBrowserViewModel, requirementBrowserViewModel, 
                 mappedElementListViewViewModel);
         
         this.dstController = dstController;
         this.transactionService = transactionService;
+        this.suggestionService = suggestionService;
         this.dstObjectBrowser = capellaObjectBrowserViewModel;
         this.InitializeObservables();
     }
@@ -136,6 +157,55 @@ public class HubToDstMappingConfigurationDialogViewModel extends MappingConfigur
         
         this.dstObjectBrowser.GetSelectedElement()
             .subscribe(x -> this.UpdateMappedElements(x));
+        
+        this.selectedMappedElement.Observable()
+            .subscribe(x -> this.UpdateDisplayedCandidates(x));
+    }
+    
+    /**
+     * Gets the Capella elements suggested for the provided hub {@linkplain Thing} when it has no exact match
+     * 
+     * @param thing the {@linkplain Thing}
+     * @return a {@linkplain List} of {@linkplain NamedElement}, sorted by descending similarity
+     */
+    @Override
+    public List<NamedElement> GetCandidates(Thing thing)
+    {
+        return thing == null ? new ArrayList<>() : this.candidates.getOrDefault(thing.getIid(), new ArrayList<>());
+    }
+    
+    /**
+     * Highlights the candidates of the provided {@linkplain MappedElementRowViewModel} in the Capella object browser,
+     * the tree is kept as it is so that selecting another mapped element does not create it again
+     * 
+     * @param mappedElement the selected {@linkplain MappedElementRowViewModel}
+     */
+    private void UpdateDisplayedCandidates(MappedElementRowViewModel<DefinedThing, NamedElement> mappedElement)
+    {
+        this.dstObjectBrowser.HighlightElements(mappedElement == null ? new ArrayList<NamedElement>() : this.GetCandidates(mappedElement.GetHubElement()));
+    }
+    
+    /**
+     * Registers the Capella elements whose names are similar to the name of the provided {@linkplain DefinedThing}
+     * 
+     * @param thing the {@linkplain DefinedThing} that has no exact match
+     * @param elementType the {@linkplain Class} of {@linkplain NamedElement} to suggest
+     */
+    private void UpdateCandidates(DefinedThing thing, Class<? extends NamedElement> elementType)
+    {
+        var suggestedElements = this.suggestionService.GetCapellaCandidates(thing.getName(), null, elementType, CANDIDATECOUNT)
+                .stream()
+                .map(Candidate::GetElement)
+                .collect(Collectors.<NamedElement>toList());
+        
+        if(suggestedElements.isEmpty())
+        {
+            this.candidates.remove(thing.getIid());
+        }
+        else
+        {
+            this.candidates.put(thing.getIid(), suggestedElements);
+        }
     }
     
     /**
@@ -203,6 +273,7 @@ public class HubToDstMappingConfigurationDialogViewModel extends MappingConfigur
     {
         this.disposables.forEach(x -> x.dispose());
         this.disposables.clear();
+        this.candidates.clear();
         
         for (var thing : selectedElements)
         {            
@@ -300,9 +371,11 @@ public class HubToDstMappingConfigurationDialogViewModel extends MappingConfigur
             if(this.dstController.TryGetElementByName(elementDefinition, refComponent) && componentType.isInstance(refComponent.Get()))
             {
                 refComponent.Set(this.transactionService.Clone(refComponent.Get()));
+                this.candidates.remove(elementDefinition.getIid());
             }
             else
             {
+                this.UpdateCandidates(elementDefinition, componentType);
                 var component = this.transactionService.Create(componentType, elementDefinition.getName());
                 refComponent.Set((TComponent) component);
                 refShouldCreateNewTargetElement.Set(true);
@@ -356,6 +429,7 @@ public class HubToDstMappingConfigurationDialogViewModel extends MappingConfigur
             }
             else
             {
+                this.UpdateCandidates(requirement, Requirement.class);
                 var component = this.transactionService.Create(SystemUserRequirement.class, requirement.getName());
                 refRequirement.Set(component);
                 refArchitecture.Set(CapellaArchitecture.SystemAnalysis);
@@ -23,6 +23,8 @@
  */
 package ViewModels.Dialogs.Interfaces;
 
+import java.util.List;
+
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
 
@@ -34,4 +36,11 @@ import cdp4common.commondata.Thing;
  */
 public interface IHubToDstMappingConfigurationDialogViewModel extends IMappingConfigurationDialogViewModel<Thing, NamedElement, ElementRowViewModel<? extends CapellaElement>>
 {
+    /**
+     * Gets the Capella elements suggested for the provided hub {@linkplain Thing} when it has no exact match
+     * 
+     * @param thing the {@linkplain Thing}
+     * @return a {@linkplain List} of {@linkplain NamedElement}, sorted by descending similarity
+     */
+    List<NamedElement> GetCandidates(Thing thing);
 }
@@ -0,0 +1,64 @@
+/*
+ * IMetricsDialogViewModel.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels.Dialogs.Interfaces;
+
+import java.io.File;
+import java.util.List;
+
+import Services.CapellaTransaction.CloneUsage;
+import Services.Metrics.MetricSnapshot;
+import ViewModels.Interfaces.IViewModel;
+
+/**
+ * The {@linkplain IMetricsDialogViewModel} is the interface definition for the {@linkplain MetricsDialogViewModel}
+ */
+public interface IMetricsDialogViewModel extends IViewModel
+{
+    /**
+     * Gets a {@linkplain MetricSnapshot} of each recorded metric
+     * 
+     * @return a {@linkplain List} of {@linkplain MetricSnapshot}
+     */
+    List<MetricSnapshot> GetSnapshots();
+
+    /**
+     * Gets the number of clones the adapter holds and their estimated size per type of cloned element
+     * 
+     * @return a {@linkplain List} of {@linkplain CloneUsage}
+     */
+    List<CloneUsage> GetCloneUsages();
+
+    /**
+     * Removes all the recorded metrics
+     */
+    void Reset();
+
+    /**
+     * Exports the recorded metrics to the provided {@linkplain File}, as CSV when the file name ends with .csv or as JSON otherwise
+     * 
+     * @param file the {@linkplain File} to write
+     * @return a value indicating whether the export succeeded
+     */
+    boolean Export(File file);
+}
@@ -0,0 +1,140 @@
+/*
+ * MetricsDialogViewModel.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels.Dialogs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import Services.CapellaLog.ICapellaLogService;
+import Services.CapellaTransaction.CloneUsage;
+import Services.CapellaTransaction.ICapellaTransactionService;
+import Services.Metrics.IMetricsService;
+import Services.Metrics.MetricSnapshot;
+import ViewModels.Dialogs.Interfaces.IMetricsDialogViewModel;
+import ViewModels.Interfaces.IViewModel;
+
+/**
+ * The {@linkplain MetricsDialogViewModel} is the view model for {@linkplain MetricsDialog}
+ */
+public class MetricsDialogViewModel implements IViewModel, IMetricsDialogViewModel
+{
+    /**
+     * The current class logger
+     */
+    private final Logger logger = LogManager.getLogger();
+    
+    /**
+     * The {@linkplain IMetricsService}
+     */
+    private final IMetricsService metricsService;
+    
+    /**
+     * The {@linkplain ICapellaLogService}
+     */
+    private final ICapellaLogService logService;
+    
+    /**
+     * The {@linkplain ICapellaTransactionService}
+     */
+    private final ICapellaTransactionService transactionService;
+
+    /**
+     * Initializes a new {@linkplain MetricsDialogViewModel}
+     * 
+     * @param metricsService the {@linkplain IMetricsService}
+     * @param logService the {@linkplain ICapellaLogService}
+     * @param transactionService the {@linkplain ICapellaTransactionService}
+     */
+    public MetricsDialogViewModel(IMetricsService metricsService, ICapellaLogService logService, ICapellaTransactionService transactionService)
+    {
+        this.metricsService = metricsService;
+        this.logService = logService;
+        this.transactionService = transactionService;
+    }
+
+    /**
+     * Gets a {@linkplain MetricSnapshot} of each recorded metric
+     * 
+     * @return a {@linkplain List} of {@linkplain MetricSnapshot}
+     */
+    @Override
+    public List<MetricSnapshot> GetSnapshots()
+    {
+        return this.metricsService.GetSnapshots();
+    }
+
+    /**
+     * Gets the number of clones the adapter holds and their estimated size per type of cloned element
+     * 
+     * @return a {@linkplain List} of {@linkplain CloneUsage}
+     */
+    @Override
+    public List<CloneUsage> GetCloneUsages()
+    {
+        return this.transactionService.GetCloneUsages();
+    }
+
+    /**
+     * Removes all the recorded metrics
+     */
+    @Override
+    public void Reset()
+    {
+        this.metricsService.Reset();
+    }
+
+    /**
+     * Exports the recorded metrics to the provided {@linkplain File}, as CSV when the file name ends with .csv or as JSON otherwise
+     * 
+     * @param file the {@linkplain File} to write
+     * @return a value indicating whether the export succeeded
+     */
+    @Override
+    public boolean Export(File file)
+    {
+        try
+        {
+            var content = file.getName().toLowerCase(Locale.ROOT).endsWith(".csv") 
+                    ? this.metricsService.ExportToCsv() 
+                    : this.metricsService.ExportToJson();
+            
+            Files.writeString(file.toPath(), content, StandardCharsets.UTF_8);
+            this.logService.Append(String.format("Metrics exported to %s", file.getAbsolutePath()), true);
+            return true;
+        }
+        catch (IOException exception)
+        {
+            this.logService.Append(String.format("The metrics export failed because %s", exception.getMessage()), false);
+            this.logger.catching(exception);
+            return false;
+        }
+    }
+}
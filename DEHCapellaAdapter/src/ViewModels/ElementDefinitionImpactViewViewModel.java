@@ -23,21 +23,20 @@
  */
 package ViewModels;
 
-import static Utils.Operators.Operators.AreTheseEquals;
+import java.util.List;
 
-import java.util.stream.Collectors;
+import javax.swing.tree.TreeModel;
 
-import org.netbeans.swing.outline.DefaultOutlineModel;
-import org.netbeans.swing.outline.OutlineModel;
+import org.netbeans.swing.outline.RowModel;
 
 import DstController.IDstController;
 import HubController.IHubController;
-import Utils.Ref;
 import ViewModels.Interfaces.IElementDefinitionImpactViewViewModel;
+import ViewModels.ObjectBrowser.Interfaces.IRowViewModel;
 import ViewModels.ObjectBrowser.ElementDefinitionTree.ElementDefinitionBrowserTreeRowViewModel;
 import ViewModels.ObjectBrowser.ElementDefinitionTree.ElementDefinitionBrowserTreeViewModel;
 import ViewModels.ObjectBrowser.ElementDefinitionTree.Rows.IterationElementDefinitionRowViewModel;
-import ViewModels.ObjectBrowser.Interfaces.IThingRowViewModel;
+import ViewModels.ObjectBrowser.ElementDefinitionTree.Rows.ElementDefinitionRowViewModel;
 import cdp4common.commondata.Thing;
 import cdp4common.engineeringmodeldata.ElementDefinition;
 import cdp4common.engineeringmodeldata.Iteration;
@@ -59,69 +58,63 @@ public class ElementDefinitionImpactViewViewModel extends ImpactViewBaseViewMode
     }
 
     /**
-     * Computes the difference for the provided {@linkplain Thing}
+     * Gets the {@linkplain Thing} that displays the provided mapped {@linkplain ElementDefinition} at the top level of the tree
      * 
-     * @param iteration the cloned iteration for display purpose
-     * @param thing the current {@linkplain Thing} thing
+     * @param thing the mapped {@linkplain ElementDefinition}
+     * @return the displayed {@linkplain Thing}
      */
     @Override
-    protected void ComputeDifferences(Iteration iteration, ElementDefinition thing)
+    protected Thing GetDisplayedThing(ElementDefinition thing)
     {
-        try
-        {            
-            if(iteration.getElement().stream().noneMatch(x -> this.DoTheseThingsRepresentTheSameThing(x, thing)))
-            {            
-                iteration.getElement().add(thing);
-            }
-            else
-            {
-                Ref<Integer> index = new Ref<>(Integer.class, null);
-                
-                iteration.getElement()
-                        .stream()
-                        .filter(x -> this.DoTheseThingsRepresentTheSameThing(x, thing))
-                        .findFirst()
-                        .ifPresent(x -> index.Set(iteration.getElement().indexOf(x)));
-                
-                if(index.HasValue() && iteration.getElement().removeIf(x -> this.DoTheseThingsRepresentTheSameThing(thing, x)))
-                {
-                    iteration.getElement().add(index.Get(), thing);
-                }
-            }
-        }
-        catch(Exception exception)
-        {
-            this.logger.catching(exception);
-        }
-    }    
+        return thing;
+    }
+
+    /**
+     * Gets the top level {@linkplain List} of {@linkplain Thing} of the provided {@linkplain Iteration} where the displayed things go
+     * 
+     * @param iteration the {@linkplain Iteration}
+     * @return a {@linkplain List} of {@linkplain Thing}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    protected List<Thing> GetDisplayedThings(Iteration iteration)
+    {
+        return (List<Thing>)(List<? extends Thing>)iteration.getElement();
+    }
 
     /**
-     * Creates a new {@linkplain OutlineModel} based on the provided {@linkplain Iteration}
+     * Creates a new {@linkplain TreeModel} based on the provided {@linkplain Iteration}
      * 
      * @param iteration the {@linkplain Iteration}
+     * @return the {@linkplain TreeModel}
      */
     @Override
-    protected OutlineModel CreateNewModel(Iteration iteration)
+    protected TreeModel CreateNewTreeModel(Iteration iteration)
     {
-        return DefaultOutlineModel.createOutlineModel(
-                new ElementDefinitionBrowserTreeViewModel(iteration), 
-                new ElementDefinitionBrowserTreeRowViewModel(), true);
+        return new ElementDefinitionBrowserTreeViewModel(iteration);
     }
-    
+
+    /**
+     * Creates a new {@linkplain RowModel} that provides the columns of the tree
+     * 
+     * @return the {@linkplain RowModel}
+     */
+    @Override
+    protected RowModel CreateRowModel()
+    {
+        return new ElementDefinitionBrowserTreeRowViewModel();
+    }
+
     /**
-     * Gets the {@linkplain IThingRowViewModel} that represent the {@linkplain Thing}
+     * Creates the row that represents the provided displayed {@linkplain ElementDefinition} at the top level of the tree
      * 
-     * @param thing the {@linkplain ElementDefinition} 
-     * @return the {@linkplain IThingRowViewModel} of {@linkplain ElementDefinition}
+     * @param displayedThing the displayed {@linkplain ElementDefinition}
+     * @param parentRow the root {@linkplain IterationElementDefinitionRowViewModel} of the tree
+     * @return the {@linkplain ElementDefinitionRowViewModel}
      */
     @Override
-    protected IThingRowViewModel<ElementDefinition> GetRowViewModelFromThing(ElementDefinition thing)
+    protected IRowViewModel CreateDisplayedThingRow(Thing displayedThing, Object parentRow)
     {
-        IterationElementDefinitionRowViewModel iterationRowViewModel = (IterationElementDefinitionRowViewModel) this.browserTreeModel.Value().getRoot();
-        
-        return iterationRowViewModel.GetContainedRows().stream()
-            .filter(x -> AreTheseEquals(thing.getIid(), x.GetThing().getIid()))
-            .findFirst()
-            .orElse(null);
+        return new ElementDefinitionRowViewModel((ElementDefinition)displayedThing, (IterationElementDefinitionRowViewModel)parentRow);
     }
 }
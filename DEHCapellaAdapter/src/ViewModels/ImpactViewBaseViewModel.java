@@ -27,11 +27,20 @@ import static Utils.Operators.Operators.AreTheseEquals;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
 
+import org.netbeans.swing.outline.DefaultOutlineModel;
 import org.netbeans.swing.outline.OutlineModel;
+import org.netbeans.swing.outline.RowModel;
 
 import DstController.IDstController;
 import Enumerations.MappingDirection;
@@ -42,6 +51,7 @@ import ViewModels.ObjectBrowser.Interfaces.IHaveContainedRows;
 import ViewModels.ObjectBrowser.Interfaces.IRowViewModel;
 import ViewModels.ObjectBrowser.Interfaces.IThingRowViewModel;
 import ViewModels.ObjectBrowser.Rows.ThingRowViewModel;
+import ViewModels.Rows.MappedElementRowViewModel;
 import cdp4common.commondata.Thing;
 import cdp4common.engineeringmodeldata.Iteration;
 import io.reactivex.Observable;
@@ -63,6 +73,42 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
      * The {@linkplain Class} of the {@linkplain #TThing} for future check
      */
     private Class<TThing> clazz;
+    
+    /**
+     * The cloned {@linkplain Iteration} currently displayed, where the mapped things are applied
+     */
+    private Iteration displayedIteration;
+    
+    /**
+     * The {@linkplain Iteration} the {@linkplain #displayedIteration} has been cloned from
+     */
+    private Iteration displayedIterationSource;
+    
+    /**
+     * The index of each displayed thing in the {@linkplain #GetDisplayedThings(Iteration)} of the {@linkplain #displayedIteration} by iid
+     */
+    private Map<UUID, Integer> displayedThingIndexes;
+    
+    /**
+     * The iids of the {@linkplain #TThing}s selected for transfer, the rows get their selection state from it when they get created
+     */
+    private final Set<UUID> selectedThingIids = new HashSet<>();
+    
+    /**
+     * The resident {@linkplain IThingRowViewModel}s of the current outline model that represent a {@linkplain #TThing} by iid, 
+     * rows are indexed when their top level row gets created and forgotten when it gets released
+     */
+    private Map<UUID, IThingRowViewModel<TThing>> rowViewModels = new HashMap<>();
+    
+    /**
+     * The {@linkplain ImpactViewTreeModel} of the current outline model
+     */
+    private ImpactViewTreeModel treeModel;
+    
+    /**
+     * The {@linkplain VirtualizedTreeModel} wrapped by the {@linkplain #treeModel}, that creates the top level rows when the tree asks for them
+     */
+    private VirtualizedTreeModel<Thing> virtualizedTreeModel;
 
     /**
      * Initializes a new {@linkplain ImpactViewBaseViewModel}
@@ -88,7 +134,11 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
     {
         this.DstController.GetDstMapResult()
             .ItemsAdded()
-            .subscribe(x -> this.ComputeDifferences(), e -> this.logger.catching(e));
+            .subscribe(x -> this.ApplyAddedMappedElements(x), e -> this.logger.catching(e));
+        
+        this.DstController.GetDstMapResult()
+            .ItemRemoved()
+            .subscribe(x -> this.ApplyRemovedMappedElement(x), e -> this.logger.catching(e));
         
         this.DstController.GetDstMapResult()
             .IsEmptyObservable()
@@ -100,16 +150,14 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
                 }
             });
         
-        this.DstController.GetSelectedDstMapResultForTransfer()
+        var selectedDstMapResultForTransfer = this.DstController.GetSelectedDstMapResultForTransfer();
+        
+        selectedDstMapResultForTransfer
         .ItemAdded()
             .filter(x -> this.clazz.isInstance(x))
-            .subscribe(x ->
-            {
-                this.SwitchIsSelected((TThing)x, true);                
-                this.shouldRefreshTree.Value(true);
-            });
+            .subscribe(x -> this.SwitchIsSelected((TThing)x, true));
         
-        this.DstController.GetSelectedDstMapResultForTransfer()
+        selectedDstMapResultForTransfer
             .ItemsAdded()
             .filter(x -> x.stream().allMatch(t -> this.clazz.isInstance(t)))
             .subscribe(x ->
@@ -118,47 +166,123 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
                 {
                     this.SwitchIsSelected((TThing)thing, true);
                 }
-                
-                this.shouldRefreshTree.Value(true);
             });
 
-        this.DstController.GetSelectedDstMapResultForTransfer()
+        selectedDstMapResultForTransfer
             .ItemRemoved()
             .filter(x -> this.clazz.isInstance(x))
-            .subscribe(x -> 
+            .subscribe(x -> this.SwitchIsSelected((TThing)x, false));
+        
+        selectedDstMapResultForTransfer
+            .IsEmptyObservable()
+            .subscribe(isEmpty ->
             {
-                this.SwitchIsSelected((TThing)x, false);
-                this.shouldRefreshTree.Value(true);
+                if(isEmpty)
+                {
+                    this.ClearIsSelected();
+                }
             });
     }
 
     /**
-     * Sets is selected property on the row view model that represents the provided {@linkplain Thing}
+     * Sets is selected property on the row view model that represents the provided {@linkplain Thing} and notifies the tree that this row changed
      * 
      * @param thing The {@linkplain Thing} to find the corresponding row view model
      * @param shouldSelect A value indicating whether the row view model should set as selected
      */
     private void SwitchIsSelected(TThing thing, boolean shouldSelect)
     {
+        if(shouldSelect)
+        {
+            this.selectedThingIids.add(thing.getIid());
+        }
+        else
+        {
+            this.selectedThingIids.remove(thing.getIid());
+        }
+        
         var viewModel = this.GetRowViewModelFromThing((TThing)thing);
         
-        if(!viewModel.GetIsSelected() && shouldSelect)
+        if(viewModel == null || viewModel.GetIsSelected() == shouldSelect)
+        {
+            return;
+        }
+        
+        viewModel.SetIsSelected(shouldSelect);
+        
+        if(this.treeModel != null)
         {
-            viewModel.SetIsSelected(true);
+            this.treeModel.NodeChanged(this.GetPath(viewModel));
         }
-        else if(viewModel.GetIsSelected() && !shouldSelect)
+    }
+    
+    /**
+     * Clears the selection of the things selected for transfer and updates the resident rows accordingly
+     */
+    private void ClearIsSelected()
+    {
+        this.selectedThingIids.clear();
+        
+        for (var rowViewModel : this.rowViewModels.values())
+        {
+            if(rowViewModel.GetIsSelected())
+            {
+                rowViewModel.SetIsSelected(false);
+                this.treeModel.NodeChanged(this.GetPath(rowViewModel));
+            }
+        }
+    }
+    
+    /**
+     * Gets the {@linkplain TreePath} of the provided row from the root of the tree
+     * 
+     * @param rowViewModel the {@linkplain IRowViewModel}
+     * @return a {@linkplain TreePath}
+     */
+    private TreePath GetPath(IRowViewModel rowViewModel)
+    {
+        var rows = new ArrayList<Object>();
+        
+        for (var row = rowViewModel; row != null; row = row.GetParent())
         {
-            viewModel.SetIsSelected(false);            
+            rows.add(0, row);
         }
+        
+        return new TreePath(rows.toArray());
     }
 
     /**
-     * Gets the {@linkplain IThingRowViewModel} that represent the {@linkplain Thing}
+     * Gets the resident {@linkplain IThingRowViewModel} that represent the {@linkplain Thing}
      * 
      * @param thing the {@linkplain #TThing} 
-     * @return the {@linkplain IThingRowViewModel} of {@linkplain #TThing}
+     * @return the {@linkplain IThingRowViewModel} of {@linkplain #TThing}, or null if no resident row represents it
      */
-    protected abstract IThingRowViewModel<TThing> GetRowViewModelFromThing(TThing thing);
+    protected IThingRowViewModel<TThing> GetRowViewModelFromThing(TThing thing)
+    {
+        return this.rowViewModels.get(thing.getIid());
+    }
+    
+    /**
+     * Forgets the provided released row and its contained rows from the {@linkplain #rowViewModels}
+     * 
+     * @param row the released row
+     */
+    @SuppressWarnings("unchecked")
+    private void ForgetRowViewModels(Object row)
+    {
+        if(row instanceof IThingRowViewModel && this.clazz.isInstance(((IThingRowViewModel<?>)row).GetThing()))
+        {
+            this.rowViewModels.remove(((IThingRowViewModel<?>)row).GetThing().getIid(), row);
+        }
+        
+        if(row instanceof IHaveContainedRows)
+        {
+            for (var containedRow : ((IHaveContainedRows<IRowViewModel>)row).GetContainedRows())
+            {
+                this.ForgetRowViewModels(containedRow);
+            }
+        }
+    }
     
     /**
      * Updates this view model {@linkplain TreeModel}
@@ -168,6 +292,8 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
     @Override
     protected void UpdateBrowserTrees(Boolean isConnected)
     {
+        this.ResetDisplayedIteration();
+        
         if(isConnected)
         {
             this.SetOutlineModel(this.hubController.GetOpenIteration());
@@ -205,96 +331,369 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
     @SuppressWarnings("unchecked")
     protected void ComputeDifferences()
     {
-        Iteration iteration = this.hubController.GetOpenIteration().clone(false);
+        this.displayedIterationSource = this.hubController.GetOpenIteration();
+        this.displayedIteration = this.displayedIterationSource.clone(false);
+        this.displayedThingIndexes = null;
         
         for (Thing thing : this.DstController.GetDstMapResult()
                 .stream().map(x -> x.GetHubElement()).collect(Collectors.toList()))
         {
             if(this.clazz.isInstance(thing))
             {
-                this.ComputeDifferences(iteration, (TThing)thing);
+                this.AddOrReplaceDisplayedThing((TThing)thing);
+            }
+        }
+        
+        this.SetOutlineModel(this.displayedIteration);
+    }
+
+    /**
+     * Applies the newly mapped things to the {@linkplain #displayedIteration} without recomputing the differences for the already applied ones
+     * 
+     * @param mappedElements the added {@linkplain Collection} of {@linkplain MappedElementRowViewModel}
+     */
+    @SuppressWarnings("unchecked")
+    private void ApplyAddedMappedElements(Collection<? extends MappedElementRowViewModel<?, ?>> mappedElements)
+    {
+        if(!this.IsDisplayedIterationUpToDate())
+        {
+            this.ComputeDifferences();
+            return;
+        }
+        
+        for (var mappedElement : mappedElements)
+        {
+            if(this.clazz.isInstance(mappedElement.GetHubElement()))
+            {
+                var refPreviousThing = new Ref<Thing>(Thing.class);
+                var index = this.AddOrReplaceDisplayedThing((TThing)mappedElement.GetHubElement(), refPreviousThing);
+                
+                if(index >= 0)
+                {
+                    this.UpdateDisplayedThingRow(index, refPreviousThing.HasValue() ? refPreviousThing.Get() : null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reverts the displayed thing that the provided removed {@linkplain MappedElementRowViewModel} has been applied to. 
+     * The displayed thing is replaced by the one from the last remaining mapped thing that applies to it, by the original thing, or removed.
+     * 
+     * @param mappedElement the removed {@linkplain MappedElementRowViewModel}
+     */
+    @SuppressWarnings("unchecked")
+    private void ApplyRemovedMappedElement(MappedElementRowViewModel<?, ?> mappedElement)
+    {
+        if(!this.clazz.isInstance(mappedElement.GetHubElement()) || this.displayedIteration == null 
+                || this.DstController.GetDstMapResult().isEmpty())
+        {
+            return;
+        }
+        
+        if(!this.IsDisplayedIterationUpToDate())
+        {
+            this.ComputeDifferences();
+            return;
+        }
+        
+        var iid = this.GetDisplayedThing((TThing)mappedElement.GetHubElement()).getIid();
+        var displayedThings = this.GetDisplayedThings(this.displayedIteration);
+        var index = this.GetDisplayedThingIndexes(displayedThings).get(iid);
+        
+        if(index == null)
+        {
+            return;
+        }
+        
+        Thing replacement = this.DstController.GetDstMapResult().stream()
+                .map(x -> x.GetHubElement())
+                .filter(x -> this.clazz.isInstance(x))
+                .map(x -> this.GetDisplayedThing((TThing)x))
+                .filter(x -> AreTheseEquals(x.getIid(), iid))
+                .reduce((first, second) -> second)
+                .orElse(null);
+        
+        var originalThings = this.GetDisplayedThings(this.displayedIterationSource);
+        
+        if(replacement == null && index < originalThings.size() && AreTheseEquals(originalThings.get(index).getIid(), iid))
+        {
+            replacement = originalThings.get(index);
+        }
+        
+        if(replacement != null)
+        {
+            var previousThing = displayedThings.set(index, replacement);
+            this.UpdateDisplayedThingRow(index, previousThing);
+        }
+        else
+        {
+            var removedThing = displayedThings.remove(index.intValue());
+            this.displayedThingIndexes = null;
+            this.RemoveDisplayedThingRow(index, removedThing);
+        }
+    }
+
+    /**
+     * Adds the displayed thing of the provided {@linkplain #TThing} to the {@linkplain #displayedIteration} or replaces the one with the same iid
+     * 
+     * @param thing the mapped {@linkplain #TThing}
+     * @param refPreviousThing the {@linkplain Ref} of the replaced displayed {@linkplain Thing}, that has no value when the displayed thing has been added
+     * @return the index of the displayed thing, -1 if it could not be applied
+     */
+    private int AddOrReplaceDisplayedThing(TThing thing, Ref<Thing> refPreviousThing)
+    {
+        try
+        {
+            var displayedThing = this.GetDisplayedThing(thing);
+            var displayedThings = this.GetDisplayedThings(this.displayedIteration);
+            var displayedThingIndexes = this.GetDisplayedThingIndexes(displayedThings);
+            var index = displayedThingIndexes.get(displayedThing.getIid());
+            
+            if(index == null)
+            {
+                index = displayedThings.size();
+                displayedThingIndexes.put(displayedThing.getIid(), index);
+                displayedThings.add(displayedThing);
+            }
+            else
+            {
+                refPreviousThing.Set(displayedThings.set(index, displayedThing));
+            }
+            
+            return index;
+        }
+        catch(Exception exception)
+        {
+            this.logger.catching(exception);
+            return -1;
+        }
+    }
+    
+    /**
+     * Notifies the tree that the displayed thing at the provided index of the {@linkplain #displayedIteration} has been inserted or replaced the previous one
+     * 
+     * @param index the index of the displayed thing
+     * @param previousThing the replaced displayed {@linkplain Thing}, null if the displayed thing has been added
+     */
+    private void UpdateDisplayedThingRow(int index, Thing previousThing)
+    {
+        if(this.virtualizedTreeModel == null)
+        {
+            this.SetOutlineModel(this.displayedIteration);
+        }
+        else if(previousThing != null)
+        {
+            this.virtualizedTreeModel.ItemReplaced(index, previousThing);
+        }
+        else
+        {
+            this.virtualizedTreeModel.ItemInserted(index);
+        }
+    }
+    
+    /**
+     * Notifies the tree that the displayed thing that was at the provided index of the {@linkplain #displayedIteration} has been removed
+     * 
+     * @param index the index the removed displayed thing had
+     * @param removedThing the removed displayed {@linkplain Thing}
+     */
+    private void RemoveDisplayedThingRow(int index, Thing removedThing)
+    {
+        if(this.virtualizedTreeModel == null)
+        {
+            this.SetOutlineModel(this.displayedIteration);
+        }
+        else
+        {
+            this.virtualizedTreeModel.ItemRemoved(index, removedThing);
+        }
+    }
+
+    /**
+     * Gets the index of each of the provided displayed things by iid, indexing them if the index was reset
+     * 
+     * @param displayedThings the {@linkplain List} of displayed {@linkplain Thing}
+     * @return a {@linkplain Map} of index by iid
+     */
+    private Map<UUID, Integer> GetDisplayedThingIndexes(List<Thing> displayedThings)
+    {
+        if(this.displayedThingIndexes == null)
+        {
+            this.displayedThingIndexes = new HashMap<>(displayedThings.size() * 2);
+            
+            for (var index = 0; index < displayedThings.size(); index++)
+            {
+                this.displayedThingIndexes.putIfAbsent(displayedThings.get(index).getIid(), index);
             }
         }
         
-        this.SetOutlineModel(iteration);
+        return this.displayedThingIndexes;
     }
 
     /**
-     * Creates a new {@linkplain OutlineModel} based on the provided {@linkplain Iteration}
+     * Gets a value indicating whether the {@linkplain #displayedIteration} has been cloned from the current open {@linkplain Iteration}
+     * 
+     * @return a {@linkplain boolean}
+     */
+    private boolean IsDisplayedIterationUpToDate()
+    {
+        return this.displayedIteration != null && this.displayedIterationSource == this.hubController.GetOpenIteration();
+    }
+
+    /**
+     * Resets the {@linkplain #displayedIteration} so the next mapped things get applied to a fresh clone of the open {@linkplain Iteration}
+     */
+    private void ResetDisplayedIteration()
+    {
+        this.displayedIteration = null;
+        this.displayedIterationSource = null;
+        this.displayedThingIndexes = null;
+    }
+
+    /**
+     * Creates a new {@linkplain TreeModel} based on the provided {@linkplain Iteration}
      * 
      * @param iteration the {@linkplain Iteration}
+     * @return the {@linkplain TreeModel}
+     */
+    protected abstract TreeModel CreateNewTreeModel(Iteration iteration);
+    
+    /**
+     * Creates a new {@linkplain RowModel} that provides the columns of the tree
+     * 
+     * @return the {@linkplain RowModel}
+     */
+    protected abstract RowModel CreateRowModel();
+    
+    /**
+     * Creates the row that represents the provided displayed {@linkplain Thing} at the top level of the tree
+     * 
+     * @param displayedThing the displayed {@linkplain Thing}
+     * @param parentRow the root row of the tree
+     * @return the {@linkplain IRowViewModel}
      */
-    protected abstract OutlineModel CreateNewModel(Iteration iteration);
+    protected abstract IRowViewModel CreateDisplayedThingRow(Thing displayedThing, Object parentRow);
     
     /**
-     * Computes the difference for the provided {@linkplain Thing}
+     * Gets the {@linkplain Thing} that displays the provided mapped {@linkplain #TThing} at the top level of the tree
      * 
-     * @param iteration the cloned iteration for display purpose
-     * @param thing the current {@linkplain Thing} thing
+     * @param thing the mapped {@linkplain #TThing}
+     * @return the displayed {@linkplain Thing}
      */
-    protected abstract void ComputeDifferences(Iteration iteration, TThing thing);
+    protected abstract Thing GetDisplayedThing(TThing thing);
     
     /**
-     * Updates the {@linkplain browserTreeModel} based on the provided {@linkplain Iteration}
+     * Gets the top level {@linkplain List} of {@linkplain Thing} of the provided {@linkplain Iteration} where the displayed things go
+     * 
+     * @param iteration the {@linkplain Iteration}
+     * @return a {@linkplain List} of {@linkplain Thing}
+     */
+    protected abstract List<Thing> GetDisplayedThings(Iteration iteration);
+    
+    /**
+     * Updates the {@linkplain browserTreeModel} based on the provided {@linkplain Iteration}, 
+     * the top level rows are created from the displayed things of the {@linkplain Iteration} when the tree asks for them
      * 
      * @param iteration the {@linkplain Iteration}
      */
     protected void SetOutlineModel(Iteration iteration)
     {
-        OutlineModel model = this.CreateNewModel(iteration);
-        this.UpdateHighlightOnRows(model);
+        var rootIteration = iteration.clone(false);
+        this.GetDisplayedThings(rootIteration).clear();
+        this.rowViewModels = new HashMap<>();
+        
+        this.virtualizedTreeModel = new VirtualizedTreeModel<Thing>(this.CreateNewTreeModel(rootIteration).getRoot(), 
+                this.GetDisplayedThings(iteration), this::CreateTopLevelRow, this::ForgetRowViewModels);
+        
+        this.treeModel = new ImpactViewTreeModel(this.virtualizedTreeModel);
+        OutlineModel model = DefaultOutlineModel.createOutlineModel(this.treeModel, this.CreateRowModel(), true);
+        model.getTreePathSupport().addTreeExpansionListener(this.virtualizedTreeModel);
         this.browserTreeModel.Value(model);
     }
-
+    
     /**
-     * Updates the <code>IsHighlighted</code> property on each row of the specified model
+     * Creates the top level row that represents the provided displayed {@linkplain Thing}, 
+     * updates the state of its rows from the mapped things and the things selected for transfer and indexes them
      * 
-     * @param model the {@linkplain OutlineModel}
+     * @param displayedThing the displayed {@linkplain Thing}
+     * @param root the root row of the tree
+     * @return the row
      */
-    @SuppressWarnings("unchecked")
-    private void UpdateHighlightOnRows(OutlineModel model)
+    private Object CreateTopLevelRow(Thing displayedThing, Object root)
     {
-        Object root = model.getRoot();
+        var row = this.CreateDisplayedThingRow(displayedThing, root);
         
-        if(root instanceof IHaveContainedRows)
+        if(this.DstController != null)
         {
-            this.UpdateHighlightOnRows((IHaveContainedRows<IRowViewModel>) root, false);
+            this.UpdateStateOnRow(row, false, this.GetMappedThingIids());
         }
+        
+        return row;
     }
 
     /**
-     * Updates the <code>IsHighlighted</code> property on each row of the specified model
+     * Updates the <code>IsHighlighted</code> and <code>IsSelected</code> properties on the contained rows of the specified row
      * 
      * @param rowViewModel a {@linkplain IHaveContainedRows} row view model
      * @param a value indicating whether child rows should be highlighted
+     * @param mappedThingIids the {@linkplain Set} of iids of the mapped things
+     */
+    private void UpdateStateOnRows(IHaveContainedRows<IRowViewModel> rowViewModel, boolean shouldHighlight, Set<UUID> mappedThingIids)
+    {
+        for (IRowViewModel row : rowViewModel.GetContainedRows())
+        {
+            this.UpdateStateOnRow(row, shouldHighlight, mappedThingIids);
+        }
+    }
+
+    /**
+     * Updates the <code>IsHighlighted</code> and <code>IsSelected</code> properties on the specified row and its contained rows 
+     * and indexes the rows that represent a {@linkplain #TThing}
+     * 
+     * @param row the {@linkplain IRowViewModel}
+     * @param a value indicating whether the row should be highlighted
+     * @param mappedThingIids the {@linkplain Set} of iids of the mapped things
      */
     @SuppressWarnings("unchecked")
-    private void UpdateHighlightOnRows(IHaveContainedRows<IRowViewModel> rowViewModel, boolean shouldHighlight)
+    private void UpdateStateOnRow(Object row, boolean shouldHighlight, Set<UUID> mappedThingIids)
     {
-        if(this.DstController == null)
+        if(!(row instanceof IThingRowViewModel))
         {
             return;
         }
         
-        for (IRowViewModel row : rowViewModel.GetContainedRows())
+        IThingRowViewModel<?> thingRowViewModel = (IThingRowViewModel<?>)row;
+        
+        if(this.clazz.isInstance(thingRowViewModel.GetThing()))
         {
-            if(row instanceof IThingRowViewModel)
-            {
-                IThingRowViewModel<?> thingRowViewModel = (IThingRowViewModel<?>)row;
-                
-                boolean isHighlighted = shouldHighlight || this.DstController.GetDstMapResult().stream()
-                        .anyMatch(r -> AreTheseEquals(r.GetHubElement().getIid(), thingRowViewModel.GetThing().getIid()));
-                
-                thingRowViewModel.SetIsHighlighted(isHighlighted);
-                thingRowViewModel.GetParent().SetIsHighlighted(isHighlighted);
-                
-                if(row instanceof IHaveContainedRows && !((IHaveContainedRows<IRowViewModel>)row).GetContainedRows().isEmpty())
-
-                this.UpdateHighlightOnRows((IHaveContainedRows<IRowViewModel>)row, isHighlighted);
-            }
+            thingRowViewModel.SetIsSelected(this.selectedThingIids.contains(thingRowViewModel.GetThing().getIid()));
+            this.rowViewModels.put(thingRowViewModel.GetThing().getIid(), (IThingRowViewModel<TThing>)thingRowViewModel);
+        }
+        
+        boolean isHighlighted = shouldHighlight || mappedThingIids.contains(thingRowViewModel.GetThing().getIid());
+        
+        thingRowViewModel.SetIsHighlighted(isHighlighted);
+        thingRowViewModel.GetParent().SetIsHighlighted(isHighlighted);
+        
+        if(row instanceof IHaveContainedRows && !((IHaveContainedRows<IRowViewModel>)row).GetContainedRows().isEmpty())
+        {
+            this.UpdateStateOnRows((IHaveContainedRows<IRowViewModel>)row, isHighlighted, mappedThingIids);
         }
     }
 
+    /**
+     * Gets the iids of the hub things present in the {@linkplain IDstController}.{@linkplain GetDstMapResult}
+     * 
+     * @return a {@linkplain Set} of {@linkplain UUID}
+     */
+    private Set<UUID> GetMappedThingIids()
+    {
+        return this.DstController.GetDstMapResult().stream()
+                .map(x -> x.GetHubElement().getIid())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
     /**
      * Compute eligible rows where the represented {@linkplain Thing} can be transfered,
      * and return the filtered collection for feedback application on the tree
@@ -308,7 +707,7 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
         {
             var refShouldSelect = new Ref<Boolean>(Boolean.class, null);
             
-            for(var rowViewModel : this.GetAllSelectableRows(selectedRow, null))
+            for(var rowViewModel : this.GetAllSelectableRows(selectedRow, null, this.GetMappedThingIids()))
             {
                 this.AddOrRemoveSelectedRowToTransfer(rowViewModel, refShouldSelect);
             }
@@ -321,10 +720,11 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
      * 
      * @param selectedRow the {@linkplain IThingRowViewModel}
      * @param selectableRows {@linkplain Collection} of {@linkplain IThingRowViewModel}
+     * @param mappedThingIids the {@linkplain Set} of iids of the mapped things
      * @return the {@linkplain Collection} of select-able {@linkplain IThingRowViewModel}
      */
     @SuppressWarnings("unchecked")
-    private Collection<IThingRowViewModel<?>> GetAllSelectableRows(IThingRowViewModel<?> selectedRow, Collection<IThingRowViewModel<?>> selectableRows)
+    private Collection<IThingRowViewModel<?>> GetAllSelectableRows(IThingRowViewModel<?> selectedRow, Collection<IThingRowViewModel<?>> selectableRows, Set<UUID> mappedThingIids)
     {
         if(selectableRows == null)
         {
@@ -336,7 +736,7 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
             return selectableRows;
         }
         
-        if(this.DstController.GetDstMapResult().stream().anyMatch(x -> AreTheseEquals(x.GetHubElement().getIid(), selectedRow.GetThing().getIid())))
+        if(mappedThingIids.contains(selectedRow.GetThing().getIid()))
         {
             selectableRows.add(selectedRow);
         }
@@ -345,7 +745,7 @@ public abstract class ImpactViewBaseViewModel<TThing extends Thing> extends Obje
         {
             for (var childRow : ((IHaveContainedRows<IThingRowViewModel<?>>)selectedRow).GetContainedRows())
             {
-                this.GetAllSelectableRows(childRow, selectableRows);
+                this.GetAllSelectableRows(childRow, selectableRows, mappedThingIids);
             }
         }
         
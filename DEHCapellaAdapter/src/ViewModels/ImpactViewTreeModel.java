@@ -0,0 +1,190 @@
+/*
+ * ImpactViewTreeModel.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels;
+
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+/**
+ * The {@linkplain ImpactViewTreeModel} is the {@linkplain TreeModel} of the impact views, it wraps the browser tree model built from the displayed iteration 
+ * so that the impact views can notify the rows they changed in place instead of building a new tree
+ */
+public class ImpactViewTreeModel implements TreeModel
+{
+    /**
+     * The wrapped {@linkplain TreeModel}
+     */
+    private final TreeModel treeModel;
+    
+    /**
+     * The {@linkplain EventListenerList} of the {@linkplain TreeModelListener}s
+     */
+    private final EventListenerList listeners = new EventListenerList();
+    
+    /**
+     * Initializes a new {@linkplain ImpactViewTreeModel}
+     * 
+     * @param treeModel the wrapped {@linkplain TreeModel}
+     */
+    public ImpactViewTreeModel(TreeModel treeModel)
+    {
+        this.treeModel = treeModel;
+    }
+
+    /**
+     * Gets the root of the tree
+     * 
+     * @return the root {@linkplain Object}
+     */
+    @Override
+    public Object getRoot()
+    {
+        return this.treeModel.getRoot();
+    }
+
+    /**
+     * Gets the child of the specified parent at the specified index
+     * 
+     * @param parent the parent row
+     * @param index the index of the child
+     * @return the child row
+     */
+    @Override
+    public Object getChild(Object parent, int index)
+    {
+        return this.treeModel.getChild(parent, index);
+    }
+
+    /**
+     * Gets the number of children of the specified parent
+     * 
+     * @param parent the parent row
+     * @return the number of children
+     */
+    @Override
+    public int getChildCount(Object parent)
+    {
+        return this.treeModel.getChildCount(parent);
+    }
+
+    /**
+     * Gets a value indicating whether the specified node is a leaf
+     * 
+     * @param node the row
+     * @return a value indicating whether the node is a leaf
+     */
+    @Override
+    public boolean isLeaf(Object node)
+    {
+        return this.treeModel.isLeaf(node);
+    }
+
+    /**
+     * Forwards the change of the value of the item identified by the specified path to the wrapped {@linkplain TreeModel}
+     * 
+     * @param path the {@linkplain TreePath}
+     * @param newValue the new value
+     */
+    @Override
+    public void valueForPathChanged(TreePath path, Object newValue)
+    {
+        this.treeModel.valueForPathChanged(path, newValue);
+    }
+
+    /**
+     * Gets the index of the specified child in the specified parent
+     * 
+     * @param parent the parent row
+     * @param child the child row
+     * @return the index of the child, -1 if the child is not contained by the parent
+     */
+    @Override
+    public int getIndexOfChild(Object parent, Object child)
+    {
+        return this.treeModel.getIndexOfChild(parent, child);
+    }
+
+    /**
+     * Adds a listener for the {@linkplain TreeModelEvent} posted after the tree changes
+     * 
+     * @param listener the {@linkplain TreeModelListener}
+     */
+    @Override
+    public void addTreeModelListener(TreeModelListener listener)
+    {
+        this.listeners.add(TreeModelListener.class, listener);
+        this.treeModel.addTreeModelListener(listener);
+    }
+
+    /**
+     * Removes a listener previously added with {@linkplain #addTreeModelListener(TreeModelListener)}
+     * 
+     * @param listener the {@linkplain TreeModelListener}
+     */
+    @Override
+    public void removeTreeModelListener(TreeModelListener listener)
+    {
+        this.listeners.remove(TreeModelListener.class, listener);
+        this.treeModel.removeTreeModelListener(listener);
+    }
+    
+    /**
+     * Notifies the listeners that the specified row changed, the row has to be contained in the tree
+     * 
+     * @param path the {@linkplain TreePath} of the row from the root
+     */
+    public void NodeChanged(TreePath path)
+    {
+        var parentPath = path.getParentPath();
+        
+        if(parentPath == null)
+        {
+            var event = new TreeModelEvent(this, path, null, null);
+            
+            for (var listener : this.listeners.getListeners(TreeModelListener.class))
+            {
+                listener.treeNodesChanged(event);
+            }
+            
+            return;
+        }
+        
+        var index = this.getIndexOfChild(parentPath.getLastPathComponent(), path.getLastPathComponent());
+        
+        if(index < 0)
+        {
+            return;
+        }
+        
+        var event = new TreeModelEvent(this, parentPath, new int[] { index }, new Object[] { path.getLastPathComponent() });
+        
+        for (var listener : this.listeners.getListeners(TreeModelListener.class))
+        {
+            listener.treeNodesChanged(event);
+        }
+    }
+}
@@ -24,13 +24,15 @@
 package ViewModels.MappingListView;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.swing.tree.TreeModel;
 
 import org.apache.commons.lang3.tuple.Triple;
 import org.netbeans.swing.outline.DefaultOutlineModel;
+import org.netbeans.swing.outline.OutlineModel;
 import org.polarsys.capella.core.data.capellacore.NamedElement;
 
 import DstController.IDstController;
@@ -43,6 +45,7 @@ import ViewModels.Rows.MappedDstRequirementRowViewModel;
 import ViewModels.Rows.MappedElementDefinitionRowViewModel;
 import ViewModels.Rows.MappedElementRowViewModel;
 import ViewModels.Rows.MappedHubRequirementRowViewModel;
+import ViewModels.VirtualizedTreeModel;
 import Views.CapellaMappingListView;
 import cdp4common.commondata.DefinedThing;
 import cdp4common.commondata.Thing;
@@ -83,18 +86,37 @@ public class CapellaMappingListViewViewModel extends MappingListViewViewModel<ID
         
         if(shouldDisplayTree)
         {
-            this.browserTreeModel.Value(DefaultOutlineModel.createOutlineModel(
-                    new MappingListViewTreeViewModel<NamedElement>(this.SortMappedElements()), 
-                    new MappingListViewTreeRowViewModel<NamedElement>(NamedElement.class), true));
+            var treeModel = new VirtualizedTreeModel<Triple<? extends NamedElement, MappingDirection, ? extends Thing>>(
+                    new MappingListViewTreeViewModel<NamedElement>(new ArrayList<>()).getRoot(), 
+                    this.SortMappedElements(), this::CreateMappedElementRow);
+            
+            OutlineModel model = DefaultOutlineModel.createOutlineModel(treeModel, 
+                    new MappingListViewTreeRowViewModel<NamedElement>(NamedElement.class), true);
+            
+            model.getTreePathSupport().addTreeExpansionListener(treeModel);
+            this.browserTreeModel.Value(model);
         }
     }
+    
+    /**
+     * Creates the top level row of the provided mapped element when the tree asks for it
+     * 
+     * @param mappedElement the {@linkplain Triple} of the {@linkplain NamedElement} the {@linkplain MappingDirection} and the {@linkplain Thing}
+     * @param root the root row of the tree
+     * @return the row
+     */
+    private Object CreateMappedElementRow(Triple<? extends NamedElement, MappingDirection, ? extends Thing> mappedElement, Object root)
+    {
+        var treeModel = new MappingListViewTreeViewModel<NamedElement>(Arrays.asList(mappedElement));
+        return treeModel.getChild(treeModel.getRoot(), 0);
+    }
 
     /**
      * Sorts the mapped elements
      * 
-     * @return a {@linkplain Collection} of {@linkplain Triple} of the {@linkplain #TDstElement} the {@linkplain MappingDirection} and the {@linkplain Thing}
+     * @return a {@linkplain List} of {@linkplain Triple} of the {@linkplain #TDstElement} the {@linkplain MappingDirection} and the {@linkplain Thing}
      */
-    private Collection<Triple<? extends NamedElement, MappingDirection, ? extends Thing>> SortMappedElements()
+    private List<Triple<? extends NamedElement, MappingDirection, ? extends Thing>> SortMappedElements()
     {
         var allElements = new ArrayList<MappedElementRowViewModel<? extends DefinedThing, ? extends NamedElement>>();
         
@@ -23,22 +23,21 @@
  */
 package ViewModels;
 
-import java.util.Optional;
+import java.util.List;
 
-import org.netbeans.swing.outline.DefaultOutlineModel;
-import org.netbeans.swing.outline.OutlineModel;
+import javax.swing.tree.TreeModel;
+
+import org.netbeans.swing.outline.RowModel;
 
 import DstController.IDstController;
 import HubController.IHubController;
-import Utils.Ref;
 import ViewModels.Interfaces.IRequirementImpactViewViewModel;
-import ViewModels.ObjectBrowser.Interfaces.IThingRowViewModel;
+import ViewModels.ObjectBrowser.Interfaces.IRowViewModel;
 import ViewModels.ObjectBrowser.RequirementTree.RequirementBrowserTreeRowViewModel;
 import ViewModels.ObjectBrowser.RequirementTree.RequirementBrowserTreeViewModel;
 import ViewModels.ObjectBrowser.RequirementTree.Rows.IterationRequirementRowViewModel;
-import ViewModels.ObjectBrowser.RequirementTree.Rows.RequirementRowViewModel;
+import ViewModels.ObjectBrowser.RequirementTree.Rows.RequirementSpecificationRowViewModel;
 import cdp4common.commondata.Thing;
-import cdp4common.engineeringmodeldata.ElementDefinition;
 import cdp4common.engineeringmodeldata.Iteration;
 import cdp4common.engineeringmodeldata.RequirementsSpecification;
 
@@ -59,76 +58,63 @@ public class RequirementImpactViewViewModel extends ImpactViewBaseViewModel<cdp4
     }
 
     /**
-     * Computes the difference for the provided {@linkplain Thing}
+     * Gets the {@linkplain Thing} that displays the provided mapped {@linkplain cdp4common.engineeringmodeldata.Requirement} at the top level of the tree
+     * 
+     * @param thing the mapped {@linkplain cdp4common.engineeringmodeldata.Requirement}
+     * @return the containing {@linkplain RequirementsSpecification}
+     */
+    @Override
+    protected Thing GetDisplayedThing(cdp4common.engineeringmodeldata.Requirement thing)
+    {
+        return thing.getContainerOfType(RequirementsSpecification.class);
+    }
+
+    /**
+     * Gets the top level {@linkplain List} of {@linkplain Thing} of the provided {@linkplain Iteration} where the displayed things go
      * 
-     * @param iteration the cloned iteration for display purpose
-     * @param thing the current {@linkplain Thing} thing
+     * @param iteration the {@linkplain Iteration}
+     * @return a {@linkplain List} of {@linkplain Thing}
      */
+    @SuppressWarnings("unchecked")
     @Override
-    protected void ComputeDifferences(Iteration iteration, cdp4common.engineeringmodeldata.Requirement thing)
+    protected List<Thing> GetDisplayedThings(Iteration iteration)
     {
-        try
-        {
-            if(iteration.getRequirementsSpecification().stream().noneMatch(x -> this.DoTheseThingsRepresentTheSameThing(x, thing.getContainerOfType(RequirementsSpecification.class))))
-            {
-                iteration.getRequirementsSpecification().add(thing.getContainerOfType(RequirementsSpecification.class));
-            }
-            else
-            {
-                Ref<Integer> index = new Ref<>(Integer.class, null);
-                
-                iteration.getRequirementsSpecification()
-                        .stream()
-                        .filter(x -> this.DoTheseThingsRepresentTheSameThing(x, thing.getContainerOfType(RequirementsSpecification.class)))
-                        .findFirst()
-                        .ifPresent(x -> index.Set(iteration.getRequirementsSpecification().indexOf(x)));
-                
-                if(index.HasValue() && iteration.getRequirementsSpecification().remove(index.Get().intValue()) != null)
-                {
-                    iteration.getRequirementsSpecification().add(index.Get(), thing.getContainerOfType(RequirementsSpecification.class));
-                }
-            }
-        }
-        catch(Exception exception)
-        {
-            this.logger.catching(exception);
-        }
+        return (List<Thing>)(List<? extends Thing>)iteration.getRequirementsSpecification();
     }
         
     /**
-     * Creates a new {@linkplain OutlineModel} based on the provided {@linkplain Iteration}
+     * Creates a new {@linkplain TreeModel} based on the provided {@linkplain Iteration}
      * 
      * @param iteration the {@linkplain Iteration}
+     * @return the {@linkplain TreeModel}
      */
     @Override
-    protected OutlineModel CreateNewModel(Iteration iteration)
+    protected TreeModel CreateNewTreeModel(Iteration iteration)
     {
-        return DefaultOutlineModel.createOutlineModel(
-            new RequirementBrowserTreeViewModel(iteration),
-            new RequirementBrowserTreeRowViewModel(), true);
+        return new RequirementBrowserTreeViewModel(iteration);
     }
 
     /**
-     * Gets the {@linkplain IThingRowViewModel} that represent the {@linkplain Thing}
+     * Creates a new {@linkplain RowModel} that provides the columns of the tree
      * 
-     * @param thing the {@linkplain ElementDefinition} 
-     * @return the {@linkplain IThingRowViewModel} of {@linkplain ElementDefinition}
+     * @return the {@linkplain RowModel}
      */
     @Override
-    protected IThingRowViewModel<cdp4common.engineeringmodeldata.Requirement> GetRowViewModelFromThing(cdp4common.engineeringmodeldata.Requirement thing)
+    protected RowModel CreateRowModel()
     {
-        IterationRequirementRowViewModel iterationRowViewModel = (IterationRequirementRowViewModel) this.browserTreeModel.Value().getRoot();
-        
-        Optional<RequirementRowViewModel> optionalDefinition = iterationRowViewModel.GetContainedRows().stream()
-                .flatMap(x -> x.GetAllContainedRowsOfType(RequirementRowViewModel.class).stream())
-                .filter(x -> x.GetThing().getIid().equals(thing.getIid()))
-                .findFirst();
-        
-        if(optionalDefinition.isPresent())
-        {
-            return optionalDefinition.get();
-        }
-        
-        return null;
+        return new RequirementBrowserTreeRowViewModel();
+    }
+
+    /**
+     * Creates the row that represents the provided displayed {@linkplain RequirementsSpecification} at the top level of the tree
+     * 
+     * @param displayedThing the displayed {@linkplain RequirementsSpecification}
+     * @param parentRow the root {@linkplain IterationRequirementRowViewModel} of the tree
+     * @return the {@linkplain RequirementSpecificationRowViewModel}
+     */
+    @Override
+    protected IRowViewModel CreateDisplayedThingRow(Thing displayedThing, Object parentRow)
+    {
+        return new RequirementSpecificationRowViewModel((RequirementsSpecification)displayedThing, (IterationRequirementRowViewModel)parentRow);
     }
 }
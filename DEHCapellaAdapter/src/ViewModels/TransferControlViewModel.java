@@ -24,9 +24,6 @@
 package ViewModels;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
-
-import org.apache.commons.lang3.time.StopWatch;
 
 import DstController.IDstController;
 import Enumerations.MappingDirection;
@@ -34,6 +31,7 @@ import Reactive.ObservableValue;
 import Services.CapellaLog.ICapellaLogService;
 import Services.HistoryService.ICapellaLocalExchangeHistoryService;
 import Services.LocalExchangeHistory.ILocalExchangeHistoryService;
+import Services.Metrics.IMetricsService;
 import ViewModels.Interfaces.ITransferControlViewModel;
 import io.reactivex.Observable;
 
@@ -57,6 +55,11 @@ public class TransferControlViewModel implements ITransferControlViewModel
      */
     private final ICapellaLocalExchangeHistoryService exchangeHistory;
     
+    /**
+     * The {@linkplain IMetricsService}
+     */
+    private final IMetricsService metricsService;
+    
     /**
      * The number of selected things to transfer
      */
@@ -79,10 +82,13 @@ public class TransferControlViewModel implements ITransferControlViewModel
      * @param dstController the {@linkplain IDstController}
      * @param logService the {@linkplain IMagicDrawUILogService}
      * @param exchangeHistory the {@linkplain ICapellaLocalExchangeHistoryService}
+     * @param metricsService the {@linkplain IMetricsService}
      */
-    public TransferControlViewModel(IDstController dstController, ICapellaLogService logService, ICapellaLocalExchangeHistoryService exchangeHistory)
+    public TransferControlViewModel(IDstController dstController, ICapellaLogService logService, ICapellaLocalExchangeHistoryService exchangeHistory,
+            IMetricsService metricsService)
     {
         this.exchangeHistory = exchangeHistory;
+        this.metricsService = metricsService;
         this.dstController = dstController;
         this.logService = logService;
         
@@ -123,22 +129,20 @@ public class TransferControlViewModel implements ITransferControlViewModel
     {
        return () -> 
        {
-           StopWatch timer = StopWatch.createStarted();
-           
-           this.logService.Append("Transfer in progress...");
-           
-           boolean result = this.dstController.Transfer();
-
-           this.exchangeHistory.Write();
-           
-           if(timer.isStarted())
+           try (var timer = this.metricsService.StartTimer(String.format("Transfer.%s", this.dstController.CurrentMappingDirection())))
            {
-               timer.stop();
+               this.logService.Append("Transfer in progress...");
+               
+               boolean result = this.dstController.Transfer();
+    
+               this.exchangeHistory.Write();
+               
+               timer.close();
+               
+               this.logService.Append(String.format("Transfer done in %s ms", timer.GetElapsedMilliseconds()), result);
+               
+               return result;
            }
-           
-           this.logService.Append(String.format("Transfer done in %s ms", timer.getTime(TimeUnit.MILLISECONDS)), result);
-           
-           return result;
        };
     }
 }
@@ -0,0 +1,554 @@
+/*
+ * VirtualizedTreeModel.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeExpansionListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+import ViewModels.ObjectBrowser.Interfaces.IHaveContainedRows;
+
+/**
+ * The {@linkplain VirtualizedTreeModel} is the {@linkplain TreeModel} of the trees which top level rows represent the items of a list that can be large, 
+ * such as the element definitions of an iteration. The number of top level rows is answered from the list and a top level row is only created 
+ * the first time the tree asks for it, the rows that are not expanded are released once more than {@linkplain #residentRowCount} rows are resident. 
+ * The rows below the top level ones are the contained rows of the top level rows. The listeners are notified with a structure change 
+ * of the released rows as the tree gets a new row the next time it asks for the same item. The tree is expected to use a fixed height layout, 
+ * as the outline models created for large models do, so that it only asks for the rows it displays.
+ * 
+ * @param <TItem> the type of the items the top level rows represent
+ */
+public class VirtualizedTreeModel<TItem> implements TreeModel, TreeExpansionListener
+{
+    /**
+     * The default number of top level rows kept resident
+     */
+    public static final int DEFAULTRESIDENTROWCOUNT = 256;
+    
+    /**
+     * The root element of the tree
+     */
+    private final Object root;
+    
+    /**
+     * The {@linkplain List} of items the top level rows represent
+     */
+    private final List<TItem> items;
+    
+    /**
+     * The {@linkplain BiFunction} that creates the top level row of an item, given the item and the root
+     */
+    private final BiFunction<TItem, Object, Object> rowFactory;
+    
+    /**
+     * The {@linkplain Consumer} called with each top level row that gets released
+     */
+    private final Consumer<Object> rowReleaseHandler;
+    
+    /**
+     * The number of top level rows kept resident
+     */
+    private final int residentRowCount;
+    
+    /**
+     * The resident top level rows by item, from the least to the most recently requested
+     */
+    private final LinkedHashMap<TItem, Object> rows = new LinkedHashMap<>(16, 0.75f, true);
+    
+    /**
+     * The item of each resident top level row
+     */
+    private final Map<Object, TItem> rowItems = new IdentityHashMap<>();
+    
+    /**
+     * The index of each item in the {@linkplain #items}, indexed again when an item is not found at its recorded index
+     */
+    private final Map<TItem, Integer> itemIndexes = new IdentityHashMap<>();
+    
+    /**
+     * The expanded top level rows, which are never released
+     */
+    private final Set<Object> expandedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    /**
+     * The {@linkplain EventListenerList} of the {@linkplain TreeModelListener}s
+     */
+    private final EventListenerList listeners = new EventListenerList();
+    
+    /**
+     * Initializes a new {@linkplain VirtualizedTreeModel}
+     * 
+     * @param root the root element of the tree
+     * @param items the {@linkplain List} of items the top level rows represent, the list is read each time the tree asks for the top level rows
+     * @param rowFactory the {@linkplain BiFunction} that creates the top level row of an item, given the item and the root
+     */
+    public VirtualizedTreeModel(Object root, List<TItem> items, BiFunction<TItem, Object, Object> rowFactory)
+    {
+        this(root, items, rowFactory, x -> { }, DEFAULTRESIDENTROWCOUNT);
+    }
+    
+    /**
+     * Initializes a new {@linkplain VirtualizedTreeModel}
+     * 
+     * @param root the root element of the tree
+     * @param items the {@linkplain List} of items the top level rows represent, the list is read each time the tree asks for the top level rows
+     * @param rowFactory the {@linkplain BiFunction} that creates the top level row of an item, given the item and the root
+     * @param rowReleaseHandler the {@linkplain Consumer} called with each top level row that gets released
+     */
+    public VirtualizedTreeModel(Object root, List<TItem> items, BiFunction<TItem, Object, Object> rowFactory, Consumer<Object> rowReleaseHandler)
+    {
+        this(root, items, rowFactory, rowReleaseHandler, DEFAULTRESIDENTROWCOUNT);
+    }
+    
+    /**
+     * Initializes a new {@linkplain VirtualizedTreeModel}
+     * 
+     * @param root the root element of the tree
+     * @param items the {@linkplain List} of items the top level rows represent, the list is read each time the tree asks for the top level rows
+     * @param rowFactory the {@linkplain BiFunction} that creates the top level row of an item, given the item and the root
+     * @param rowReleaseHandler the {@linkplain Consumer} called with each top level row that gets released
+     * @param residentRowCount the number of top level rows kept resident
+     */
+    public VirtualizedTreeModel(Object root, List<TItem> items, BiFunction<TItem, Object, Object> rowFactory, Consumer<Object> rowReleaseHandler, int residentRowCount)
+    {
+        this.root = root;
+        this.items = items;
+        this.rowFactory = rowFactory;
+        this.rowReleaseHandler = rowReleaseHandler;
+        this.residentRowCount = Math.max(1, residentRowCount);
+    }
+    
+    /**
+     * Gets the resident top level row of the specified item
+     * 
+     * @param item the item
+     * @return the row, or null if the row of this item is not resident
+     */
+    public Object GetResidentRow(TItem item)
+    {
+        var row = this.rows.get(item);
+        return row != null && this.rowItems.get(row) == item ? row : null;
+    }
+    
+    /**
+     * Gets the resident top level rows
+     * 
+     * @return a {@linkplain Collection} of rows
+     */
+    public Collection<Object> GetResidentRows()
+    {
+        return new ArrayList<>(this.rows.values());
+    }
+    
+    /**
+     * Releases the top level row of the specified item, it gets created again the next time the tree asks for it
+     * 
+     * @param item the item
+     */
+    public void Release(TItem item)
+    {
+        var row = this.GetResidentRow(item);
+        
+        if(row != null)
+        {
+            this.rows.remove(item);
+            this.ReleaseRow(row);
+            this.FireTreeStructureChanged(new TreePath(new Object[] { this.root, row }));
+        }
+    }
+    
+    /**
+     * Notifies the listeners that the item at the specified index has been inserted in the {@linkplain #items}
+     * 
+     * @param index the index of the inserted item
+     */
+    public void ItemInserted(int index)
+    {
+        this.itemIndexes.clear();
+        this.FireTreeNodes(index, this.GetRow(index), TreeModelListener::treeNodesInserted);
+    }
+    
+    /**
+     * Notifies the listeners that the item at the specified index of the {@linkplain #items} replaced the specified previous item, 
+     * the row of the previous item is released and the listeners are told that the row at this index changed. 
+     * When the previous row was expanded, the listeners are also told that the structure under the new row changed
+     * 
+     * @param index the index of the item
+     * @param previousItem the replaced item
+     */
+    public void ItemReplaced(int index, TItem previousItem)
+    {
+        var previousRow = this.GetResidentRow(previousItem);
+        var wasExpanded = previousRow != null && this.expandedRows.contains(previousRow);
+        
+        if(previousRow != null)
+        {
+            this.rows.remove(previousItem);
+            this.ReleaseRow(previousRow);
+        }
+        
+        this.itemIndexes.clear();
+        var row = this.GetRow(index);
+        this.FireTreeNodes(index, row, TreeModelListener::treeNodesChanged);
+        
+        if(wasExpanded)
+        {
+            this.FireTreeStructureChanged(new TreePath(new Object[] { this.root, row }));
+        }
+    }
+    
+    /**
+     * Notifies the listeners that the specified item has been removed from the specified index of the {@linkplain #items}, 
+     * a row is created for the removed item when its row is not resident so that the listeners always get the removed row
+     * 
+     * @param index the index the removed item had
+     * @param removedItem the removed item
+     */
+    public void ItemRemoved(int index, TItem removedItem)
+    {
+        var removedRow = this.GetResidentRow(removedItem);
+        
+        if(removedRow != null)
+        {
+            this.rows.remove(removedItem);
+            this.rowItems.remove(removedRow);
+            this.expandedRows.remove(removedRow);
+        }
+        else
+        {
+            removedRow = this.rowFactory.apply(removedItem, this.root);
+        }
+        
+        this.rowReleaseHandler.accept(removedRow);
+        this.itemIndexes.clear();
+        this.FireTreeNodes(index, removedRow, TreeModelListener::treeNodesRemoved);
+    }
+    
+    /**
+     * Gets the top level row of the item at the specified index, the row is created when it is not resident
+     * 
+     * @param index the index of the item
+     * @return the row
+     */
+    private Object GetRow(int index)
+    {
+        var item = this.items.get(index);
+        var row = this.GetResidentRow(item);
+        
+        if(row != null)
+        {
+            return row;
+        }
+        
+        var previousRow = this.rows.get(item);
+        
+        if(previousRow != null)
+        {
+            this.ReleaseRow(previousRow);
+            this.FireTreeStructureChanged(new TreePath(new Object[] { this.root, previousRow }));
+        }
+        
+        row = this.rowFactory.apply(item, this.root);
+        this.rows.put(item, row);
+        this.rowItems.put(row, item);
+        this.ReleaseLeastRecentlyRequestedRows();
+        return row;
+    }
+    
+    /**
+     * Releases the least recently requested top level rows that are not expanded while more than {@linkplain #residentRowCount} rows are resident, 
+     * the most recently requested row is always kept. The listeners are notified once the released rows are no longer resident.
+     */
+    private void ReleaseLeastRecentlyRequestedRows()
+    {
+        var releasedRows = new ArrayList<Object>();
+        var iterator = this.rows.entrySet().iterator();
+        
+        while (this.rows.size() > this.residentRowCount && iterator.hasNext())
+        {
+            var entry = iterator.next();
+            
+            if(!this.expandedRows.contains(entry.getValue()) && iterator.hasNext())
+            {
+                iterator.remove();
+                this.ReleaseRow(entry.getValue());
+                releasedRows.add(entry.getValue());
+            }
+        }
+        
+        for (var releasedRow : releasedRows)
+        {
+            this.FireTreeStructureChanged(new TreePath(new Object[] { this.root, releasedRow }));
+        }
+    }
+    
+    /**
+     * Forgets the specified top level row that is no longer resident and passes it to the {@linkplain #rowReleaseHandler}
+     * 
+     * @param row the released row
+     */
+    private void ReleaseRow(Object row)
+    {
+        this.rowItems.remove(row);
+        this.expandedRows.remove(row);
+        this.rowReleaseHandler.accept(row);
+    }
+    
+    /**
+     * Gets the index of the specified item in the {@linkplain #items}, indexing all the items again when the item is not found at its recorded index
+     * 
+     * @param item the item
+     * @return the index, or -1 if the item is not in the {@linkplain #items}
+     */
+    private int GetItemIndex(TItem item)
+    {
+        var index = this.itemIndexes.get(item);
+        
+        if(index == null || index >= this.items.size() || this.items.get(index) != item)
+        {
+            this.itemIndexes.clear();
+            
+            for (var itemIndex = 0; itemIndex < this.items.size(); itemIndex++)
+            {
+                this.itemIndexes.putIfAbsent(this.items.get(itemIndex), itemIndex);
+            }
+            
+            index = this.itemIndexes.get(item);
+        }
+        
+        return index != null ? index : -1;
+    }
+    
+    /**
+     * Notifies the listeners about the specified top level row through the specified {@linkplain TreeModelListener} method
+     * 
+     * @param index the index of the row
+     * @param row the row
+     * @param notification the {@linkplain BiConsumer} that calls the {@linkplain TreeModelListener} method
+     */
+    private void FireTreeNodes(int index, Object row, BiConsumer<TreeModelListener, TreeModelEvent> notification)
+    {
+        var event = new TreeModelEvent(this, new TreePath(this.root), new int[] { index }, new Object[] { row });
+        
+        for (var listener : this.listeners.getListeners(TreeModelListener.class))
+        {
+            notification.accept(listener, event);
+        }
+    }
+    
+    /**
+     * Notifies the listeners that the structure under the specified row changed
+     * 
+     * @param path the {@linkplain TreePath} of the row
+     */
+    private void FireTreeStructureChanged(TreePath path)
+    {
+        var event = new TreeModelEvent(this, path);
+        
+        for (var listener : this.listeners.getListeners(TreeModelListener.class))
+        {
+            listener.treeStructureChanged(event);
+        }
+    }
+
+    /**
+     * Gets the root element of the tree
+     * 
+     * @return an {@linkplain Object}
+     */
+    @Override
+    public Object getRoot()
+    {
+        return this.root;
+    }
+
+    /**
+     * Gets the child of the specified parent at the specified index, the top level rows are created when they are not resident
+     * 
+     * @param parent the parent row
+     * @param index the index of the child
+     * @return the child row, or null if the index is out of range
+     */
+    @Override
+    public Object getChild(Object parent, int index)
+    {
+        if(parent == this.root)
+        {
+            return index >= 0 && index < this.items.size() ? this.GetRow(index) : null;
+        }
+        
+        var containedRows = this.GetContainedRows(parent);
+        return containedRows != null && index >= 0 && index < containedRows.size() ? containedRows.get(index) : null;
+    }
+
+    /**
+     * Gets the number of children of the specified parent, the number of top level rows is the number of items
+     * 
+     * @param parent the parent row
+     * @return the number of children
+     */
+    @Override
+    public int getChildCount(Object parent)
+    {
+        if(parent == this.root)
+        {
+            return this.items.size();
+        }
+        
+        var containedRows = this.GetContainedRows(parent);
+        return containedRows != null ? containedRows.size() : 0;
+    }
+
+    /**
+     * Gets a value indicating whether the specified node is a leaf
+     * 
+     * @param node the row
+     * @return a {@linkplain boolean}
+     */
+    @Override
+    public boolean isLeaf(Object node)
+    {
+        return this.getChildCount(node) == 0;
+    }
+
+    /**
+     * Gets the index of the specified child in the children of the specified parent
+     * 
+     * @param parent the parent row
+     * @param child the child row
+     * @return the index, or -1 if the child does not belong to the parent
+     */
+    @Override
+    public int getIndexOfChild(Object parent, Object child)
+    {
+        if(child == null)
+        {
+            return -1;
+        }
+        
+        if(parent == this.root)
+        {
+            var item = this.rowItems.get(child);
+            return item != null ? this.GetItemIndex(item) : -1;
+        }
+        
+        var containedRows = this.GetContainedRows(parent);
+        
+        for (var index = 0; containedRows != null && index < containedRows.size(); index++)
+        {
+            if(containedRows.get(index) == child)
+            {
+                return index;
+            }
+        }
+        
+        return -1;
+    }
+
+    /**
+     * Occurs when the value of the specified path changed, the rows are not editable
+     * 
+     * @param path the {@linkplain TreePath}
+     * @param newValue the new value
+     */
+    @Override
+    public void valueForPathChanged(TreePath path, Object newValue) { }
+
+    /**
+     * Adds the specified {@linkplain TreeModelListener}
+     * 
+     * @param listener the {@linkplain TreeModelListener}
+     */
+    @Override
+    public void addTreeModelListener(TreeModelListener listener)
+    {
+        this.listeners.add(TreeModelListener.class, listener);
+    }
+
+    /**
+     * Removes the specified {@linkplain TreeModelListener}
+     * 
+     * @param listener the {@linkplain TreeModelListener}
+     */
+    @Override
+    public void removeTreeModelListener(TreeModelListener listener)
+    {
+        this.listeners.remove(TreeModelListener.class, listener);
+    }
+
+    /**
+     * Occurs when a row got expanded in the tree, the expanded top level rows are kept resident
+     * 
+     * @param event the {@linkplain TreeExpansionEvent}
+     */
+    @Override
+    public void treeExpanded(TreeExpansionEvent event)
+    {
+        var row = event.getPath().getLastPathComponent();
+        
+        if(this.rowItems.containsKey(row))
+        {
+            this.expandedRows.add(row);
+        }
+    }
+
+    /**
+     * Occurs when a row got collapsed in the tree, the collapsed top level rows can be released
+     * 
+     * @param event the {@linkplain TreeExpansionEvent}
+     */
+    @Override
+    public void treeCollapsed(TreeExpansionEvent event)
+    {
+        this.expandedRows.remove(event.getPath().getLastPathComponent());
+        this.ReleaseLeastRecentlyRequestedRows();
+    }
+    
+    /**
+     * Gets the contained rows of the specified row
+     * 
+     * @param parent the parent row
+     * @return a {@linkplain List} of rows, or null if the parent cannot contain any row
+     */
+    private List<?> GetContainedRows(Object parent)
+    {
+        return parent instanceof IHaveContainedRows ? ((IHaveContainedRows<?>)parent).GetContainedRows() : null;
+    }
+}
@@ -56,7 +56,7 @@ public class CapellaObjectBrowser extends ObjectBrowserBase<ICapellaObjectBrowse
     public CapellaObjectBrowser()
     {
         super();
-        this.objectBrowserTree.setRenderDataProvider(new CapellaObjectBrowserRenderDataProvider());
+        this.objectBrowserTree.setRenderDataProvider(new CapellaObjectBrowserRenderDataProvider(this::GetDataContext));
         this.objectBrowserTree.setRootVisible(false);
     }
 
@@ -0,0 +1,279 @@
+/*
+ * MetricsDialog.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Views.Dialogs;
+
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.awt.Insets;
+import java.io.File;
+import java.util.Locale;
+
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTable;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+
+import Utils.ImageLoader.ImageLoader;
+import ViewModels.Dialogs.MetricsDialogViewModel;
+import ViewModels.Dialogs.Interfaces.IMetricsDialogViewModel;
+import ViewModels.Interfaces.IViewModel;
+import Views.Interfaces.IDialog;
+
+/**
+ * The {@linkplain MetricsDialog} is the dialog that displays the metrics recorded by the adapter and allows to export them, it also displays the clones held by the mapping
+ */
+@SuppressWarnings("serial")
+@Annotations.ExludeFromCodeCoverageGeneratedReport
+public class MetricsDialog extends BaseDialog<Boolean> implements IDialog<IMetricsDialogViewModel, Boolean>
+{
+    /**
+     * The column names of the {@linkplain #metricsTable}
+     */
+    private static final String[] COLUMNNAMES = new String[] { "Name", "Kind", "Count", "Total", "Mean", "Min", "Max", "P50", "P95", "P99" };
+    
+    /**
+     * The column names of the {@linkplain #clonesTable}
+     */
+    private static final String[] CLONECOLUMNNAMES = new String[] { "Type", "Clones", "Estimated bytes" };
+    
+    /**
+     * This view attached {@linkplain MetricsDialogViewModel} view model
+     */
+    private transient IMetricsDialogViewModel dataContext;
+    
+    /**
+     * View components declaration
+     */
+    private DefaultTableModel tableModel;
+    private JTable metricsTable;
+    private DefaultTableModel clonesTableModel;
+    private JTable clonesTable;
+    private JButton refreshButton;
+    private JButton resetButton;
+    private JButton exportButton;
+    private JButton closeButton;
+
+    /**
+     * Initializes a new {@linkplain MetricsDialog}
+     */
+    public MetricsDialog() 
+    {
+        this.Initialize();
+    }
+
+    /**
+     * Initializes this view components 
+     */
+    private void Initialize()
+    {
+        this.setTitle("DEH Capella Adapter metrics");
+        this.setSize(900, 500);
+        this.setLocationRelativeTo(null);
+        this.setIconImage(ImageLoader.GetIcon().getImage());
+        this.setModal(true);
+        
+        GridBagLayout gridBagLayout = new GridBagLayout();
+        gridBagLayout.columnWidths = new int[]{0, 100, 100, 100, 100, 0};
+        gridBagLayout.rowHeights = new int[]{0, 0, 0};
+        gridBagLayout.columnWeights = new double[]{1.0, 0.0, 0.0, 0.0, 0.0, Double.MIN_VALUE};
+        gridBagLayout.rowWeights = new double[]{1.0, 0.0, Double.MIN_VALUE};
+        this.getContentPane().setLayout(gridBagLayout);
+        
+        this.tableModel = new DefaultTableModel(COLUMNNAMES, 0)
+        {
+            @Override
+            public boolean isCellEditable(int row, int column)
+            {
+                return false;
+            }
+        };
+        
+        this.metricsTable = new JTable(this.tableModel);
+        this.metricsTable.setAutoCreateRowSorter(true);
+        this.metricsTable.getColumnModel().getColumn(0).setPreferredWidth(300);
+        
+        this.clonesTableModel = new DefaultTableModel(CLONECOLUMNNAMES, 0)
+        {
+            @Override
+            public boolean isCellEditable(int row, int column)
+            {
+                return false;
+            }
+        };
+        
+        this.clonesTable = new JTable(this.clonesTableModel);
+        this.clonesTable.setAutoCreateRowSorter(true);
+        
+        var tabbedPane = new JTabbedPane(JTabbedPane.TOP);
+        tabbedPane.addTab("Metrics", new JScrollPane(this.metricsTable));
+        tabbedPane.addTab("Clones", new JScrollPane(this.clonesTable));
+        tabbedPane.setToolTipTextAt(1, "The clones of Capella elements held by the mapping, with their estimated memory usage");
+        
+        GridBagConstraints gbc_tabbedPane = new GridBagConstraints();
+        gbc_tabbedPane.fill = GridBagConstraints.BOTH;
+        gbc_tabbedPane.gridwidth = 5;
+        gbc_tabbedPane.insets = new Insets(5, 5, 5, 5);
+        gbc_tabbedPane.gridx = 0;
+        gbc_tabbedPane.gridy = 0;
+        this.getContentPane().add(tabbedPane, gbc_tabbedPane);
+        
+        this.refreshButton = new JButton("Refresh");
+        this.AddButton(this.refreshButton, 1);
+        
+        this.resetButton = new JButton("Reset");
+        this.AddButton(this.resetButton, 2);
+        
+        this.exportButton = new JButton("Export...");
+        this.exportButton.setToolTipText("Export the metrics as JSON or CSV");
+        this.AddButton(this.exportButton, 3);
+        
+        this.closeButton = new JButton("Close");
+        this.AddButton(this.closeButton, 4);
+    }
+    
+    /**
+     * Adds the provided {@linkplain JButton} to the bottom row at the provided column
+     * 
+     * @param button the {@linkplain JButton}
+     * @param column the grid column
+     */
+    private void AddButton(JButton button, int column)
+    {
+        GridBagConstraints gbc_button = new GridBagConstraints();
+        gbc_button.fill = GridBagConstraints.HORIZONTAL;
+        gbc_button.insets = new Insets(5, 5, 5, 5);
+        gbc_button.gridx = column;
+        gbc_button.gridy = 1;
+        this.getContentPane().add(button, gbc_button);
+    }
+    
+    /**
+     * Binds the {@linkplain #dataContext} viewModel to this view
+     * 
+     * @param viewModel the view model to bind
+     */
+    @Override
+    public void Bind()
+    {
+        this.refreshButton.addActionListener(x -> this.UpdateRows());
+        
+        this.resetButton.addActionListener(x -> 
+        {
+            this.dataContext.Reset();
+            this.UpdateRows();
+        });
+        
+        this.exportButton.addActionListener(x -> this.Export());
+        this.closeButton.addActionListener(x -> this.CloseDialog(true));
+        
+        this.UpdateRows();
+    }
+
+    /**
+     * Updates the rows of the {@linkplain #metricsTable} and of the {@linkplain #clonesTable} from the {@linkplain #dataContext}
+     */
+    private void UpdateRows()
+    {
+        this.tableModel.setRowCount(0);
+        
+        for (var snapshot : this.dataContext.GetSnapshots())
+        {
+            this.tableModel.addRow(new Object[] 
+            { 
+                snapshot.GetName(), snapshot.GetKind(), snapshot.GetCount(), Format(snapshot.GetTotal()), Format(snapshot.GetMean()), 
+                Format(snapshot.GetMinimum()), Format(snapshot.GetMaximum()), Format(snapshot.GetMedian()), 
+                Format(snapshot.GetPercentile95()), Format(snapshot.GetPercentile99())
+            });
+        }
+        
+        this.clonesTableModel.setRowCount(0);
+        
+        for (var usage : this.dataContext.GetCloneUsages())
+        {
+            this.clonesTableModel.addRow(new Object[] { usage.GetType(), usage.GetCount(), usage.GetEstimatedBytes() });
+        }
+    }
+
+    /**
+     * Asks the user for a destination file and exports the metrics to it
+     */
+    private void Export()
+    {
+        var fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Export the metrics");
+        fileChooser.setAcceptAllFileFilterUsed(false);
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter("JSON (*.json)", "json"));
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter("CSV (*.csv)", "csv"));
+        
+        if(fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION)
+        {
+            return;
+        }
+        
+        var file = fileChooser.getSelectedFile();
+        var extension = ((FileNameExtensionFilter)fileChooser.getFileFilter()).getExtensions()[0];
+        
+        if(!file.getName().toLowerCase(Locale.ROOT).endsWith(String.format(".%s", extension)))
+        {
+            file = new File(file.getParentFile(), String.format("%s.%s", file.getName(), extension));
+        }
+        
+        this.dataContext.Export(file);
+    }
+
+    /**
+     * Formats the provided value for display
+     * 
+     * @param value the value to format
+     * @return a {@linkplain String}
+     */
+    private static String Format(double value)
+    {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+    
+    /**
+     * Sets the DataContext
+     */
+    @Override
+    public void SetDataContext(IMetricsDialogViewModel viewModel)
+    {
+        this.dataContext = viewModel;
+        this.Bind();        
+    }
+
+    /**
+     * Gets the DataContext
+     * 
+     * @return an {@link IViewModel}
+     */
+    @Override
+    public IMetricsDialogViewModel GetDataContext()
+    {
+        return this.dataContext;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * CapellaTransferChangeDetectorTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+
+import Services.CapellaTransaction.ClonedReferenceElement;
+
+class CapellaTransferChangeDetectorTestFixture
+{
+    private EClass original;
+    private CapellaTransferChangeDetector changeDetector;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.original = EcoreFactory.eINSTANCE.createEClass();
+        this.original.setName("Battery");
+        var attribute = EcoreFactory.eINSTANCE.createEAttribute();
+        attribute.setName("capacity");
+        attribute.setEType(EcorePackage.Literals.EDOUBLE);
+        this.original.getEStructuralFeatures().add(attribute);
+        
+        this.changeDetector = new CapellaTransferChangeDetector();
+    }
+
+    @Test
+    public void VerifyHasChanges()
+    {
+        assertFalse(this.changeDetector.HasChanges(this.original, this.original));
+        assertFalse(this.changeDetector.HasChanges(null, null));
+        assertTrue(this.changeDetector.HasChanges(this.original, null));
+        assertFalse(this.changeDetector.HasChanges(EcoreUtil.copy(this.original), this.original));
+        
+        var attribute = this.original.getEStructuralFeatures().get(0);
+        assertFalse(this.changeDetector.HasChanges(EcoreUtil.copy(attribute), attribute));
+        
+        var renamed = EcoreUtil.copy(this.original);
+        renamed.setName("Battery pack");
+        assertTrue(this.changeDetector.HasChanges(renamed, this.original));
+        
+        var withChangedChild = EcoreUtil.copy(this.original);
+        withChangedChild.getEStructuralFeatures().get(0).setEType(EcorePackage.Literals.EINT);
+        assertTrue(this.changeDetector.HasChanges(withChangedChild, this.original));
+        
+        var withNewChild = EcoreUtil.copy(this.original);
+        withNewChild.getEStructuralFeatures().add(EcoreFactory.eINSTANCE.createEReference());
+        assertTrue(this.changeDetector.HasChanges(withNewChild, this.original));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void VerifyShouldBeTransferredAndVisit()
+    {
+        var element = mock(CapellaElement.class);
+        when(element.getId()).thenReturn(UUID.randomUUID().toString());
+        var clonedReference = (ClonedReferenceElement<CapellaElement>)mock(ClonedReferenceElement.class);
+        when(clonedReference.GetClone()).thenReturn(element);
+        when(clonedReference.GetOriginal()).thenReturn(element);
+        
+        assertFalse(this.changeDetector.ShouldBeTransferred(clonedReference));
+        assertFalse(this.changeDetector.ShouldBeTransferred(clonedReference));
+        assertEquals(1, this.changeDetector.GetSkippedElementCount());
+        
+        assertTrue(this.changeDetector.Visit(element));
+        assertFalse(this.changeDetector.Visit(element));
+        assertTrue(this.changeDetector.Visit(this.original));
+    }
+}
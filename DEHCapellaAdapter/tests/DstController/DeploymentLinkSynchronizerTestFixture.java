@@ -0,0 +1,117 @@
+/*
+ * DeploymentLinkSynchronizerTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.cs.CsFactory;
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.pa.deployment.DeploymentFactory;
+import org.polarsys.capella.core.data.pa.deployment.PartDeploymentLink;
+
+import Services.CapellaTransaction.ICapellaTransactionService;
+
+class DeploymentLinkSynchronizerTestFixture
+{
+    private ICapellaTransactionService transactionService;
+    private DeploymentLinkSynchronizer synchronizer;
+    private Part location;
+    private Part part0;
+    private Part part1;
+    private Part part2;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.transactionService = mock(ICapellaTransactionService.class);
+        when(this.transactionService.Create(PartDeploymentLink.class)).thenAnswer(x -> DeploymentFactory.eINSTANCE.createPartDeploymentLink());
+        this.synchronizer = new DeploymentLinkSynchronizer(this.transactionService);
+        
+        this.location = this.CreatePart();
+        this.part0 = this.CreatePart();
+        this.part1 = this.CreatePart();
+        this.part2 = this.CreatePart();
+    }
+
+    private Part CreatePart()
+    {
+        var part = CsFactory.eINSTANCE.createPart();
+        part.setId(UUID.randomUUID().toString());
+        return part;
+    }
+
+    private PartDeploymentLink AddLink(Part deployedPart)
+    {
+        var link = DeploymentFactory.eINSTANCE.createPartDeploymentLink();
+        link.setLocation(this.location);
+        link.setDeployedElement(deployedPart);
+        this.location.getOwnedDeploymentLinks().add(link);
+        return link;
+    }
+
+    @Test
+    public void VerifySynchronizeCreatesTheMissingLinks()
+    {
+        var partsToDeploy = new LinkedHashMap<String, Part>();
+        partsToDeploy.put(this.part0.getId(), this.part0);
+        partsToDeploy.put(this.part1.getId(), this.part1);
+        
+        assertEquals(2, this.synchronizer.Synchronize(this.location, partsToDeploy));
+        assertEquals(2, this.location.getOwnedDeploymentLinks().size());
+        assertSame(this.part0, this.location.getOwnedDeploymentLinks().get(0).getDeployedElement());
+        assertSame(this.location, this.location.getOwnedDeploymentLinks().get(1).getLocation());
+        
+        var links = this.location.getOwnedDeploymentLinks().toArray();
+        assertEquals(0, this.synchronizer.Synchronize(this.location, partsToDeploy));
+        assertArrayEquals(links, this.location.getOwnedDeploymentLinks().toArray());
+        verify(this.transactionService, times(2)).Create(PartDeploymentLink.class);
+    }
+
+    @Test
+    public void VerifySynchronizeRemovesTheStaleAndDuplicatedLinks()
+    {
+        var keptLink = this.AddLink(this.part0);
+        this.AddLink(this.part0);
+        this.AddLink(this.part2);
+        this.AddLink(null);
+        
+        var partsToDeploy = new LinkedHashMap<String, Part>();
+        partsToDeploy.put(this.part0.getId(), this.part0);
+        partsToDeploy.put(this.part1.getId(), this.part1);
+        
+        assertEquals(1, this.synchronizer.Synchronize(this.location, partsToDeploy));
+        assertEquals(2, this.location.getOwnedDeploymentLinks().size());
+        assertSame(keptLink, this.location.getOwnedDeploymentLinks().get(0));
+        assertSame(this.part1, this.location.getOwnedDeploymentLinks().get(1).getDeployedElement());
+        
+        assertEquals(0, this.synchronizer.Synchronize(this.location, new LinkedHashMap<>()));
+        assertTrue(this.location.getOwnedDeploymentLinks().isEmpty());
+    }
+}
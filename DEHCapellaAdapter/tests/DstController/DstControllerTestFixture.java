@@ -25,6 +25,7 @@ package DstController;
 
 import static org.mockito.Mockito.*;
 
+import java.awt.EventQueue;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,6 +44,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.internal.verification.Times;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -69,6 +71,7 @@ import Enumerations.CapellaArchitecture;
 import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.CapellaLog.ICapellaLogService;
+import Services.CapellaSession.CapellaReferenceDataCatalog;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ClonedReferenceElement;
 import Services.CapellaTransaction.ICapellaTransactionService;
@@ -79,6 +82,8 @@ import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingConfiguration.IMappingConfigurationService;
 import Services.MappingEngineService.IMappableThingCollection;
 import Services.MappingEngineService.IMappingEngineService;
+import Services.Metrics.MetricsService;
+import Services.NameKey.NameKeyService;
 import Services.NavigationService.INavigationService;
 import Utils.Ref;
 import ViewModels.Interfaces.IMappedElementRowViewModel;
@@ -94,6 +99,7 @@ import cdp4common.engineeringmodeldata.Iteration;
 import cdp4common.engineeringmodeldata.Parameter;
 import cdp4common.engineeringmodeldata.ParameterOverride;
 import cdp4common.engineeringmodeldata.ParameterOverrideValueSet;
+import cdp4common.engineeringmodeldata.ParameterSwitchKind;
 import cdp4common.engineeringmodeldata.ParameterValueSet;
 import cdp4common.engineeringmodeldata.RequirementsGroup;
 import cdp4common.engineeringmodeldata.RequirementsSpecification;
@@ -155,7 +161,7 @@ public class DstControllerTestFixture
         when(mappedThings1.GetHubElement()).thenReturn(requirement);
         
         this.controller = new DstController(this.mappingEngine, this.hubController, this.logService, 
-                this.mappingConfigurationService, this.capellaSessionService, this.transactionService, this.transferHistory, this.userPreference, this.navigationService);
+                this.mappingConfigurationService, this.capellaSessionService, this.transactionService, this.transferHistory, this.userPreference, this.navigationService, new MetricsService(), new NameKeyService());
         
         this.controller.GetDstMapResult().add(mappedThings0);
         this.controller.GetDstMapResult().add(mappedThings1);
@@ -165,6 +171,8 @@ public class DstControllerTestFixture
     public void VerifyLoadMapping()
     {
         assertDoesNotThrow(() -> this.controller.LoadMapping());
+        verify(this.transactionService).Reset();
+        verify(this.transactionService, never()).Release(anyCollection(), anyCollection());
         
         var loadedMapping = new ArrayList<IMappedElementRowViewModel>();
         
@@ -187,6 +195,57 @@ public class DstControllerTestFixture
         verify(this.mappingConfigurationService, times(4)).LoadMapping();
     }
     
+    @Test
+    public void VerifyLoadStaleMapping()
+    {
+        var staleMapping = new ArrayList<IMappedElementRowViewModel>();
+        staleMapping.add(new MappedElementDefinitionRowViewModel(new ElementDefinition(), mock(LogicalComponent.class), MappingDirection.FromDstToHub));
+        
+        when(this.mappingConfigurationService.LoadMapping()).thenReturn(new ArrayList<>());
+        when(this.mappingConfigurationService.LoadStaleMapping(any())).thenReturn(staleMapping);
+        when(this.mappingEngine.Map(any())).thenReturn(new ArrayList<>());
+        
+        assertDoesNotThrow(() -> this.controller.LoadMapping(false));
+        verify(this.mappingConfigurationService, never()).GetStaleElements();
+        verify(this.mappingConfigurationService, never()).LoadStaleMapping(any());
+        
+        when(this.mappingConfigurationService.HasStaleCorrespondences()).thenReturn(true);
+        assertDoesNotThrow(() -> this.controller.LoadMapping(false));
+        verify(this.mappingConfigurationService, times(1)).GetStaleElements();
+        verify(this.mappingConfigurationService, times(1)).LoadStaleMapping(any());
+        verify(this.mappingEngine, atLeastOnce()).Map(any());
+    }
+    
+    @Test
+    public void VerifyLoadStaleMappingInBackgroundIsDroppedWhenTheMappingGotLoadedAgain() throws Exception
+    {
+        when(this.mappingConfigurationService.LoadMapping()).thenReturn(new ArrayList<>());
+        when(this.mappingConfigurationService.HasStaleCorrespondences()).thenReturn(true);
+        when(this.mappingConfigurationService.LoadStaleMapping(any())).thenReturn(new ArrayList<>());
+        
+        var staleElementLookups = new ArrayList<Thread>();
+        
+        when(this.mappingConfigurationService.GetStaleElements()).thenAnswer(x -> 
+        {
+            staleElementLookups.add(Thread.currentThread());
+            
+            if(staleElementLookups.size() == 1)
+            {
+                this.controller.LoadMapping(false);
+            }
+            
+            return new HashMap<>();
+        });
+        
+        this.controller.LoadMapping(true);
+        verify(this.mappingConfigurationService, timeout(5000).times(2)).GetStaleElements();
+        Thread.sleep(200);
+        EventQueue.invokeAndWait(() -> { });
+        
+        assertNotSame(Thread.currentThread(), staleElementLookups.get(0));
+        verify(this.mappingConfigurationService, times(1)).LoadStaleMapping(any());
+    }
+    
     @Test
     public void VerifyMap()
     {
@@ -208,6 +267,9 @@ public class DstControllerTestFixture
         when(this.mappingEngine.Map(any())).thenReturn(mapResult);
         assertTrue(this.controller.Map(mock(IMappableThingCollection.class), MappingDirection.FromDstToHub));
         assertTrue(this.controller.Map(mock(IMappableThingCollection.class), MappingDirection.FromHubToDst));
+        var inOrder = inOrder(this.transactionService);
+        inOrder.verify(this.transactionService).Release(anyCollection(), anyCollection());
+        inOrder.verify(this.transactionService, times(4)).Retain(any(CapellaElement.class));
         assertFalse(this.controller.Map(mock(IMappableThingCollection.class), null));
     }
     
@@ -304,6 +366,55 @@ public class DstControllerTestFixture
         verify(this.hubController, times(1)).Write(any(ThingTransaction.class));
     }
     
+    @Test
+    public void VerifyUpdateParameterValueSetsResolvesFromOpenIteration() throws TransactionException
+    {
+        var openIteration = new Iteration();
+        var elementDefinition = new ElementDefinition(UUID.randomUUID(), null, null);
+        var parameter = new Parameter(UUID.randomUUID(), null, null);
+        var valueSet = new ParameterValueSet(UUID.randomUUID(), null, null);
+        valueSet.setManual(new ValueArray<>(Arrays.asList("12"), String.class));
+        valueSet.setValueSwitch(ParameterSwitchKind.MANUAL);
+        parameter.getValueSet().add(valueSet);
+        elementDefinition.getParameter().add(parameter);
+        openIteration.getElement().add(elementDefinition);
+        
+        var mappedParameter = parameter.clone(true);
+        mappedParameter.getValueSet().get(0).setManual(new ValueArray<>(Arrays.asList("15"), String.class));
+        var unchangedParameter = parameter.clone(true);
+        var unresolvedParameter = new Parameter(UUID.randomUUID(), null, null).clone(true);
+        var mappedElementDefinition = elementDefinition.clone(false);
+        mappedElementDefinition.getParameter().clear();
+        mappedElementDefinition.getParameter().add(mappedParameter);
+        mappedElementDefinition.getParameter().add(unresolvedParameter);
+        
+        var transaction = mock(ThingTransaction.class);
+        when(this.hubController.GetOpenIteration()).thenReturn(openIteration);
+        when(this.hubController.GetIterationTransaction()).thenReturn(Pair.of(new Iteration(), transaction));
+        this.controller.GetSelectedDstMapResultForTransfer().add(mappedElementDefinition);
+        
+        assertDoesNotThrow(() -> this.controller.UpdateParameterValueSets());
+        
+        var registeredThings = ArgumentCaptor.forClass(Thing.class);
+        verify(transaction, times(3)).createOrUpdate(registeredThings.capture());
+        var registeredValueSet = registeredThings.getAllValues().stream().filter(x -> x instanceof ParameterValueSet).map(x -> (ParameterValueSet)x).findFirst();
+        assertTrue(registeredValueSet.isPresent());
+        assertEquals(valueSet.getIid(), registeredValueSet.get().getIid());
+        assertEquals("15", registeredValueSet.get().getManual().get(0));
+        assertEquals("12", valueSet.getManual().get(0));
+        verify(this.hubController, times(1)).TryGetThingById(eq(unresolvedParameter.getIid()), any());
+        verify(this.hubController, never()).TryGetThingById(eq(mappedParameter.getIid()), any());
+        
+        mappedElementDefinition.getParameter().clear();
+        mappedElementDefinition.getParameter().add(unchangedParameter);
+        var unchangedTransaction = mock(ThingTransaction.class);
+        when(this.hubController.GetIterationTransaction()).thenReturn(Pair.of(new Iteration(), unchangedTransaction));
+        
+        assertDoesNotThrow(() -> this.controller.UpdateParameterValueSets());
+        verify(unchangedTransaction, times(1)).createOrUpdate(any(Iteration.class));
+        verify(unchangedTransaction, never()).createOrUpdate(any(ParameterValueSet.class));
+    }
+    
     @Test
     public void AddOrRemoveAllFromSelectedThingsToTransfer()
     {
@@ -388,6 +499,7 @@ public class DstControllerTestFixture
         var sessionElements = new HashMap<org.eclipse.emf.common.util.URI, List<CapellaElement>>();
         sessionElements.put(sessionUri, Arrays.<CapellaElement>asList(elements));
         when(this.capellaSessionService.GetAllCapellaElementsFromOpenSessions()).thenReturn(sessionElements);
+        when(this.capellaSessionService.GetReferenceDataCatalog(any())).thenReturn(new CapellaReferenceDataCatalog(Arrays.asList(elements).iterator()));
     }
     
     @Test
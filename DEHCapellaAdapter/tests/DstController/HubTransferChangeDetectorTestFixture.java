@@ -0,0 +1,137 @@
+/*
+ * HubTransferChangeDetectorTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cdp4common.engineeringmodeldata.BinaryRelationship;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.ElementUsage;
+import cdp4common.engineeringmodeldata.Parameter;
+import cdp4common.engineeringmodeldata.ParameterValueSet;
+import cdp4common.engineeringmodeldata.ParameterSwitchKind;
+import cdp4common.sitedirectorydata.Category;
+import cdp4common.types.ValueArray;
+
+class HubTransferChangeDetectorTestFixture
+{
+    private ElementDefinition elementDefinition;
+    private ElementUsage elementUsage;
+    private Parameter parameter;
+    private HubTransferChangeDetector changeDetector;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.elementDefinition = new ElementDefinition(UUID.randomUUID(), null, null);
+        this.elementDefinition.setName("Battery");
+        this.elementDefinition.setShortName("battery");
+        this.elementDefinition.setRevisionNumber(3);
+        
+        this.elementUsage = new ElementUsage(UUID.randomUUID(), null, null);
+        this.elementUsage.setName("battery1");
+        this.elementUsage.setRevisionNumber(3);
+        this.elementUsage.setElementDefinition(this.elementDefinition);
+        this.elementDefinition.getContainedElement().add(this.elementUsage);
+        
+        this.parameter = new Parameter(UUID.randomUUID(), null, null);
+        this.parameter.setRevisionNumber(3);
+        var valueSet = new ParameterValueSet(UUID.randomUUID(), null, null);
+        valueSet.setManual(new ValueArray<>(Arrays.asList("12"), String.class));
+        valueSet.setValueSwitch(ParameterSwitchKind.MANUAL);
+        this.parameter.getValueSet().add(valueSet);
+        this.elementDefinition.getParameter().add(this.parameter);
+        
+        this.changeDetector = new HubTransferChangeDetector();
+    }
+
+    @Test
+    public void VerifyHasChanges()
+    {
+        assertFalse(this.changeDetector.HasChanges(this.elementDefinition));
+        assertFalse(this.changeDetector.HasChanges(this.elementDefinition.clone(false)));
+        assertFalse(this.changeDetector.HasChanges(this.elementDefinition.clone(true)));
+        assertTrue(this.changeDetector.HasChanges(new ElementDefinition(UUID.randomUUID(), null, null)));
+        
+        var renamed = this.elementDefinition.clone(false);
+        renamed.setName("Battery pack");
+        assertTrue(this.changeDetector.HasChanges(renamed));
+        
+        var categorized = this.elementDefinition.clone(false);
+        categorized.getCategory().add(new Category(UUID.randomUUID(), null, null));
+        assertTrue(this.changeDetector.HasChanges(categorized));
+        
+        var withNewUsage = this.elementDefinition.clone(false);
+        withNewUsage.getContainedElement().add(new ElementUsage(UUID.randomUUID(), null, null));
+        assertTrue(this.changeDetector.HasChanges(withNewUsage));
+        
+        var withRenamedUsage = this.elementDefinition.clone(true);
+        withRenamedUsage.getContainedElement().get(0).setName("battery2");
+        assertTrue(this.changeDetector.HasChanges(withRenamedUsage));
+        
+        var relationship = new BinaryRelationship(UUID.randomUUID(), null, null);
+        relationship.setRevisionNumber(1);
+        relationship.setSource(this.elementDefinition);
+        relationship.setTarget(this.elementUsage);
+        var relationshipClone = relationship.clone(false);
+        assertFalse(this.changeDetector.HasChanges(relationshipClone));
+        relationshipClone = relationship.clone(false);
+        relationshipClone.setTarget(this.elementDefinition);
+        assertTrue(this.changeDetector.HasChanges(relationshipClone));
+    }
+
+    @Test
+    public void VerifyShouldBeTransferredAndValueSets()
+    {
+        assertFalse(this.changeDetector.ShouldBeTransferred(this.elementDefinition.clone(false)));
+        assertFalse(this.changeDetector.ShouldBeTransferred(this.elementUsage));
+        assertTrue(this.changeDetector.ShouldBeTransferred(new ElementUsage(UUID.randomUUID(), null, null)));
+        assertEquals(2, this.changeDetector.GetSkippedThingCount());
+        
+        var parameterClone = this.parameter.clone(true);
+        assertFalse(this.changeDetector.HasValueSetChanges(parameterClone, this.parameter));
+        assertEquals(3, this.changeDetector.GetSkippedThingCount());
+        
+        parameterClone.getValueSet().get(0).setManual(new ValueArray<>(Arrays.asList("15"), String.class));
+        assertTrue(this.changeDetector.HasValueSetChanges(parameterClone, this.parameter));
+        
+        parameterClone = this.parameter.clone(true);
+        parameterClone.getValueSet().get(0).setValueSwitch(ParameterSwitchKind.COMPUTED);
+        assertTrue(this.changeDetector.HasValueSetChanges(parameterClone, this.parameter));
+        assertEquals(3, this.changeDetector.GetSkippedThingCount());
+        
+        parameterClone = this.parameter.clone(true);
+        var currentParameter = this.parameter.clone(false);
+        currentParameter.getValueSet().clear();
+        assertTrue(this.changeDetector.HasValueSetChanges(parameterClone, currentParameter));
+        assertTrue(this.changeDetector.HasValueSetChanges(currentParameter, parameterClone));
+        assertEquals(3, this.changeDetector.GetSkippedThingCount());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * TransferPreparationIndexTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package DstController;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import cdp4common.commondata.Thing;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.ElementUsage;
+import cdp4common.engineeringmodeldata.Iteration;
+import cdp4dal.exceptions.TransactionException;
+import cdp4dal.operations.ThingTransaction;
+
+class TransferPreparationIndexTestFixture
+{
+    private ThingTransaction transaction;
+    private ArrayList<Thing> addedThings;
+    private Iteration iteration;
+    private TransferPreparationIndex index;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.addedThings = new ArrayList<>();
+        this.transaction = mock(ThingTransaction.class);
+        when(this.transaction.getAddedThing()).thenAnswer(x -> new ArrayList<>(this.addedThings));
+        this.iteration = new Iteration();
+        this.index = new TransferPreparationIndex(this.transaction);
+    }
+
+    @Test
+    public void VerifyContainsAndAdd()
+    {
+        var existingElement = new ElementDefinition();
+        existingElement.setIid(UUID.randomUUID());
+        this.iteration.getElement().add(existingElement);
+
+        var newElement = new ElementDefinition();
+        newElement.setIid(UUID.randomUUID());
+
+        assertTrue(this.index.Contains(existingElement, this.iteration.getElement()));
+        assertFalse(this.index.Contains(newElement, this.iteration.getElement()));
+        this.index.Add(newElement, this.iteration.getElement());
+        assertTrue(this.index.Contains(newElement, this.iteration.getElement()));
+        assertTrue(this.iteration.getElement().contains(newElement));
+        assertTrue(this.index.IsBoundTo(this.transaction));
+        assertFalse(this.index.IsBoundTo(mock(ThingTransaction.class)));
+    }
+
+    @Test
+    public void VerifyCreateOrUpdate() throws TransactionException
+    {
+        var addedUsage = new ElementUsage();
+        addedUsage.setIid(UUID.randomUUID());
+        var updatedUsage = new ElementUsage();
+        updatedUsage.setIid(UUID.randomUUID());
+
+        doAnswer(x -> this.addedThings.add(x.getArgument(0))).when(this.transaction).createOrUpdate(addedUsage);
+
+        this.index.CreateOrUpdate(addedUsage);
+        this.index.CreateOrUpdate(updatedUsage);
+
+        assertTrue(this.index.IsAdded(addedUsage));
+        assertFalse(this.index.IsAdded(updatedUsage));
+        verify(this.transaction, times(2)).createOrUpdate(any(Thing.class));
+        verify(this.transaction, times(5)).getAddedThing();
+    }
+}
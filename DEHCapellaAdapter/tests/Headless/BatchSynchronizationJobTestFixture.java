@@ -0,0 +1,108 @@
+/*
+ * BatchSynchronizationJobTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import Enumerations.MappingDirection;
+
+class BatchSynchronizationJobTestFixture
+{
+    private Properties properties;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.properties = new Properties();
+        this.properties.setProperty("hub.uri", "http://localhost:5000");
+        this.properties.setProperty("hub.username", "admin");
+        this.properties.setProperty("hub.password", "pass");
+        this.properties.setProperty("projects", "alpha, beta,");
+        this.properties.setProperty("model", "LOFT");
+        this.properties.setProperty("domain", "SYS");
+        this.properties.setProperty("mapping", "Default");
+        this.properties.setProperty("alpha.session", "/models/alpha/alpha.aird");
+        this.properties.setProperty("beta.session", "/models/beta/beta.aird");
+        this.properties.setProperty("beta.model", "BETA");
+        this.properties.setProperty("beta.iteration", "3");
+    }
+
+    @Test
+    public void VerifyParse()
+    {
+        var job = new BatchSynchronizationJob(this.properties, x -> null);
+        
+        assertEquals("localhost", job.GetHubUri().getHost());
+        assertEquals("admin", job.GetUserName());
+        assertEquals("pass", job.GetPassword());
+        assertEquals(MappingDirection.FromDstToHub, job.GetMappingDirection());
+        assertEquals(1, job.GetParallelism());
+        assertEquals(2, job.GetProjects().size());
+        
+        var alpha = job.GetProjects().get(0);
+        assertEquals("alpha", alpha.GetName());
+        assertEquals("/models/alpha/alpha.aird", alpha.GetSessionPath());
+        assertEquals("LOFT", alpha.GetModelName());
+        assertNull(alpha.GetIterationNumber());
+        assertEquals("SYS", alpha.GetDomainShortName());
+        assertEquals("Default", alpha.GetMappingName());
+        
+        var beta = job.GetProjects().get(1);
+        assertEquals("BETA", beta.GetModelName());
+        assertEquals(3, beta.GetIterationNumber());
+    }
+
+    @Test
+    public void VerifyEnvironmentAndDirection()
+    {
+        this.properties.setProperty("hub.password.environment", "DEH_HUB_PASSWORD");
+        this.properties.setProperty("direction", "FromHubToDst");
+        this.properties.setProperty("parallelism", "4");
+        
+        var job = new BatchSynchronizationJob(this.properties, x -> "DEH_HUB_PASSWORD".equals(x) ? "secret" : null);
+        
+        assertEquals("secret", job.GetPassword());
+        assertEquals(MappingDirection.FromHubToDst, job.GetMappingDirection());
+        assertEquals(4, job.GetParallelism());
+    }
+
+    @Test
+    public void VerifyMissingSettings()
+    {
+        this.properties.remove("mapping");
+        assertThrows(IllegalArgumentException.class, () -> new BatchSynchronizationJob(this.properties, x -> null));
+        
+        this.properties.setProperty("mapping", "Default");
+        this.properties.remove("beta.session");
+        assertThrows(IllegalArgumentException.class, () -> new BatchSynchronizationJob(this.properties, x -> null));
+        
+        this.properties.remove("hub.uri");
+        assertThrows(IllegalArgumentException.class, () -> new BatchSynchronizationJob(this.properties, x -> null));
+    }
+}
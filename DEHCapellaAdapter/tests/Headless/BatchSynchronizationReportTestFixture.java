@@ -0,0 +1,83 @@
+/*
+ * BatchSynchronizationReportTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import Enumerations.MappingDirection;
+
+class BatchSynchronizationReportTestFixture
+{
+    @TempDir
+    Path directory;
+    
+    private BatchSynchronizationReport report;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.report = new BatchSynchronizationReport(this.directory.resolve("report"));
+    }
+
+    @Test
+    public void VerifyWrite() throws IOException
+    {
+        var alpha = new BatchSynchronizationProject("alpha", "alpha.aird", "LOFT", null, "SYS", "Default");
+        var beta = new BatchSynchronizationProject("beta/1", "beta.aird", "LOFT", 2, "SYS", "Default");
+        var gamma = new BatchSynchronizationProject("gamma", "gamma.aird", "LOFT", null, "SYS", "Default");
+        
+        assertFalse(this.report.HasBeenWritten(alpha.GetName()));
+        
+        this.report.Write(new BatchSynchronizationResult("alpha", MappingDirection.FromDstToHub, true, 12, 10, 250, null), "[]");
+        this.report.Write(new BatchSynchronizationResult("beta/1", MappingDirection.FromDstToHub, false, 3, 0, 40, "Failed, \"badly\"\nhere"), "[]");
+        
+        assertTrue(this.report.HasBeenWritten(alpha.GetName()));
+        assertTrue(this.report.HasBeenWritten(beta.GetName()));
+        assertEquals("beta_1.csv", this.report.GetProjectFile(beta.GetName(), "csv").getFileName().toString());
+        
+        this.report.WriteSummary(Arrays.asList(alpha, beta, gamma));
+        
+        var csvLines = Files.readAllLines(this.report.GetDirectory().resolve(BatchSynchronizationReport.CSVSUMMARYFILENAME), StandardCharsets.UTF_8);
+        assertEquals(3, csvLines.size());
+        assertEquals(BatchSynchronizationResult.CSVHEADER, csvLines.get(0));
+        assertEquals("alpha,FromDstToHub,true,12,10,250,", csvLines.get(1));
+        assertEquals("beta/1,FromDstToHub,false,3,0,40,\"Failed, \"\"badly\"\" here\"", csvLines.get(2));
+        
+        var json = Files.readString(this.report.GetDirectory().resolve(BatchSynchronizationReport.JSONSUMMARYFILENAME), StandardCharsets.UTF_8);
+        assertTrue(json.trim().startsWith("["));
+        assertTrue(json.contains("\"project\": \"alpha\""));
+        assertTrue(json.contains("\"error\": \"Failed, \\\"badly\\\"\\nhere\""));
+        assertFalse(json.contains("gamma"));
+    }
+}
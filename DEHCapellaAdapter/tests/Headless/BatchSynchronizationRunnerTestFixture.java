@@ -0,0 +1,233 @@
+/*
+ * BatchSynchronizationRunnerTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Headless;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.sirius.business.api.session.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+import DstController.DstController;
+import DstController.IDstController;
+import Enumerations.MappingDirection;
+import HubController.IHubController;
+import Reactive.ObservableCollection;
+import Services.CapellaSession.ICapellaSessionService;
+import Services.CapellaSession.ISiriusSessionManagerWrapper;
+import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.MetricsService;
+import ViewModels.Rows.MappedElementRowViewModel;
+import cdp4common.commondata.DefinedThing;
+import cdp4common.commondata.Thing;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.ExternalIdentifierMap;
+import cdp4common.sitedirectorydata.DomainOfExpertise;
+import cdp4common.sitedirectorydata.EngineeringModelSetup;
+import cdp4common.sitedirectorydata.IterationSetup;
+import cdp4dal.dal.Credentials;
+
+class BatchSynchronizationRunnerTestFixture
+{
+    private IHubController hubController;
+    private IDstController dstController;
+    private ICapellaMappingConfigurationService mappingConfigurationService;
+    private ICapellaSessionService sessionService;
+    private ISiriusSessionManagerWrapper sessionManager;
+    private MetricsService metricsService;
+    private Session session;
+    private EngineeringModelSetup engineeringModelSetup;
+    private IterationSetup iterationSetup1;
+    private IterationSetup iterationSetup2;
+    private DomainOfExpertise domain;
+    private ExternalIdentifierMap externalIdentifierMap;
+    private ObservableCollection<MappedElementRowViewModel<DefinedThing, NamedElement>> dstMapResult;
+    private ObservableCollection<MappedElementRowViewModel<DefinedThing, NamedElement>> hubMapResult;
+    private ObservableCollection<Thing> selectedDstMapResult;
+    private ObservableCollection<CapellaElement> selectedHubMapResult;
+    private Properties properties;
+    private BatchSynchronizationRunner runner;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.hubController = mock(IHubController.class);
+        this.dstController = mock(IDstController.class);
+        this.mappingConfigurationService = mock(ICapellaMappingConfigurationService.class);
+        this.sessionService = mock(ICapellaSessionService.class);
+        this.sessionManager = mock(ISiriusSessionManagerWrapper.class);
+        this.metricsService = new MetricsService();
+        
+        this.session = mock(Session.class);
+        when(this.sessionManager.OpenSession(any(URI.class))).thenReturn(this.session);
+        
+        this.domain = new DomainOfExpertise(UUID.randomUUID(), null, null);
+        this.domain.setShortName("SYS");
+        this.iterationSetup1 = new IterationSetup(UUID.randomUUID(), null, null);
+        this.iterationSetup1.setIterationNumber(1);
+        this.iterationSetup2 = new IterationSetup(UUID.randomUUID(), null, null);
+        this.iterationSetup2.setIterationNumber(2);
+        this.engineeringModelSetup = new EngineeringModelSetup(UUID.randomUUID(), null, null);
+        this.engineeringModelSetup.setName("Launch Vehicle");
+        this.engineeringModelSetup.setShortName("LOFT");
+        this.engineeringModelSetup.getIterationSetup().add(this.iterationSetup1);
+        this.engineeringModelSetup.getIterationSetup().add(this.iterationSetup2);
+        this.engineeringModelSetup.getActiveDomain().add(this.domain);
+        
+        this.externalIdentifierMap = new ExternalIdentifierMap();
+        this.externalIdentifierMap.setName("Default");
+        
+        when(this.hubController.Connect(any(Credentials.class))).thenReturn(true);
+        when(this.hubController.GetEngineeringModels()).thenReturn(Arrays.asList(this.engineeringModelSetup));
+        when(this.hubController.OpenIteration(any(EngineeringModelSetup.class), any(IterationSetup.class), any(DomainOfExpertise.class))).thenReturn(true);
+        when(this.hubController.GetAvailableExternalIdentifierMap(DstController.THISTOOLNAME)).thenReturn(Arrays.asList(this.externalIdentifierMap));
+        
+        this.dstMapResult = new ObservableCollection<>();
+        this.hubMapResult = new ObservableCollection<>();
+        this.selectedDstMapResult = new ObservableCollection<>();
+        this.selectedHubMapResult = new ObservableCollection<>();
+        when(this.dstController.GetDstMapResult()).thenReturn(this.dstMapResult);
+        when(this.dstController.GetHubMapResult()).thenReturn(this.hubMapResult);
+        when(this.dstController.GetSelectedDstMapResultForTransfer()).thenReturn(this.selectedDstMapResult);
+        when(this.dstController.GetSelectedHubMapResultForTransfer()).thenReturn(this.selectedHubMapResult);
+        when(this.dstController.CurrentMappingDirection()).thenReturn(MappingDirection.FromDstToHub);
+        when(this.dstController.Transfer()).thenReturn(true);
+        
+        this.properties = new Properties();
+        this.properties.setProperty("hub.uri", "http://localhost:5000");
+        this.properties.setProperty("hub.username", "admin");
+        this.properties.setProperty("projects", "alpha");
+        this.properties.setProperty("alpha.session", "/models/alpha/alpha.aird");
+        this.properties.setProperty("alpha.model", "LOFT");
+        this.properties.setProperty("alpha.domain", "SYS");
+        this.properties.setProperty("alpha.mapping", "Default");
+        
+        this.runner = new BatchSynchronizationRunner(this.hubController, this.dstController, this.mappingConfigurationService, 
+                this.sessionService, this.sessionManager, this.metricsService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MappedElementRowViewModel<DefinedThing, NamedElement> GetMappedElement(DefinedThing thing, NamedElement element)
+    {
+        var mappedElement = (MappedElementRowViewModel<DefinedThing, NamedElement>)mock(MappedElementRowViewModel.class);
+        when(mappedElement.GetHubElement()).thenReturn(thing);
+        when(mappedElement.GetDstElement()).thenReturn(element);
+        return mappedElement;
+    }
+
+    @Test
+    public void VerifySynchronizeToHub()
+    {
+        var elementDefinition = new ElementDefinition(UUID.randomUUID(), null, null);
+        this.dstMapResult.add(this.GetMappedElement(elementDefinition, mock(PhysicalComponent.class)));
+        this.dstMapResult.add(this.GetMappedElement(elementDefinition.clone(false), mock(PhysicalComponent.class)));
+        this.dstMapResult.add(this.GetMappedElement(new ElementDefinition(UUID.randomUUID(), null, null), mock(PhysicalComponent.class)));
+        
+        var job = new BatchSynchronizationJob(this.properties, x -> null);
+        var result = this.runner.Synchronize(job, job.GetProjects().get(0));
+        
+        assertTrue(result.GetSucceeded());
+        assertNull(result.GetError());
+        assertEquals(3, result.GetMappedThingCount());
+        assertEquals(2, result.GetTransferredThingCount());
+        assertEquals(2, this.selectedDstMapResult.size());
+        
+        verify(this.hubController).OpenIteration(this.engineeringModelSetup, this.iterationSetup2, this.domain);
+        verify(this.mappingConfigurationService).SetExternalIdentifierMap(this.externalIdentifierMap);
+        verify(this.dstController, never()).ChangeMappingDirection();
+        verify(this.dstController).LoadMapping(false);
+        verify(this.dstController).Transfer();
+        verify(this.sessionManager, never()).SaveSession(this.session);
+        verify(this.sessionManager).CloseSession(this.session);
+        verify(this.hubController).Close();
+        assertTrue(this.metricsService.GetSnapshots().stream().anyMatch(x -> x.GetName().equals("BatchSynchronization.Succeeded")));
+    }
+
+    @Test
+    public void VerifySynchronizeToDst()
+    {
+        this.properties.setProperty("direction", "FromHubToDst");
+        this.properties.setProperty("alpha.iteration", "1");
+        var component = mock(PhysicalComponent.class);
+        this.hubMapResult.add(this.GetMappedElement(new ElementDefinition(UUID.randomUUID(), null, null), component));
+        this.hubMapResult.add(this.GetMappedElement(new ElementDefinition(UUID.randomUUID(), null, null), component));
+        
+        var job = new BatchSynchronizationJob(this.properties, x -> null);
+        var result = this.runner.Synchronize(job, job.GetProjects().get(0));
+        
+        assertTrue(result.GetSucceeded());
+        assertEquals(2, result.GetMappedThingCount());
+        assertEquals(1, result.GetTransferredThingCount());
+        verify(this.hubController).OpenIteration(this.engineeringModelSetup, this.iterationSetup1, this.domain);
+        verify(this.dstController).ChangeMappingDirection();
+        verify(this.sessionManager).SaveSession(this.session);
+        
+        this.hubMapResult.clear();
+        this.selectedHubMapResult.clear();
+        result = this.runner.Synchronize(job, job.GetProjects().get(0));
+        assertTrue(result.GetSucceeded());
+        assertEquals(0, result.GetTransferredThingCount());
+        verify(this.dstController, times(1)).Transfer();
+    }
+
+    @Test
+    public void VerifySynchronizeFailures()
+    {
+        this.properties.setProperty("alpha.mapping", "Unknown");
+        var job = new BatchSynchronizationJob(this.properties, x -> null);
+        var result = this.runner.Synchronize(job, job.GetProjects().get(0));
+        
+        assertFalse(result.GetSucceeded());
+        assertTrue(result.GetError().contains("Unknown"));
+        verify(this.dstController, never()).Transfer();
+        verify(this.sessionManager).CloseSession(this.session);
+        
+        this.properties.setProperty("alpha.mapping", "Default");
+        this.properties.setProperty("alpha.model", "Unknown");
+        job = new BatchSynchronizationJob(this.properties, x -> null);
+        assertFalse(this.runner.Synchronize(job, job.GetProjects().get(0)).GetSucceeded());
+        
+        this.properties.setProperty("alpha.model", "LOFT");
+        job = new BatchSynchronizationJob(this.properties, x -> null);
+        this.dstMapResult.add(this.GetMappedElement(new ElementDefinition(UUID.randomUUID(), null, null), mock(PhysicalComponent.class)));
+        when(this.dstController.Transfer()).thenReturn(false);
+        result = this.runner.Synchronize(job, job.GetProjects().get(0));
+        assertFalse(result.GetSucceeded());
+        assertNotNull(result.GetError());
+        
+        when(this.hubController.Connect(any(Credentials.class))).thenReturn(false);
+        assertFalse(this.runner.Synchronize(job, job.GetProjects().get(0)).GetSucceeded());
+        verify(this.hubController, times(4)).Close();
+        assertFalse(this.metricsService.GetSnapshots().stream().anyMatch(x -> x.GetName().equals("BatchSynchronization.Succeeded")));
+    }
+}
@@ -67,6 +67,7 @@ import Reactive.ObservableCollection;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingConfiguration.IMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 import Utils.Ref;
 import Utils.Stereotypes.CapellaComponentCollection;
 import Utils.Stereotypes.HubRelationshipElementsCollection;
@@ -102,6 +103,7 @@ public class BinaryRelationshipToCapellaTracesTestFixture
     private ICapellaMappingConfigurationService mappingConfigurationService;
     private IHubController hubController;
     private BinaryRelationshipToCapellaTraces mappingRule;
+    private IMetricsService metricsService;
     private HubRelationshipElementsCollection elements;
     private ElementDefinition elementDefinition0;
     private ElementDefinition elementDefinition1;
@@ -147,7 +149,8 @@ public class BinaryRelationshipToCapellaTracesTestFixture
         engineeringModel.setEngineeringModelSetup(engineeringModelSetup);
         engineeringModel.getIteration().add(this.iteration);
         
-        this.mappingRule = new BinaryRelationshipToCapellaTraces(this.hubController, this.mappingConfigurationService, this.transactionService);
+        this.metricsService = mock(IMetricsService.class);
+        this.mappingRule = new BinaryRelationshipToCapellaTraces(this.hubController, this.mappingConfigurationService, this.transactionService, this.metricsService);
         this.mappingRule.dstController = this.dstController;
     }
 
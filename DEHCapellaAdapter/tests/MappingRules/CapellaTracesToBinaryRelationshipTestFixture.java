@@ -67,6 +67,7 @@ import Reactive.ObservableCollection;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingConfiguration.IMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 import Utils.Ref;
 import Utils.Stereotypes.CapellaComponentCollection;
 import Utils.Stereotypes.CapellaTracedElementCollection;
@@ -102,6 +103,7 @@ public class CapellaTracesToBinaryRelationshipTestFixture
     private ICapellaMappingConfigurationService mappingConfigurationService;
     private IHubController hubController;
     private CapellaTracesToBinaryRelationship mappingRule;
+    private IMetricsService metricsService;
     private CapellaTracedElementCollection elements;
     private ElementDefinition elementDefinition0;
     private ElementDefinition elementDefinition1;
@@ -146,7 +148,8 @@ public class CapellaTracesToBinaryRelationshipTestFixture
         engineeringModel.setEngineeringModelSetup(engineeringModelSetup);
         engineeringModel.getIteration().add(this.iteration);
         
-        this.mappingRule = new CapellaTracesToBinaryRelationship(this.hubController, this.mappingConfigurationService);
+        this.metricsService = mock(IMetricsService.class);
+        this.mappingRule = new CapellaTracesToBinaryRelationship(this.hubController, this.mappingConfigurationService, this.metricsService);
         this.dstController = mock(IDstController.class);
         when(this.dstController.GetMappedTracesToBinaryRelationships()).thenReturn(new ObservableCollection<BinaryRelationship>());
         this.mappingRule.dstController = this.dstController;
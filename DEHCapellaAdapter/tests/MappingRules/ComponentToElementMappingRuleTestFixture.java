@@ -40,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.polarsys.capella.core.data.cs.Interface;
+import org.polarsys.capella.core.data.cs.Part;
 import org.polarsys.capella.core.data.fa.ComponentPort;
 import org.polarsys.capella.core.data.fa.OrientationPortKind;
 import org.polarsys.capella.core.data.information.Property;
@@ -58,6 +59,8 @@ import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingConfiguration.IMappingConfigurationService;
+import Services.Metrics.IMetricsService;
+import Services.NameKey.NameKeyService;
 import Utils.Ref;
 import Utils.Stereotypes.CapellaComponentCollection;
 import ViewModels.Rows.MappedElementDefinitionRowViewModel;
@@ -83,6 +86,7 @@ public class ComponentToElementMappingRuleTestFixture
     private ICapellaMappingConfigurationService mappingConfigurationService;
     private IHubController hubController;
     private ComponentToElementMappingRule mappingRule;
+    private IMetricsService metricsService;
     private CapellaComponentCollection elements;
     private ElementDefinition elementDefinition0;
     private ElementDefinition elementDefinition1;
@@ -123,7 +127,8 @@ public class ComponentToElementMappingRuleTestFixture
         when(this.hubController.GetDehpOrModelReferenceDataLibrary()).thenReturn(modelReferenceDataLibrary);
         when(this.hubController.TryGetThingFromChainOfRdlBy(any(Predicate.class), any(Ref.class))).thenReturn(false);
 
-        this.mappingRule = new ComponentToElementMappingRule(this.hubController, this.mappingConfigurationService);
+        this.metricsService = mock(IMetricsService.class);
+        this.mappingRule = new ComponentToElementMappingRule(this.hubController, this.mappingConfigurationService, this.metricsService, new NameKeyService());
     }
 
     private void SetupElements()
@@ -277,4 +282,37 @@ public class ComponentToElementMappingRuleTestFixture
         
         assertDoesNotThrow(() -> this.mappingRule.Transform(this.elements));
     }
+
+    @Test
+    public void VerifyTransformMapsPropertiesOncePerComponent()
+    {
+        when(this.component0.getId()).thenReturn("component0");
+        when(this.component1.getId()).thenReturn("component1");
+        when(this.component2.getId()).thenReturn("component2");
+        
+        var part0 = mock(Part.class);
+        when(part0.getId()).thenReturn("part0");
+        when(part0.getName()).thenReturn("part0");
+        when(part0.getAbstractType()).thenReturn(this.component1);
+        var part1 = mock(Part.class);
+        when(part1.getId()).thenReturn("part1");
+        when(part1.getName()).thenReturn("part1");
+        when(part1.getAbstractType()).thenReturn(this.component1);
+        
+        when(this.component0.eContents()).thenReturn(new BasicEList(Arrays.asList(part0, part1)));
+        
+        this.mappingRule.Transform(this.elements);
+        verify(this.component1, times(3)).getContainedProperties();
+        
+        assertEquals(2, this.elementDefinition0.getContainedElement().stream()
+                .filter(x -> x.getElementDefinition() == this.elementDefinition1).count());
+    }
+    
+    @Test
+    public void VerifyTransformRecordsTheMetrics()
+    {
+        this.mappingRule.Transform(this.elements);
+        verify(this.metricsService, times(1)).RecordValue("MappingRule.ComponentToElementMappingRule.Elements", 3);
+        verify(this.metricsService, times(1)).StartTimer("MappingRule.ComponentToElementMappingRule.Transform");
+    }
 }
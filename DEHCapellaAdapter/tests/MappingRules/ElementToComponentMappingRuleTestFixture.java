@@ -37,6 +37,7 @@ import static Utils.Operators.Operators.AreTheseEquals;
 import static org.junit.jupiter.api.Assertions.*;
 
 import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +63,7 @@ import HubController.IHubController;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 import Utils.Ref;
 import Utils.Stereotypes.CapellaRequirementCollection;
 import Utils.Stereotypes.HubElementCollection;
@@ -96,6 +98,7 @@ class ElementToComponentMappingRuleTestFixture
     private ICapellaMappingConfigurationService mappingConfiguration;
     private ICapellaTransactionService transactionService;
     private ElementToComponentMappingRule mappingRule;
+    private IMetricsService metricsService;
     private HubElementCollection elements;
     private IDstController dstController;
     private DomainOfExpertise domain;
@@ -129,7 +132,11 @@ class ElementToComponentMappingRuleTestFixture
         when(this.transactionService.Create(any(Class.class)))
             .thenAnswer(x -> this.AnswerToTransactionServiceCreate(x));
         
-        this.mappingRule = new ElementToComponentMappingRule(this.hubController, this.mappingConfiguration, this.sessionService, this.transactionService);
+        when(this.transactionService.Create(any(Class.class), any(Collection.class), any(EList.class)))
+            .thenAnswer(x -> this.AnswerToTransactionServiceCreateMany(x));
+        
+        this.metricsService = mock(IMetricsService.class);
+        this.mappingRule = new ElementToComponentMappingRule(this.hubController, this.mappingConfiguration, this.sessionService, this.transactionService, this.metricsService);
         this.SetupElements();
         this.mappingRule.dstController = this.dstController;
     }
@@ -146,6 +153,23 @@ class ElementToComponentMappingRuleTestFixture
         return this.MockElement("", type);
     }
 
+    @SuppressWarnings("unchecked")
+    private Object AnswerToTransactionServiceCreateMany(InvocationOnMock invocationData)
+    {
+        var type = invocationData.getArgument(0, Class.class);
+        var containment = (EList<Object>)invocationData.getArgument(2, EList.class);
+        var newElements = new ArrayList<Object>();
+        
+        for (var name : (Collection<String>)invocationData.getArgument(1, Collection.class))
+        {
+            var newElement = this.MockElement(name, type);
+            containment.add(newElement);
+            newElements.add(newElement);
+        }
+        
+        return newElements;
+    }
+
     private Object MockElement(String elementName, Class<? extends NamedElement> type)
     {
         var mock = mock(type);
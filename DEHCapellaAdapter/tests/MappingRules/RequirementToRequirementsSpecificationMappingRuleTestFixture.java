@@ -45,6 +45,8 @@ import org.polarsys.capella.core.data.requirement.RequirementsPkg;
 import Enumerations.MappingDirection;
 import HubController.IHubController;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.Metrics.IMetricsService;
+import Services.NameKey.NameKeyService;
 import Utils.Stereotypes.CapellaComponentCollection;
 import Utils.Stereotypes.CapellaRequirementCollection;
 import ViewModels.Rows.MappedDstRequirementRowViewModel;
@@ -60,6 +62,7 @@ class RequirementToRequirementsSpecificationMappingRuleTestFixture
     private ICapellaMappingConfigurationService mappingConfigurationService;
     private IHubController hubController;
     private RequirementToRequirementsSpecificationMappingRule mappingRule;
+    private IMetricsService metricsService;
     private DomainOfExpertise domain;
     private Iteration iteration;
     private CapellaRequirementCollection elements;
@@ -85,7 +88,8 @@ class RequirementToRequirementsSpecificationMappingRuleTestFixture
         this.SetupElements();
         when(this.hubController.GetOpenIteration()).thenReturn(this.iteration);
         
-        this.mappingRule = new RequirementToRequirementsSpecificationMappingRule(this.hubController, this.mappingConfigurationService);
+        this.metricsService = mock(IMetricsService.class);
+        this.mappingRule = new RequirementToRequirementsSpecificationMappingRule(this.hubController, this.mappingConfigurationService, this.metricsService, new NameKeyService());
     }
 
     @Test
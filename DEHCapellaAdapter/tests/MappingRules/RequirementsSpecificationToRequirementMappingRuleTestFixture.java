@@ -55,6 +55,7 @@ import Services.CapellaTransaction.CapellaTransactionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
 import Services.MappingConfiguration.ICapellaMappingConfigurationService;
 import Services.MappingConfiguration.IMappingConfigurationService;
+import Services.Metrics.IMetricsService;
 import Utils.Stereotypes.CapellaRequirementCollection;
 import Utils.Stereotypes.HubRequirementCollection;
 import Utils.Stereotypes.RequirementType;
@@ -76,6 +77,7 @@ class RequirementsSpecificationToRequirementMappingRuleTestFixture
     private IDstController dstController;
     private IHubController hubController;
     private RequirementsSpecificationToRequirementMappingRule mappingRule;
+    private IMetricsService metricsService;
     private HubRequirementCollection elements;
     private Iteration iteration;
     private RequirementsSpecification requirementsSpecification0;
@@ -106,7 +108,8 @@ class RequirementsSpecificationToRequirementMappingRuleTestFixture
         
         this.SetupElements();
         
-        this.mappingRule = new RequirementsSpecificationToRequirementMappingRule(this.hubController, this.mappingConfigurationService, this.transactionService);
+        this.metricsService = mock(IMetricsService.class);
+        this.mappingRule = new RequirementsSpecificationToRequirementMappingRule(this.hubController, this.mappingConfigurationService, this.transactionService, this.metricsService);
         this.mappingRule.dstController = this.dstController;
     }
     
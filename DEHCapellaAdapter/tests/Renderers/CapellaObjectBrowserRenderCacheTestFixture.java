@@ -0,0 +1,130 @@
+/*
+ * CapellaObjectBrowserRenderCacheTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Renderers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.Icon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.pa.PaFactory;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+import ViewModels.CapellaObjectBrowser.Interfaces.IElementRowViewModel;
+import ViewModels.CapellaObjectBrowser.Rows.ComponentRowViewModel;
+
+class CapellaObjectBrowserRenderCacheTestFixture
+{
+    private CapellaObjectBrowserRenderCache cache;
+    private AtomicInteger resolvedIconCount;
+    private IElementRowViewModel<?> row0;
+    private IElementRowViewModel<?> row1;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.resolvedIconCount = new AtomicInteger();
+        
+        this.cache = new CapellaObjectBrowserRenderCache(x -> 
+        {
+            this.resolvedIconCount.incrementAndGet();
+            return mock(Icon.class);
+        });
+        
+        this.row0 = mock(IElementRowViewModel.class);
+        this.row1 = mock(IElementRowViewModel.class);
+        doReturn(PaFactory.eINSTANCE.createPhysicalComponent()).when(this.row0).GetElement();
+        doReturn(PaFactory.eINSTANCE.createPhysicalComponent()).when(this.row1).GetElement();
+    }
+
+    @Test
+    public void VerifyGetBackground()
+    {
+        assertSame(CapellaObjectBrowserRenderCache.DEFAULTBACKGROUND, this.cache.GetBackground(this.row0));
+        when(this.row0.GetIsHighlighted()).thenReturn(true);
+        assertSame(CapellaObjectBrowserRenderCache.HIGHLIGHTEDBACKGROUND, this.cache.GetBackground(this.row0));
+        when(this.row0.GetIsSelected()).thenReturn(true);
+        assertSame(CapellaObjectBrowserRenderCache.SELECTEDBACKGROUND, this.cache.GetBackground(this.row0));
+        assertSame(CapellaObjectBrowserRenderCache.DEFAULTBACKGROUND, this.cache.GetBackground(new Object()));
+    }
+
+    @Test
+    public void VerifyGetIcon()
+    {
+        var icon = this.cache.GetIcon(this.row0);
+        assertSame(icon, this.cache.GetIcon(this.row1));
+        assertEquals(1, this.resolvedIconCount.get());
+        
+        doReturn(PaFactory.eINSTANCE.createPhysicalArchitecture()).when(this.row1).GetElement();
+        assertNotSame(icon, this.cache.GetIcon(this.row1));
+        
+        this.cache.GetIcon(new Object());
+        this.cache.GetIcon(new Object());
+        assertEquals(3, this.resolvedIconCount.get());
+        
+        this.cache.Clear();
+        this.cache.GetIcon(this.row0);
+        assertEquals(4, this.resolvedIconCount.get());
+    }
+
+    @Test
+    public void VerifyGetDisplayName()
+    {
+        when(this.row0.GetName()).thenReturn("row0");
+        assertEquals("row0", this.cache.GetDisplayName(this.row0));
+        assertEquals("row0", this.cache.GetDisplayName(this.row0));
+        verify(this.row0, times(1)).GetName();
+        
+        when(this.row0.GetName()).thenReturn("updatedRow0");
+        assertEquals("row0", this.cache.GetDisplayName(this.row0));
+        doReturn(PaFactory.eINSTANCE.createPhysicalComponent()).when(this.row0).GetElement();
+        assertEquals("updatedRow0", this.cache.GetDisplayName(this.row0));
+        verify(this.row0, times(2)).GetName();
+    }
+
+    @Test
+    public void VerifyGetDisplayNameAfterRename()
+    {
+        var component = PaFactory.eINSTANCE.createPhysicalComponent();
+        component.setName("component");
+        var row = new ComponentRowViewModel(null, component);
+        assertEquals("component", this.cache.GetDisplayName(row));
+        assertTrue(component.eAdapters().isEmpty());
+        
+        component.setName("renamed");
+        assertEquals("renamed", this.cache.GetDisplayName(row));
+        
+        when(this.row0.GetName()).thenReturn("row0");
+        assertEquals("row0", this.cache.GetDisplayName(this.row0));
+        when(this.row0.GetName()).thenReturn("updatedRow0");
+        ((PhysicalComponent)this.row0.GetElement()).setName("renamed");
+        assertEquals("updatedRow0", this.cache.GetDisplayName(this.row0));
+        assertEquals("updatedRow0", this.cache.GetDisplayName(this.row0));
+        verify(this.row0, times(2)).GetName();
+    }
+}
@@ -67,4 +67,59 @@ class CapellaLogServiceTestFixture
         verify(this.platformLogger, times(2)).error(any(String.class), any(Exception.class));
         verify(this.platformLogger, times(1)).warn(any(String.class));
     }
+
+    @Test
+    public void VerifyBulkOperation()
+    {
+        this.service.BeginBulkOperation();
+        this.service.BeginBulkOperation();
+        
+        for (var index = 0; index < 10; index++)
+        {
+            this.service.Append("repeated message");
+        }
+
+        this.service.Append("message at warn level", Level.WARN);
+        this.service.Append("message reporting an exception", new Exception());
+        this.service.EndBulkOperation();
+        this.service.EndBulkOperation();
+        
+        verify(this.platformLogger, times(CapellaLogService.MAXIMUMREPEATEDENTRIES + 1)).info(any(String.class));
+        verify(this.platformLogger, times(1)).info(contains("repeated 7 more times"));
+        verify(this.platformLogger, times(1)).warn(any(String.class));
+        verify(this.platformLogger, times(1)).error(any(String.class), any(Exception.class));
+        
+        this.service.EndBulkOperation();
+        this.service.Append("message");
+        verify(this.platformLogger, times(CapellaLogService.MAXIMUMREPEATEDENTRIES + 2)).info(any(String.class));
+    }
+    
+    @Test
+    public void VerifyBufferedEntriesAreWrittenInTheBackground()
+    {
+        this.service.BeginBulkOperation();
+        this.service.Append("first message");
+        verify(this.platformLogger, timeout(5000).times(1)).info(contains("first message"));
+        
+        this.service.Append("second message", Level.WARN);
+        this.service.Append("third message", Level.ERROR);
+        verify(this.platformLogger, timeout(5000).times(1)).warn(contains("second message"));
+        verify(this.platformLogger, timeout(5000).times(1)).error(contains("third message"));
+        
+        this.service.EndBulkOperation();
+        verify(this.platformLogger, times(1)).info(any(String.class));
+    }
+    
+    @Test
+    public void VerifyQueuedEntriesAreWrittenBeforeTheNextOnes()
+    {
+        this.service.BeginBulkOperation();
+        this.service.Append("queued message");
+        this.service.EndBulkOperation();
+        this.service.Append("next message");
+        
+        var inOrder = inOrder(this.platformLogger);
+        inOrder.verify(this.platformLogger).info(contains("queued message"));
+        inOrder.verify(this.platformLogger).info(contains("next message"));
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * CapellaSelectionServiceTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaSelection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.picocontainer.DefaultPicoContainer;
+import org.picocontainer.MutablePicoContainer;
+
+import DstController.IDstController;
+import HubController.IHubController;
+import Services.CapellaLog.ICapellaLogService;
+import Services.CapellaSession.ICapellaSessionService;
+import Services.Mapping.IMapCommandService;
+import Services.Mapping.MapCommandService;
+import Services.Metrics.IMetricsService;
+import Services.NavigationService.INavigationService;
+import ViewModels.Dialogs.Interfaces.IDstToHubMappingConfigurationDialogViewModel;
+import ViewModels.Dialogs.Interfaces.IHubToDstMappingConfigurationDialogViewModel;
+import ViewModels.Interfaces.IElementDefinitionBrowserViewModel;
+import ViewModels.Interfaces.IRequirementBrowserViewModel;
+
+class CapellaSelectionServiceTestFixture
+{
+    private MutablePicoContainer container;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.container = new DefaultPicoContainer();
+        this.container.addComponent(ICapellaSelectionService.class, CapellaSelectionService.class);
+        this.container.addComponent(IMapCommandService.class, MapCommandService.class);
+        this.container.addComponent(IDstController.class, mock(IDstController.class));
+        this.container.addComponent(INavigationService.class, mock(INavigationService.class));
+        this.container.addComponent(IDstToHubMappingConfigurationDialogViewModel.class, mock(IDstToHubMappingConfigurationDialogViewModel.class));
+        this.container.addComponent(ICapellaLogService.class, mock(ICapellaLogService.class));
+        this.container.addComponent(IHubController.class, mock(IHubController.class));
+        this.container.addComponent(ICapellaSessionService.class, mock(ICapellaSessionService.class));
+        this.container.addComponent(IElementDefinitionBrowserViewModel.class, mock(IElementDefinitionBrowserViewModel.class));
+        this.container.addComponent(IRequirementBrowserViewModel.class, mock(IRequirementBrowserViewModel.class));
+        this.container.addComponent(IHubToDstMappingConfigurationDialogViewModel.class, mock(IHubToDstMappingConfigurationDialogViewModel.class));
+        this.container.addComponent(IMetricsService.class, mock(IMetricsService.class));
+    }
+
+    @Test
+    public void VerifyResolvingWithoutWorkbench()
+    {
+        assertNotNull(assertDoesNotThrow(() -> this.container.getComponent(IMapCommandService.class)));
+        
+        var service = this.container.getComponent(ICapellaSelectionService.class);
+        assertNotNull(service.SelectionChanged());
+        assertTrue(service.GetSelection().isEmpty());
+    }
+}
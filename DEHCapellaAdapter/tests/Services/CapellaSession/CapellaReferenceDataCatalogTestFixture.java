@@ -0,0 +1,96 @@
+/*
+ * CapellaReferenceDataCatalogTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.capellacore.EnumerationPropertyType;
+import org.polarsys.capella.core.data.information.Unit;
+import org.polarsys.capella.core.data.information.datatype.DataType;
+import org.polarsys.capella.core.data.information.datatype.PhysicalQuantity;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+
+import Utils.Ref;
+
+class CapellaReferenceDataCatalogTestFixture
+{
+    private DataType dataType;
+    private EnumerationPropertyType enumerationPropertyType;
+    private Unit unit;
+    private CapellaReferenceDataCatalog catalog;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.dataType = mock(PhysicalQuantity.class);
+        when(this.dataType.getName()).thenReturn("Mass");
+        this.enumerationPropertyType = mock(EnumerationPropertyType.class);
+        when(this.enumerationPropertyType.getName()).thenReturn("Colors");
+        this.unit = mock(Unit.class);
+        when(this.unit.getName()).thenReturn("kg");
+        var component = mock(LogicalComponent.class);
+        when(component.getName()).thenReturn("Mass");
+
+        this.catalog = new CapellaReferenceDataCatalog(Arrays.asList(component, this.dataType, this.enumerationPropertyType, this.unit, new Object()).iterator());
+    }
+
+    @Test
+    public void VerifyTryGet()
+    {
+        var refDataType = new Ref<>(DataType.class);
+        assertFalse(this.catalog.TryGetDataType("kg", null, refDataType));
+        assertTrue(this.catalog.TryGetDataType(null, "mass", refDataType));
+        assertSame(this.dataType, refDataType.Get());
+
+        var refEnumerationPropertyType = new Ref<>(EnumerationPropertyType.class);
+        assertTrue(this.catalog.TryGetEnumerationPropertyType("COLORS", "c", refEnumerationPropertyType));
+        assertSame(this.enumerationPropertyType, refEnumerationPropertyType.Get());
+
+        var refUnit = new Ref<>(Unit.class);
+        assertFalse(this.catalog.TryGetUnit("kilogram", null, refUnit));
+        assertTrue(this.catalog.TryGetUnit("kilogram", "KG", refUnit));
+        assertSame(this.unit, refUnit.Get());
+    }
+
+    @Test
+    public void VerifyRegisterAndClear()
+    {
+        var newUnit = mock(Unit.class);
+        when(newUnit.getName()).thenReturn("m");
+        this.catalog.Register(newUnit);
+
+        var refUnit = new Ref<>(Unit.class);
+        assertTrue(this.catalog.TryGetUnit("m", null, refUnit));
+        assertSame(newUnit, refUnit.Get());
+
+        this.catalog.Clear();
+        assertFalse(this.catalog.TryGetUnit("kg", null, new Ref<>(Unit.class)));
+        assertFalse(this.catalog.TryGetDataType("Mass", null, new Ref<>(DataType.class)));
+    }
+}
@@ -126,6 +126,10 @@ public abstract class CapellaSessionRelatedBaseTestFixture
         
         when(project.eContents()).thenReturn(systemEngineerings);
         
+        var semanticResource = mock(Resource.class);
+        when(semanticResource.getContents()).thenReturn(new BasicEList<EObject>(Arrays.asList(project)));
+        when(session.getSemanticResources()).thenReturn(Arrays.asList(semanticResource));
+        
         var tree = new AbstractTreeIterator<Notifier>(project)
                 {
                     @Override
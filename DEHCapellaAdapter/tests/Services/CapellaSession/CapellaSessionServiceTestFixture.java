@@ -30,6 +30,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EventObject;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -39,6 +40,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.polarsys.capella.core.data.capellacore.BooleanPropertyValue;
 import org.polarsys.capella.core.data.capellacore.CapellaElement;
 import org.polarsys.capella.core.data.capellacore.FloatPropertyValue;
@@ -47,10 +49,12 @@ import org.polarsys.capella.core.data.capellacore.StringPropertyValue;
 import org.polarsys.capella.core.data.capellamodeller.Project;
 import org.polarsys.capella.core.data.capellamodeller.SystemEngineering;
 import org.polarsys.capella.core.data.cs.ComponentPkg;
+import org.polarsys.capella.core.data.information.InformationFactory;
 import org.polarsys.capella.core.data.information.Property;
 import org.polarsys.capella.core.data.information.datavalue.NumericValue;
 import org.polarsys.capella.core.data.la.LogicalArchitecture;
 import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.pa.PaFactory;
 import org.polarsys.capella.core.data.requirement.RequirementsPkg;
 import org.polarsys.capella.core.data.requirement.SystemFunctionalInterfaceRequirement;
 import org.polarsys.capella.core.data.requirement.SystemFunctionalRequirement;
@@ -58,8 +62,10 @@ import org.polarsys.capella.core.data.requirement.SystemNonFunctionalInterfaceRe
 import org.polarsys.capella.core.data.requirement.SystemNonFunctionalRequirement;
 import org.polarsys.capella.core.data.requirement.SystemUserRequirement;
 
+import Enumerations.ModelTraversalMode;
 import Reactive.ObservableValue;
 import Services.CapellaSelection.ICapellaSelectionService;
+import Services.Metrics.MetricsService;
 import Utils.Ref;
 import Utils.Stereotypes.RequirementType;
 import ViewModels.CapellaObjectBrowser.Rows.RequirementRowViewModel;
@@ -71,6 +77,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.common.command.CommandStack;
+import org.eclipse.emf.common.command.CommandStackListener;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.AbstractTreeIterator;
 import org.eclipse.emf.common.util.BasicEList;
@@ -81,6 +89,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.provider.AdapterFactoryTreeIterator;
+import org.eclipse.emf.transaction.RunnableWithResult;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.sirius.business.api.session.Session;
 import org.eclipse.sirius.business.api.session.SessionManager;
@@ -108,7 +117,7 @@ public class CapellaSessionServiceTestFixture extends CapellaSessionRelatedBaseT
         when(sessionListener.SessionRemoved()).thenReturn(this.sessionRemoved.Observable());
         when(sessionListener.SessionUpdated()).thenReturn(this.sessionUpdated.Observable());
                 
-        this.service = new CapellaSessionService(sessionListener, sessionManager);
+        this.service = new CapellaSessionService(sessionListener, sessionManager, new MetricsService());
     }
 
     @Test
@@ -147,6 +156,113 @@ public class CapellaSessionServiceTestFixture extends CapellaSessionRelatedBaseT
         assertEquals(null, requirementType);
     }
 
+    @Test
+    public void VerifyGetModelTreeSnapshot()
+    {
+        assertNull(this.service.GetModelTreeSnapshot());
+        
+        this.sessionUri = URI.createURI("t.e.s.t");
+        var session = this.GetSession(this.sessionUri);
+        var commandStack = mock(CommandStack.class);
+        when(session.getTransactionalEditingDomain().getCommandStack()).thenReturn(commandStack);
+        when(this.sessionManager.GetSessions()).thenReturn(Arrays.asList(session));
+        when(this.sessionManager.HasAnyOpenSession()).thenReturn(true);
+        this.sessionAdded.Value(session);
+        
+        var snapshot = this.service.GetModelTreeSnapshot();
+        assertNotNull(snapshot);
+        assertNotNull(snapshot.GetRoot());
+        assertSame(snapshot, this.service.GetModelTreeSnapshot());
+        
+        var listener = ArgumentCaptor.forClass(CommandStackListener.class);
+        verify(commandStack).addCommandStackListener(listener.capture());
+        listener.getValue().commandStackChanged(new EventObject(commandStack));
+        
+        var changedSnapshot = this.service.GetModelTreeSnapshot();
+        assertNotSame(snapshot, changedSnapshot);
+        assertTrue(changedSnapshot.GetVersion() > snapshot.GetVersion());
+        assertEquals(changedSnapshot.GetVersion(), this.service.GetModelsVersion());
+        
+        this.sessionUpdated.Value(session);
+        assertNotSame(changedSnapshot, this.service.GetModelTreeSnapshot());
+        
+        this.sessionRemoved.Value(session);
+        verify(commandStack).removeCommandStackListener(listener.getValue());
+    }
+
+    @Test
+    public void VerifyGetReferenceDataCatalog()
+    {
+        var session0 = mock(Session.class, RETURNS_DEEP_STUBS);
+        var session1 = mock(Session.class, RETURNS_DEEP_STUBS);
+        
+        var catalog0 = this.service.GetReferenceDataCatalog(session0);
+        var catalog1 = this.service.GetReferenceDataCatalog(session1);
+        assertSame(catalog0, this.service.GetReferenceDataCatalog(session0));
+        assertNotSame(catalog0, catalog1);
+        
+        this.sessionUpdated.Value(session0);
+        assertNotSame(catalog0, this.service.GetReferenceDataCatalog(session0));
+        assertSame(catalog1, this.service.GetReferenceDataCatalog(session1));
+        
+        this.sessionRemoved.Value(session1);
+        assertNotSame(catalog1, this.service.GetReferenceDataCatalog(session1));
+    }
+
+    @Test
+    public void VerifyGetReferenceDataCatalogAfterCommand()
+    {
+        this.sessionUri = URI.createURI("t.e.s.t");
+        var session = this.GetSession(this.sessionUri);
+        var commandStack = mock(CommandStack.class);
+        when(session.getTransactionalEditingDomain().getCommandStack()).thenReturn(commandStack);
+        this.sessionAdded.Value(session);
+
+        var catalog = this.service.GetReferenceDataCatalog(session);
+        assertSame(catalog, this.service.GetReferenceDataCatalog(session));
+
+        var listener = ArgumentCaptor.forClass(CommandStackListener.class);
+        verify(commandStack).addCommandStackListener(listener.capture());
+        listener.getValue().commandStackChanged(new EventObject(commandStack));
+
+        assertNotSame(catalog, this.service.GetReferenceDataCatalog(session));
+    }
+
+    @Test
+    public void VerifyGetElementHash()
+    {
+        assertNull(this.service.GetElementHash(null));
+        
+        var component = PaFactory.eINSTANCE.createPhysicalComponent();
+        component.setName("component");
+        var property = InformationFactory.eINSTANCE.createProperty();
+        property.setName("property");
+        component.getOwnedFeatures().add(property);
+        
+        var hash = this.service.GetElementHash(component);
+        assertNotNull(hash);
+        assertEquals(hash, this.service.GetElementHash(component));
+        
+        property.setName("renamed");
+        var renamedHash = this.service.GetElementHash(component);
+        assertNotEquals(hash, renamedHash);
+        
+        component.setName("renamed");
+        assertNotEquals(renamedHash, this.service.GetElementHash(component));
+    }
+
+    @Test
+    public void VerifySessionRemoved()
+    {
+        var results = new ArrayList<Session>();
+        this.service.SessionRemoved().subscribe(x -> results.add(x));
+        var session = mock(Session.class);
+        this.sessionRemoved.Value(session);
+        
+        assertEquals(1, results.size());
+        assertSame(session, results.get(0));
+    }
+
     @Test
     public void VerifyGetAllCapellaElementsFromOpenSessions()
     {
@@ -158,5 +274,31 @@ public class CapellaSessionServiceTestFixture extends CapellaSessionRelatedBaseT
         assertDoesNotThrow(() -> result.Set(this.service.GetAllCapellaElementsFromOpenSessions()));
         assertTrue(result.Get().keySet().contains(this.sessionUri));
         assertEquals(16, result.Get().get(this.sessionUri).size());
+        assertDoesNotThrow(() -> verify(sessions.get(0).getTransactionalEditingDomain(), never()).runExclusive(any(Runnable.class)));
+    }
+    
+    @Test
+    public void VerifyGetAllCapellaElementsFromOpenSessionsInParallel() throws InterruptedException
+    {
+        this.sessionUri = URI.createURI("t.e.s.t");
+        var session = this.GetSession(this.sessionUri);
+        var editingDomain = session.getTransactionalEditingDomain();
+        var resources = new BasicEList<Resource>(session.getSemanticResources());
+        when(editingDomain.getResourceSet().getResources()).thenReturn(resources);
+        when(this.sessionManager.GetSessions()).thenReturn(Arrays.asList(session));
+        this.service.SetModelTraversalMode(ModelTraversalMode.Parallel);
+        
+        doAnswer(x -> 
+        {
+            var runnable = x.getArgument(0, RunnableWithResult.class);
+            runnable.run();
+            return runnable.getResult();
+        }).when(editingDomain).runExclusive(any(Runnable.class));
+        
+        var result = new Ref<HashMap<URI, List<CapellaElement>>>(null);
+        assertDoesNotThrow(() -> result.Set(this.service.GetAllCapellaElementsFromOpenSessions()));
+        assertEquals(16, result.Get().get(this.sessionUri).size());
+        verify(editingDomain, times(1)).runExclusive(any(Runnable.class));
+        verify(editingDomain.getResourceSet(), never()).getAllContents();
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * ModelTraversalTaskTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.polarsys.capella.core.data.pa.PaFactory;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+class ModelTraversalTaskTestFixture
+{
+    @TempDir
+    Path directory;
+    
+    private URI modelUri;
+    private int elementCount;
+
+    @BeforeEach
+    public void setUp() throws IOException
+    {
+        var resourceSet = this.CreateResourceSet();
+        this.modelUri = URI.createFileURI(this.directory.resolve("model.xmi").toString());
+        var model = resourceSet.createResource(this.modelUri);
+        var fragment = resourceSet.createResource(URI.createFileURI(this.directory.resolve("fragment.xmi").toString()));
+        
+        var root = this.CreateComponent(null, ModelTraversalTask.MAXIMUMSPLITDEPTH + 2);
+        model.getContents().add(root);
+        
+        var fragmentRoot = this.CreateComponent(root.getOwnedPhysicalComponents().get(0), ModelTraversalTask.MAXIMUMSPLITDEPTH);
+        fragment.getContents().add(fragmentRoot);
+        
+        model.save(Collections.emptyMap());
+        fragment.save(Collections.emptyMap());
+    }
+
+    @Test
+    public void VerifyTraverseFragmentedModelInParallel()
+    {
+        var serialResourceSet = this.CreateResourceSet();
+        serialResourceSet.getResource(this.modelUri, true);
+        var serialElements = new ArrayList<Notifier>();
+        serialResourceSet.getAllContents().forEachRemaining(serialElements::add);
+        
+        var parallelResourceSet = this.CreateResourceSet();
+        parallelResourceSet.getResource(this.modelUri, true);
+        assertEquals(1, parallelResourceSet.getResources().size());
+        
+        var parallelElements = ModelTraversalTask.Traverse(ForkJoinPool.commonPool(), parallelResourceSet);
+        
+        assertEquals(2, parallelResourceSet.getResources().size());
+        assertEquals(this.elementCount + 2, parallelElements.size());
+        assertEquals(this.GetUris(serialElements), this.GetUris(parallelElements));
+    }
+
+    @Test
+    public void VerifyTraverseLoadedFragmentedModelInParallel()
+    {
+        var resourceSet = this.CreateResourceSet();
+        EcoreUtil.resolveAll(resourceSet.getResource(this.modelUri, true));
+        assertEquals(2, resourceSet.getResources().size());
+        
+        var serialElements = new ArrayList<Notifier>();
+        resourceSet.getAllContents().forEachRemaining(serialElements::add);
+        
+        var parallelElements = ModelTraversalTask.Traverse(ForkJoinPool.commonPool(), resourceSet);
+        
+        assertEquals(this.elementCount + 2, parallelElements.size());
+        assertEquals(this.GetUris(serialElements), this.GetUris(parallelElements));
+    }
+    
+    /**
+     * Creates a {@linkplain ResourceSet} that reads and writes XMI
+     * 
+     * @return a {@linkplain ResourceSet}
+     */
+    private ResourceSet CreateResourceSet()
+    {
+        var resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("*", new XMIResourceFactoryImpl());
+        return resourceSet;
+    }
+    
+    /**
+     * Creates a {@linkplain PhysicalComponent} with two children per level down to the provided depth
+     * 
+     * @param container the containing {@linkplain PhysicalComponent}, or null
+     * @param depth the depth of the subtree to create
+     * @return the new {@linkplain PhysicalComponent}
+     */
+    private PhysicalComponent CreateComponent(PhysicalComponent container, int depth)
+    {
+        var component = PaFactory.eINSTANCE.createPhysicalComponent();
+        component.setId(UUID.randomUUID().toString());
+        component.setName(String.format("component %s", this.elementCount++));
+        
+        if(container != null)
+        {
+            container.getOwnedPhysicalComponents().add(component);
+        }
+        
+        if(depth > 0)
+        {
+            this.CreateComponent(component, depth - 1);
+            this.CreateComponent(component, depth - 1);
+        }
+        
+        return component;
+    }
+    
+    /**
+     * Gets the sorted {@linkplain URI}s of the provided {@linkplain Notifier}s
+     * 
+     * @param elements the {@linkplain List} of {@linkplain Notifier}
+     * @return a sorted {@linkplain List} of {@linkplain String}
+     */
+    private List<String> GetUris(List<Notifier> elements)
+    {
+        var uris = new ArrayList<String>();
+        
+        for (var element : elements)
+        {
+            uris.add(element instanceof Resource 
+                    ? ((Resource)element).getURI().toString() 
+                    : EcoreUtil.getURI((EObject)element).toString());
+        }
+        
+        Collections.sort(uris);
+        return uris;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * CapellaTransactionServiceTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.CapellaTransaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+import org.polarsys.capella.core.data.cs.Component;
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.fa.ComponentPort;
+import org.polarsys.capella.core.data.la.LaFactory;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.pa.PaFactory;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+import Enumerations.CapellaArchitecture;
+import Services.CapellaSession.ICapellaSessionService;
+
+class CapellaTransactionServiceTestFixture
+{
+    private CapellaTransactionService service;
+    private PhysicalComponent physicalComponent;
+    private LogicalComponent logicalComponent;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.service = new CapellaTransactionService(mock(ICapellaSessionService.class));
+        
+        this.physicalComponent = PaFactory.eINSTANCE.createPhysicalComponent();
+        this.physicalComponent.setId(UUID.randomUUID().toString());
+        this.physicalComponent.getOwnedPhysicalComponents().add(PaFactory.eINSTANCE.createPhysicalComponent());
+        
+        this.logicalComponent = LaFactory.eINSTANCE.createLogicalComponent();
+        this.logicalComponent.setId(UUID.randomUUID().toString());
+    }
+
+    @Test
+    public void VerifyGetClones()
+    {
+        var physicalClone = this.service.Clone(this.physicalComponent);
+        var logicalClone = this.service.Clone(this.logicalComponent);
+        
+        assertSame(physicalClone, this.service.Clone(this.physicalComponent));
+        assertEquals(2, this.service.GetClones().size());
+        assertEquals(2, this.service.GetClones(Component.class).size());
+        assertEquals(1, this.service.GetClones(PhysicalComponent.class).size());
+        assertSame(logicalClone, this.service.GetClones(LogicalComponent.class).iterator().next().GetClone());
+        
+        this.service.Reset();
+        assertTrue(this.service.GetClones(Component.class).isEmpty());
+    }
+
+    @Test
+    public void VerifyRetainAndRelease()
+    {
+        var physicalClone = this.service.Clone(this.physicalComponent);
+        var logicalClone = this.service.Clone(this.logicalComponent);
+        this.service.RegisterTargetArchitecture(physicalClone, CapellaArchitecture.PhysicalArchitecture);
+        
+        this.service.Retain(physicalClone);
+        this.service.Retain(physicalClone);
+        this.service.Retain(this.logicalComponent);
+        
+        this.service.Release(physicalClone);
+        assertTrue(this.service.IsCloned(physicalClone));
+        
+        this.service.Release(physicalClone);
+        assertFalse(this.service.IsCloned(physicalClone));
+        assertNull(this.service.GetTargetArchitecture(physicalClone));
+        assertTrue(this.service.GetClones(PhysicalComponent.class).isEmpty());
+        
+        this.service.Release(logicalClone);
+        assertTrue(this.service.IsCloned(logicalClone));
+        
+        var newComponent = this.service.Create(PhysicalComponent.class, "new");
+        this.service.Retain(newComponent);
+        assertTrue(this.service.IsNew(newComponent));
+        this.service.Release(newComponent);
+        assertFalse(this.service.IsNew(newComponent));
+    }
+
+    @Test
+    public void VerifyReleaseTheDependenciesTogether()
+    {
+        var container = this.service.Clone(this.physicalComponent);
+        var component = this.service.Create(PhysicalComponent.class, "component");
+        container.getOwnedPhysicalComponents().add(component);
+        var part = this.service.Create(Part.class, "part");
+        part.setAbstractType(component);
+        container.getOwnedFeatures().add(part);
+        var port = this.service.Create(ComponentPort.class, "port");
+        component.getOwnedFeatures().add(port);
+        
+        this.service.Retain(component);
+        this.service.Release(component);
+        
+        assertFalse(this.service.IsNew(component));
+        assertFalse(this.service.IsNew(part));
+        assertFalse(this.service.IsNew(port));
+        assertFalse(this.service.IsCloned(container));
+        assertTrue(this.service.GetClones().isEmpty());
+    }
+
+    @Test
+    public void VerifyReleaseKeepsTheDependenciesOfTheReplacingRows()
+    {
+        var container = this.service.Clone(this.physicalComponent);
+        var component = this.service.Create(PhysicalComponent.class, "component");
+        container.getOwnedPhysicalComponents().add(component);
+        
+        this.service.Retain(component);
+        this.service.Release(Arrays.asList(component), Arrays.asList(component));
+        this.service.Retain(component);
+        
+        assertTrue(this.service.IsNew(component));
+        assertTrue(this.service.IsCloned(container));
+        
+        this.service.Release(Arrays.asList(component), new ArrayList<CapellaElement>());
+        
+        assertFalse(this.service.IsNew(component));
+        assertFalse(this.service.IsCloned(container));
+    }
+
+    @Test
+    public void VerifyReleaseKeepsTheContainersOfTheKeptElements()
+    {
+        var container = this.service.Clone(this.physicalComponent);
+        var retainedComponent = this.service.Create(PhysicalComponent.class, "retained");
+        var component = this.service.Create(PhysicalComponent.class, "never retained");
+        container.getOwnedPhysicalComponents().add(retainedComponent);
+        container.getOwnedPhysicalComponents().add(component);
+        
+        this.service.Retain(retainedComponent);
+        this.service.Release(retainedComponent);
+        
+        assertFalse(this.service.IsNew(retainedComponent));
+        assertTrue(this.service.IsNew(component));
+        assertTrue(this.service.IsCloned(container));
+        assertSame(this.physicalComponent, this.service.GetClone(container).GetOriginal());
+        
+        var otherComponent = this.service.Create(PhysicalComponent.class, "other");
+        container.getOwnedPhysicalComponents().add(otherComponent);
+        this.service.Retain(component);
+        this.service.Retain(otherComponent);
+        this.service.Release(component);
+        
+        assertFalse(this.service.IsNew(component));
+        assertTrue(this.service.IsCloned(container));
+        
+        this.service.Release(otherComponent);
+        assertFalse(this.service.IsCloned(container));
+    }
+
+    @Test
+    public void VerifyReleaseAfterReset()
+    {
+        var clone = this.service.Clone(this.physicalComponent);
+        this.service.Retain(clone);
+        this.service.Reset();
+        
+        assertDoesNotThrow(() -> this.service.Release(clone));
+        assertFalse(this.service.IsCloned(clone));
+        
+        var newClone = this.service.Clone(this.physicalComponent);
+        this.service.Retain(newClone);
+        assertTrue(this.service.IsCloned(newClone));
+        this.service.Release(newClone);
+        assertFalse(this.service.IsCloned(newClone));
+    }
+
+    @Test
+    public void VerifyGetCloneUsages()
+    {
+        assertTrue(this.service.GetCloneUsages().isEmpty());
+        
+        this.service.Clone(this.physicalComponent);
+        this.service.Clone(this.logicalComponent);
+        
+        var usages = this.service.GetCloneUsages();
+        assertEquals(2, usages.size());
+        assertTrue(usages.stream().allMatch(x -> x.GetCount() == 1 && x.GetEstimatedBytes() > 0));
+        assertTrue(usages.get(0).GetEstimatedBytes() >= usages.get(1).GetEstimatedBytes());
+    }
+
+    @Test
+    public void VerifyCreateMany()
+    {
+        var containment = this.physicalComponent.getOwnedPhysicalComponents();
+        var newComponents = this.service.Create(PhysicalComponent.class, Arrays.asList("a", "b", "c"), containment);
+        
+        assertEquals(3, newComponents.size());
+        assertEquals(4, containment.size());
+        assertEquals(Arrays.asList("a", "b", "c"), newComponents.stream().map(x -> x.getName()).collect(Collectors.toList()));
+        assertTrue(containment.containsAll(newComponents));
+        assertTrue(newComponents.stream().allMatch(x -> this.service.IsNew(x) && x.eContainer() == this.physicalComponent));
+        
+        assertTrue(this.service.Create(PhysicalComponent.class, new ArrayList<String>(), containment).isEmpty());
+        assertEquals(4, containment.size());
+    }
+
+    @Test
+    public void VerifyCreateManyOfAnUnknownType()
+    {
+        var containment = new BasicEList<NamedElement>();
+        
+        assertTrue(this.service.Create(UnknownElement.class, Arrays.asList("a", "b"), containment).isEmpty());
+        assertTrue(containment.isEmpty());
+        assertNull(this.service.Create(UnknownElement.class));
+    }
+    
+    /**
+     * A {@linkplain NamedElement} type that no Capella {@linkplain EPackage} defines
+     */
+    private interface UnknownElement extends NamedElement { }
+}
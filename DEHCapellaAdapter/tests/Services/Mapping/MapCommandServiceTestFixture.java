@@ -46,6 +46,7 @@ import Services.CapellaLog.ICapellaLogService;
 import Services.CapellaSelection.ICapellaSelectionService;
 import Services.CapellaSession.ICapellaSessionListenerService;
 import Services.CapellaSession.ICapellaSessionService;
+import Services.Metrics.MetricsService;
 import Services.NavigationService.INavigationService;
 import Utils.Ref;
 import ViewModels.Dialogs.Interfaces.IDstToHubMappingConfigurationDialogViewModel;
@@ -98,7 +99,7 @@ class MapCommandServiceTestFixture
         this.service = new MapCommandService(this.selectionService, this.dstController, 
                 this.navigationService, this.dstMappingDialog, this.logService, 
                 this.hubController, this.sessionService, this.elementDefinitionBrowserViewModel, this.requirementBrowserViewModel,
-                this.hubToDstMappingConfigurationDialogViewModel);
+                this.hubToDstMappingConfigurationDialogViewModel, new MetricsService());
     }
 
     @Test
@@ -51,10 +51,14 @@ import HubController.IHubController;
 import Services.CapellaSession.CapellaSessionRelatedBaseTestFixture;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
+import Services.MappingSnapshot.IMappingSnapshotService;
+import Services.MappingSnapshot.MappingSnapshotEntry;
+import Services.Metrics.MetricsService;
 import Utils.Ref;
 import ViewModels.Interfaces.IMappedElementRowViewModel;
 import cdp4common.commondata.*;
 import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.ExternalIdentifierMap;
 import cdp4common.engineeringmodeldata.RequirementsSpecification;
 import io.reactivex.Observable;
 
@@ -67,6 +71,7 @@ public class CapellaMappingConfigurationServiceTestFixture extends CapellaSessio
     private ElementDefinition elementDefinition0;
     private cdp4common.engineeringmodeldata.Requirement requirement;
     private ICapellaTransactionService transactionService;
+    private IMappingSnapshotService snapshotService;
 
     /**
      * @throws java.lang.Exception
@@ -84,7 +89,8 @@ public class CapellaMappingConfigurationServiceTestFixture extends CapellaSessio
         
         this.sessionService = mock(ICapellaSessionService.class);
         this.transactionService = mock(ICapellaTransactionService.class);
-        this.service = new CapellaMappingConfigurationService(this.hubController, this.sessionService, this.transactionService);
+        this.snapshotService = mock(IMappingSnapshotService.class);
+        this.service = new CapellaMappingConfigurationService(this.hubController, this.sessionService, this.transactionService, new MetricsService(), this.snapshotService);
     }
 
     @Test
@@ -141,6 +147,69 @@ public class CapellaMappingConfigurationServiceTestFixture extends CapellaSessio
         assertEquals(2, result.Get().size());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void VerifyLoadMappingFromSnapshot()
+    {
+        this.sessionUri = URI.createURI("t.e.s.t");
+        var session = this.GetSession(this.sessionUri);
+        var elements = this.GetSessionElements(session, CapellaElement.class);
+        
+        var sessionAndObjectsMap = new HashMap<URI, List<CapellaElement>>();
+        sessionAndObjectsMap.put(this.sessionUri, elements);
+        
+        when(this.sessionService.GetAllCapellaElementsFromOpenSessions()).thenReturn(sessionAndObjectsMap);
+        when(this.sessionService.GetCapellaElementsFromOpenSessions(any(Collection.class))).thenReturn(sessionAndObjectsMap);
+        when(this.sessionService.GetElementHash(any())).thenReturn("hash");
+        
+        when(this.hubController.TryGetThingById(any(UUID.class), any(Ref.class))).thenAnswer(new Answer<Boolean>() 
+        {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) throws Throwable 
+            {
+                ((Ref<Thing>)invocation.getArguments()[1]).Set(requirement);
+                return true;
+            }});
+        
+        var externalIdentifierMap = new ExternalIdentifierMap(UUID.randomUUID(), null, null);
+        externalIdentifierMap.setRevisionNumber(1);
+        this.service.SetExternalIdentifierMap(externalIdentifierMap);
+        
+        var requirementExternalId = new CapellaExternalIdentifier();
+        requirementExternalId.Identifier = this.UserRequirementId;
+        requirementExternalId.MappingDirection = MappingDirection.FromDstToHub;
+        this.service.correspondences.add(MutableTriple.of(UUID.randomUUID(), requirementExternalId, this.requirement.getIid()));
+        
+        var savedEntries = new ArrayList<MappingSnapshotEntry>();
+        
+        doAnswer(x -> savedEntries.addAll(x.getArgument(1))).when(this.snapshotService).Save(eq(externalIdentifierMap.getIid()), any(Collection.class));
+        
+        assertEquals(1, this.service.LoadMapping().size());
+        assertFalse(this.service.HasStaleCorrespondences());
+        assertEquals(1, savedEntries.size());
+        assertEquals(this.UserRequirementId, savedEntries.get(0).CapellaId);
+        assertEquals("hash", savedEntries.get(0).CapellaElementHash);
+        
+        when(this.snapshotService.Get(externalIdentifierMap.getIid())).thenReturn(new ArrayList<>(savedEntries));
+        
+        assertEquals(1, this.service.LoadMapping().size());
+        assertFalse(this.service.HasStaleCorrespondences());
+        verify(this.sessionService, times(1)).GetAllCapellaElementsFromOpenSessions();
+        
+        when(this.sessionService.GetElementHash(any())).thenReturn("changed");
+        
+        assertTrue(this.service.LoadMapping().isEmpty());
+        assertTrue(this.service.HasStaleCorrespondences());
+        var staleElements = this.service.GetStaleElements();
+        assertEquals(1, staleElements.get(this.sessionUri).size());
+        assertTrue(this.service.HasStaleCorrespondences());
+        assertEquals(1, this.service.LoadStaleMapping(staleElements).size());
+        assertFalse(this.service.HasStaleCorrespondences());
+        assertTrue(this.service.GetStaleElements().isEmpty());
+        assertTrue(this.service.LoadStaleMapping(staleElements).isEmpty());
+        verify(this.sessionService, times(2)).GetAllCapellaElementsFromOpenSessions();
+    }
+
     @Test
     public void VerifyCreateExternalIdentifierMap()
     {
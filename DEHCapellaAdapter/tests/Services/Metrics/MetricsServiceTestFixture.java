@@ -0,0 +1,104 @@
+/*
+ * MetricsServiceTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import Enumerations.MetricKind;
+
+class MetricsServiceTestFixture
+{
+    private MetricsService service;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.service = new MetricsService();
+    }
+
+    @Test
+    public void VerifyRecord()
+    {
+        try (var timer = this.service.StartTimer("Transfer"))
+        {
+            assertTrue(timer.GetElapsedMilliseconds() >= 0);
+        }
+        
+        this.service.RecordDuration("Transfer", TimeUnit.MILLISECONDS.toNanos(10));
+        
+        for (var value = 1; value <= 100; value++)
+        {
+            this.service.RecordValue("Elements", value);
+        }
+        
+        this.service.Increment("Lookups");
+        this.service.Increment("Lookups", 4);
+        
+        var snapshots = this.service.GetSnapshots();
+        assertEquals(3, snapshots.size());
+        
+        var timer = snapshots.get(0);
+        assertEquals(MetricKind.Timer, timer.GetKind());
+        assertEquals(2, timer.GetCount());
+        assertEquals(10, timer.GetMaximum(), 1);
+        
+        var histogram = snapshots.get(1);
+        assertEquals("Elements", histogram.GetName());
+        assertEquals(100, histogram.GetCount());
+        assertEquals(1, histogram.GetMinimum());
+        assertEquals(100, histogram.GetMaximum());
+        assertEquals(50.5, histogram.GetMean());
+        assertEquals(50, histogram.GetMedian());
+        assertEquals(95, histogram.GetPercentile95());
+        assertEquals(99, histogram.GetPercentile99());
+        
+        var counter = snapshots.get(2);
+        assertEquals(MetricKind.Counter, counter.GetKind());
+        assertEquals(5, counter.GetTotal());
+        
+        this.service.Reset();
+        assertTrue(this.service.GetSnapshots().isEmpty());
+    }
+
+    @Test
+    public void VerifyExport()
+    {
+        this.service.Increment("Hub \"lookups\", by id", 3);
+        
+        var json = this.service.ExportToJson();
+        assertTrue(json.contains("\"name\": \"Hub \\\"lookups\\\", by id\""));
+        assertTrue(json.contains("\"kind\": \"Counter\""));
+        assertTrue(json.contains("\"total\": 3.000"));
+        
+        var lines = this.service.ExportToCsv().split(System.lineSeparator());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("name,kind,count"));
+        assertTrue(lines[1].startsWith("\"Hub \"\"lookups\"\", by id\",Counter,1,3.000"));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * NameKeyServiceTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.NameKey;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+import cdp4common.engineeringmodeldata.ElementDefinition;
+
+class NameKeyServiceTestFixture
+{
+    private NameKeyService service;
+    private PhysicalComponent component;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.service = new NameKeyService();
+        this.component = mock(PhysicalComponent.class);
+        when(this.component.getName()).thenReturn("Power Supply Unit");
+    }
+
+    @Test
+    public void VerifyNameKey()
+    {
+        var key = NameKey.From("Power Supply-Unit 2");
+        assertEquals("Power Supply-Unit 2", key.GetExact());
+        assertEquals("power supply-unit 2", key.GetCaseFolded());
+        assertEquals("powersupply-unit2", key.GetShortName());
+        assertTrue(key.IsSameName(NameKey.From("POWER SUPPLY-UNIT 2")));
+        assertTrue(key.IsSameShortName(NameKey.From("Power_Supply-Unit_2")));
+        assertFalse(key.IsSameName(NameKey.From("Power Supply")));
+        assertSame(NameKey.EMPTY, NameKey.From(null));
+        assertFalse(NameKey.EMPTY.IsSameName(NameKey.EMPTY));
+        assertNull(NameKey.CaseFold(null));
+    }
+
+    @Test
+    public void VerifyGetKeyOfCapellaElement()
+    {
+        var key = this.service.GetKey(this.component);
+        assertEquals("power supply unit", key.GetCaseFolded());
+        assertSame(key, this.service.GetKey(this.component));
+
+        when(this.component.getName()).thenReturn("Battery");
+        var renamedKey = this.service.GetKey(this.component);
+        assertNotSame(key, renamedKey);
+        assertEquals("battery", renamedKey.GetCaseFolded());
+        assertSame(renamedKey, this.service.GetKey(this.component));
+        
+        this.service.Clear();
+        assertEquals("battery", this.service.GetKey(this.component).GetCaseFolded());
+        assertSame(NameKey.EMPTY, this.service.GetKey((PhysicalComponent)null));
+        
+        verify(this.component, never()).eAdapters();
+    }
+
+    @Test
+    public void VerifyGetKeyOfThing()
+    {
+        var elementDefinition = new ElementDefinition(UUID.randomUUID(), null, null);
+        elementDefinition.setName("Power Supply Unit");
+        elementDefinition.setShortName("PSU");
+        
+        var key = this.service.GetKey(elementDefinition);
+        assertTrue(key.IsSameName(this.service.GetKey(this.component)));
+        assertEquals("psu", this.service.GetShortNameKey(elementDefinition).GetCaseFolded());
+        assertSame(key, this.service.GetKey(elementDefinition));
+        
+        elementDefinition.setName("Battery");
+        assertEquals("battery", this.service.GetKey(elementDefinition).GetCaseFolded());
+        
+        this.service.Clear();
+        assertEquals("battery", this.service.GetKey(elementDefinition).GetCaseFolded());
+    }
+}
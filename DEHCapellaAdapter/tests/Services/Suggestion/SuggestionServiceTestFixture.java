@@ -0,0 +1,252 @@
+/*
+ * SuggestionServiceTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Suggestion;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.sirius.business.api.session.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.cs.Component;
+import org.polarsys.capella.core.data.la.LaFactory;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.pa.PaFactory;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+import Enumerations.CapellaArchitecture;
+import HubController.IHubController;
+import Reactive.ObservableValue;
+import Services.CapellaSession.ICapellaSessionService;
+import cdp4common.commondata.DefinedThing;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.Iteration;
+import cdp4common.engineeringmodeldata.Requirement;
+import cdp4common.engineeringmodeldata.RequirementsSpecification;
+import io.reactivex.Observable;
+
+class SuggestionServiceTestFixture
+{
+    private ICapellaSessionService sessionService;
+    private IHubController hubController;
+    private TransactionalEditingDomain editingDomain;
+    private ObservableValue<Boolean> hubSessionEvents;
+    private Iteration iteration;
+    private ElementDefinition elementDefinition;
+    private SuggestionService service;
+    private PhysicalComponent battery;
+    private PhysicalComponent batteryPack;
+    private LogicalComponent logicalBattery;
+
+    @BeforeEach
+    public void Setup()
+    {
+        this.sessionService = mock(ICapellaSessionService.class);
+        this.hubController = mock(IHubController.class);
+        
+        when(this.sessionService.HasAnyOpenSessionObservable()).thenReturn(Observable.empty());
+        when(this.sessionService.SessionUpdated()).thenReturn(Observable.empty());
+        when(this.hubController.GetIsSessionOpenObservable()).thenReturn(Observable.empty());
+        this.hubSessionEvents = new ObservableValue<Boolean>(Boolean.class);
+        when(this.hubController.GetSessionEventObservable()).thenReturn(this.hubSessionEvents.Observable());
+        
+        var physicalArchitecture = PaFactory.eINSTANCE.createPhysicalArchitecture();
+        var physicalComponentPkg = PaFactory.eINSTANCE.createPhysicalComponentPkg();
+        physicalArchitecture.setOwnedPhysicalComponentPkg(physicalComponentPkg);
+        this.battery = PaFactory.eINSTANCE.createPhysicalComponent();
+        this.battery.setName("Battery");
+        this.batteryPack = PaFactory.eINSTANCE.createPhysicalComponent();
+        this.batteryPack.setName("Battery Pack");
+        var solarArray = PaFactory.eINSTANCE.createPhysicalComponent();
+        solarArray.setName("Solar Array");
+        physicalComponentPkg.getOwnedPhysicalComponents().addAll(Arrays.asList(this.battery, this.batteryPack, solarArray));
+        
+        var logicalArchitecture = LaFactory.eINSTANCE.createLogicalArchitecture();
+        var logicalComponentPkg = LaFactory.eINSTANCE.createLogicalComponentPkg();
+        logicalArchitecture.setOwnedLogicalComponentPkg(logicalComponentPkg);
+        this.logicalBattery = LaFactory.eINSTANCE.createLogicalComponent();
+        this.logicalBattery.setName("Battery");
+        logicalComponentPkg.getOwnedLogicalComponents().add(this.logicalBattery);
+        
+        var resourceSet = new ResourceSetImpl();
+        var resource = new ResourceImpl(URI.createURI("model.capella"));
+        resource.getContents().addAll(Arrays.asList(physicalArchitecture, logicalArchitecture));
+        resourceSet.getResources().add(resource);
+        
+        this.editingDomain = mock(TransactionalEditingDomain.class);
+        when(this.editingDomain.getResourceSet()).thenReturn(resourceSet);
+        
+        assertDoesNotThrow(() -> doAnswer(x -> 
+        {
+            x.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(this.editingDomain).runExclusive(any(Runnable.class)));
+        
+        var session = mock(Session.class);
+        when(session.getTransactionalEditingDomain()).thenReturn(this.editingDomain);
+        when(this.sessionService.GetOpenSessions()).thenReturn(Arrays.asList(session));
+        when(this.sessionService.GetModelsVersion()).thenReturn(1L);
+        
+        this.iteration = new Iteration(UUID.randomUUID(), null, null);
+        this.elementDefinition = new ElementDefinition(UUID.randomUUID(), null, null);
+        this.elementDefinition.setName("Battery");
+        this.iteration.getElement().add(this.elementDefinition);
+        
+        var requirementsSpecification = new RequirementsSpecification(UUID.randomUUID(), null, null);
+        var requirement = new Requirement(UUID.randomUUID(), null, null);
+        requirement.setName("Battery capacity");
+        var deprecatedRequirement = new Requirement(UUID.randomUUID(), null, null);
+        deprecatedRequirement.setName("Battery capacity");
+        deprecatedRequirement.setDeprecated(true);
+        requirementsSpecification.getRequirement().addAll(Arrays.asList(requirement, deprecatedRequirement));
+        this.iteration.getRequirementsSpecification().add(requirementsSpecification);
+        
+        when(this.hubController.GetOpenIteration()).thenReturn(this.iteration);
+        
+        this.service = new SuggestionService(this.sessionService, this.hubController);
+    }
+
+    @Test
+    public void VerifyNoCandidateBeforeTheIndexesAreBuilt()
+    {
+        assertTrue(this.service.GetHubCandidates("Battery", DefinedThing.class, 10).isEmpty());
+        verify(this.sessionService, never()).GetOpenSessions();
+    }
+
+    @Test
+    public void VerifyBuildCapellaIndexes() throws InterruptedException
+    {
+        var indexes = this.service.BuildCapellaIndexes();
+        verify(this.editingDomain).runExclusive(any(Runnable.class));
+        
+        var physicalComponents = indexes.entrySet().stream()
+                .filter(x -> x.getKey().getLeft() == CapellaArchitecture.PhysicalArchitecture && x.getKey().getRight() == this.battery.eClass())
+                .findFirst();
+        
+        assertTrue(physicalComponents.isPresent());
+        assertEquals(3, physicalComponents.get().getValue().Size());
+        assertTrue(indexes.keySet().stream().anyMatch(x -> x.getLeft() == CapellaArchitecture.LogicalArchitecture && x.getRight() == this.logicalBattery.eClass()));
+    }
+
+    @Test
+    public void VerifyBuildHubIndexes()
+    {
+        var indexes = this.service.BuildHubIndexes();
+        assertEquals(1, indexes.get(ElementDefinition.class).Size());
+        assertEquals(1, indexes.get(Requirement.class).Size());
+        
+        when(this.hubController.GetOpenIteration()).thenReturn(null);
+        assertTrue(this.service.BuildHubIndexes().isEmpty());
+    }
+
+    @Test
+    public void VerifyGetCapellaCandidates()
+    {
+        this.service.Rebuild();
+        
+        var candidates = WaitForCandidates(() -> this.service.GetCapellaCandidates("batery", CapellaArchitecture.PhysicalArchitecture, PhysicalComponent.class, 10));
+        assertEquals(2, candidates.size());
+        assertSame(this.battery, candidates.get(0).GetElement());
+        assertSame(this.batteryPack, candidates.get(1).GetElement());
+        
+        var allArchitectureCandidates = this.service.GetCapellaCandidates("Battery", null, Component.class, 10);
+        assertEquals(3, allArchitectureCandidates.size());
+        assertTrue(allArchitectureCandidates.stream().anyMatch(x -> x.GetElement() == this.logicalBattery));
+        
+        assertTrue(this.service.GetCapellaCandidates("Battery", CapellaArchitecture.PhysicalArchitecture, LogicalComponent.class, 10).isEmpty());
+        assertEquals(1, this.service.GetCapellaCandidates("Battery", null, Component.class, 1).size());
+        verify(this.sessionService, times(1)).GetOpenSessions();
+    }
+
+    @Test
+    public void VerifyCapellaIndexesAreBuiltAgainOnceTheModelsChanged()
+    {
+        var candidates = WaitForCandidates(() -> this.service.GetCapellaCandidates("Solar Array", null, PhysicalComponent.class, 10));
+        assertFalse(candidates.stream().anyMatch(x -> x.GetElement() == this.batteryPack));
+        
+        this.batteryPack.setName("Solar Array 2");
+        candidates = this.service.GetCapellaCandidates("Solar Array", null, PhysicalComponent.class, 10);
+        assertFalse(candidates.isEmpty());
+        assertFalse(candidates.stream().anyMatch(x -> x.GetElement() == this.batteryPack));
+        
+        when(this.sessionService.GetModelsVersion()).thenReturn(2L);
+        candidates = WaitForCandidates(() -> this.service.GetCapellaCandidates("Solar Array", null, PhysicalComponent.class, 10));
+        assertTrue(candidates.stream().anyMatch(x -> x.GetElement() == this.batteryPack));
+        verify(this.sessionService, times(2)).GetOpenSessions();
+    }
+
+    @Test
+    public void VerifyHubIndexesAreOnlyBuiltAgainOnceTheIterationChanged()
+    {
+        this.hubSessionEvents.Value(true);
+        assertEquals(1, WaitForCandidates(() -> this.service.GetHubCandidates("Battery", ElementDefinition.class, 10)).size());
+        
+        this.hubSessionEvents.Value(false);
+        assertEquals(1, this.service.GetHubCandidates("Battery", ElementDefinition.class, 10).size());
+        
+        this.elementDefinition.setName("Solar Array");
+        this.elementDefinition.setRevisionNumber(1);
+        this.hubSessionEvents.Value(true);
+        
+        var candidates = WaitForCandidates(() -> this.service.GetHubCandidates("Solar Array", ElementDefinition.class, 10));
+        assertSame(this.elementDefinition, candidates.get(0).GetElement());
+    }
+
+    @Test
+    public void VerifyGetHubCandidates()
+    {
+        this.service.Rebuild();
+        
+        var candidates = WaitForCandidates(() -> this.service.GetHubCandidates("Battery capacity", Requirement.class, 10));
+        assertEquals(1, candidates.size());
+        assertFalse(candidates.get(0).GetElement().isDeprecated());
+        
+        assertEquals(1, this.service.GetHubCandidates("Batery", ElementDefinition.class, 10).size());
+        assertEquals(2, this.service.GetHubCandidates("Battery", DefinedThing.class, 10).size());
+    }
+
+    private static <TCandidate> List<TCandidate> WaitForCandidates(Supplier<List<TCandidate>> query)
+    {
+        var deadline = System.currentTimeMillis() + 5000;
+        var candidates = new ArrayList<TCandidate>();
+        
+        while (candidates.isEmpty() && System.currentTimeMillis() < deadline)
+        {
+            candidates.addAll(query.get());
+            Thread.onSpinWait();
+        }
+        
+        return candidates;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * TrigramIndexTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Services.Suggestion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTestFixture
+{
+    private TrigramIndex<String> index;
+
+    @BeforeEach
+    public void Setup()
+    {
+        this.index = new TrigramIndex<>(Arrays.asList("Battery", "Battery Pack", "Solar Array", "Reaction Wheel", "", null), Function.identity());
+    }
+
+    @Test
+    public void VerifySize()
+    {
+        assertEquals(4, this.index.Size());
+    }
+
+    @Test
+    public void VerifyGetTrigrams()
+    {
+        assertTrue(TrigramIndex.GetTrigrams(null).isEmpty());
+        assertTrue(TrigramIndex.GetTrigrams(" - ").isEmpty());
+        assertEquals(TrigramIndex.GetTrigrams("Solar_Array"), TrigramIndex.GetTrigrams("solar array"));
+        assertTrue(TrigramIndex.GetTrigrams("a").contains("  a"));
+    }
+
+    @Test
+    public void VerifyQuery()
+    {
+        var candidates = this.index.Query("batery", 10, 0.3);
+        assertEquals(2, candidates.size());
+        assertEquals("Battery", candidates.get(0).GetElement());
+        assertEquals("Battery Pack", candidates.get(1).GetElement());
+        assertTrue(candidates.get(0).GetSimilarity() > candidates.get(1).GetSimilarity());
+        
+        assertEquals(1, this.index.Query("batery", 1, 0.3).size());
+        assertEquals(1.0, this.index.Query("SOLAR-ARRAY", 10, 0.3).get(0).GetSimilarity(), 1e-9);
+        assertTrue(this.index.Query("thruster", 10, 0.3).isEmpty());
+        assertTrue(this.index.Query("", 10, 0.3).isEmpty());
+        assertTrue(this.index.Query("battery", 0, 0.3).isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * CapellaTypeRegistryTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Utils.Stereotypes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EFactory;
+import org.eclipse.emf.ecore.EPackage;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+import org.polarsys.capella.core.data.cs.CsPackage;
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.fa.ComponentPort;
+import org.polarsys.capella.core.data.fa.FaPackage;
+import org.polarsys.capella.core.data.la.LaPackage;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.la.LogicalFunction;
+import org.polarsys.capella.core.data.pa.PaPackage;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+import org.polarsys.capella.core.data.pa.PhysicalFunction;
+import org.polarsys.capella.core.data.requirement.RequirementPackage;
+import org.polarsys.capella.core.data.requirement.SystemFunctionalRequirement;
+import org.polarsys.capella.core.data.requirement.SystemUserRequirement;
+
+class CapellaTypeRegistryTestFixture
+{
+    /**
+     * A {@linkplain NamedElement} type that no Capella {@linkplain EPackage} defines
+     */
+    private interface UnknownElement extends NamedElement { }
+
+    @Test
+    public void VerifyGetEClassAndFactory()
+    {
+        this.AssertEClassAndFactory(PhysicalComponent.class, PaPackage.eINSTANCE);
+        this.AssertEClassAndFactory(PhysicalFunction.class, PaPackage.eINSTANCE);
+        this.AssertEClassAndFactory(LogicalComponent.class, LaPackage.eINSTANCE);
+        this.AssertEClassAndFactory(LogicalFunction.class, LaPackage.eINSTANCE);
+        this.AssertEClassAndFactory(ComponentPort.class, FaPackage.eINSTANCE);
+        this.AssertEClassAndFactory(Part.class, CsPackage.eINSTANCE);
+        this.AssertEClassAndFactory(SystemFunctionalRequirement.class, RequirementPackage.eINSTANCE);
+        
+        assertNull(CapellaTypeRegistry.GetEClassAndFactory(UnknownElement.class));
+    }
+
+    @Test
+    public void VerifyGetEClassifierAndFactory()
+    {
+        var eClassAndFactory = CapellaTypeRegistry.GetEClassifierAndFactory("PhysicalComponent");
+        assertSame(PaPackage.Literals.PHYSICAL_COMPONENT, eClassAndFactory.getLeft());
+        assertSame(PaPackage.eINSTANCE.getEFactoryInstance(), eClassAndFactory.getRight());
+        
+        assertTrue(CapellaTypeRegistry.GetEClassifierAndFactory("PhysicalComponentNature").getLeft() instanceof EEnum);
+        assertNull(CapellaTypeRegistry.GetEClassifierAndFactory("UnknownElement"));
+        assertNull(CapellaTypeRegistry.GetEClassifierAndFactory(null));
+        
+        assertNull(StereotypeUtils.GetEClassAndFactory("UnknownElement").getLeft());
+        assertSame(LaPackage.Literals.LOGICAL_COMPONENT, StereotypeUtils.GetEClassAndFactory("LogicalComponent").getLeft());
+    }
+
+    @Test
+    public void VerifyGetType()
+    {
+        assertSame(ComponentType.Physical, CapellaTypeRegistry.GetType(PhysicalComponent.class));
+        assertSame(ComponentType.Logical, CapellaTypeRegistry.GetType(LogicalComponent.class));
+        assertSame(RequirementType.User, CapellaTypeRegistry.GetType(SystemUserRequirement.class));
+        assertSame(RequirementType.Functional, CapellaTypeRegistry.GetType(SystemFunctionalRequirement.class));
+        assertNull(CapellaTypeRegistry.GetType(Part.class));
+        
+        for (var componentType : ComponentType.values())
+        {
+            assertSame(componentType, CapellaTypeEnumerationUtility.From(componentType.ClassType()));
+        }
+        
+        for (var requirementType : RequirementType.values())
+        {
+            assertSame(requirementType, CapellaTypeEnumerationUtility.From(requirementType.ClassType()));
+        }
+    }
+
+    @Test
+    public void VerifyGetComponentType()
+    {
+        assertSame(ComponentType.Physical, CapellaTypeRegistry.GetComponentType("Physical Component"));
+        assertSame(ComponentType.Physical, CapellaTypeRegistry.GetComponentType("physical component"));
+        assertSame(ComponentType.Logical, CapellaTypeRegistry.GetComponentType("LogicalComponent"));
+        assertSame(ComponentType.Logical, CapellaTypeEnumerationUtility.ComponentTypeFrom("LOGICALCOMPONENT"));
+        assertNull(CapellaTypeRegistry.GetComponentType("Non-Functional"));
+        assertNull(CapellaTypeRegistry.GetComponentType(""));
+        assertNull(CapellaTypeRegistry.GetComponentType(null));
+    }
+
+    @Test
+    public void VerifyGetRequirementType()
+    {
+        assertSame(RequirementType.NonFunctional, CapellaTypeRegistry.GetRequirementType("Non-Functional"));
+        assertSame(RequirementType.NonFunctionalInterface, CapellaTypeRegistry.GetRequirementType("non-functional interface"));
+        assertSame(RequirementType.User, CapellaTypeRegistry.GetRequirementType("SystemUserRequirement"));
+        assertSame(RequirementType.FunctionalInterface, CapellaTypeEnumerationUtility.RequirementTypeFrom("Functional Interface"));
+        assertNull(CapellaTypeRegistry.GetRequirementType("Physical Component"));
+        assertNull(CapellaTypeRegistry.GetRequirementType(null));
+    }
+    
+    /**
+     * Asserts that the {@linkplain CapellaTypeRegistry} resolves the provided {@linkplain Class} to its {@linkplain EClass} from the provided {@linkplain EPackage}
+     * 
+     * @param clazz the {@linkplain Class}
+     * @param ePackage the {@linkplain EPackage} that defines the {@linkplain Class}
+     */
+    private void AssertEClassAndFactory(Class<?> clazz, EPackage ePackage)
+    {
+        Pair<EClass, EFactory> eClassAndFactory = CapellaTypeRegistry.GetEClassAndFactory(clazz);
+        assertNotNull(eClassAndFactory);
+        assertSame(clazz, eClassAndFactory.getLeft().getInstanceClass());
+        assertSame(ePackage, eClassAndFactory.getLeft().getEPackage());
+        assertSame(ePackage.getEFactoryInstance(), eClassAndFactory.getRight());
+        assertTrue(clazz.isInstance(eClassAndFactory.getRight().create(eClassAndFactory.getLeft())));
+    }
+}
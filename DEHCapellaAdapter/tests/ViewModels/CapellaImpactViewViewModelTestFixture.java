@@ -43,6 +43,7 @@ import org.polarsys.capella.core.data.la.LogicalComponent;
 import DstController.IDstController;
 import Enumerations.MappingDirection;
 import Reactive.ObservableCollection;
+import Services.CapellaSession.CapellaModelTreeSnapshot;
 import Services.CapellaSession.CapellaSessionRelatedBaseTestFixture;
 import Services.CapellaSession.ICapellaSessionService;
 import Services.CapellaTransaction.ICapellaTransactionService;
@@ -61,6 +62,8 @@ public class CapellaImpactViewViewModelTestFixture extends CapellaSessionRelated
     private CapellaImpactViewViewModel viewModel;
     private ObservableCollection<MappedElementRowViewModel<DefinedThing, NamedElement>> hubMapResult;
     private ICapellaTransactionService transactionService;
+    private ObservableCollection<CapellaElement> selectedHubMapResultForTransfer;
+    private RootRowViewModel rootRowViewModel;
 
     @BeforeEach
     public void Setup()
@@ -72,13 +75,14 @@ public class CapellaImpactViewViewModelTestFixture extends CapellaSessionRelated
         this.hubMapResult = new ObservableCollection<>();
         when(this.dstController.GetHubMapResult()).thenReturn(this.hubMapResult);
         when(this.dstController.HasAnyOpenSessionObservable()).thenReturn(Observable.fromArray(false, true, true));
-        when(this.dstController.GetSelectedHubMapResultForTransfer()).thenReturn(new ObservableCollection());
+        this.selectedHubMapResultForTransfer = new ObservableCollection<>();
+        when(this.dstController.GetSelectedHubMapResultForTransfer()).thenReturn(this.selectedHubMapResultForTransfer);
         when(this.transactionService.IsClonedOrNew(any())).thenAnswer(x -> new Random().nextBoolean());
 
         var session = this.GetSession(URI.createURI("test"));
         
-        RootRowViewModel rootRowViewModel = new RootRowViewModel("", CapellaSessionRelatedBaseTestFixture.GetSessionElements(session, Notifier.class));
-        when(this.sessionService.GetModels()).thenReturn(rootRowViewModel);
+        this.rootRowViewModel = new RootRowViewModel("", CapellaSessionRelatedBaseTestFixture.GetSessionElements(session, Notifier.class));
+        when(this.sessionService.GetModels()).thenReturn(this.rootRowViewModel);
         this.viewModel = new CapellaImpactViewViewModel(this.dstController, this.sessionService, this.transactionService);
     }
     
@@ -90,19 +94,61 @@ public class CapellaImpactViewViewModelTestFixture extends CapellaSessionRelated
         when(logicalComponent.eContents()).thenReturn(new BasicEList<>());
         var rowViewModel = new ComponentRowViewModel(null, logicalComponent);
         assertDoesNotThrow(() -> this.viewModel.OnSelectionChanged(rowViewModel));
-        assertFalse(rowViewModel.GetIsSelected());
-        assertDoesNotThrow(() -> this.viewModel.OnSelectionChanged(rowViewModel));
-        assertFalse(rowViewModel.GetIsSelected());
+        assertFalse(this.viewModel.IsSelected(rowViewModel));
+        assertTrue(this.selectedHubMapResultForTransfer.isEmpty());
         
         MappedElementRowViewModel<? extends DefinedThing, ? extends NamedElement> mappedElementDefinitionRowViewModel = 
                 new MappedElementDefinitionRowViewModel(null, logicalComponent, MappingDirection.FromHubToDst);
         
         this.hubMapResult.add((MappedElementRowViewModel<DefinedThing, NamedElement>) mappedElementDefinitionRowViewModel);
         assertDoesNotThrow(() -> this.viewModel.OnSelectionChanged(rowViewModel));
-        assertTrue(rowViewModel.GetIsSelected());
+        assertTrue(this.viewModel.IsSelected(rowViewModel));
+        assertFalse(rowViewModel.GetIsSelected());
+        assertEquals(1, this.selectedHubMapResultForTransfer.size());
         assertDoesNotThrow(() -> this.viewModel.OnSelectionChanged(rowViewModel));
+        assertFalse(this.viewModel.IsSelected(rowViewModel));
+        assertTrue(this.selectedHubMapResultForTransfer.isEmpty());
+        
+        this.selectedHubMapResultForTransfer.add(logicalComponent);
+        assertTrue(this.viewModel.IsSelected(rowViewModel));
+        this.selectedHubMapResultForTransfer.clear();
+        assertFalse(this.viewModel.IsSelected(rowViewModel));
+    }
+    
+    @Test
+    public void VerifyOnSelectionChangedWhileTheSnapshotIsDisplayed()
+    {
+        var snapshot = mock(CapellaModelTreeSnapshot.class);
+        when(snapshot.GetRoot()).thenReturn(this.rootRowViewModel);
+        when(this.sessionService.GetModelTreeSnapshot()).thenReturn(snapshot);
+        this.viewModel.UpdateBrowserTrees(true);
+        
+        var logicalComponent = mock(LogicalComponent.class);
+        when(logicalComponent.getId()).thenReturn(UUID.randomUUID().toString());
+        when(logicalComponent.eContents()).thenReturn(new BasicEList<>());
+        var rowViewModel = new ComponentRowViewModel(null, logicalComponent);
+        
+        this.selectedHubMapResultForTransfer.add(logicalComponent);
+        assertTrue(this.viewModel.IsSelected(rowViewModel));
         assertFalse(rowViewModel.GetIsSelected());
-        verify(this.dstController, times(6)).GetSelectedHubMapResultForTransfer();
+    }
+    
+    @Test
+    public void VerifyUpdateBrowserTreesBuildsOnlyTheFinalModelWhenLeavingTheSnapshot()
+    {
+        var snapshot = mock(CapellaModelTreeSnapshot.class);
+        when(snapshot.GetRoot()).thenReturn(new RootRowViewModel(""));
+        when(this.sessionService.GetModelTreeSnapshot()).thenReturn(snapshot);
+        this.viewModel.UpdateBrowserTrees(true);
+        assertSame(snapshot.GetRoot(), this.viewModel.GetBrowserTreeModel().getRoot());
+        clearInvocations(this.sessionService);
+        
+        MappedElementRowViewModel<? extends DefinedThing, ? extends NamedElement> mappedElementDefinitionRowViewModel = 
+                new MappedElementDefinitionRowViewModel(this.LogicalComponent, MappingDirection.FromHubToDst);
+        
+        this.hubMapResult.add((MappedElementRowViewModel<DefinedThing, NamedElement>) mappedElementDefinitionRowViewModel);
+        verify(this.sessionService, times(1)).GetModels();
+        assertSame(this.rootRowViewModel, this.viewModel.GetBrowserTreeModel().getRoot());
     }
     
     @Test
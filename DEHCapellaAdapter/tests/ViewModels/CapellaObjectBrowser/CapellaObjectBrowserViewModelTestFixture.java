@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.polarsys.capella.core.data.pa.PhysicalComponent;
 import org.polarsys.capella.core.data.pa.impl.PhysicalComponentImpl;
 
+import Services.CapellaSession.CapellaModelTreeSnapshot;
 import Services.CapellaSession.ICapellaSessionService;
 
 import org.eclipse.emf.common.util.BasicEList;
@@ -95,5 +96,34 @@ class CapellaObjectBrowserViewModelTestFixture
         assertTrue(isTheTreeVisibleValues.get(0));
         assertTrue(isTheTreeVisibleValues.get(1));
         assertTrue(isTheTreeVisibleValues.get(2));
-    }    
+    }
+    
+    @Test
+    public void VerifyBuildTreeFromModelTreeSnapshot()
+    {
+        var elements = new ArrayList<EObject>();
+        PhysicalComponent physicalComponent = mock(PhysicalComponent.class);
+        when(physicalComponent.eContents()).thenReturn(new BasicEList());
+        elements.add(physicalComponent);
+        
+        var modelTreeSnapshot = mock(CapellaModelTreeSnapshot.class);
+        when(modelTreeSnapshot.GetRoot()).thenReturn(new RootRowViewModel("af", elements));
+        when(this.capellaSessionService.GetModelTreeSnapshot()).thenReturn(modelTreeSnapshot);
+        
+        assertDoesNotThrow(() -> this.viewModel.BuildTree(null));
+        var browserTreeModel = this.viewModel.GetBrowserTreeModel();
+        assertNotNull(browserTreeModel);
+        
+        assertDoesNotThrow(() -> this.viewModel.BuildTree(null));
+        assertSame(browserTreeModel, this.viewModel.GetBrowserTreeModel());
+        verify(modelTreeSnapshot, times(1)).GetRoot();
+        verify(this.capellaSessionService, never()).GetModels();
+        
+        var updatedModelTreeSnapshot = mock(CapellaModelTreeSnapshot.class);
+        when(updatedModelTreeSnapshot.GetRoot()).thenReturn(new RootRowViewModel("af", elements));
+        when(this.capellaSessionService.GetModelTreeSnapshot()).thenReturn(updatedModelTreeSnapshot);
+        
+        assertDoesNotThrow(() -> this.viewModel.BuildTree(null));
+        assertNotSame(browserTreeModel, this.viewModel.GetBrowserTreeModel());
+    }
 }
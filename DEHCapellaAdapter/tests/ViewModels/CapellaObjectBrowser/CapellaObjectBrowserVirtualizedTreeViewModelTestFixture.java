@@ -0,0 +1,185 @@
+/*
+ * CapellaObjectBrowserVirtualizedTreeViewModelTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels.CapellaObjectBrowser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreePath;
+
+import org.eclipse.emf.ecore.EObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.capellacore.CapellacoreFactory;
+import org.polarsys.capella.core.data.pa.PaFactory;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+import ViewModels.CapellaObjectBrowser.Rows.ComponentRowViewModel;
+import ViewModels.CapellaObjectBrowser.Rows.RootRowViewModel;
+
+class CapellaObjectBrowserVirtualizedTreeViewModelTestFixture
+{
+    private CapellaObjectBrowserVirtualizedTreeViewModel treeModel;
+    private RowStateTable rowStateTable;
+    private RootRowViewModel root;
+    private PhysicalComponent component0;
+    private PhysicalComponent component1;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.component0 = this.CreateComponent();
+        this.component1 = this.CreateComponent();
+        this.component0.getOwnedPhysicalComponents().add(this.CreateComponent());
+        this.component1.getOwnedPhysicalComponents().add(this.CreateComponent());
+        this.component1.getOwnedPhysicalComponents().get(0).getOwnedPhysicalComponents().add(this.CreateComponent());
+        
+        this.root = new RootRowViewModel("", List.<EObject>of(this.component0, this.component1));
+        this.rowStateTable = new RowStateTable();
+        this.treeModel = new CapellaObjectBrowserVirtualizedTreeViewModel(this.root, this.rowStateTable, 1);
+    }
+
+    private PhysicalComponent CreateComponent()
+    {
+        var component = PaFactory.eINSTANCE.createPhysicalComponent();
+        component.setId(UUID.randomUUID().toString());
+        return component;
+    }
+
+    @Test
+    public void VerifyContainedRowsAreComputedOnDemand()
+    {
+        assertEquals(2, this.treeModel.getChildCount(this.root));
+        var row0 = (ComponentRowViewModel)this.treeModel.getChild(this.root, 0);
+        var row1 = (ComponentRowViewModel)this.treeModel.getChild(this.root, 1);
+        
+        assertFalse(row1.AreContainedRowsComputed());
+        assertFalse(this.treeModel.isLeaf(row1));
+        assertFalse(row1.AreContainedRowsComputed());
+        
+        assertEquals(1, this.treeModel.getChildCount(row1));
+        assertTrue(row1.AreContainedRowsComputed());
+        var childRow = this.treeModel.getChild(row1, 0);
+        assertFalse(((ComponentRowViewModel)childRow).AreContainedRowsComputed());
+        assertEquals(0, this.treeModel.getIndexOfChild(row1, childRow));
+        assertEquals(-1, this.treeModel.getIndexOfChild(row0, childRow));
+        assertNull(this.treeModel.getChild(row1, 1));
+        assertEquals(0, this.treeModel.getChildCount(new Object()));
+        assertTrue(this.treeModel.isLeaf(new Object()));
+    }
+    
+    @Test
+    public void VerifyIsLeafUsesTheContainedRowFilter()
+    {
+        var constraint = CapellacoreFactory.eINSTANCE.createConstraint();
+        constraint.setId(UUID.randomUUID().toString());
+        var childRow0 = (ComponentRowViewModel)this.treeModel.getChild(this.treeModel.getChild(this.root, 0), 0);
+        ((PhysicalComponent)childRow0.GetElement()).getOwnedConstraints().add(constraint);
+        
+        assertFalse(childRow0.AreContainedRowsComputed());
+        assertTrue(this.treeModel.isLeaf(childRow0));
+        assertFalse(childRow0.AreContainedRowsComputed());
+        assertEquals(0, this.treeModel.getChildCount(childRow0));
+        assertTrue(this.treeModel.isLeaf(childRow0));
+    }
+
+    @Test
+    public void VerifyCollapsedRowsAreReleased()
+    {
+        var listener = mock(TreeModelListener.class);
+        this.treeModel.addTreeModelListener(listener);
+        
+        var row0 = (ComponentRowViewModel)this.treeModel.getChild(this.root, 0);
+        var row1 = (ComponentRowViewModel)this.treeModel.getChild(this.root, 1);
+        var path0 = new TreePath(new Object[] { this.root, row0 });
+        var path1 = new TreePath(new Object[] { this.root, row1 });
+        
+        this.treeModel.treeExpanded(new TreeExpansionEvent(this, path0));
+        this.treeModel.treeExpanded(new TreeExpansionEvent(this, path1));
+        assertTrue(row0.GetIsExpanded());
+        
+        var childRow0 = (ComponentRowViewModel)this.treeModel.getChild(row0, 0);
+        this.rowStateTable.SetIsSelected(childRow0.GetElement().getId(), true);
+        this.treeModel.HighlightElements(Set.of(childRow0.GetElement().getId()));
+        verify(listener, times(1)).treeNodesChanged(any(TreeModelEvent.class));
+        this.treeModel.getChildCount(row1);
+        
+        this.treeModel.treeCollapsed(new TreeExpansionEvent(this, path0));
+        assertFalse(row0.GetIsExpanded());
+        assertTrue(row0.AreContainedRowsComputed());
+        
+        this.treeModel.treeCollapsed(new TreeExpansionEvent(this, path1));
+        assertFalse(row0.AreContainedRowsComputed());
+        assertTrue(row1.AreContainedRowsComputed());
+        verify(listener, times(1)).treeStructureChanged(any(TreeModelEvent.class));
+        
+        var newChildRow0 = (ComponentRowViewModel)this.treeModel.getChild(row0, 0);
+        assertNotSame(childRow0, newChildRow0);
+        assertTrue(this.treeModel.GetRowStateTable().IsSelected(newChildRow0));
+        assertTrue(this.treeModel.GetRowStateTable().IsHighlighted(newChildRow0));
+        assertFalse(newChildRow0.GetIsSelected());
+        assertFalse(newChildRow0.GetIsHighlighted());
+        
+        this.treeModel.HighlightElements(Set.of());
+        assertFalse(this.treeModel.GetRowStateTable().IsHighlighted(newChildRow0));
+        verify(listener, times(2)).treeNodesChanged(any(TreeModelEvent.class));
+        
+        this.treeModel.removeTreeModelListener(listener);
+    }
+    
+    @Test
+    public void VerifyReleaseNotifiesTheTreesSharingTheRows()
+    {
+        var sharingTreeModel = new CapellaObjectBrowserVirtualizedTreeViewModel(this.root, new RowStateTable(), 1);
+        var otherTreeModel = new CapellaObjectBrowserVirtualizedTreeViewModel(new RootRowViewModel("", List.<EObject>of(this.component0)), new RowStateTable(), 1);
+        var listener = mock(TreeModelListener.class);
+        var sharingListener = mock(TreeModelListener.class);
+        var otherListener = mock(TreeModelListener.class);
+        this.treeModel.addTreeModelListener(listener);
+        sharingTreeModel.addTreeModelListener(sharingListener);
+        otherTreeModel.addTreeModelListener(otherListener);
+        
+        var row0 = (ComponentRowViewModel)this.treeModel.getChild(this.root, 0);
+        var row1 = (ComponentRowViewModel)this.treeModel.getChild(this.root, 1);
+        var path0 = new TreePath(new Object[] { this.root, row0 });
+        var path1 = new TreePath(new Object[] { this.root, row1 });
+        this.treeModel.getChildCount(row0);
+        this.treeModel.getChildCount(row1);
+        
+        this.treeModel.treeCollapsed(new TreeExpansionEvent(this, path0));
+        this.treeModel.treeCollapsed(new TreeExpansionEvent(this, path1));
+        assertFalse(row0.AreContainedRowsComputed());
+        
+        verify(listener, times(1)).treeStructureChanged(any(TreeModelEvent.class));
+        verify(sharingListener, times(1)).treeStructureChanged(argThat(x -> x.getSource() == sharingTreeModel && x.getTreePath().equals(path0)));
+        verify(otherListener, never()).treeStructureChanged(any(TreeModelEvent.class));
+    }
+}
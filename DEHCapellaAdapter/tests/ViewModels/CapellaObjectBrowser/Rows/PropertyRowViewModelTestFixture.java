@@ -0,0 +1,63 @@
+/*
+ * PropertyRowViewModelTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels.CapellaObjectBrowser.Rows;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.polarsys.capella.core.data.information.InformationPackage;
+import org.polarsys.capella.core.data.information.Property;
+import org.polarsys.capella.core.data.information.datavalue.LiteralNumericValue;
+
+class PropertyRowViewModelTestFixture
+{
+    private Property property;
+    private LiteralNumericValue defaultValue;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.property = mock(Property.class);
+        when(this.property.getName()).thenReturn("mass");
+        when(this.property.eContents()).thenReturn(new BasicEList<EObject>());
+        when(this.property.eClass()).thenReturn(InformationPackage.Literals.PROPERTY);
+        this.defaultValue = mock(LiteralNumericValue.class);
+        when(this.property.eGet(InformationPackage.Literals.PROPERTY__OWNED_DEFAULT_VALUE)).thenReturn(this.defaultValue);
+    }
+
+    @Test
+    public void VerifyComputeContainedRows()
+    {
+        var row = new PropertyRowViewModel(null, this.property);
+        assertEquals(1, row.GetContainedRows().size());
+        assertSame(this.defaultValue, row.GetContainedRows().get(0).GetElement());
+        assertEquals("DefaultValue", row.GetContainedRows().get(0).GetName());
+        assertSame(DataValueFeatureAccessor.GetAccessors(InformationPackage.Literals.PROPERTY), 
+                DataValueFeatureAccessor.GetAccessors(InformationPackage.Literals.PROPERTY));
+    }
+}
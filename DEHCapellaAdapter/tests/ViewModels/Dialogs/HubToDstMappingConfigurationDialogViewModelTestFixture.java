@@ -83,6 +83,7 @@ import HubController.IHubController;
 import MappingRules.RequirementToRequirementsSpecificationMappingRule;
 import Reactive.ObservableCollection;
 import Reactive.ObservableValue;
+import Services.Suggestion.ISuggestionService;
 import Utils.Ref;
 import ViewModels.CapellaObjectBrowser.Interfaces.ICapellaObjectBrowserViewModel;
 import ViewModels.CapellaObjectBrowser.Rows.ComponentRowViewModel;
@@ -120,6 +121,7 @@ class HubToDstMappingConfigurationDialogViewModelTestFixture
     private ObservableValue<ElementRowViewModel<? extends CapellaElement>> selectedCapellaElementObservable;
     private ICapellaMappedElementListViewViewModel mappedElementListViewViewModel;
     private ICapellaTransactionService transactionService;
+    private ISuggestionService suggestionService;
     private Collection<Thing> elements;
     
     @BeforeEach
@@ -130,6 +132,7 @@ class HubToDstMappingConfigurationDialogViewModelTestFixture
         this.elementDefinitionBrowser = mock(IElementDefinitionBrowserViewModel.class);
         this.requirementBrowserViewModel = mock(IRequirementBrowserViewModel.class);
         this.capellaObjectBrowser = mock(ICapellaObjectBrowserViewModel.class);
+        this.suggestionService = mock(ISuggestionService.class);
         this.mappedElementListViewViewModel = mock(ICapellaMappedElementListViewViewModel.class);
         this.transactionService = mock(ICapellaTransactionService.class);
         when(this.mappedElementListViewViewModel.GetSelectedElement()).thenReturn(Observable.empty());
@@ -167,7 +170,7 @@ class HubToDstMappingConfigurationDialogViewModelTestFixture
         this.SetupElements();
         
         this.viewModel = new HubToDstMappingConfigurationDialogViewModel(this.dstController, this.hubController, 
-                this.elementDefinitionBrowser, this.requirementBrowserViewModel, this.capellaObjectBrowser, this.transactionService, this.mappedElementListViewViewModel);
+                this.elementDefinitionBrowser, this.requirementBrowserViewModel, this.capellaObjectBrowser, this.transactionService, this.mappedElementListViewViewModel, this.suggestionService);
     }
 
     private Object AnswerToTransactionServiceCreate(InvocationOnMock invocationData)
@@ -45,7 +45,6 @@ import Utils.Ref;
 import ViewModels.ObjectBrowser.ElementDefinitionTree.Rows.ElementDefinitionRowViewModel;
 import ViewModels.ObjectBrowser.ElementDefinitionTree.Rows.IterationElementDefinitionRowViewModel;
 import ViewModels.ObjectBrowser.RequirementTree.Rows.IterationRequirementRowViewModel;
-import ViewModels.ObjectBrowser.Rows.IterationRowViewModel;
 import ViewModels.ObjectBrowser.Rows.ThingRowViewModel;
 import ViewModels.Rows.MappedElementRowViewModel;
 import ViewModels.Rows.MappedElementRowViewModel;
@@ -112,8 +111,7 @@ class ElementDefinitionImpactViewViewModelTestFixture
             timesTheBrowserTreeModelHasBeenUpdated.Set(timesTheBrowserTreeModelHasBeenUpdated.Get() + 1));
         
         this.dstMapResult.addAll(this.elements);
-        Callable<Integer> treeRows = () -> ((IterationRowViewModel)(this.viewModel.GetBrowserTreeModel().getRoot()))
-                                            .GetContainedRows().size();
+        Callable<Integer> treeRows = () -> this.viewModel.GetBrowserTreeModel().getChildCount(this.viewModel.GetBrowserTreeModel().getRoot());
         assertEquals(3, treeRows.call());
         this.dstMapResult.clear();
         assertEquals(0, treeRows.call());
@@ -125,6 +123,68 @@ class ElementDefinitionImpactViewViewModelTestFixture
         assertEquals(3, timesTheBrowserTreeModelHasBeenUpdated.Get());
     }
     
+    @Test
+    public void VerifyApplyMappedElementChanges() throws Exception
+    {
+        this.SetupModelElements();
+        this.iteration.getElement().add(this.elementDefinition0);
+        
+        Callable<Integer> treeRows = () -> this.viewModel.GetBrowserTreeModel().getChildCount(this.viewModel.GetBrowserTreeModel().getRoot());
+        
+        this.dstMapResult.addAll(Arrays.asList(this.mappedElement1));
+        assertEquals(2, treeRows.call());
+        this.dstMapResult.addAll(Arrays.asList(this.mappedElement0, this.mappedElement2));
+        assertEquals(3, treeRows.call());
+        
+        assertSame(this.mappedElement0.GetHubElement(), this.GetTopLevelRow(0).GetThing());
+        
+        for (var index = 0; index < treeRows.call(); index++)
+        {
+            assertTrue(this.GetTopLevelRow(index).GetIsHighlighted());
+        }
+        
+        this.dstMapResult.RemoveOne(this.mappedElement1);
+        assertEquals(2, treeRows.call());
+        this.dstMapResult.RemoveOne(this.mappedElement0);
+        assertEquals(2, treeRows.call());
+        assertSame(this.elementDefinition0, this.GetTopLevelRow(0).GetThing());
+        assertFalse(this.GetTopLevelRow(0).GetIsHighlighted());
+    }
+    
+    @Test
+    public void VerifyApplyMappedElementChangesUpdatesTheChangedRowsOnly() throws Exception
+    {
+        this.SetupModelElements();
+        this.iteration.getElement().add(this.elementDefinition0);
+        
+        var timesTheBrowserTreeModelHasBeenUpdated = new Ref<Integer>(Integer.class, 0);
+        
+        this.viewModel.browserTreeModel.Observable().subscribe(x -> 
+            timesTheBrowserTreeModelHasBeenUpdated.Set(timesTheBrowserTreeModelHasBeenUpdated.Get() + 1));
+        
+        this.dstMapResult.addAll(Arrays.asList(this.mappedElement1));
+        var model = this.viewModel.GetBrowserTreeModel();
+        var untouchedRow = this.GetTopLevelRow(1);
+        
+        this.dstMapResult.addAll(Arrays.asList(this.mappedElement0, this.mappedElement2));
+        assertSame(model, this.viewModel.GetBrowserTreeModel());
+        assertEquals(3, model.getChildCount(model.getRoot()));
+        assertSame(untouchedRow, this.GetTopLevelRow(1));
+        assertSame(this.mappedElement0.GetHubElement(), this.GetTopLevelRow(0).GetThing());
+        assertTrue(this.GetTopLevelRow(0).GetIsHighlighted());
+        
+        this.selectedDstMapResultForTransfer.add(this.elementDefinition2);
+        assertTrue(this.GetTopLevelRow(2).GetIsSelected());
+        this.selectedDstMapResultForTransfer.RemoveOne(this.elementDefinition2);
+        assertFalse(this.GetTopLevelRow(2).GetIsSelected());
+        
+        this.dstMapResult.RemoveOne(this.mappedElement2);
+        assertSame(model, this.viewModel.GetBrowserTreeModel());
+        assertEquals(2, model.getChildCount(model.getRoot()));
+        assertSame(untouchedRow, this.GetTopLevelRow(1));
+        assertEquals(1, timesTheBrowserTreeModelHasBeenUpdated.Get());
+    }
+    
     @Test
     public void VerifySwitchIsSelected()
     {
@@ -150,10 +210,12 @@ class ElementDefinitionImpactViewViewModelTestFixture
         this.iteration.getElement().add(this.elementDefinition2);
         when(this.hubController.GetOpenIteration()).thenReturn(this.iteration);
         this.viewModel.ComputeDifferences();
-        var rootRowViewModel = (IterationElementDefinitionRowViewModel)this.viewModel.GetBrowserTreeModel().getRoot();
-        rootRowViewModel.GetContainedRows().forEach(x -> x.SetIsHighlighted(true));
+        for (var index = 0; index < 3; index++)
+        {
+            this.GetTopLevelRow(index).SetIsHighlighted(true);
+        }
                 
-        ThingRowViewModel<? extends Thing> elementDefinitionRow = rootRowViewModel.GetContainedRows().get(0);
+        ThingRowViewModel<? extends Thing> elementDefinitionRow = this.GetTopLevelRow(0);
         ThingRowViewModel<Thing> thingRowViewModelBeautifullyCasted = (ThingRowViewModel<Thing>) elementDefinitionRow;
         
         assertFalse(elementDefinitionRow.GetIsSelected());
@@ -164,7 +226,36 @@ class ElementDefinitionImpactViewViewModelTestFixture
         assertTrue(elementDefinitionRow.GetIsSelected());
         assertDoesNotThrow(() -> this.viewModel.OnSelectionChanged(thingRowViewModelBeautifullyCasted));
         assertFalse(elementDefinitionRow.GetIsSelected());
-        verify(this.dstController, times(9)).GetSelectedDstMapResultForTransfer();
+        verify(this.dstController, times(5)).GetSelectedDstMapResultForTransfer();
+    }
+    
+    @Test
+    public void VerifyTopLevelRowsAreCreatedWhenTheTreeAsksForThem()
+    {
+        this.SetupModelElements();
+        this.iteration.getElement().addAll(Arrays.asList(this.elementDefinition0, this.elementDefinition1, this.elementDefinition2));
+        this.selectedDstMapResultForTransfer.add(this.elementDefinition1);
+        this.dstMapResult.addAll(Arrays.asList(this.mappedElement2));
+        
+        var model = this.viewModel.GetBrowserTreeModel();
+        var rootRowViewModel = (IterationElementDefinitionRowViewModel)model.getRoot();
+        assertTrue(rootRowViewModel.GetContainedRows().isEmpty());
+        assertEquals(3, model.getChildCount(rootRowViewModel));
+        assertSame(rootRowViewModel, this.GetTopLevelRow(1).GetParent());
+        assertTrue(this.GetTopLevelRow(1).GetIsSelected());
+        assertFalse(this.GetTopLevelRow(1).GetIsHighlighted());
+        assertTrue(this.GetTopLevelRow(2).GetIsHighlighted());
+        assertFalse(this.GetTopLevelRow(2).GetIsSelected());
+        
+        this.selectedDstMapResultForTransfer.clear();
+        assertFalse(this.GetTopLevelRow(1).GetIsSelected());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ThingRowViewModel<? extends Thing> GetTopLevelRow(int index)
+    {
+        var model = this.viewModel.GetBrowserTreeModel();
+        return (ThingRowViewModel<? extends Thing>)model.getChild(model.getRoot(), index);
     }
     
     private void SetupModelElements()
@@ -48,9 +48,7 @@ import Utils.Ref;
 import ViewModels.Interfaces.IMappedElementRowViewModel;
 import ViewModels.ObjectBrowser.ElementDefinitionTree.Rows.ElementDefinitionRowViewModel;
 import ViewModels.ObjectBrowser.Interfaces.IHaveContainedRows;
-import ViewModels.ObjectBrowser.RequirementTree.Rows.IterationRequirementRowViewModel;
 import ViewModels.ObjectBrowser.RequirementTree.Rows.RequirementSpecificationRowViewModel;
-import ViewModels.ObjectBrowser.Rows.IterationRowViewModel;
 import ViewModels.ObjectBrowser.Rows.ThingRowViewModel;
 import ViewModels.Rows.MappedDstRequirementRowViewModel;
 import ViewModels.Rows.MappedElementRowViewModel;
@@ -125,8 +123,8 @@ class RequirementImpactViewViewModelTestFixture
         
         this.dstMapResult.addAll(elements);
         
-        Callable<Integer> treeRows = () -> ((IHaveContainedRows<?>)((IterationRowViewModel)(this.viewModel.GetBrowserTreeModel().getRoot()))
-                                            .GetContainedRows().get(0)).GetContainedRows().size();
+        Callable<Integer> treeRows = () -> ((IHaveContainedRows<?>)this.viewModel.GetBrowserTreeModel()
+                                            .getChild(this.viewModel.GetBrowserTreeModel().getRoot(), 0)).GetContainedRows().size();
         assertEquals(3, treeRows.call());
 
         this.iteration.getRequirementsSpecification().add(this.requirementsSpecification);
@@ -148,7 +146,8 @@ class RequirementImpactViewViewModelTestFixture
         this.iteration.getRequirementsSpecification().add(this.requirementsSpecification);
         when(this.hubController.GetOpenIteration()).thenReturn(this.iteration);
         this.viewModel.ComputeDifferences();
-        ThingRowViewModel<? extends Thing> requirementSpecificationRow = ((IterationRequirementRowViewModel)this.viewModel.GetBrowserTreeModel().getRoot()).GetContainedRows().get(0);
+        var model = this.viewModel.GetBrowserTreeModel();
+        ThingRowViewModel<? extends Thing> requirementSpecificationRow = (ThingRowViewModel<? extends Thing>)model.getChild(model.getRoot(), 0);
         ((IHaveContainedRows<?extends ThingRowViewModel<?>>)requirementSpecificationRow).GetContainedRows().forEach(x -> x.SetIsHighlighted(true));
         requirementSpecificationRow.SetIsHighlighted(true);
         assertFalse(requirementSpecificationRow.GetIsSelected());
@@ -166,7 +165,7 @@ class RequirementImpactViewViewModelTestFixture
                 ((IHaveContainedRows<?extends ThingRowViewModel<?>>)requirementSpecificationRow).GetContainedRows().get(0)));
         
         assertTrue(((IHaveContainedRows<?extends ThingRowViewModel<?>>)requirementSpecificationRow).GetContainedRows().stream().anyMatch(x -> !x.GetIsSelected()));
-        verify(this.dstController, times(13)).GetSelectedDstMapResultForTransfer();
+        verify(this.dstController, times(9)).GetSelectedDstMapResultForTransfer();
     }
     
     private void SetupModelElements()
@@ -49,6 +49,7 @@ import Reactive.ObservableValue;
 import Services.CapellaLog.ICapellaLogService;
 import Services.HistoryService.ICapellaLocalExchangeHistoryService;
 import Services.LocalExchangeHistory.ILocalExchangeHistoryService;
+import Services.Metrics.MetricsService;
 import cdp4common.commondata.Thing;
 import cdp4common.engineeringmodeldata.ElementDefinition;
 import io.reactivex.Observable;
@@ -84,7 +85,7 @@ class TransferControlViewModelTestFixture
         when(this.dstController.GetSelectedDstMapResultForTransfer()).thenReturn(dstMapResult);
         when(this.dstController.GetSelectedHubMapResultForTransfer()).thenReturn(new ObservableCollection<CapellaElement>());
                 
-        this.viewModel = new TransferControlViewModel(this.dstController, this.logService, this.transferHistory);
+        this.viewModel = new TransferControlViewModel(this.dstController, this.logService, this.transferHistory, new MetricsService());
     }
 
     @Test
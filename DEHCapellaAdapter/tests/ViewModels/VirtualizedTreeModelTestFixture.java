@@ -0,0 +1,149 @@
+/*
+ * VirtualizedTreeModelTestFixture.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package ViewModels;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreePath;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import Utils.Ref;
+
+class VirtualizedTreeModelTestFixture
+{
+    private VirtualizedTreeModel<String> treeModel;
+    private List<String> items;
+    private Object root;
+    private Ref<Integer> timesARowHasBeenCreated;
+    private List<Object> releasedRows;
+    private TreeModelListener listener;
+
+    @BeforeEach
+    public void setUp() throws Exception
+    {
+        this.root = new Object();
+        this.items = new ArrayList<>(Arrays.asList("item0", "item1", "item2"));
+        this.timesARowHasBeenCreated = new Ref<Integer>(Integer.class, 0);
+        this.releasedRows = new ArrayList<>();
+        this.listener = mock(TreeModelListener.class);
+        
+        this.treeModel = new VirtualizedTreeModel<String>(this.root, this.items, (item, parent) -> 
+        {
+            this.timesARowHasBeenCreated.Set(this.timesARowHasBeenCreated.Get() + 1);
+            return new StringBuilder(item);
+        }, this.releasedRows::add, 1);
+        
+        this.treeModel.addTreeModelListener(this.listener);
+    }
+
+    @Test
+    public void VerifyRowsAreCreatedWhenTheTreeAsksForThem()
+    {
+        assertEquals(3, this.treeModel.getChildCount(this.root));
+        assertEquals(0, this.timesARowHasBeenCreated.Get());
+        
+        var row0 = this.treeModel.getChild(this.root, 0);
+        assertSame(row0, this.treeModel.getChild(this.root, 0));
+        assertEquals(1, this.timesARowHasBeenCreated.Get());
+        assertEquals(0, this.treeModel.getIndexOfChild(this.root, row0));
+        assertTrue(this.treeModel.isLeaf(row0));
+        assertNull(this.treeModel.getChild(this.root, 3));
+        
+        this.items.add(0, "item3");
+        assertEquals(4, this.treeModel.getChildCount(this.root));
+        assertEquals(1, this.treeModel.getIndexOfChild(this.root, row0));
+    }
+
+    @Test
+    public void VerifyCollapsedRowsAreReleased()
+    {
+        var row0 = this.treeModel.getChild(this.root, 0);
+        this.treeModel.treeExpanded(new TreeExpansionEvent(this, new TreePath(new Object[] { this.root, row0 })));
+        var row1 = this.treeModel.getChild(this.root, 1);
+        
+        assertSame(row0, this.treeModel.GetResidentRow("item0"));
+        assertSame(row1, this.treeModel.GetResidentRow("item1"));
+        
+        this.treeModel.treeCollapsed(new TreeExpansionEvent(this, new TreePath(new Object[] { this.root, row0 })));
+        assertNull(this.treeModel.GetResidentRow("item0"));
+        assertEquals(1, this.treeModel.GetResidentRows().size());
+        
+        this.treeModel.getChild(this.root, 2);
+        assertNull(this.treeModel.GetResidentRow("item1"));
+        assertEquals(-1, this.treeModel.getIndexOfChild(this.root, row1));
+        assertNotSame(row0, this.treeModel.getChild(this.root, 0));
+        assertEquals(4, this.timesARowHasBeenCreated.Get());
+        assertEquals(Arrays.asList(row0, row1), this.releasedRows.subList(0, 2));
+        
+        verify(this.listener).treeStructureChanged(argThat(x -> x.getTreePath().equals(new TreePath(new Object[] { this.root, row0 }))));
+        verify(this.listener).treeStructureChanged(argThat(x -> x.getTreePath().equals(new TreePath(new Object[] { this.root, row1 }))));
+    }
+
+    @Test
+    public void VerifyRelease()
+    {
+        var row0 = this.treeModel.getChild(this.root, 0);
+        this.treeModel.Release("item0");
+        assertNull(this.treeModel.GetResidentRow("item0"));
+        assertEquals(Arrays.asList(row0), this.releasedRows);
+        verify(this.listener).treeStructureChanged(any(TreeModelEvent.class));
+        assertNotSame(row0, this.treeModel.getChild(this.root, 0));
+    }
+
+    @Test
+    public void VerifyItemChangesAreNotified()
+    {
+        var row0 = this.treeModel.getChild(this.root, 0);
+        
+        this.items.set(0, "item3");
+        this.treeModel.ItemReplaced(0, "item0");
+        var row3 = this.treeModel.GetResidentRow("item3");
+        assertNotNull(row3);
+        assertEquals(Arrays.asList(row0), this.releasedRows);
+        verify(this.listener).treeNodesChanged(argThat(x -> x.getChildIndices()[0] == 0 && x.getChildren()[0] == row3));
+        
+        this.items.add(1, "item4");
+        this.treeModel.ItemInserted(1);
+        verify(this.listener).treeNodesInserted(argThat(x -> x.getChildIndices()[0] == 1 && x.getChildren()[0] == this.treeModel.GetResidentRow("item4")));
+        
+        var removedItem = this.items.remove(2);
+        this.treeModel.ItemRemoved(2, removedItem);
+        verify(this.listener).treeNodesRemoved(argThat(x -> x.getChildIndices()[0] == 2 && x.getChildren()[0] instanceof StringBuilder
+                && x.getChildren()[0].toString().equals("item1")));
+        
+        assertEquals(2, this.treeModel.getIndexOfChild(this.root, this.treeModel.getChild(this.root, 2)));
+        verify(this.listener, never()).treeStructureChanged(argThat(x -> x.getTreePath().getPathCount() == 1));
+    }
+}
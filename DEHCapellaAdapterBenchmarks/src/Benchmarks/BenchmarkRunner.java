@@ -0,0 +1,48 @@
+/*
+ * BenchmarkRunner.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * The {@linkplain BenchmarkRunner} is the entry point of the benchmarks, it accepts the JMH command line options
+ */
+public final class BenchmarkRunner
+{
+    /**
+     * Initializes a new {@linkplain BenchmarkRunner}
+     */
+    private BenchmarkRunner() { }
+
+    /**
+     * Runs the benchmarks matching the provided JMH options
+     * 
+     * @param arguments the JMH command line options
+     * @throws Exception can throw any exception raised by JMH
+     */
+    public static void main(String[] arguments) throws Exception
+    {
+        Main.main(arguments);
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * BenchmarkServices.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.sirius.business.api.session.Session;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+
+import App.AppContainer;
+import DstController.DstController;
+import DstController.IDstController;
+import Enumerations.CapellaArchitecture;
+import HubController.IHubController;
+import Services.CapellaLog.ICapellaLogService;
+import Services.CapellaSession.CapellaReferenceDataCatalog;
+import Services.CapellaSession.ICapellaSessionService;
+import Services.CapellaTransaction.CapellaTransactionService;
+import Services.CapellaTransaction.ICapellaTransactionService;
+import Services.CapellaUserPreference.ICapellaUserPreferenceService;
+import Services.CapellaUserPreference.UserPreferenceKey;
+import Services.HistoryService.ICapellaLocalExchangeHistoryService;
+import Services.MappingConfiguration.CapellaMappingConfigurationService;
+import Services.MappingConfiguration.ICapellaMappingConfigurationService;
+import Services.MappingEngineService.IMappingEngineService;
+import Services.MappingSnapshot.IMappingSnapshotService;
+import Services.Metrics.MetricsService;
+import Services.NameKey.NameKeyService;
+import Services.NavigationService.INavigationService;
+import Utils.Ref;
+import cdp4common.commondata.Thing;
+import cdp4common.engineeringmodeldata.ExternalIdentifierMap;
+import io.reactivex.Observable;
+
+/**
+ * The {@linkplain BenchmarkServices} wires the adapter services around a {@linkplain SyntheticModel}.
+ * The services that would require a Sirius session or a Hub connection are replaced by stub only mocks answering from the {@linkplain SyntheticModel}
+ */
+public final class BenchmarkServices
+{
+    /**
+     * The {@linkplain SyntheticModel}
+     */
+    private final SyntheticModel model;
+
+    /**
+     * The {@linkplain IHubController}
+     */
+    private final IHubController hubController;
+
+    /**
+     * The {@linkplain ICapellaSessionService}
+     */
+    private final ICapellaSessionService sessionService;
+
+    /**
+     * The {@linkplain ICapellaTransactionService}
+     */
+    private final ICapellaTransactionService transactionService;
+
+    /**
+     * The {@linkplain ICapellaMappingConfigurationService}
+     */
+    private final ICapellaMappingConfigurationService mappingConfigurationService;
+
+    /**
+     * The {@linkplain IDstController}
+     */
+    private final IDstController dstController;
+
+    /**
+     * Initializes a new {@linkplain BenchmarkServices} and registers the {@linkplain IDstController} in the {@linkplain AppContainer}
+     * so that the mapping rules can resolve it
+     * 
+     * @param model the {@linkplain SyntheticModel}
+     */
+    public BenchmarkServices(SyntheticModel model)
+    {
+        this.model = model;
+        this.hubController = this.CreateHubController();
+        this.sessionService = this.CreateSessionService();
+        this.transactionService = new CapellaTransactionService(this.sessionService);
+        this.mappingConfigurationService = mock(ICapellaMappingConfigurationService.class, withSettings().stubOnly());
+
+        var userPreferenceService = mock(ICapellaUserPreferenceService.class, withSettings().stubOnly());
+        when(userPreferenceService.Get(any(UserPreferenceKey.class), eq(Boolean.class), any())).thenReturn(true);
+
+        this.dstController = new DstController(mock(IMappingEngineService.class, withSettings().stubOnly()), this.hubController, 
+                mock(ICapellaLogService.class, withSettings().stubOnly()), this.mappingConfigurationService, this.sessionService, 
+                this.transactionService, mock(ICapellaLocalExchangeHistoryService.class, withSettings().stubOnly()), 
+                userPreferenceService, mock(INavigationService.class, withSettings().stubOnly()), new MetricsService(), new NameKeyService());
+
+        AppContainer.Container.removeComponent(IDstController.class);
+        AppContainer.Container.addComponent(IDstController.class, this.dstController);
+    }
+
+    /**
+     * Gets the {@linkplain IHubController}
+     * 
+     * @return the {@linkplain IHubController}
+     */
+    public IHubController GetHubController()
+    {
+        return this.hubController;
+    }
+
+    /**
+     * Gets the {@linkplain ICapellaSessionService}
+     * 
+     * @return the {@linkplain ICapellaSessionService}
+     */
+    public ICapellaSessionService GetSessionService()
+    {
+        return this.sessionService;
+    }
+
+    /**
+     * Gets the {@linkplain ICapellaTransactionService}
+     * 
+     * @return the {@linkplain ICapellaTransactionService}
+     */
+    public ICapellaTransactionService GetTransactionService()
+    {
+        return this.transactionService;
+    }
+
+    /**
+     * Gets the {@linkplain ICapellaMappingConfigurationService}
+     * 
+     * @return the {@linkplain ICapellaMappingConfigurationService}
+     */
+    public ICapellaMappingConfigurationService GetMappingConfigurationService()
+    {
+        return this.mappingConfigurationService;
+    }
+
+    /**
+     * Gets the {@linkplain IDstController}
+     * 
+     * @return the {@linkplain IDstController}
+     */
+    public IDstController GetDstController()
+    {
+        return this.dstController;
+    }
+
+    /**
+     * Creates a {@linkplain CapellaMappingConfigurationService} bound to the {@linkplain SyntheticModel} {@linkplain ExternalIdentifierMap}
+     * and loaded with all the {@linkplain SyntheticModel} correspondences
+     * 
+     * @return a new {@linkplain CapellaMappingConfigurationService}
+     */
+    public CapellaMappingConfigurationService CreateMappingConfigurationService()
+    {
+        return this.CreateMappingConfigurationService(mock(IMappingSnapshotService.class, withSettings().stubOnly()));
+    }
+
+    /**
+     * Creates a {@linkplain CapellaMappingConfigurationService} bound to the {@linkplain SyntheticModel} {@linkplain ExternalIdentifierMap}
+     * and loaded with all the {@linkplain SyntheticModel} correspondences that uses the provided {@linkplain IMappingSnapshotService}
+     * 
+     * @param snapshotService the {@linkplain IMappingSnapshotService}
+     * @return a new {@linkplain CapellaMappingConfigurationService}
+     */
+    public CapellaMappingConfigurationService CreateMappingConfigurationService(IMappingSnapshotService snapshotService)
+    {
+        var service = new CapellaMappingConfigurationService(this.hubController, this.sessionService, this.transactionService, new MetricsService(), snapshotService);
+        service.SetExternalIdentifierMap(this.model.GetExternalIdentifierMap());
+
+        for (var correspondence : this.model.GetCorrespondences())
+        {
+            var externalIdentifier = correspondence.getRight();
+            service.AddToExternalIdentifierMap(correspondence.getLeft(), externalIdentifier.Identifier, 
+                    externalIdentifier.TargetArchitecture, externalIdentifier.MappingDirection);
+        }
+
+        return service;
+    }
+
+    /**
+     * Creates the {@linkplain IHubController} that answers from the {@linkplain SyntheticModel} iteration
+     * 
+     * @return the {@linkplain IHubController}
+     */
+    @SuppressWarnings("unchecked")
+    private IHubController CreateHubController()
+    {
+        var hubController = mock(IHubController.class, withSettings().stubOnly());
+        when(hubController.GetOpenIteration()).thenReturn(this.model.GetIteration());
+        when(hubController.GetDehpOrModelReferenceDataLibrary()).thenReturn(this.model.GetReferenceDataLibrary());
+        when(hubController.GetIsSessionOpenObservable()).thenReturn(Observable.never());
+        when(hubController.GetSessionEventObservable()).thenReturn(Observable.never());
+
+        when(hubController.TryGetThingById(any(UUID.class), any(Ref.class))).thenAnswer(x -> 
+        {
+            var thing = this.model.GetThing(x.getArgument(0, UUID.class));
+            var refThing = (Ref<Thing>)x.getArgument(1, Ref.class);
+
+            if(thing != null && refThing.GetType().isInstance(thing))
+            {
+                refThing.Set(thing);
+            }
+
+            return refThing.HasValue();
+        });
+
+        when(hubController.TryGetThingFromChainOfRdlBy(any(Predicate.class), any(Ref.class))).thenAnswer(x -> 
+        {
+            var predicate = (Predicate<Thing>)x.getArgument(0, Predicate.class);
+            var refThing = (Ref<Thing>)x.getArgument(1, Ref.class);
+            var referenceDataLibrary = this.model.GetReferenceDataLibrary();
+
+            Stream.of(referenceDataLibrary.getParameterType(), referenceDataLibrary.getScale(), referenceDataLibrary.getUnit())
+                .flatMap(List::stream)
+                .filter(t -> refThing.GetType().isInstance(t) && predicate.test(t))
+                .findFirst()
+                .ifPresent(refThing::Set);
+
+            return refThing.HasValue();
+        });
+
+        return hubController;
+    }
+
+    /**
+     * Creates the {@linkplain ICapellaSessionService} that exposes the {@linkplain SyntheticModel} as the only open session
+     * 
+     * @return the {@linkplain ICapellaSessionService}
+     */
+    @SuppressWarnings("unchecked")
+    private ICapellaSessionService CreateSessionService()
+    {
+        var sessionService = mock(ICapellaSessionService.class, withSettings().stubOnly());
+        var elementsBySession = new HashMap<URI, List<CapellaElement>>();
+        elementsBySession.put(this.model.GetModelUri(), this.model.GetCapellaElements());
+        var referenceDataCatalog = new CapellaReferenceDataCatalog(this.model.GetProject().eAllContents());
+
+        var elementsById = new HashMap<String, CapellaElement>();
+        this.model.GetCapellaElements().forEach(x -> elementsById.put(x.getId(), x));
+
+        when(sessionService.GetAllCapellaElementsFromOpenSessions()).thenReturn(elementsBySession);
+        when(sessionService.GetElementHash(any())).thenReturn("synthetic");
+        when(sessionService.GetCapellaElementsFromOpenSessions(any())).thenAnswer(x -> 
+        {
+            var elements = new HashMap<URI, List<CapellaElement>>();
+            elements.put(this.model.GetModelUri(), ((Collection<String>)x.getArgument(0)).stream()
+                    .map(elementsById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+            return elements;
+        });
+        when(sessionService.GetReferenceDataCatalog(any())).thenReturn(referenceDataCatalog);
+        when(sessionService.SessionUpdated()).thenReturn(Observable.<Session>never());
+        when(sessionService.HasAnyOpenSessionObservable()).thenReturn(Observable.never());
+        when(sessionService.HasAnyOpenSession()).thenReturn(true);
+        when(sessionService.GetProject()).thenReturn(this.model.GetProject());
+        when(sessionService.GetProject(any(CapellaElement.class))).thenReturn(this.model.GetProject());
+        when(sessionService.GetTopElement()).thenReturn(this.model.GetRootComponent());
+        when(sessionService.GetTopElement(any(CapellaElement.class))).thenReturn(this.model.GetRootComponent());
+        when(sessionService.GetTopElement(any(CapellaArchitecture.class))).thenAnswer(x -> 
+                x.getArgument(0) == CapellaArchitecture.LogicalArchitecture 
+                    ? this.model.GetLogicalRootComponent() 
+                    : this.model.GetRootComponent());
+        when(sessionService.GetArchitectureInstance(any(CapellaArchitecture.class))).thenAnswer(x -> 
+                x.getArgument(0) == CapellaArchitecture.LogicalArchitecture 
+                    ? this.model.GetLogicalArchitecture() 
+                    : this.model.GetPhysicalArchitecture());
+        return sessionService;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * DstControllerBenchmarks.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+
+import DstController.IDstController;
+import Utils.Ref;
+
+/**
+ * The {@linkplain DstControllerBenchmarks} measures the {@linkplain IDstController#TryGetElementBy} lookups against the {@linkplain SyntheticModel}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DstControllerBenchmarks
+{
+    @Benchmark
+    public boolean TryGetLastElementById(SyntheticModelState state)
+    {
+        var components = state.model.GetComponents();
+        var elementId = components.get(components.size() - 1).getId();
+        return state.services.GetDstController().TryGetElementById(elementId, new Ref<>(PhysicalComponent.class));
+    }
+
+    @Benchmark
+    public boolean TryGetMissingElementById(SyntheticModelState state)
+    {
+        var elementId = UUID.randomUUID().toString();
+        return state.services.GetDstController().TryGetElementById(elementId, new Ref<>(CapellaElement.class));
+    }
+
+    @Benchmark
+    public boolean TryGetLastElementByName(SyntheticModelState state)
+    {
+        var elementDefinitions = state.model.GetElementDefinitions();
+        var elementDefinition = elementDefinitions.get(elementDefinitions.size() - 1);
+        return state.services.GetDstController().TryGetElementByName(elementDefinition, new Ref<>(PhysicalComponent.class));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MappingConfigurationBenchmarks.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Services.MappingConfiguration.CapellaMappingConfigurationService;
+import Services.MappingSnapshot.IMappingSnapshotService;
+import Services.MappingSnapshot.MappingSnapshotEntry;
+import ViewModels.Interfaces.IMappedElementRowViewModel;
+import cdp4common.engineeringmodeldata.ExternalIdentifierMap;
+
+/**
+ * The {@linkplain MappingConfigurationBenchmarks} measures the {@linkplain CapellaMappingConfigurationService#LoadMapping()} 
+ * with one correspondence per generated element, with and without a saved mapping snapshot
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MappingConfigurationBenchmarks
+{
+    /**
+     * The {@linkplain MappingConfiguration} holds a {@linkplain CapellaMappingConfigurationService} loaded with the correspondences
+     */
+    @State(Scope.Thread)
+    public static class MappingConfiguration
+    {
+        CapellaMappingConfigurationService service;
+
+        /**
+         * Loads the {@linkplain SyntheticModel} {@linkplain ExternalIdentifierMap} once per trial
+         * 
+         * @param state the {@linkplain SyntheticModelState}
+         */
+        @Setup(Level.Trial)
+        public void CreateService(SyntheticModelState state)
+        {
+            this.service = state.services.CreateMappingConfigurationService();
+        }
+    }
+
+    /**
+     * The {@linkplain SnapshotMappingConfiguration} holds a {@linkplain CapellaMappingConfigurationService} loaded with the correspondences 
+     * for which a mapping snapshot has been saved
+     */
+    @State(Scope.Thread)
+    public static class SnapshotMappingConfiguration
+    {
+        CapellaMappingConfigurationService service;
+
+        /**
+         * Loads the {@linkplain SyntheticModel} {@linkplain ExternalIdentifierMap} once per trial and saves its mapping snapshot
+         * 
+         * @param state the {@linkplain SyntheticModelState}
+         */
+        @Setup(Level.Trial)
+        public void CreateService(SyntheticModelState state)
+        {
+            state.model.GetExternalIdentifierMap().setRevisionNumber(1);
+            this.service = state.services.CreateMappingConfigurationService(new InMemoryMappingSnapshotService());
+            this.service.LoadMapping();
+        }
+    }
+
+    /**
+     * The {@linkplain InMemoryMappingSnapshotService} is the {@linkplain IMappingSnapshotService} that keeps the snapshots in memory
+     */
+    static class InMemoryMappingSnapshotService implements IMappingSnapshotService
+    {
+        private final HashMap<UUID, ArrayList<MappingSnapshotEntry>> snapshots = new HashMap<>();
+
+        @Override
+        public Collection<MappingSnapshotEntry> Get(UUID externalIdentifierMapIid)
+        {
+            return this.snapshots.getOrDefault(externalIdentifierMapIid, new ArrayList<>());
+        }
+
+        @Override
+        public void Save(UUID externalIdentifierMapIid, Collection<MappingSnapshotEntry> entries)
+        {
+            this.snapshots.put(externalIdentifierMapIid, new ArrayList<>(entries));
+        }
+    }
+
+    @Benchmark
+    public Collection<IMappedElementRowViewModel> LoadMapping(MappingConfiguration mappingConfiguration)
+    {
+        return mappingConfiguration.service.LoadMapping();
+    }
+
+    @Benchmark
+    public Collection<IMappedElementRowViewModel> LoadMappingFromSnapshot(SnapshotMappingConfiguration mappingConfiguration)
+    {
+        return mappingConfiguration.service.LoadMapping();
+    }
+}
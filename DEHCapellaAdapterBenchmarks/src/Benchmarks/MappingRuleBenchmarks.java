@@ -0,0 +1,192 @@
+/*
+ * MappingRuleBenchmarks.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Enumerations.CapellaArchitecture;
+import Enumerations.MappingDirection;
+import MappingRules.BinaryRelationshipToCapellaTraces;
+import MappingRules.CapellaTracesToBinaryRelationship;
+import MappingRules.ComponentToElementMappingRule;
+import MappingRules.ElementToComponentMappingRule;
+import MappingRules.RequirementToRequirementsSpecificationMappingRule;
+import MappingRules.RequirementsSpecificationToRequirementMappingRule;
+import Services.Metrics.MetricsService;
+import Services.NameKey.NameKeyService;
+import Utils.Stereotypes.CapellaComponentCollection;
+import Utils.Stereotypes.CapellaRequirementCollection;
+import Utils.Stereotypes.CapellaTracedElementCollection;
+import Utils.Stereotypes.HubElementCollection;
+import Utils.Stereotypes.HubRelationshipElementsCollection;
+import Utils.Stereotypes.HubRequirementCollection;
+import ViewModels.Rows.MappedDstRequirementRowViewModel;
+import ViewModels.Rows.MappedElementDefinitionRowViewModel;
+import ViewModels.Rows.MappedHubRequirementRowViewModel;
+
+/**
+ * The {@linkplain MappingRuleBenchmarks} measures the {@code Transform} of each mapping rule against the {@linkplain SyntheticModel}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MappingRuleBenchmarks
+{
+    /**
+     * The {@linkplain RuleInputs} holds the mapping rules and a fresh input collection per invocation,
+     * because the rules update the mapped rows they are provided with
+     */
+    @State(Scope.Thread)
+    public static class RuleInputs
+    {
+        ComponentToElementMappingRule componentToElement;
+        ElementToComponentMappingRule elementToComponent;
+        RequirementToRequirementsSpecificationMappingRule requirementToRequirementsSpecification;
+        RequirementsSpecificationToRequirementMappingRule requirementsSpecificationToRequirement;
+        CapellaTracesToBinaryRelationship capellaTracesToBinaryRelationship;
+        BinaryRelationshipToCapellaTraces binaryRelationshipToCapellaTraces;
+
+        CapellaComponentCollection components;
+        HubElementCollection elementDefinitions;
+        CapellaRequirementCollection requirements;
+        HubRequirementCollection hubRequirements;
+        CapellaTracedElementCollection tracedElements;
+        HubRelationshipElementsCollection relatedElements;
+
+        /**
+         * Initializes the mapping rules once per trial
+         * 
+         * @param state the {@linkplain SyntheticModelState}
+         */
+        @Setup(Level.Trial)
+        public void CreateRules(SyntheticModelState state)
+        {
+            var services = state.services;
+            var hubController = services.GetHubController();
+            var mappingConfiguration = services.GetMappingConfigurationService();
+            var transactionService = services.GetTransactionService();
+            var metricsService = new MetricsService();
+            var nameKeyService = new NameKeyService();
+
+            this.componentToElement = new ComponentToElementMappingRule(hubController, mappingConfiguration, metricsService, nameKeyService);
+            this.elementToComponent = new ElementToComponentMappingRule(hubController, mappingConfiguration, services.GetSessionService(), transactionService, metricsService);
+            this.requirementToRequirementsSpecification = new RequirementToRequirementsSpecificationMappingRule(hubController, mappingConfiguration, metricsService, nameKeyService);
+            this.requirementsSpecificationToRequirement = new RequirementsSpecificationToRequirementMappingRule(hubController, mappingConfiguration, transactionService, metricsService);
+            this.capellaTracesToBinaryRelationship = new CapellaTracesToBinaryRelationship(hubController, mappingConfiguration, metricsService);
+            this.binaryRelationshipToCapellaTraces = new BinaryRelationshipToCapellaTraces(hubController, mappingConfiguration, transactionService, metricsService);
+        }
+
+        /**
+         * Creates fresh input collections before each invocation
+         * 
+         * @param state the {@linkplain SyntheticModelState}
+         */
+        @Setup(Level.Invocation)
+        public void CreateInputs(SyntheticModelState state)
+        {
+            var model = state.model;
+            this.components = new CapellaComponentCollection();
+            this.elementDefinitions = new HubElementCollection();
+            this.requirements = new CapellaRequirementCollection();
+            this.hubRequirements = new HubRequirementCollection();
+            this.tracedElements = new CapellaTracedElementCollection();
+            this.relatedElements = new HubRelationshipElementsCollection();
+
+            for (var index = 0; index < model.GetComponents().size(); index++)
+            {
+                var component = model.GetComponents().get(index);
+                var elementDefinition = model.GetElementDefinitions().get(index);
+
+                this.components.add(new MappedElementDefinitionRowViewModel(component, MappingDirection.FromDstToHub));
+
+                var mappedElementDefinition = new MappedElementDefinitionRowViewModel(elementDefinition, MappingDirection.FromHubToDst);
+                mappedElementDefinition.SetTargetArchitecture(CapellaArchitecture.PhysicalArchitecture);
+                this.elementDefinitions.add(mappedElementDefinition);
+
+                this.tracedElements.add(new MappedElementDefinitionRowViewModel(elementDefinition, component, MappingDirection.FromDstToHub));
+                this.relatedElements.add(new MappedElementDefinitionRowViewModel(elementDefinition, component, MappingDirection.FromHubToDst));
+            }
+
+            for (var index = 0; index < model.GetRequirements().size(); index++)
+            {
+                this.requirements.add(new MappedDstRequirementRowViewModel(model.GetRequirements().get(index), MappingDirection.FromDstToHub));
+
+                var mappedHubRequirement = new MappedHubRequirementRowViewModel(model.GetHubRequirements().get(index), MappingDirection.FromHubToDst);
+                mappedHubRequirement.SetTargetArchitecture(CapellaArchitecture.PhysicalArchitecture);
+                this.hubRequirements.add(mappedHubRequirement);
+            }
+        }
+    }
+
+    @Benchmark
+    public ArrayList<?> ComponentToElement(RuleInputs inputs)
+    {
+        return inputs.componentToElement.Transform(inputs.components);
+    }
+
+    @Benchmark
+    public ArrayList<?> ElementToComponent(RuleInputs inputs)
+    {
+        return inputs.elementToComponent.Transform(inputs.elementDefinitions);
+    }
+
+    @Benchmark
+    public ArrayList<?> RequirementToRequirementsSpecification(RuleInputs inputs)
+    {
+        return inputs.requirementToRequirementsSpecification.Transform(inputs.requirements);
+    }
+
+    @Benchmark
+    public ArrayList<?> RequirementsSpecificationToRequirement(RuleInputs inputs)
+    {
+        return inputs.requirementsSpecificationToRequirement.Transform(inputs.hubRequirements);
+    }
+
+    @Benchmark
+    public ArrayList<?> CapellaTracesToBinaryRelationship(RuleInputs inputs)
+    {
+        return inputs.capellaTracesToBinaryRelationship.Transform(inputs.tracedElements);
+    }
+
+    @Benchmark
+    public ArrayList<?> BinaryRelationshipToCapellaTraces(RuleInputs inputs)
+    {
+        return inputs.binaryRelationshipToCapellaTraces.Transform(inputs.relatedElements);
+    }
+}
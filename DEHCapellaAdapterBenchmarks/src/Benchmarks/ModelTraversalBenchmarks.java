@@ -0,0 +1,126 @@
+/*
+ * ModelTraversalBenchmarks.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.sirius.business.api.session.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Enumerations.ModelTraversalMode;
+import Services.CapellaSession.CapellaSessionService;
+import Services.CapellaSession.ICapellaSessionListenerService;
+import Services.CapellaSession.ISiriusSessionManagerWrapper;
+import Services.Metrics.MetricsService;
+import io.reactivex.Observable;
+
+/**
+ * The {@linkplain ModelTraversalBenchmarks} compares going through all the elements of the {@linkplain SyntheticModel} 
+ * with the {@linkplain ModelTraversalMode#Serial} traversal against the {@linkplain ModelTraversalMode#Parallel} one
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ModelTraversalBenchmarks
+{
+    /**
+     * The {@linkplain ModelTraversal} holds a {@linkplain CapellaSessionService} whose only open session is the {@linkplain SyntheticModel}
+     */
+    @State(Scope.Thread)
+    public static class ModelTraversal
+    {
+        TransactionalEditingDomain editingDomain;
+        CapellaSessionService service;
+
+        /**
+         * Opens the {@linkplain SyntheticModel} in a {@linkplain TransactionalEditingDomain} once per trial
+         * 
+         * @param state the {@linkplain SyntheticModelState}
+         */
+        @Setup(Level.Trial)
+        public void OpenSession(SyntheticModelState state)
+        {
+            this.editingDomain = TransactionalEditingDomain.Factory.INSTANCE.createEditingDomain(state.model.GetResourceSet());
+            
+            var sessionResource = mock(Resource.class, withSettings().stubOnly());
+            when(sessionResource.getURI()).thenReturn(state.model.GetModelUri());
+            
+            var session = mock(Session.class, withSettings().stubOnly());
+            when(session.getSessionResource()).thenReturn(sessionResource);
+            when(session.getTransactionalEditingDomain()).thenReturn(this.editingDomain);
+            
+            var sessionManager = mock(ISiriusSessionManagerWrapper.class, withSettings().stubOnly());
+            when(sessionManager.GetSessions()).thenReturn(Arrays.asList(session));
+            when(sessionManager.HasAnyOpenSession()).thenReturn(true);
+            
+            var sessionListener = mock(ICapellaSessionListenerService.class, withSettings().stubOnly());
+            when(sessionListener.SessionAdded()).thenReturn(Observable.<Session>never());
+            when(sessionListener.SessionRemoved()).thenReturn(Observable.<Session>never());
+            when(sessionListener.SessionUpdated()).thenReturn(Observable.<Session>never());
+            
+            this.service = new CapellaSessionService(sessionListener, sessionManager, new MetricsService());
+        }
+        
+        /**
+         * Disposes the {@linkplain TransactionalEditingDomain} at the end of the trial
+         */
+        @TearDown(Level.Trial)
+        public void CloseSession()
+        {
+            this.editingDomain.dispose();
+        }
+    }
+
+    @Benchmark
+    public int TraverseSerially(ModelTraversal traversal)
+    {
+        traversal.service.SetModelTraversalMode(ModelTraversalMode.Serial);
+        return traversal.service.GetAllCapellaElementsFromOpenSessions().values().stream().mapToInt(x -> x.size()).sum();
+    }
+
+    @Benchmark
+    public int TraverseInParallel(ModelTraversal traversal)
+    {
+        traversal.service.SetModelTraversalMode(ModelTraversalMode.Parallel);
+        return traversal.service.GetAllCapellaElementsFromOpenSessions().values().stream().mapToInt(x -> x.size()).sum();
+    }
+}
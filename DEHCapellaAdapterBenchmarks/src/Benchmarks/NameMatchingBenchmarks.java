@@ -0,0 +1,130 @@
+/*
+ * NameMatchingBenchmarks.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import static Utils.Operators.Operators.AreTheseEquals;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+
+import Services.NameKey.NameKey;
+import Services.NameKey.NameKeyService;
+import Utils.Stereotypes.StereotypeUtils;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+
+/**
+ * The {@linkplain NameMatchingBenchmarks} compares matching the names of all the {@linkplain SyntheticModel} elements
+ * by normalising both sides on each comparison against comparing their precomputed {@linkplain NameKey}s
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NameMatchingBenchmarks
+{
+    /**
+     * The {@linkplain NameMatching} holds the named elements of the {@linkplain SyntheticModel}, 
+     * the thing to match and a {@linkplain NameKeyService} whose keys are already computed
+     */
+    @State(Scope.Thread)
+    public static class NameMatching
+    {
+        List<NamedElement> elements;
+        ElementDefinition thing;
+        NameKeyService service;
+
+        /**
+         * Collects the named elements and computes their {@linkplain NameKey}s once per trial
+         * 
+         * @param state the {@linkplain SyntheticModelState}
+         */
+        @Setup(Level.Trial)
+        public void CollectElements(SyntheticModelState state)
+        {
+            this.elements = state.model.GetCapellaElements().stream()
+                    .filter(x -> x instanceof NamedElement)
+                    .map(x -> (NamedElement)x)
+                    .collect(Collectors.toList());
+            
+            var elementDefinitions = state.model.GetElementDefinitions();
+            this.thing = elementDefinitions.get(elementDefinitions.size() - 1);
+            this.service = new NameKeyService();
+            this.elements.forEach(x -> this.service.GetKey(x));
+        }
+    }
+
+    @Benchmark
+    public long MatchNamesIgnoringCase(NameMatching matching)
+    {
+        return matching.elements.stream()
+                .filter(x -> AreTheseEquals(matching.thing.getName(), x.getName(), true)
+                        || AreTheseEquals(matching.thing.getShortName(), x.getName(), true))
+                .count();
+    }
+
+    @Benchmark
+    public long MatchNameKeys(NameMatching matching)
+    {
+        var nameKey = matching.service.GetKey(matching.thing);
+        var shortNameKey = matching.service.GetShortNameKey(matching.thing);
+        
+        return matching.elements.stream()
+                .map(x -> matching.service.GetKey(x))
+                .filter(x -> x.IsSameName(nameKey) || x.IsSameName(shortNameKey))
+                .count();
+    }
+
+    @Benchmark
+    public long MatchShortNames(NameMatching matching)
+    {
+        return matching.elements.stream()
+                .filter(x -> AreTheseEquals(StereotypeUtils.GetShortName(x), matching.thing.getShortName(), true))
+                .count();
+    }
+
+    @Benchmark
+    public long MatchShortNameKeys(NameMatching matching)
+    {
+        var shortName = NameKey.CaseFold(matching.thing.getShortName());
+        
+        return matching.elements.stream()
+                .filter(x -> AreTheseEquals(matching.service.GetKey(x).GetShortName(), shortName))
+                .count();
+    }
+}
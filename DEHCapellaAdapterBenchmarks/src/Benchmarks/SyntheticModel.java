@@ -0,0 +1,475 @@
+/*
+ * SyntheticModel.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.polarsys.capella.core.data.capellacommon.GenericTrace;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+import org.polarsys.capella.core.data.capellamodeller.Project;
+import org.polarsys.capella.core.data.cs.Interface;
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.fa.ComponentPort;
+import org.polarsys.capella.core.data.la.LogicalArchitecture;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.pa.PhysicalArchitecture;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+import org.polarsys.capella.core.data.requirement.Requirement;
+import org.polarsys.capella.core.data.requirement.RequirementsPkg;
+
+import Services.MappingConfiguration.CapellaExternalIdentifier;
+import cdp4common.commondata.Thing;
+import cdp4common.engineeringmodeldata.BinaryRelationship;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.ExternalIdentifierMap;
+import cdp4common.engineeringmodeldata.Iteration;
+import cdp4common.sitedirectorydata.DomainOfExpertise;
+import cdp4common.sitedirectorydata.ModelReferenceDataLibrary;
+
+/**
+ * The {@linkplain SyntheticModel} holds a generated Capella model, its matching COMET {@linkplain Iteration}
+ * and the correspondences between the two
+ */
+public final class SyntheticModel
+{
+    /**
+     * The in-memory {@linkplain ResourceSet} that contains the Capella model
+     */
+    private final ResourceSet resourceSet;
+
+    /**
+     * The {@linkplain URI} of the resource that contains the Capella model
+     */
+    private final URI modelUri;
+
+    /**
+     * The Capella {@linkplain Project}
+     */
+    private final Project project;
+
+    /**
+     * The {@linkplain LogicalArchitecture}
+     */
+    LogicalArchitecture logicalArchitecture;
+
+    /**
+     * The root {@linkplain LogicalComponent}
+     */
+    LogicalComponent logicalRootComponent;
+
+    /**
+     * The {@linkplain PhysicalArchitecture}
+     */
+    PhysicalArchitecture physicalArchitecture;
+
+    /**
+     * The root {@linkplain PhysicalComponent}
+     */
+    PhysicalComponent rootComponent;
+
+    /**
+     * The generated {@linkplain PhysicalComponent}s, the root excluded
+     */
+    final List<PhysicalComponent> components = new ArrayList<>();
+
+    /**
+     * The generated {@linkplain LogicalComponent}s, the root excluded
+     */
+    final List<LogicalComponent> logicalComponents = new ArrayList<>();
+
+    /**
+     * The generated {@linkplain Part}s
+     */
+    final List<Part> parts = new ArrayList<>();
+
+    /**
+     * The generated {@linkplain ComponentPort}s
+     */
+    final List<ComponentPort> ports = new ArrayList<>();
+
+    /**
+     * The generated {@linkplain Interface}s
+     */
+    final List<Interface> interfaces = new ArrayList<>();
+
+    /**
+     * The generated {@linkplain GenericTrace}s
+     */
+    final List<GenericTrace> traces = new ArrayList<>();
+
+    /**
+     * The generated top {@linkplain RequirementsPkg}s
+     */
+    final List<RequirementsPkg> requirementsPkgs = new ArrayList<>();
+
+    /**
+     * The generated Capella {@linkplain Requirement}s
+     */
+    final List<Requirement> requirements = new ArrayList<>();
+
+    /**
+     * All the {@linkplain CapellaElement}s of the Capella model
+     */
+    final List<CapellaElement> capellaElements = new ArrayList<>();
+
+    /**
+     * The COMET {@linkplain Iteration}
+     */
+    private final Iteration iteration;
+
+    /**
+     * The {@linkplain ModelReferenceDataLibrary} of the {@linkplain #iteration}
+     */
+    private final ModelReferenceDataLibrary referenceDataLibrary;
+
+    /**
+     * The {@linkplain DomainOfExpertise} that owns the generated {@linkplain Thing}s
+     */
+    private final DomainOfExpertise domain;
+
+    /**
+     * The {@linkplain ExternalIdentifierMap} of the {@linkplain #iteration}
+     */
+    ExternalIdentifierMap externalIdentifierMap;
+
+    /**
+     * The generated {@linkplain ElementDefinition}s, in the same order as the {@linkplain #components}
+     */
+    final List<ElementDefinition> elementDefinitions = new ArrayList<>();
+
+    /**
+     * The generated {@linkplain ElementDefinition}s, in the same order as the {@linkplain #logicalComponents}
+     */
+    final List<ElementDefinition> logicalElementDefinitions = new ArrayList<>();
+
+    /**
+     * The generated hub requirements, in the same order as the {@linkplain #requirements}
+     */
+    final List<cdp4common.engineeringmodeldata.Requirement> hubRequirements = new ArrayList<>();
+
+    /**
+     * The generated {@linkplain BinaryRelationship}s
+     */
+    final List<BinaryRelationship> relationships = new ArrayList<>();
+
+    /**
+     * The correspondences between the iids of the generated {@linkplain Thing}s and the Capella elements
+     */
+    final List<Pair<UUID, CapellaExternalIdentifier>> correspondences = new ArrayList<>();
+
+    /**
+     * All the generated {@linkplain Thing}s by iid
+     */
+    final Map<UUID, Thing> things = new HashMap<>();
+
+    /**
+     * Initializes a new {@linkplain SyntheticModel}
+     * 
+     * @param resourceSet the {@linkplain ResourceSet}
+     * @param modelUri the {@linkplain URI} of the resource that contains the Capella model
+     * @param project the Capella {@linkplain Project}
+     * @param iteration the COMET {@linkplain Iteration}
+     * @param referenceDataLibrary the {@linkplain ModelReferenceDataLibrary}
+     * @param domain the {@linkplain DomainOfExpertise}
+     */
+    SyntheticModel(ResourceSet resourceSet, URI modelUri, Project project, Iteration iteration, 
+            ModelReferenceDataLibrary referenceDataLibrary, DomainOfExpertise domain)
+    {
+        this.resourceSet = resourceSet;
+        this.modelUri = modelUri;
+        this.project = project;
+        this.iteration = iteration;
+        this.referenceDataLibrary = referenceDataLibrary;
+        this.domain = domain;
+    }
+
+    /**
+     * Gets the in-memory {@linkplain ResourceSet} that contains the Capella model
+     * 
+     * @return the {@linkplain ResourceSet}
+     */
+    public ResourceSet GetResourceSet()
+    {
+        return this.resourceSet;
+    }
+
+    /**
+     * Gets the {@linkplain URI} of the resource that contains the Capella model
+     * 
+     * @return the {@linkplain URI}
+     */
+    public URI GetModelUri()
+    {
+        return this.modelUri;
+    }
+
+    /**
+     * Gets the Capella {@linkplain Project}
+     * 
+     * @return the {@linkplain Project}
+     */
+    public Project GetProject()
+    {
+        return this.project;
+    }
+
+    /**
+     * Gets the {@linkplain LogicalArchitecture}
+     * 
+     * @return the {@linkplain LogicalArchitecture}
+     */
+    public LogicalArchitecture GetLogicalArchitecture()
+    {
+        return this.logicalArchitecture;
+    }
+
+    /**
+     * Gets the root {@linkplain LogicalComponent}
+     * 
+     * @return the {@linkplain LogicalComponent}
+     */
+    public LogicalComponent GetLogicalRootComponent()
+    {
+        return this.logicalRootComponent;
+    }
+
+    /**
+     * Gets the {@linkplain PhysicalArchitecture}
+     * 
+     * @return the {@linkplain PhysicalArchitecture}
+     */
+    public PhysicalArchitecture GetPhysicalArchitecture()
+    {
+        return this.physicalArchitecture;
+    }
+
+    /**
+     * Gets the root {@linkplain PhysicalComponent}
+     * 
+     * @return the {@linkplain PhysicalComponent}
+     */
+    public PhysicalComponent GetRootComponent()
+    {
+        return this.rootComponent;
+    }
+
+    /**
+     * Gets the generated {@linkplain PhysicalComponent}s, the root excluded
+     * 
+     * @return a {@linkplain List} of {@linkplain PhysicalComponent}
+     */
+    public List<PhysicalComponent> GetComponents()
+    {
+        return this.components;
+    }
+
+    /**
+     * Gets the generated {@linkplain LogicalComponent}s, the root excluded
+     * 
+     * @return a {@linkplain List} of {@linkplain LogicalComponent}
+     */
+    public List<LogicalComponent> GetLogicalComponents()
+    {
+        return this.logicalComponents;
+    }
+
+    /**
+     * Gets the generated {@linkplain Part}s
+     * 
+     * @return a {@linkplain List} of {@linkplain Part}
+     */
+    public List<Part> GetParts()
+    {
+        return this.parts;
+    }
+
+    /**
+     * Gets the generated {@linkplain ComponentPort}s
+     * 
+     * @return a {@linkplain List} of {@linkplain ComponentPort}
+     */
+    public List<ComponentPort> GetPorts()
+    {
+        return this.ports;
+    }
+
+    /**
+     * Gets the generated {@linkplain Interface}s
+     * 
+     * @return a {@linkplain List} of {@linkplain Interface}
+     */
+    public List<Interface> GetInterfaces()
+    {
+        return this.interfaces;
+    }
+
+    /**
+     * Gets the generated {@linkplain GenericTrace}s
+     * 
+     * @return a {@linkplain List} of {@linkplain GenericTrace}
+     */
+    public List<GenericTrace> GetTraces()
+    {
+        return this.traces;
+    }
+
+    /**
+     * Gets the generated top {@linkplain RequirementsPkg}s
+     * 
+     * @return a {@linkplain List} of {@linkplain RequirementsPkg}
+     */
+    public List<RequirementsPkg> GetRequirementsPkgs()
+    {
+        return this.requirementsPkgs;
+    }
+
+    /**
+     * Gets the generated Capella {@linkplain Requirement}s
+     * 
+     * @return a {@linkplain List} of {@linkplain Requirement}
+     */
+    public List<Requirement> GetRequirements()
+    {
+        return this.requirements;
+    }
+
+    /**
+     * Gets all the {@linkplain CapellaElement}s of the Capella model
+     * 
+     * @return a {@linkplain List} of {@linkplain CapellaElement}
+     */
+    public List<CapellaElement> GetCapellaElements()
+    {
+        return this.capellaElements;
+    }
+
+    /**
+     * Gets the COMET {@linkplain Iteration}
+     * 
+     * @return the {@linkplain Iteration}
+     */
+    public Iteration GetIteration()
+    {
+        return this.iteration;
+    }
+
+    /**
+     * Gets the {@linkplain ModelReferenceDataLibrary} of the {@linkplain Iteration}
+     * 
+     * @return the {@linkplain ModelReferenceDataLibrary}
+     */
+    public ModelReferenceDataLibrary GetReferenceDataLibrary()
+    {
+        return this.referenceDataLibrary;
+    }
+
+    /**
+     * Gets the {@linkplain DomainOfExpertise} that owns the generated {@linkplain Thing}s
+     * 
+     * @return the {@linkplain DomainOfExpertise}
+     */
+    public DomainOfExpertise GetDomain()
+    {
+        return this.domain;
+    }
+
+    /**
+     * Gets the {@linkplain ExternalIdentifierMap} of the {@linkplain Iteration}
+     * 
+     * @return the {@linkplain ExternalIdentifierMap}
+     */
+    public ExternalIdentifierMap GetExternalIdentifierMap()
+    {
+        return this.externalIdentifierMap;
+    }
+
+    /**
+     * Gets the generated {@linkplain ElementDefinition}s, in the same order as the {@linkplain #GetComponents()}
+     * 
+     * @return a {@linkplain List} of {@linkplain ElementDefinition}
+     */
+    public List<ElementDefinition> GetElementDefinitions()
+    {
+        return this.elementDefinitions;
+    }
+
+    /**
+     * Gets the generated {@linkplain ElementDefinition}s, in the same order as the {@linkplain #GetLogicalComponents()}
+     * 
+     * @return a {@linkplain List} of {@linkplain ElementDefinition}
+     */
+    public List<ElementDefinition> GetLogicalElementDefinitions()
+    {
+        return this.logicalElementDefinitions;
+    }
+
+    /**
+     * Gets the generated hub requirements, in the same order as the {@linkplain #GetRequirements()}
+     * 
+     * @return a {@linkplain List} of {@linkplain cdp4common.engineeringmodeldata.Requirement}
+     */
+    public List<cdp4common.engineeringmodeldata.Requirement> GetHubRequirements()
+    {
+        return this.hubRequirements;
+    }
+
+    /**
+     * Gets the generated {@linkplain BinaryRelationship}s
+     * 
+     * @return a {@linkplain List} of {@linkplain BinaryRelationship}
+     */
+    public List<BinaryRelationship> GetRelationships()
+    {
+        return this.relationships;
+    }
+
+    /**
+     * Gets the correspondences between the iids of the generated {@linkplain Thing}s and the Capella elements,
+     * the same ones that are recorded in the {@linkplain #GetExternalIdentifierMap()} once loaded by the mapping configuration service
+     * 
+     * @return a {@linkplain List} of {@linkplain Pair} of {@linkplain UUID} and {@linkplain CapellaExternalIdentifier}
+     */
+    public List<Pair<UUID, CapellaExternalIdentifier>> GetCorrespondences()
+    {
+        return this.correspondences;
+    }
+
+    /**
+     * Gets the generated {@linkplain Thing} with the provided iid
+     * 
+     * @param iid the {@linkplain UUID}
+     * @return the {@linkplain Thing} or null
+     */
+    public Thing GetThing(UUID iid)
+    {
+        return this.things.get(iid);
+    }
+}
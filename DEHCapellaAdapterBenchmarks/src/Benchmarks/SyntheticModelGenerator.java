@@ -0,0 +1,798 @@
+/*
+ * SyntheticModelGenerator.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.polarsys.capella.core.data.capellacommon.GenericTrace;
+import org.polarsys.capella.core.data.capellacore.CapellaElement;
+import org.polarsys.capella.core.data.capellacore.NamedElement;
+import org.polarsys.capella.core.data.capellacore.TraceableElement;
+import org.polarsys.capella.core.data.capellamodeller.CapellamodellerFactory;
+import org.polarsys.capella.core.data.capellamodeller.SystemEngineering;
+import org.polarsys.capella.core.data.cs.Component;
+import org.polarsys.capella.core.data.cs.Interface;
+import org.polarsys.capella.core.data.cs.InterfacePkg;
+import org.polarsys.capella.core.data.cs.Part;
+import org.polarsys.capella.core.data.fa.ComponentPort;
+import org.polarsys.capella.core.data.fa.OrientationPortKind;
+import org.polarsys.capella.core.data.information.DataPkg;
+import org.polarsys.capella.core.data.information.Property;
+import org.polarsys.capella.core.data.information.Unit;
+import org.polarsys.capella.core.data.information.datatype.NumericType;
+import org.polarsys.capella.core.data.information.datatype.StringType;
+import org.polarsys.capella.core.data.information.datavalue.LiteralNumericValue;
+import org.polarsys.capella.core.data.information.datavalue.LiteralStringValue;
+import org.polarsys.capella.core.data.la.LogicalArchitecture;
+import org.polarsys.capella.core.data.la.LogicalComponent;
+import org.polarsys.capella.core.data.la.LogicalComponentPkg;
+import org.polarsys.capella.core.data.pa.PhysicalArchitecture;
+import org.polarsys.capella.core.data.pa.PhysicalComponent;
+import org.polarsys.capella.core.data.pa.PhysicalComponentPkg;
+import org.polarsys.capella.core.data.requirement.RequirementsPkg;
+import org.polarsys.capella.core.data.requirement.SystemUserRequirement;
+
+import Enumerations.CapellaArchitecture;
+import Enumerations.MappingDirection;
+import Services.MappingConfiguration.CapellaExternalIdentifier;
+import Utils.Stereotypes.CapellaTypeRegistry;
+import cdp4common.commondata.Thing;
+import cdp4common.engineeringmodeldata.BinaryRelationship;
+import cdp4common.engineeringmodeldata.ElementDefinition;
+import cdp4common.engineeringmodeldata.ElementUsage;
+import cdp4common.engineeringmodeldata.EngineeringModel;
+import cdp4common.engineeringmodeldata.ExternalIdentifierMap;
+import cdp4common.engineeringmodeldata.InterfaceEndKind;
+import cdp4common.engineeringmodeldata.Iteration;
+import cdp4common.engineeringmodeldata.Parameter;
+import cdp4common.engineeringmodeldata.ParameterSwitchKind;
+import cdp4common.engineeringmodeldata.ParameterValueSet;
+import cdp4common.engineeringmodeldata.RequirementsGroup;
+import cdp4common.engineeringmodeldata.RequirementsSpecification;
+import cdp4common.sitedirectorydata.DomainOfExpertise;
+import cdp4common.sitedirectorydata.EngineeringModelSetup;
+import cdp4common.sitedirectorydata.ModelReferenceDataLibrary;
+import cdp4common.sitedirectorydata.ParameterType;
+import cdp4common.sitedirectorydata.QuantityKind;
+import cdp4common.sitedirectorydata.RatioScale;
+import cdp4common.sitedirectorydata.SimpleQuantityKind;
+import cdp4common.sitedirectorydata.SimpleUnit;
+import cdp4common.sitedirectorydata.SiteDirectory;
+import cdp4common.sitedirectorydata.SiteReferenceDataLibrary;
+import cdp4common.sitedirectorydata.TextParameterType;
+import cdp4common.types.ValueArray;
+
+/**
+ * The {@linkplain SyntheticModelGenerator} generates an in-memory Capella model shaped by {@linkplain SyntheticModelSettings},
+ * its matching COMET {@linkplain Iteration} and the {@linkplain ExternalIdentifierMap} correspondences between both,
+ * without requiring any Sirius session nor any Hub connection.
+ * The Capella elements are created through the factories of the EPackages the {@linkplain CapellaTypeRegistry} holds
+ */
+public final class SyntheticModelGenerator
+{
+    /**
+     * The name of the {@linkplain ElementDefinition} that defines the port {@linkplain ElementUsage}s
+     */
+    private static final String PORTDEFINITIONNAME = "Port";
+
+    /**
+     * The {@linkplain SyntheticModelSettings}
+     */
+    private final SyntheticModelSettings settings;
+
+    /**
+     * The {@linkplain Random} used to shape the component tree
+     */
+    private final Random random;
+
+    /**
+     * The {@linkplain ElementDefinition} by generated {@linkplain Component}
+     */
+    private final Map<Component, ElementDefinition> elementDefinitions = new HashMap<>();
+
+    /**
+     * The port {@linkplain ElementUsage}s, in the same order as the generated {@linkplain ComponentPort}s
+     */
+    private final List<ElementUsage> portUsages = new ArrayList<>();
+
+    /**
+     * The {@linkplain ParameterType} of each generated property index
+     */
+    private final List<ParameterType> parameterTypes = new ArrayList<>();
+
+    /**
+     * The {@linkplain SyntheticModel} being generated
+     */
+    private SyntheticModel model;
+
+    /**
+     * The {@linkplain NumericType} of the numeric {@linkplain Property}
+     */
+    private NumericType numericType;
+
+    /**
+     * The {@linkplain StringType} of the text {@linkplain Property}
+     */
+    private StringType stringType;
+
+    /**
+     * The {@linkplain Unit} of the numeric {@linkplain Property} values
+     */
+    private Unit unit;
+
+    /**
+     * The {@linkplain ElementDefinition} that defines the port {@linkplain ElementUsage}s
+     */
+    private ElementDefinition portDefinition;
+
+    /**
+     * Initializes a new {@linkplain SyntheticModelGenerator}
+     * 
+     * @param settings the {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelGenerator(SyntheticModelSettings settings)
+    {
+        this.settings = settings;
+        this.random = new Random(settings.GetSeed());
+    }
+
+    /**
+     * Generates a new {@linkplain SyntheticModel} containing roughly the provided number of mappable elements on both sides
+     * 
+     * @param elementCount the number of mappable elements to generate
+     * @return a new {@linkplain SyntheticModel}
+     */
+    public static SyntheticModel Generate(int elementCount)
+    {
+        return new SyntheticModelGenerator(SyntheticModelSettings.ForElementCount(elementCount)).Generate();
+    }
+
+    /**
+     * Generates a new {@linkplain SyntheticModel}
+     * 
+     * @return a new {@linkplain SyntheticModel}
+     */
+    public SyntheticModel Generate()
+    {
+        var resourceSet = new ResourceSetImpl();
+        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        var modelUri = URI.createURI("memory:/synthetic.capella");
+        var resource = new XMIResourceImpl(modelUri);
+        resourceSet.getResources().add(resource);
+
+        var project = CapellamodellerFactory.eINSTANCE.createProject();
+        project.setId(UUID.randomUUID().toString());
+        project.setName("synthetic");
+        var systemEngineering = CapellamodellerFactory.eINSTANCE.createSystemEngineering();
+        systemEngineering.setId(UUID.randomUUID().toString());
+        systemEngineering.setName("synthetic");
+        project.getOwnedModelRoots().add(systemEngineering);
+        resource.getContents().add(project);
+
+        var domain = new DomainOfExpertise(UUID.randomUUID(), null, null);
+        domain.setName("System");
+        domain.setShortName("SYS");
+        var iteration = new Iteration(UUID.randomUUID(), null, null);
+
+        this.model = new SyntheticModel(resourceSet, modelUri, project, iteration, this.CreateReferenceDataLibrary(iteration), domain);
+
+        this.portDefinition = this.CreateElementDefinition(PORTDEFINITIONNAME);
+        this.GenerateLogicalArchitecture(systemEngineering);
+        this.GeneratePhysicalArchitecture(systemEngineering);
+        this.GenerateInterfaceRelationships();
+        this.GenerateTraces();
+        this.GenerateExternalIdentifierMap();
+
+        for (var iterator = project.eAllContents(); iterator.hasNext();)
+        {
+            var element = iterator.next();
+
+            if(element instanceof CapellaElement)
+            {
+                this.model.capellaElements.add((CapellaElement)element);
+            }
+        }
+
+        return this.model;
+    }
+
+    /**
+     * Generates the {@linkplain LogicalArchitecture} with a flat list of {@linkplain LogicalComponent}s under the root one
+     * 
+     * @param systemEngineering the {@linkplain SystemEngineering}
+     */
+    private void GenerateLogicalArchitecture(SystemEngineering systemEngineering)
+    {
+        var logicalArchitecture = Create(LogicalArchitecture.class, "Logical Architecture");
+        systemEngineering.getOwnedArchitectures().add(logicalArchitecture);
+        this.model.logicalArchitecture = logicalArchitecture;
+
+        var componentPkg = Create(LogicalComponentPkg.class, "Structure");
+        logicalArchitecture.setOwnedLogicalComponentPkg(componentPkg);
+
+        var rootComponent = Create(LogicalComponent.class, "Logical System");
+        componentPkg.getOwnedLogicalComponents().add(rootComponent);
+        componentPkg.getOwnedParts().add(this.CreatePart(rootComponent));
+        this.model.logicalRootComponent = rootComponent;
+
+        for (var index = 0; index < this.settings.GetLogicalComponentCount(); index++)
+        {
+            var component = Create(LogicalComponent.class, String.format("logical_component_%s", index));
+            rootComponent.getOwnedLogicalComponents().add(component);
+            rootComponent.getOwnedFeatures().add(this.CreatePart(component));
+            this.CreateProperties(component, index);
+
+            var elementDefinition = this.CreateElementDefinition(component);
+            this.model.logicalComponents.add(component);
+            this.model.logicalElementDefinitions.add(elementDefinition);
+            this.AddCorrespondence(elementDefinition, component, CapellaArchitecture.LogicalArchitecture, MappingDirection.FromDstToHub);
+        }
+    }
+
+    /**
+     * Generates the {@linkplain PhysicalArchitecture} with its data, interfaces, component tree and requirements
+     * 
+     * @param systemEngineering the {@linkplain SystemEngineering}
+     */
+    private void GeneratePhysicalArchitecture(SystemEngineering systemEngineering)
+    {
+        var physicalArchitecture = Create(PhysicalArchitecture.class, "Physical Architecture");
+        systemEngineering.getOwnedArchitectures().add(physicalArchitecture);
+        this.model.physicalArchitecture = physicalArchitecture;
+
+        var dataPkg = Create(DataPkg.class, "Data");
+        physicalArchitecture.setOwnedDataPkg(dataPkg);
+        this.numericType = Create(NumericType.class, "real");
+        this.stringType = Create(StringType.class, "string");
+        this.unit = Create(Unit.class, "kg");
+        dataPkg.getOwnedDataTypes().addAll(Arrays.asList(this.numericType, this.stringType));
+        dataPkg.getOwnedUnits().add(this.unit);
+
+        var interfacePkg = Create(InterfacePkg.class, "Interfaces");
+        physicalArchitecture.setOwnedInterfacePkg(interfacePkg);
+
+        for (var index = 0; index < this.settings.GetInterfaceCount(); index++)
+        {
+            var newInterface = Create(Interface.class, String.format("interface_%s", index));
+            interfacePkg.getOwnedInterfaces().add(newInterface);
+            this.model.interfaces.add(newInterface);
+        }
+
+        var componentPkg = Create(PhysicalComponentPkg.class, "Structure");
+        physicalArchitecture.setOwnedPhysicalComponentPkg(componentPkg);
+
+        var rootComponent = Create(PhysicalComponent.class, "Physical System");
+        componentPkg.getOwnedPhysicalComponents().add(rootComponent);
+        componentPkg.getOwnedParts().add(this.CreatePart(rootComponent));
+        this.model.rootComponent = rootComponent;
+        this.model.GetIteration().setTopElement(this.CreateElementDefinition(rootComponent));
+
+        this.GenerateComponentTree(rootComponent);
+        this.GenerateRequirements(physicalArchitecture);
+    }
+
+    /**
+     * Generates the {@linkplain PhysicalComponent} tree under the provided root, 
+     * each generated component is typed by a {@linkplain Part} in its parent and owns properties and ports
+     * 
+     * @param rootComponent the root {@linkplain PhysicalComponent}
+     */
+    private void GenerateComponentTree(PhysicalComponent rootComponent)
+    {
+        var depth = this.settings.GetComponentDepth();
+        var componentsByLevel = new ArrayList<List<PhysicalComponent>>();
+        componentsByLevel.add(Arrays.asList(rootComponent));
+
+        for (var level = 1; level <= depth; level++)
+        {
+            componentsByLevel.add(new ArrayList<>());
+        }
+
+        for (var index = 0; index < this.settings.GetPhysicalComponentCount(); index++)
+        {
+            var level = 1 + index % depth;
+            var possibleParents = componentsByLevel.get(level - 1);
+            var parent = possibleParents.get(this.random.nextInt(possibleParents.size()));
+
+            var component = Create(PhysicalComponent.class, String.format("component_%s", index));
+            parent.getOwnedPhysicalComponents().add(component);
+            componentsByLevel.get(level).add(component);
+
+            var part = this.CreatePart(component);
+            parent.getOwnedFeatures().add(part);
+
+            this.CreateProperties(component, index);
+            var elementDefinition = this.CreateElementDefinition(component);
+            this.CreateElementUsage(this.elementDefinitions.get(parent), elementDefinition, component.getName(), InterfaceEndKind.NONE);
+            this.CreatePorts(component, elementDefinition);
+
+            this.model.components.add(component);
+            this.model.elementDefinitions.add(elementDefinition);
+            this.AddCorrespondence(elementDefinition, component, CapellaArchitecture.PhysicalArchitecture, MappingDirection.FromDstToHub);
+        }
+    }
+
+    /**
+     * Generates the {@linkplain RequirementsPkg} trees with their requirements under the provided {@linkplain PhysicalArchitecture}
+     * and the matching {@linkplain RequirementsSpecification}s and {@linkplain RequirementsGroup}s
+     * 
+     * @param physicalArchitecture the {@linkplain PhysicalArchitecture}
+     */
+    private void GenerateRequirements(PhysicalArchitecture physicalArchitecture)
+    {
+        var leaves = new ArrayList<Pair<RequirementsPkg, Pair<RequirementsSpecification, RequirementsGroup>>>();
+
+        for (var index = 0; index < this.settings.GetRequirementsPkgBreadth(); index++)
+        {
+            var requirementsPkg = Create(RequirementsPkg.class, String.format("requirements_%s", index));
+            physicalArchitecture.getOwnedRequirementPkgs().add(requirementsPkg);
+            this.model.requirementsPkgs.add(requirementsPkg);
+
+            var requirementsSpecification = new RequirementsSpecification(UUID.randomUUID(), null, null);
+            requirementsSpecification.setName(requirementsPkg.getName());
+            requirementsSpecification.setShortName(requirementsPkg.getName());
+            requirementsSpecification.setOwner(this.model.GetDomain());
+            this.model.GetIteration().getRequirementsSpecification().add(requirementsSpecification);
+            this.Register(requirementsSpecification);
+
+            this.GenerateRequirementsPkgs(requirementsPkg, requirementsSpecification, null, 1, leaves);
+        }
+
+        for (var index = 0; index < this.settings.GetRequirementCount(); index++)
+        {
+            var leaf = leaves.get(index % leaves.size());
+
+            var requirement = Create(SystemUserRequirement.class, String.format("requirement_%s", index));
+            requirement.setRequirementId(String.format("REQ-%s", index));
+            requirement.setDescription(String.format("The system shall satisfy requirement %s", index));
+            leaf.getLeft().getOwnedRequirements().add(requirement);
+
+            var hubRequirement = new cdp4common.engineeringmodeldata.Requirement(UUID.randomUUID(), null, null);
+            hubRequirement.setName(requirement.getName());
+            hubRequirement.setShortName(requirement.getRequirementId());
+            hubRequirement.setOwner(this.model.GetDomain());
+            hubRequirement.setGroup(leaf.getRight().getRight());
+            leaf.getRight().getLeft().getRequirement().add(hubRequirement);
+            this.Register(hubRequirement);
+
+            this.model.requirements.add(requirement);
+            this.model.hubRequirements.add(hubRequirement);
+            this.AddCorrespondence(hubRequirement, requirement, CapellaArchitecture.PhysicalArchitecture, MappingDirection.FromHubToDst);
+        }
+    }
+
+    /**
+     * Generates the nested {@linkplain RequirementsPkg}s of the provided one down to the configured depth
+     * 
+     * @param parent the parent {@linkplain RequirementsPkg}
+     * @param requirementsSpecification the {@linkplain RequirementsSpecification} that matches the top {@linkplain RequirementsPkg}
+     * @param group the {@linkplain RequirementsGroup} that matches the parent, null for a top {@linkplain RequirementsPkg}
+     * @param level the level of the parent
+     * @param leaves the {@linkplain List} of leaf {@linkplain RequirementsPkg}s and their Hub counterpart to fill
+     */
+    private void GenerateRequirementsPkgs(RequirementsPkg parent, RequirementsSpecification requirementsSpecification, RequirementsGroup group, int level, 
+            List<Pair<RequirementsPkg, Pair<RequirementsSpecification, RequirementsGroup>>> leaves)
+    {
+        if(level >= this.settings.GetRequirementsPkgDepth())
+        {
+            leaves.add(Pair.of(parent, Pair.of(requirementsSpecification, group)));
+            return;
+        }
+
+        for (var index = 0; index < this.settings.GetRequirementsPkgBreadth(); index++)
+        {
+            var requirementsPkg = Create(RequirementsPkg.class, String.format("%s_%s", parent.getName(), index));
+            parent.getOwnedRequirementPkgs().add(requirementsPkg);
+
+            var requirementsGroup = new RequirementsGroup(UUID.randomUUID(), null, null);
+            requirementsGroup.setName(requirementsPkg.getName());
+            requirementsGroup.setShortName(requirementsPkg.getName());
+            requirementsGroup.setOwner(this.model.GetDomain());
+            (group == null ? requirementsSpecification.getGroup() : group.getGroup()).add(requirementsGroup);
+            this.Register(requirementsGroup);
+
+            this.GenerateRequirementsPkgs(requirementsPkg, requirementsSpecification, requirementsGroup, level + 1, leaves);
+        }
+    }
+
+    /**
+     * Creates the configured number of typed {@linkplain Property} with a default value on the provided {@linkplain Component}
+     * 
+     * @param component the {@linkplain Component}
+     * @param index the index of the {@linkplain Component}
+     */
+    private void CreateProperties(Component component, int index)
+    {
+        for (var propertyIndex = 0; propertyIndex < this.settings.GetPropertiesPerComponent(); propertyIndex++)
+        {
+            var property = Create(Property.class, this.parameterTypes.get(propertyIndex).getShortName());
+
+            if(propertyIndex % 2 == 0)
+            {
+                property.setAbstractType(this.numericType);
+                var value = Create(LiteralNumericValue.class, null);
+                value.setValue(String.valueOf((index + propertyIndex) % 100));
+                value.setUnit(this.unit);
+                property.setOwnedDefaultValue(value);
+            }
+            else
+            {
+                property.setAbstractType(this.stringType);
+                var value = Create(LiteralStringValue.class, null);
+                value.setValue(component.getName());
+                property.setOwnedDefaultValue(value);
+            }
+
+            component.getOwnedFeatures().add(property);
+        }
+    }
+
+    /**
+     * Creates the configured number of {@linkplain ComponentPort}s on the provided {@linkplain PhysicalComponent}, 
+     * each one providing an {@linkplain Interface} and requiring the next one, and their port {@linkplain ElementUsage}s
+     * 
+     * @param component the {@linkplain PhysicalComponent}
+     * @param elementDefinition the {@linkplain ElementDefinition} that represents the component
+     */
+    private void CreatePorts(PhysicalComponent component, ElementDefinition elementDefinition)
+    {
+        var interfaces = this.model.GetInterfaces();
+
+        for (var portIndex = 0; portIndex < this.settings.GetPortsPerComponent(); portIndex++)
+        {
+            var globalIndex = this.model.ports.size();
+            var port = Create(ComponentPort.class, String.format("%s_port%s", component.getName(), portIndex));
+            port.setOrientation(OrientationPortKind.INOUT);
+            port.getProvidedInterfaces().add(interfaces.get(globalIndex % interfaces.size()));
+            port.getRequiredInterfaces().add(interfaces.get((globalIndex + 1) % interfaces.size()));
+            component.getOwnedFeatures().add(port);
+            this.model.ports.add(port);
+
+            this.portUsages.add(this.CreateElementUsage(elementDefinition, this.portDefinition, port.getName(), InterfaceEndKind.IN_OUT));
+        }
+    }
+
+    /**
+     * Generates one {@linkplain BinaryRelationship} per pair of port {@linkplain ElementUsage}s 
+     * whose {@linkplain ComponentPort}s provide and require the same {@linkplain Interface}
+     */
+    private void GenerateInterfaceRelationships()
+    {
+        var interfaces = this.model.GetInterfaces();
+
+        for (var index = 0; index + 1 < this.portUsages.size(); index++)
+        {
+            var name = interfaces.get((index + 1) % interfaces.size()).getName();
+            this.CreateRelationship(name, this.portUsages.get(index + 1), this.portUsages.get(index));
+        }
+    }
+
+    /**
+     * Generates the {@linkplain GenericTrace}s between {@linkplain PhysicalComponent}s and from {@linkplain PhysicalComponent}s to requirements,
+     * and their {@linkplain BinaryRelationship} counterparts
+     */
+    private void GenerateTraces()
+    {
+        var components = this.model.GetComponents();
+
+        if(components.isEmpty())
+        {
+            return;
+        }
+
+        for (var index = 0; index < components.size(); index++)
+        {
+            for (var offset = 1; offset <= this.settings.GetTracesPerComponent() && offset < components.size(); offset++)
+            {
+                var target = components.get((index + offset) % components.size());
+                this.CreateTrace(components.get(index), target, this.model.elementDefinitions.get(index), this.elementDefinitions.get(target));
+            }
+        }
+
+        for (var index = 0; index < this.model.GetRequirements().size(); index++)
+        {
+            var source = components.get(index % components.size());
+            this.CreateTrace(source, this.model.GetRequirements().get(index), this.elementDefinitions.get(source), this.model.GetHubRequirements().get(index));
+        }
+    }
+
+    /**
+     * Creates a {@linkplain GenericTrace} owned by the provided source {@linkplain Component} and its {@linkplain BinaryRelationship} counterpart
+     * 
+     * @param source the source {@linkplain Component}
+     * @param target the target {@linkplain TraceableElement}
+     * @param hubSource the {@linkplain Thing} that represents the source
+     * @param hubTarget the {@linkplain Thing} that represents the target
+     */
+    private void CreateTrace(Component source, TraceableElement target, Thing hubSource, Thing hubTarget)
+    {
+        var trace = Create(GenericTrace.class, null);
+        trace.setSourceElement(source);
+        trace.setTargetElement(target);
+        source.getOwnedTraces().add(trace);
+        this.model.traces.add(trace);
+
+        this.CreateRelationship(String.format("%s → %s", source.getName(), ((NamedElement)target).getName()), hubSource, hubTarget);
+    }
+
+    /**
+     * Creates the {@linkplain ExternalIdentifierMap} of the iteration. Its correspondences are the ones the {@linkplain SyntheticModel} holds,
+     * they get serialized the way the adapter does once added through the mapping configuration service
+     */
+    private void GenerateExternalIdentifierMap()
+    {
+        var externalIdentifierMap = new ExternalIdentifierMap(UUID.randomUUID(), null, null);
+        externalIdentifierMap.setName("synthetic");
+        externalIdentifierMap.setExternalModelName(this.model.GetProject().getName());
+        externalIdentifierMap.setExternalToolName(DstController.DstController.THISTOOLNAME);
+        externalIdentifierMap.setOwner(this.model.GetDomain());
+        this.model.GetIteration().getExternalIdentifierMap().add(externalIdentifierMap);
+        this.model.externalIdentifierMap = externalIdentifierMap;
+        this.Register(externalIdentifierMap);
+    }
+
+    /**
+     * Creates the {@linkplain ModelReferenceDataLibrary} chain the provided {@linkplain Iteration} belongs to,
+     * with one {@linkplain ParameterType} per property index
+     * 
+     * @param iteration the {@linkplain Iteration}
+     * @return the {@linkplain ModelReferenceDataLibrary}
+     */
+    private ModelReferenceDataLibrary CreateReferenceDataLibrary(Iteration iteration)
+    {
+        var modelReferenceDataLibrary = new ModelReferenceDataLibrary(UUID.randomUUID(), null, null);
+        var siteReferenceDataLibrary = new SiteReferenceDataLibrary(UUID.randomUUID(), null, null);
+        var siteDirectory = new SiteDirectory(UUID.randomUUID(), null, null);
+        var engineeringModelSetup = new EngineeringModelSetup(UUID.randomUUID(), null, null);
+        var engineeringModel = new EngineeringModel(UUID.randomUUID(), null, null);
+
+        modelReferenceDataLibrary.setRequiredRdl(siteReferenceDataLibrary);
+        siteDirectory.getModel().add(engineeringModelSetup);
+        siteDirectory.getSiteReferenceDataLibrary().add(siteReferenceDataLibrary);
+        engineeringModelSetup.getRequiredRdl().add(modelReferenceDataLibrary);
+        engineeringModel.setEngineeringModelSetup(engineeringModelSetup);
+        engineeringModel.getIteration().add(iteration);
+
+        var hubUnit = new SimpleUnit(UUID.randomUUID(), null, null);
+        hubUnit.setName("kilogram");
+        hubUnit.setShortName("kg");
+
+        var scale = new RatioScale(UUID.randomUUID(), null, null);
+        scale.setName("kilogram");
+        scale.setShortName("kg");
+        scale.setUnit(hubUnit);
+
+        modelReferenceDataLibrary.getUnit().add(hubUnit);
+        modelReferenceDataLibrary.getScale().add(scale);
+
+        for (var index = 0; index < this.settings.GetPropertiesPerComponent(); index++)
+        {
+            ParameterType parameterType;
+
+            if(index % 2 == 0)
+            {
+                var quantityKind = new SimpleQuantityKind(UUID.randomUUID(), null, null);
+                quantityKind.getPossibleScale().add(scale);
+                quantityKind.setDefaultScale(scale);
+                parameterType = quantityKind;
+            }
+            else
+            {
+                parameterType = new TextParameterType(UUID.randomUUID(), null, null);
+            }
+
+            parameterType.setName(String.format("property_%s", index));
+            parameterType.setShortName(String.format("property_%s", index));
+            modelReferenceDataLibrary.getParameterType().add(parameterType);
+            this.parameterTypes.add(parameterType);
+        }
+
+        return modelReferenceDataLibrary;
+    }
+
+    /**
+     * Creates the {@linkplain ElementDefinition} that represents the provided {@linkplain Component} with one {@linkplain Parameter} per {@linkplain Property}
+     * 
+     * @param component the {@linkplain Component}
+     * @return the new {@linkplain ElementDefinition}
+     */
+    private ElementDefinition CreateElementDefinition(Component component)
+    {
+        var elementDefinition = this.CreateElementDefinition(component.getName());
+
+        for (var index = 0; index < this.parameterTypes.size(); index++)
+        {
+            var parameterType = this.parameterTypes.get(index);
+            var value = parameterType instanceof QuantityKind ? "1" : component.getName();
+            elementDefinition.getParameter().add(this.CreateParameter(parameterType, value));
+        }
+
+        this.elementDefinitions.put(component, elementDefinition);
+        return elementDefinition;
+    }
+
+    /**
+     * Creates an {@linkplain ElementDefinition} with the provided name in the iteration
+     * 
+     * @param name the name
+     * @return the new {@linkplain ElementDefinition}
+     */
+    private ElementDefinition CreateElementDefinition(String name)
+    {
+        var elementDefinition = new ElementDefinition(UUID.randomUUID(), null, null);
+        elementDefinition.setName(name);
+        elementDefinition.setShortName(name);
+        elementDefinition.setOwner(this.model.GetDomain());
+        this.model.GetIteration().getElement().add(elementDefinition);
+        this.Register(elementDefinition);
+        return elementDefinition;
+    }
+
+    /**
+     * Creates an {@linkplain ElementUsage} of the provided {@linkplain ElementDefinition} in the provided container
+     * 
+     * @param container the container {@linkplain ElementDefinition}
+     * @param elementDefinition the {@linkplain ElementDefinition} the usage is of
+     * @param name the name
+     * @param interfaceEnd the {@linkplain InterfaceEndKind}
+     * @return the new {@linkplain ElementUsage}
+     */
+    private ElementUsage CreateElementUsage(ElementDefinition container, ElementDefinition elementDefinition, String name, InterfaceEndKind interfaceEnd)
+    {
+        var elementUsage = new ElementUsage(UUID.randomUUID(), null, null);
+        elementUsage.setName(name);
+        elementUsage.setShortName(name);
+        elementUsage.setOwner(this.model.GetDomain());
+        elementUsage.setElementDefinition(elementDefinition);
+        elementUsage.setInterfaceEnd(interfaceEnd);
+        container.getContainedElement().add(elementUsage);
+        this.Register(elementUsage);
+        return elementUsage;
+    }
+
+    /**
+     * Creates a new {@linkplain Parameter} with one manual value
+     * 
+     * @param parameterType the {@linkplain ParameterType}
+     * @param value the manual value
+     * @return the new {@linkplain Parameter}
+     */
+    private Parameter CreateParameter(ParameterType parameterType, String value)
+    {
+        var parameter = new Parameter(UUID.randomUUID(), null, null);
+        parameter.setParameterType(parameterType);
+        parameter.setOwner(this.model.GetDomain());
+
+        if(parameterType instanceof QuantityKind)
+        {
+            parameter.setScale(((QuantityKind)parameterType).getDefaultScale());
+        }
+
+        var valueSet = new ParameterValueSet(UUID.randomUUID(), null, null);
+        valueSet.setManual(new ValueArray<>(Arrays.asList(value), String.class));
+        valueSet.setComputed(new ValueArray<>(Arrays.asList("-"), String.class));
+        valueSet.setReference(new ValueArray<>(Arrays.asList("-"), String.class));
+        valueSet.setFormula(new ValueArray<>(Arrays.asList("-"), String.class));
+        valueSet.setPublished(new ValueArray<>(Arrays.asList("-"), String.class));
+        valueSet.setValueSwitch(ParameterSwitchKind.MANUAL);
+        parameter.getValueSet().add(valueSet);
+
+        this.Register(parameter);
+        this.Register(valueSet);
+        return parameter;
+    }
+
+    /**
+     * Creates a {@linkplain BinaryRelationship} in the iteration
+     * 
+     * @param name the name
+     * @param source the source {@linkplain Thing}
+     * @param target the target {@linkplain Thing}
+     */
+    private void CreateRelationship(String name, Thing source, Thing target)
+    {
+        var relationship = new BinaryRelationship(UUID.randomUUID(), null, null);
+        relationship.setName(name);
+        relationship.setOwner(this.model.GetDomain());
+        relationship.setSource(source);
+        relationship.setTarget(target);
+        this.model.GetIteration().getRelationship().add(relationship);
+        this.model.relationships.add(relationship);
+        this.Register(relationship);
+    }
+
+    /**
+     * Creates a {@linkplain Part} typed by the provided {@linkplain Component}
+     * 
+     * @param component the {@linkplain Component}
+     * @return the new {@linkplain Part}
+     */
+    private Part CreatePart(Component component)
+    {
+        var part = Create(Part.class, component.getName());
+        part.setAbstractType(component);
+        this.model.parts.add(part);
+        return part;
+    }
+
+    /**
+     * Adds a correspondence between the provided {@linkplain Thing} and {@linkplain CapellaElement}
+     * 
+     * @param thing the {@linkplain Thing}
+     * @param element the {@linkplain CapellaElement}
+     * @param targetArchitecture the {@linkplain CapellaArchitecture}
+     * @param mappingDirection the {@linkplain MappingDirection}
+     */
+    private void AddCorrespondence(Thing thing, CapellaElement element, CapellaArchitecture targetArchitecture, MappingDirection mappingDirection)
+    {
+        var externalIdentifier = new CapellaExternalIdentifier();
+        externalIdentifier.Identifier = element.getId();
+        externalIdentifier.MappingDirection = mappingDirection;
+        externalIdentifier.TargetArchitecture = targetArchitecture;
+        this.model.correspondences.add(Pair.of(thing.getIid(), externalIdentifier));
+    }
+
+    /**
+     * Registers the provided {@linkplain Thing} so that it can be retrieved by iid
+     * 
+     * @param thing the {@linkplain Thing}
+     */
+    private void Register(Thing thing)
+    {
+        this.model.things.put(thing.getIid(), thing);
+    }
+
+    /**
+     * Creates a new {@linkplain CapellaElement} of the provided type through the factory {@linkplain CapellaTypeRegistry#GetEClassAndFactory(Class)} returns
+     * 
+     * @param <TElement> the type of {@linkplain CapellaElement}
+     * @param clazz the {@linkplain Class} of {@linkplain #TElement}
+     * @param name the name of the new element when it is a {@linkplain NamedElement}, can be null
+     * @return the new {@linkplain #TElement}
+     */
+    private static <TElement extends CapellaElement> TElement Create(Class<TElement> clazz, String name)
+    {
+        var eClassAndFactory = CapellaTypeRegistry.GetEClassAndFactory(clazz);
+        var element = clazz.cast(eClassAndFactory.getRight().create(eClassAndFactory.getLeft()));
+        element.setId(UUID.randomUUID().toString());
+
+        if(name != null && element instanceof NamedElement)
+        {
+            ((NamedElement)element).setName(name);
+        }
+
+        return element;
+    }
+}
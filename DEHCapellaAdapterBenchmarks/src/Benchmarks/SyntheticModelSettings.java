@@ -0,0 +1,344 @@
+/*
+ * SyntheticModelSettings.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+/**
+ * The {@linkplain SyntheticModelSettings} holds the element counts and tree depths the {@linkplain SyntheticModelGenerator} uses
+ */
+public final class SyntheticModelSettings
+{
+    /**
+     * Backing field for {@linkplain #GetPhysicalComponentCount()}
+     */
+    private int physicalComponentCount = 100;
+
+    /**
+     * Backing field for {@linkplain #GetLogicalComponentCount()}
+     */
+    private int logicalComponentCount = 10;
+
+    /**
+     * Backing field for {@linkplain #GetComponentDepth()}
+     */
+    private int componentDepth = 3;
+
+    /**
+     * Backing field for {@linkplain #GetPropertiesPerComponent()}
+     */
+    private int propertiesPerComponent = 2;
+
+    /**
+     * Backing field for {@linkplain #GetPortsPerComponent()}
+     */
+    private int portsPerComponent = 1;
+
+    /**
+     * Backing field for {@linkplain #GetInterfaceCount()}
+     */
+    private int interfaceCount = 10;
+
+    /**
+     * Backing field for {@linkplain #GetRequirementCount()}
+     */
+    private int requirementCount = 30;
+
+    /**
+     * Backing field for {@linkplain #GetRequirementsPkgDepth()}
+     */
+    private int requirementsPkgDepth = 2;
+
+    /**
+     * Backing field for {@linkplain #GetRequirementsPkgBreadth()}
+     */
+    private int requirementsPkgBreadth = 3;
+
+    /**
+     * Backing field for {@linkplain #GetTracesPerComponent()}
+     */
+    private int tracesPerComponent = 1;
+
+    /**
+     * Backing field for {@linkplain #GetSeed()}
+     */
+    private long seed = 42;
+
+    /**
+     * Initializes a new {@linkplain SyntheticModelSettings} that produces a model with roughly the provided number of mappable elements,
+     * three quarters of them being {@linkplain PhysicalComponent}s and the last quarter being requirements
+     * 
+     * @param elementCount the number of mappable elements
+     * @return a new {@linkplain SyntheticModelSettings}
+     */
+    public static SyntheticModelSettings ForElementCount(int elementCount)
+    {
+        var settings = new SyntheticModelSettings();
+        settings.physicalComponentCount = Math.max(1, elementCount * 3 / 4);
+        settings.requirementCount = elementCount - settings.physicalComponentCount;
+        settings.logicalComponentCount = Math.max(1, elementCount / 10);
+        settings.interfaceCount = Math.max(1, elementCount / 20);
+        return settings;
+    }
+
+    /**
+     * Gets the number of {@linkplain PhysicalComponent}s to generate, the root component excluded
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetPhysicalComponentCount()
+    {
+        return this.physicalComponentCount;
+    }
+
+    /**
+     * Sets the number of {@linkplain PhysicalComponent}s to generate
+     * 
+     * @param physicalComponentCount the number of {@linkplain PhysicalComponent}s
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetPhysicalComponentCount(int physicalComponentCount)
+    {
+        this.physicalComponentCount = physicalComponentCount;
+        return this;
+    }
+
+    /**
+     * Gets the number of {@linkplain LogicalComponent}s to generate, the root component excluded
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetLogicalComponentCount()
+    {
+        return this.logicalComponentCount;
+    }
+
+    /**
+     * Sets the number of {@linkplain LogicalComponent}s to generate
+     * 
+     * @param logicalComponentCount the number of {@linkplain LogicalComponent}s
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetLogicalComponentCount(int logicalComponentCount)
+    {
+        this.logicalComponentCount = logicalComponentCount;
+        return this;
+    }
+
+    /**
+     * Gets the maximum nesting depth of the {@linkplain PhysicalComponent}s under the root component
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetComponentDepth()
+    {
+        return this.componentDepth;
+    }
+
+    /**
+     * Sets the maximum nesting depth of the {@linkplain PhysicalComponent}s under the root component
+     * 
+     * @param componentDepth the depth, at least 1
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetComponentDepth(int componentDepth)
+    {
+        this.componentDepth = Math.max(1, componentDepth);
+        return this;
+    }
+
+    /**
+     * Gets the number of typed {@linkplain Property} each component owns
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetPropertiesPerComponent()
+    {
+        return this.propertiesPerComponent;
+    }
+
+    /**
+     * Sets the number of typed {@linkplain Property} each component owns
+     * 
+     * @param propertiesPerComponent the number of {@linkplain Property}
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetPropertiesPerComponent(int propertiesPerComponent)
+    {
+        this.propertiesPerComponent = propertiesPerComponent;
+        return this;
+    }
+
+    /**
+     * Gets the number of {@linkplain ComponentPort}s each {@linkplain PhysicalComponent} owns
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetPortsPerComponent()
+    {
+        return this.portsPerComponent;
+    }
+
+    /**
+     * Sets the number of {@linkplain ComponentPort}s each {@linkplain PhysicalComponent} owns
+     * 
+     * @param portsPerComponent the number of {@linkplain ComponentPort}s
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetPortsPerComponent(int portsPerComponent)
+    {
+        this.portsPerComponent = portsPerComponent;
+        return this;
+    }
+
+    /**
+     * Gets the number of {@linkplain Interface}s the {@linkplain ComponentPort}s provide and require
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetInterfaceCount()
+    {
+        return this.interfaceCount;
+    }
+
+    /**
+     * Sets the number of {@linkplain Interface}s the {@linkplain ComponentPort}s provide and require
+     * 
+     * @param interfaceCount the number of {@linkplain Interface}s, at least 1
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetInterfaceCount(int interfaceCount)
+    {
+        this.interfaceCount = Math.max(1, interfaceCount);
+        return this;
+    }
+
+    /**
+     * Gets the number of requirements to generate
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetRequirementCount()
+    {
+        return this.requirementCount;
+    }
+
+    /**
+     * Sets the number of requirements to generate
+     * 
+     * @param requirementCount the number of requirements
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetRequirementCount(int requirementCount)
+    {
+        this.requirementCount = requirementCount;
+        return this;
+    }
+
+    /**
+     * Gets the depth of the {@linkplain RequirementsPkg} trees
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetRequirementsPkgDepth()
+    {
+        return this.requirementsPkgDepth;
+    }
+
+    /**
+     * Sets the depth of the {@linkplain RequirementsPkg} trees
+     * 
+     * @param requirementsPkgDepth the depth, at least 1
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetRequirementsPkgDepth(int requirementsPkgDepth)
+    {
+        this.requirementsPkgDepth = Math.max(1, requirementsPkgDepth);
+        return this;
+    }
+
+    /**
+     * Gets the number of {@linkplain RequirementsPkg} each {@linkplain RequirementsPkg} contains, also the number of top {@linkplain RequirementsPkg}
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetRequirementsPkgBreadth()
+    {
+        return this.requirementsPkgBreadth;
+    }
+
+    /**
+     * Sets the number of {@linkplain RequirementsPkg} each {@linkplain RequirementsPkg} contains
+     * 
+     * @param requirementsPkgBreadth the breadth, at least 1
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetRequirementsPkgBreadth(int requirementsPkgBreadth)
+    {
+        this.requirementsPkgBreadth = Math.max(1, requirementsPkgBreadth);
+        return this;
+    }
+
+    /**
+     * Gets the number of {@linkplain GenericTrace}s each {@linkplain PhysicalComponent} owns towards other {@linkplain PhysicalComponent}s
+     * 
+     * @return an {@linkplain int}
+     */
+    public int GetTracesPerComponent()
+    {
+        return this.tracesPerComponent;
+    }
+
+    /**
+     * Sets the number of {@linkplain GenericTrace}s each {@linkplain PhysicalComponent} owns towards other {@linkplain PhysicalComponent}s
+     * 
+     * @param tracesPerComponent the number of {@linkplain GenericTrace}s
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetTracesPerComponent(int tracesPerComponent)
+    {
+        this.tracesPerComponent = tracesPerComponent;
+        return this;
+    }
+
+    /**
+     * Gets the seed used to shape the component tree, so that the same settings always produce the same model
+     * 
+     * @return a {@linkplain long}
+     */
+    public long GetSeed()
+    {
+        return this.seed;
+    }
+
+    /**
+     * Sets the seed used to shape the component tree
+     * 
+     * @param seed the seed
+     * @return this {@linkplain SyntheticModelSettings}
+     */
+    public SyntheticModelSettings SetSeed(long seed)
+    {
+        this.seed = seed;
+        return this;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SyntheticModelState.java
+ *
+ * Copyright (c) 2020-2022 RHEA System S.A.
+ *
+ * Author: Sam Gerené, Alex Vorobiev, Nathanael Smiechowski, Antoine Théate
+ *
+ * This file is part of DEH-Capella
+ *
+ * The DEH-Capella is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * The DEH-Capella is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The {@linkplain SyntheticModelState} is the JMH state that holds one {@linkplain SyntheticModel} per element count
+ * and the {@linkplain BenchmarkServices} wired around it
+ */
+@State(Scope.Benchmark)
+public class SyntheticModelState
+{
+    /**
+     * The number of mappable elements to generate
+     */
+    @Param({"1000", "10000", "100000"})
+    public int elementCount;
+
+    /**
+     * The generated {@linkplain SyntheticModel}
+     */
+    public SyntheticModel model;
+
+    /**
+     * The {@linkplain BenchmarkServices}
+     */
+    public BenchmarkServices services;
+
+    /**
+     * Generates the {@linkplain SyntheticModel} once per trial
+     */
+    @Setup(Level.Trial)
+    public void GenerateModel()
+    {
+        this.model = SyntheticModelGenerator.Generate(this.elementCount);
+        this.services = new BenchmarkServices(this.model);
+    }
+
+    /**
+     * Discards the clones and new elements registered by the previous iteration
+     */
+    @Setup(Level.Iteration)
+    public void ResetTransaction()
+    {
+        this.services.GetTransactionService().Reset();
+    }
+}